@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.wso2.carbon.base.CarbonBaseConstants;
+import org.wso2.carbon.base.MultitenantConstants;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.cert.Certificate;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Common environment of the benchmarks.
+ * <p>
+ * The benchmarks run against the carbon home, the configuration files and the keystores of the OAuth component unit
+ * tests, and an in-memory H2 database created from the same identity.sql script. A different carbon home can be given
+ * with the {@code benchmark.carbon.home} system property.
+ * <p>
+ * The collaborators of the benchmarked code are stubbed with stub-only mocks so that Mockito does not record the
+ * invocations of the measured calls.
+ */
+final class BenchmarkEnvironment {
+
+    static final String CARBON_HOME_PROPERTY = "benchmark.carbon.home";
+    static final String KEYSTORE_PASSWORD = "wso2carbon";
+    static final String KEY_ALIAS = "wso2carbon";
+
+    private static final String DEFAULT_CARBON_HOME = Paths.get("..", "..", "components",
+            "org.wso2.carbon.identity.oauth", "src", "test", "resources").toString();
+    private static final String KEYSTORE_PATH = Paths.get("repository", "resources", "security",
+            "wso2carbon.jks").toString();
+    private static final String H2_SCRIPT_PATH = Paths.get("dbScripts", "identity.sql").toString();
+    private static final String DB_URL = "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1";
+    private static final String DB_USERNAME = "username";
+    private static final String DB_PASSWORD = "password";
+
+    private static volatile KeyStore keyStore;
+    private static volatile boolean databaseInitialized;
+
+    private BenchmarkEnvironment() {
+
+    }
+
+    static String getCarbonHome() {
+
+        return System.getProperty(CARBON_HOME_PROPERTY, DEFAULT_CARBON_HOME);
+    }
+
+    /**
+     * Set the carbon home and start a super tenant flow on the calling thread.
+     */
+    static void init() {
+
+        System.setProperty(CarbonBaseConstants.CARBON_HOME, new File(getCarbonHome()).getAbsolutePath());
+
+        PrivilegedCarbonContext.startTenantFlow();
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(
+                MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(MultitenantConstants.SUPER_TENANT_ID);
+    }
+
+    /**
+     * End the tenant flow started by {@link #init()}.
+     */
+    static void destroy() {
+
+        PrivilegedCarbonContext.endTenantFlow();
+    }
+
+    static Key getPrivateKey() throws GeneralSecurityException, IOException {
+
+        return getKeyStore().getKey(KEY_ALIAS, KEYSTORE_PASSWORD.toCharArray());
+    }
+
+    static Certificate getCertificate() throws GeneralSecurityException, IOException {
+
+        return getKeyStore().getCertificate(KEY_ALIAS);
+    }
+
+    /**
+     * Get a connection to the in-memory H2 database. The identity tables are created on the first call.
+     *
+     * @return New database connection.
+     * @throws SQLException If the database cannot be created.
+     */
+    static Connection getDBConnection() throws SQLException {
+
+        if (!databaseInitialized) {
+            synchronized (BenchmarkEnvironment.class) {
+                if (!databaseInitialized) {
+                    String script = Paths.get(getCarbonHome(), H2_SCRIPT_PATH).toAbsolutePath().toString();
+                    try (Connection connection = DriverManager.getConnection(DB_URL, DB_USERNAME, DB_PASSWORD);
+                         Statement statement = connection.createStatement()) {
+                        statement.executeUpdate("RUNSCRIPT FROM '" + script.replace('\\', '/') + "'");
+                    }
+                    databaseInitialized = true;
+                }
+            }
+        }
+        return DriverManager.getConnection(DB_URL, DB_USERNAME, DB_PASSWORD);
+    }
+
+    /**
+     * Create a mock which does not record its invocations.
+     *
+     * @param classToMock Class to be mocked.
+     * @param <T>         Type of the mock.
+     * @return Stub only mock.
+     */
+    static <T> T stubOnlyMock(Class<T> classToMock) {
+
+        return Mockito.mock(classToMock, Mockito.withSettings().stubOnly());
+    }
+
+    /**
+     * Create a thread local static mock which does not record its invocations. The static mock is active only on the
+     * calling thread, hence it should be created in the setup of a thread scoped benchmark state.
+     *
+     * @param classToMock Class of which the static methods are mocked.
+     * @param <T>         Type of the class.
+     * @return Stub only static mock.
+     */
+    static <T> MockedStatic<T> stubOnlyStaticMock(Class<T> classToMock) {
+
+        return Mockito.mockStatic(classToMock, Mockito.withSettings().stubOnly());
+    }
+
+    private static KeyStore getKeyStore() throws GeneralSecurityException, IOException {
+
+        if (keyStore == null) {
+            synchronized (BenchmarkEnvironment.class) {
+                if (keyStore == null) {
+                    KeyStore store = KeyStore.getInstance("JKS");
+                    try (InputStream inputStream = new FileInputStream(Paths.get(getCarbonHome(), KEYSTORE_PATH)
+                            .toFile())) {
+                        store.load(inputStream, KEYSTORE_PASSWORD.toCharArray());
+                    }
+                    keyStore = store;
+                }
+            }
+        }
+        return keyStore;
+    }
+}
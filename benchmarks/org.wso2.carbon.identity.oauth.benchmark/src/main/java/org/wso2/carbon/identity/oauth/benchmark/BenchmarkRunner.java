@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.File;
+
+/**
+ * Entry point of the benchmark jar.
+ * <p>
+ * Runs all the benchmarks of this module, or the ones matching the regular expressions given as arguments, and writes
+ * the results in JSON format so that they can be compared between releases. The JMH command line options are honoured
+ * as well. The result file defaults to target/jmh-result.json and can be changed with the
+ * {@code benchmark.result.file} system property.
+ * <pre>
+ * java -jar target/benchmarks.jar TokenIssuerBenchmark -f 1 -wi 3 -i 5
+ * </pre>
+ */
+public class BenchmarkRunner {
+
+    private static final String RESULT_FILE_PROPERTY = "benchmark.result.file";
+    private static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        ChainedOptionsBuilder optionsBuilder = new OptionsBuilder()
+                .parent(commandLineOptions)
+                .jvmArgsAppend("-D" + BenchmarkEnvironment.CARBON_HOME_PROPERTY + "=" +
+                        new File(BenchmarkEnvironment.getCarbonHome()).getAbsolutePath());
+        if (!commandLineOptions.getResultFormat().hasValue()) {
+            optionsBuilder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            optionsBuilder.result(System.getProperty(RESULT_FILE_PROPERTY, DEFAULT_RESULT_FILE));
+        }
+        if (commandLineOptions.getIncludes().isEmpty()) {
+            optionsBuilder.include(BenchmarkRunner.class.getPackage().getName() + ".*Benchmark");
+        }
+        new Runner(optionsBuilder.build()).run();
+    }
+}
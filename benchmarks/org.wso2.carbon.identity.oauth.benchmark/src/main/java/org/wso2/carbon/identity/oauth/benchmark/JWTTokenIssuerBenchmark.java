@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import org.mockito.MockedStatic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.base.MultitenantConstants;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.authz.OAuthAuthzReqMessageContext;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenReqDTO;
+import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
+import org.wso2.carbon.identity.oauth2.keyidprovider.DefaultKeyIDProviderImpl;
+import org.wso2.carbon.identity.oauth2.token.JWTTokenIssuer;
+import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmarks of building and signing JWT access tokens with {@link JWTTokenIssuer}.
+ * <p>
+ * The claims set is prebuilt, as the claim resolution depends on the application and user stores, so the benchmark
+ * measures the claim provider, header and signing steps of the issuer. The tenant signing key is the key of the test
+ * keystore.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JWTTokenIssuerBenchmark {
+
+    private static final String CLIENT_ID = "benchmarkClientId";
+    private static final String ISSUER = "https://localhost:9443/oauth2/token";
+
+    @Param({"SHA256withRSA", "PS256"})
+    private String signatureAlgorithm;
+
+    private MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration;
+    private MockedStatic<IdentityTenantUtil> identityTenantUtil;
+    private BenchmarkJWTTokenIssuer jwtTokenIssuer;
+    private OAuthTokenReqMessageContext tokenReqMessageContext;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        BenchmarkEnvironment.init();
+        OAuthServerConfiguration serverConfiguration = BenchmarkEnvironment.stubOnlyMock(
+                OAuthServerConfiguration.class);
+        when(serverConfiguration.getSignatureAlgorithm()).thenReturn(signatureAlgorithm);
+        when(serverConfiguration.getUseSPTenantDomainValue()).thenReturn(false);
+        oAuthServerConfiguration = BenchmarkEnvironment.stubOnlyStaticMock(OAuthServerConfiguration.class);
+        oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance).thenReturn(serverConfiguration);
+        identityTenantUtil = BenchmarkEnvironment.stubOnlyStaticMock(IdentityTenantUtil.class);
+        identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(anyString()))
+                .thenReturn(MultitenantConstants.SUPER_TENANT_ID);
+
+        // Seed the tenant signing key and certificate, which are otherwise loaded from the tenant keystore.
+        getStaticMap("privateKeys").put(MultitenantConstants.SUPER_TENANT_ID, BenchmarkEnvironment.getPrivateKey());
+        getStaticMap("publicCerts").put(MultitenantConstants.SUPER_TENANT_ID, BenchmarkEnvironment.getCertificate());
+        OAuth2ServiceComponentHolder.setKeyIDProvider(new DefaultKeyIDProviderImpl());
+
+        OAuth2AccessTokenReqDTO accessTokenReqDTO = new OAuth2AccessTokenReqDTO();
+        accessTokenReqDTO.setClientId(CLIENT_ID);
+        accessTokenReqDTO.setGrantType("client_credentials");
+        tokenReqMessageContext = new OAuthTokenReqMessageContext(accessTokenReqDTO);
+        tokenReqMessageContext.setScope(new String[]{"openid", "profile", "email"});
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser();
+        authenticatedUser.setUserName("benchmarkUser");
+        authenticatedUser.setUserStoreDomain("PRIMARY");
+        authenticatedUser.setTenantDomain(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        authenticatedUser.setUserId(UUID.randomUUID().toString());
+        tokenReqMessageContext.setAuthorizedUser(authenticatedUser);
+
+        long currentTime = System.currentTimeMillis();
+        JWTClaimsSet jwtClaimsSet = new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .subject(authenticatedUser.getUserId())
+                .audience(CLIENT_ID)
+                .issueTime(new Date(currentTime))
+                .notBeforeTime(new Date(currentTime))
+                .expirationTime(new Date(currentTime + TimeUnit.HOURS.toMillis(1)))
+                .jwtID(UUID.randomUUID().toString())
+                .claim("azp", CLIENT_ID)
+                .claim("client_id", CLIENT_ID)
+                .claim("scope", String.join(" ", Arrays.asList(tokenReqMessageContext.getScope())))
+                .claim("aut", "APPLICATION_USER")
+                .build();
+        jwtTokenIssuer = new BenchmarkJWTTokenIssuer(jwtClaimsSet);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        OAuth2Util.clearSigningKeyCache(MultitenantConstants.SUPER_TENANT_ID);
+        identityTenantUtil.close();
+        oAuthServerConfiguration.close();
+        BenchmarkEnvironment.destroy();
+    }
+
+    @Benchmark
+    public String buildJWTToken() throws IdentityOAuth2Exception {
+
+        return jwtTokenIssuer.build(tokenReqMessageContext);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Map<Integer, V> getStaticMap(String fieldName) throws ReflectiveOperationException {
+
+        Field field = OAuth2Util.class.getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return (Map<Integer, V>) field.get(null);
+    }
+
+    /**
+     * JWT token issuer with a prebuilt claims set.
+     */
+    private static class BenchmarkJWTTokenIssuer extends JWTTokenIssuer {
+
+        private final JWTClaimsSet jwtClaimsSet;
+
+        BenchmarkJWTTokenIssuer(JWTClaimsSet jwtClaimsSet) throws IdentityOAuth2Exception {
+
+            this.jwtClaimsSet = jwtClaimsSet;
+        }
+
+        @Override
+        protected JWTClaimsSet createJWTClaimSet(OAuthAuthzReqMessageContext authAuthzReqMessageContext,
+                                                 OAuthTokenReqMessageContext tokenReqMessageContext,
+                                                 String consumerKey) {
+
+            return jwtClaimsSet;
+        }
+
+        String build(OAuthTokenReqMessageContext tokenReqMessageContext) throws IdentityOAuth2Exception {
+
+            return buildJWTToken(tokenReqMessageContext);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import org.mockito.MockedStatic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.identity.test.common.testng.utils.MockAuthenticatedUser;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * Benchmarks of building the OAuth cache keys of the tokens.
+ * <p>
+ * {@link OAuth2Util#getUserFromUserName(String)} is stubbed so that only the cost of building the key is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OAuth2UtilBenchmark {
+
+    private static final String CLIENT_ID = "benchmarkClientId";
+    private static final String SCOPE = "openid profile email";
+    private static final String USERNAME = "PRIMARY/benchmarkUser@carbon.super";
+    private static final String AUTHENTICATED_IDP = "LOCAL";
+    private static final String TOKEN_BINDING_REFERENCE = "NONE";
+    private static final String ORGANIZATION_ID = "10084a8d-113f-4211-a0d5-efe36b082211";
+
+    private MockedStatic<OAuth2Util> oAuth2Util;
+    private String userId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        BenchmarkEnvironment.init();
+        userId = UUID.randomUUID().toString();
+        MockAuthenticatedUser authenticatedUser = new MockAuthenticatedUser(USERNAME);
+        authenticatedUser.setUserId(userId);
+
+        oAuth2Util = BenchmarkEnvironment.stubOnlyStaticMock(OAuth2Util.class);
+        oAuth2Util.when(() -> OAuth2Util.getUserFromUserName(anyString())).thenReturn(authenticatedUser);
+        oAuth2Util.when(() -> OAuth2Util.buildCacheKeyStringForToken(anyString(), anyString(), anyString(),
+                anyString(), anyString())).thenCallRealMethod();
+        oAuth2Util.when(() -> OAuth2Util.buildCacheKeyStringForTokenWithUserId(anyString(), anyString(),
+                anyString(), anyString(), anyString())).thenCallRealMethod();
+        oAuth2Util.when(() -> OAuth2Util.buildCacheKeyStringForTokenWithUserIdOrgId(anyString(), anyString(),
+                anyString(), anyString(), anyString(), anyString())).thenCallRealMethod();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        oAuth2Util.close();
+        BenchmarkEnvironment.destroy();
+    }
+
+    @Benchmark
+    public String buildCacheKeyStringForToken() {
+
+        return OAuth2Util.buildCacheKeyStringForToken(CLIENT_ID, SCOPE, USERNAME, AUTHENTICATED_IDP,
+                TOKEN_BINDING_REFERENCE);
+    }
+
+    @Benchmark
+    public String buildCacheKeyStringForTokenWithUserId() {
+
+        return OAuth2Util.buildCacheKeyStringForTokenWithUserId(CLIENT_ID, SCOPE, userId, AUTHENTICATED_IDP,
+                TOKEN_BINDING_REFERENCE);
+    }
+
+    @Benchmark
+    public String buildCacheKeyStringForTokenWithUserIdOrgId() {
+
+        return OAuth2Util.buildCacheKeyStringForTokenWithUserIdOrgId(CLIENT_ID, SCOPE, userId, AUTHENTICATED_IDP,
+                TOKEN_BINDING_REFERENCE, ORGANIZATION_ID);
+    }
+}
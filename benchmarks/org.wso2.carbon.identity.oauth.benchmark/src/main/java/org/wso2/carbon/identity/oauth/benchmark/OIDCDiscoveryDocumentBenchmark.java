@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import org.mockito.MockedConstruction;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.osgi.framework.BundleContext;
+import org.osgi.util.tracker.ServiceTracker;
+import org.wso2.carbon.base.MultitenantConstants;
+import org.wso2.carbon.context.internal.OSGiDataHolder;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.discovery.DefaultOIDCProcessor;
+import org.wso2.carbon.identity.discovery.OIDProviderConfigResponse;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.oauth.endpoint.oidcdiscovery.OIDCDiscoveryEndpoint;
+import org.wso2.carbon.identity.oauth.endpoint.util.factory.OIDCProviderServiceFactory;
+import org.wso2.carbon.identity.openidconnect.cache.OIDCDiscoveryDocumentCache;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmark of serving the OIDC discovery document through
+ * {@link OIDCDiscoveryEndpoint#getOIDProviderConfiguration}, with the {@link OIDCDiscoveryDocumentCache} disabled and
+ * enabled, for requests without an If-None-Match header and for revalidation requests answered with 304 Not Modified.
+ * <p>
+ * The endpoint, the JSON response builder and the cache are the real ones. The provider configuration returned by the
+ * OIDC processor is a representative configuration of the super tenant, as building it needs the IdP and claim
+ * services, so the figures of the disabled cache are a lower bound for a deployment.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OIDCDiscoveryDocumentBenchmark {
+
+    private static final String DISCOVERY_PATH_COMPONENT = "token";
+    private static final String ISSUER = "https://localhost:9443/oauth2/token";
+    private static final String BASE_URL = "https://localhost:9443";
+
+    @Param({"false", "true"})
+    private boolean responseCacheEnabled;
+
+    private MockedStatic<OIDCDiscoveryDocumentCache> discoveryDocumentCache;
+    private OIDCDiscoveryEndpoint discoveryEndpoint;
+    private HttpServletRequest request;
+    private String eTag;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        BenchmarkEnvironment.init();
+        IdentityUtil.threadLocalProperties.get().put(OAuthConstants.TENANT_NAME_FROM_CONTEXT,
+                MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+
+        DefaultOIDCProcessor oidcProcessor = BenchmarkEnvironment.stubOnlyMock(DefaultOIDCProcessor.class);
+        OIDProviderConfigResponse providerConfig = buildProviderConfig();
+        when(oidcProcessor.getResponse(any(), anyString())).thenReturn(providerConfig);
+        // The OIDC processor is looked up from the OSGi services once, when the factory is initialized.
+        OSGiDataHolder.getInstance().setBundleContext(BenchmarkEnvironment.stubOnlyMock(BundleContext.class));
+        try (MockedConstruction<ServiceTracker> serviceTracker = Mockito.mockConstruction(ServiceTracker.class,
+                (mock, context) -> when(mock.getServices()).thenReturn(new Object[]{oidcProcessor}))) {
+            OIDCProviderServiceFactory.getOIDCService();
+        }
+
+        discoveryDocumentCache = Mockito.mockStatic(OIDCDiscoveryDocumentCache.class,
+                Mockito.withSettings().stubOnly().defaultAnswer(Mockito.CALLS_REAL_METHODS));
+        discoveryDocumentCache.when(OIDCDiscoveryDocumentCache::isEnabled).thenReturn(responseCacheEnabled);
+
+        discoveryEndpoint = new OIDCDiscoveryEndpoint();
+        request = BenchmarkEnvironment.stubOnlyMock(HttpServletRequest.class);
+        eTag = (String) discoveryEndpoint.getOIDProviderConfiguration(DISCOVERY_PATH_COMPONENT, request, null)
+                .getMetadata().getFirst(HttpHeaders.ETAG);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        if (responseCacheEnabled) {
+            OIDCDiscoveryDocumentCache.getInstance().clearDiscoveryDocuments(MultitenantConstants.SUPER_TENANT_ID);
+        }
+        discoveryDocumentCache.close();
+        IdentityUtil.threadLocalProperties.get().remove(OAuthConstants.TENANT_NAME_FROM_CONTEXT);
+        BenchmarkEnvironment.destroy();
+    }
+
+    @Benchmark
+    public Response getOIDProviderConfiguration() {
+
+        return discoveryEndpoint.getOIDProviderConfiguration(DISCOVERY_PATH_COMPONENT, request, null);
+    }
+
+    @Benchmark
+    public Response getOIDProviderConfigurationNotModified() {
+
+        return discoveryEndpoint.getOIDProviderConfiguration(DISCOVERY_PATH_COMPONENT, request, eTag);
+    }
+
+    private static OIDProviderConfigResponse buildProviderConfig() {
+
+        OIDProviderConfigResponse config = new OIDProviderConfigResponse();
+        config.setIssuer(ISSUER);
+        config.setAuthorizationEndpoint(BASE_URL + "/oauth2/authorize");
+        config.setPushedAuthorizationRequestEndpoint(BASE_URL + "/oauth2/par");
+        config.setTokenEndpoint(BASE_URL + "/oauth2/token");
+        config.setUserinfoEndpoint(BASE_URL + "/oauth2/userinfo");
+        config.setJwksUri(BASE_URL + "/oauth2/jwks");
+        config.setRegistrationEndpoint(BASE_URL + "/api/identity/oauth2/dcr/v1.1/register");
+        config.setRevocationEndpoint(BASE_URL + "/oauth2/revoke");
+        config.setIntrospectionEndpoint(BASE_URL + "/oauth2/introspect");
+        config.setEndSessionEndpoint(BASE_URL + "/oidc/logout");
+        config.setCheckSessionIframe(BASE_URL + "/oidc/checksession");
+        config.setDeviceAuthorizationEndpoint(BASE_URL + "/oauth2/device_authorize");
+        config.setWebFingerEndpoint(BASE_URL + "/.well-known/webfinger");
+        config.setScopesSupported(new String[]{"openid", "profile", "email", "address", "phone", "offline_access",
+                "groups", "roles", "internal_login"});
+        config.setResponseTypesSupported(new String[]{"code", "id_token", "token", "code id_token", "code token",
+                "id_token token", "code id_token token", "device"});
+        config.setResponseModesSupported(new String[]{"query", "fragment", "form_post", "jwt", "query.jwt",
+                "fragment.jwt", "form_post.jwt"});
+        config.setGrantTypesSupported(new String[]{"authorization_code", "implicit", "password",
+                "client_credentials", "refresh_token", "urn:ietf:params:oauth:grant-type:saml2-bearer",
+                "urn:ietf:params:oauth:grant-type:jwt-bearer", "urn:ietf:params:oauth:grant-type:device_code",
+                "urn:openid:params:grant-type:ciba", "urn:ietf:params:oauth:grant-type:token-exchange"});
+        config.setSubjectTypesSupported(new String[]{"public", "pairwise"});
+        config.setIdTokenSigningAlgValuesSupported(new String[]{"RS256"});
+        config.setUserinfoSigningAlgValuesSupported(new String[]{"RS256"});
+        config.setRequestObjectSigningAlgValuesSupported(new String[]{"RS256", "PS256", "ES256", "none"});
+        config.setTokenEndpointAuthMethodsSupported(new String[]{"client_secret_basic", "client_secret_post",
+                "private_key_jwt", "tls_client_auth", "self_signed_tls_client_auth"});
+        config.setClaimsSupported(new String[]{"sub", "aud", "exp", "iat", "amr", "auth_time", "name",
+                "given_name", "family_name", "middle_name", "nickname", "preferred_username", "profile", "picture",
+                "website", "email", "email_verified", "gender", "birthdate", "zoneinfo", "locale", "phone_number",
+                "phone_number_verified", "address", "updated_at", "groups", "roles", "iss", "acr"});
+        config.setCodeChallengeMethodsSupported(new String[]{"S256", "plain"});
+        config.setClaimsParameterSupported(Boolean.TRUE);
+        config.setRequestParameterSupported(Boolean.TRUE);
+        config.setBackchannelLogoutSupported(Boolean.TRUE);
+        config.setBackchannelLogoutSessionSupported(Boolean.TRUE);
+        config.setTlsClientCertificateBoundAccessTokens(Boolean.TRUE);
+        return config;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stub pre issue access token action endpoint, to measure the per phase latency of the action execution against an
+ * endpoint of a known response time.
+ * <p>
+ * Every request is answered with a success response that adds a single claim to the access token, after an optional
+ * delay. Point a pre issue access token action at {@code http://localhost:<port>/} with no authentication, enable
+ * {@code OAuth.PreIssueAccessTokenAction.Metrics.Enable} and read the phase latencies from
+ * {@code PreIssueAccessTokenActionMetrics}, or from the carbon log.
+ * <pre>
+ * java -cp target/benchmarks.jar org.wso2.carbon.identity.oauth.benchmark.PreIssueAccessTokenActionStubServer \
+ *     [port] [delay in milliseconds]
+ * </pre>
+ */
+public class PreIssueAccessTokenActionStubServer {
+
+    private static final Log LOG = LogFactory.getLog(PreIssueAccessTokenActionStubServer.class);
+    private static final int DEFAULT_PORT = 8090;
+    private static final byte[] SUCCESS_RESPONSE = ("{\"actionStatus\":\"SUCCESS\",\"operations\":[{\"op\":\"add\"," +
+            "\"path\":\"/accessToken/claims/-\",\"value\":{\"name\":\"benchmark\",\"value\":\"stub\"}}]}")
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final long delayInMillis;
+
+    private PreIssueAccessTokenActionStubServer(long delayInMillis) {
+
+        this.delayInMillis = delayInMillis;
+    }
+
+    public static void main(String[] args) throws IOException {
+
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        long delayInMillis = args.length > 1 ? Long.parseLong(args[1]) : 0;
+
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.createContext("/", new PreIssueAccessTokenActionStubServer(delayInMillis)::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        LOG.info("Pre issue access token action stub listening on port " + port + " with a delay of " +
+                delayInMillis + " ms.");
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            byte[] buffer = new byte[4096];
+            while (requestBody.read(buffer) != -1) {
+                // Drain the request so that the connection can be reused.
+            }
+        }
+        if (delayInMillis > 0) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(delayInMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, SUCCESS_RESPONSE.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(SUCCESS_RESPONSE);
+        }
+    }
+}
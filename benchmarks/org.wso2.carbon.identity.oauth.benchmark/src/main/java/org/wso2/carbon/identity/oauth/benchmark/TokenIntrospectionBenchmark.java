@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import org.apache.commons.lang.StringUtils;
+import org.mockito.MockedStatic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.base.MultitenantConstants;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.application.common.model.ServiceProvider;
+import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
+import org.wso2.carbon.identity.core.util.IdentityDatabaseUtil;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.cache.AppInfoCache;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth.dao.OAuthAppDO;
+import org.wso2.carbon.identity.oauth.internal.OAuthComponentServiceHolder;
+import org.wso2.carbon.identity.oauth.tokenprocessor.PlainTextPersistenceProcessor;
+import org.wso2.carbon.identity.oauth.tokenprocessor.TokenProvider;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
+import org.wso2.carbon.identity.oauth2.dao.TokenManagementDAO;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2IntrospectionResponseDTO;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2TokenValidationRequestDTO;
+import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.identity.oauth2.validators.TokenValidationHandler;
+import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
+import org.wso2.carbon.user.api.RealmConfiguration;
+import org.wso2.carbon.user.core.service.RealmService;
+import org.wso2.carbon.user.core.tenant.TenantManager;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmark of introspecting an opaque access token with {@link TokenValidationHandler}.
+ * <p>
+ * The token, the application and the service provider lookups are stubbed the same way as in the unit tests of the
+ * handler, and the database connections are served from the in-memory H2 database, so that the benchmark measures
+ * the validation and response building of the handler.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenIntrospectionBenchmark {
+
+    private static final String CLIENT_ID = "benchmarkClientId";
+    private static final String[] SCOPES = new String[]{"openid", "profile", "email"};
+    private static final long VALIDITY_PERIOD_IN_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final List<MockedStatic<?>> staticMocks = new ArrayList<>();
+    private TokenValidationHandler tokenValidationHandler;
+    private OAuth2TokenValidationRequestDTO validationRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        BenchmarkEnvironment.init();
+        OAuthServerConfiguration serverConfiguration = BenchmarkEnvironment.stubOnlyMock(
+                OAuthServerConfiguration.class);
+        when(serverConfiguration.getTokenValidatorClassNames()).thenReturn(Collections.emptyMap());
+        MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration = mockStatic(OAuthServerConfiguration.class);
+        oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance).thenReturn(serverConfiguration);
+
+        MockedStatic<IdentityDatabaseUtil> identityDatabaseUtil = mockStatic(IdentityDatabaseUtil.class);
+        identityDatabaseUtil.when(() -> IdentityDatabaseUtil.getDBConnection(anyBoolean()))
+                .thenAnswer(invocation -> BenchmarkEnvironment.getDBConnection());
+        identityDatabaseUtil.when(IdentityDatabaseUtil::getDBConnection)
+                .thenAnswer(invocation -> BenchmarkEnvironment.getDBConnection());
+
+        MockedStatic<OrganizationManagementUtil> organizationManagementUtil =
+                mockStatic(OrganizationManagementUtil.class);
+        organizationManagementUtil.when(() -> OrganizationManagementUtil.isOrganization(anyString()))
+                .thenReturn(false);
+        mockStatic(LoggerUtils.class);
+
+        RealmService realmService = BenchmarkEnvironment.stubOnlyMock(RealmService.class);
+        TenantManager tenantManager = BenchmarkEnvironment.stubOnlyMock(TenantManager.class);
+        when(realmService.getTenantManager()).thenReturn(tenantManager);
+        when(realmService.getBootstrapRealmConfiguration())
+                .thenReturn(BenchmarkEnvironment.stubOnlyMock(RealmConfiguration.class));
+        when(tenantManager.getTenantId(anyString())).thenReturn(MultitenantConstants.SUPER_TENANT_ID);
+        when(tenantManager.getDomain(anyInt())).thenReturn(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        OAuthComponentServiceHolder.getInstance().setRealmService(realmService);
+        IdentityTenantUtil.setRealmService(realmService);
+        MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class);
+        identityUtil.when(IdentityUtil::getPrimaryDomainName).thenReturn("PRIMARY");
+
+        AuthenticatedUser authorizedUser = new AuthenticatedUser();
+        authorizedUser.setUserName("benchmarkUser");
+        authorizedUser.setUserStoreDomain("PRIMARY");
+        authorizedUser.setTenantDomain(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME);
+        authorizedUser.setUserId(UUID.randomUUID().toString());
+        Timestamp issuedTime = new Timestamp(System.currentTimeMillis());
+        AccessTokenDO accessTokenDO = new AccessTokenDO(CLIENT_ID, authorizedUser, SCOPES, issuedTime, issuedTime,
+                VALIDITY_PERIOD_IN_MILLIS, VALIDITY_PERIOD_IN_MILLIS, "Default", null);
+        accessTokenDO.setTokenId(UUID.randomUUID().toString());
+        accessTokenDO.setAccessToken(UUID.randomUUID().toString());
+
+        OAuth2ServiceComponentHolder serviceComponentHolder = BenchmarkEnvironment.stubOnlyMock(
+                OAuth2ServiceComponentHolder.class);
+        TokenProvider tokenProvider = BenchmarkEnvironment.stubOnlyMock(TokenProvider.class);
+        when(tokenProvider.getVerifiedAccessToken(anyString(), anyBoolean())).thenReturn(accessTokenDO);
+        when(serviceComponentHolder.getTokenProvider()).thenReturn(tokenProvider);
+        MockedStatic<OAuth2ServiceComponentHolder> oAuth2ServiceComponentHolder =
+                mockStatic(OAuth2ServiceComponentHolder.class);
+        oAuth2ServiceComponentHolder.when(OAuth2ServiceComponentHolder::getInstance)
+                .thenReturn(serviceComponentHolder);
+
+        OAuthTokenPersistenceFactory persistenceFactory = BenchmarkEnvironment.stubOnlyMock(
+                OAuthTokenPersistenceFactory.class);
+        TokenManagementDAO tokenManagementDAO = BenchmarkEnvironment.stubOnlyMock(TokenManagementDAO.class);
+        when(persistenceFactory.getTokenManagementDAO()).thenReturn(tokenManagementDAO);
+        when(tokenManagementDAO.getRefreshToken(anyString())).thenReturn(accessTokenDO);
+        MockedStatic<OAuthTokenPersistenceFactory> oAuthTokenPersistenceFactory =
+                mockStatic(OAuthTokenPersistenceFactory.class);
+        oAuthTokenPersistenceFactory.when(OAuthTokenPersistenceFactory::getInstance).thenReturn(persistenceFactory);
+
+        OAuthAppDO oAuthAppDO = new OAuthAppDO();
+        oAuthAppDO.setTokenType("Default");
+        oAuthAppDO.setApplicationName("benchmarkApp");
+        AppInfoCache.getInstance().addToCache(CLIENT_ID, oAuthAppDO);
+        ServiceProvider serviceProvider = new ServiceProvider();
+        serviceProvider.setApplicationVersion("v1.0.0");
+        MockedStatic<OAuth2Util> oAuth2Util = mockStatic(OAuth2Util.class);
+        oAuth2Util.when(OAuth2Util::getPersistenceProcessor).thenReturn(new PlainTextPersistenceProcessor());
+        oAuth2Util.when(() -> OAuth2Util.getAppInformationByAccessTokenDO(any())).thenReturn(oAuthAppDO);
+        oAuth2Util.when(() -> OAuth2Util.getAccessTokenExpireMillis(any(), anyBoolean()))
+                .thenReturn(VALIDITY_PERIOD_IN_MILLIS);
+        oAuth2Util.when(() -> OAuth2Util.getServiceProvider(anyString(), any())).thenReturn(serviceProvider);
+        oAuth2Util.when(() -> OAuth2Util.getTenantDomain(anyInt())).thenReturn(StringUtils.EMPTY);
+
+        tokenValidationHandler = TokenValidationHandler.getInstance();
+        validationRequest = new OAuth2TokenValidationRequestDTO();
+        OAuth2TokenValidationRequestDTO.OAuth2AccessToken accessToken = validationRequest.new OAuth2AccessToken();
+        accessToken.setIdentifier(accessTokenDO.getAccessToken());
+        accessToken.setTokenType("bearer");
+        validationRequest.setAccessToken(accessToken);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        for (MockedStatic<?> staticMock : staticMocks) {
+            staticMock.close();
+        }
+        staticMocks.clear();
+        AppInfoCache.getInstance().clearCacheEntry(CLIENT_ID);
+        BenchmarkEnvironment.destroy();
+    }
+
+    @Benchmark
+    public OAuth2IntrospectionResponseDTO buildIntrospectionResponse() throws IdentityOAuth2Exception {
+
+        return tokenValidationHandler.buildIntrospectionResponse(validationRequest);
+    }
+
+    private <T> MockedStatic<T> mockStatic(Class<T> classToMock) {
+
+        MockedStatic<T> staticMock = BenchmarkEnvironment.stubOnlyStaticMock(classToMock);
+        staticMocks.add(staticMock);
+        return staticMock;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import org.apache.oltu.oauth2.as.issuer.MD5Generator;
+import org.apache.oltu.oauth2.as.issuer.OAuthIssuerImpl;
+import org.apache.oltu.oauth2.as.issuer.UUIDValueGenerator;
+import org.apache.oltu.oauth2.as.issuer.ValueGenerator;
+import org.apache.oltu.oauth2.common.exception.OAuthSystemException;
+import org.mockito.MockedStatic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth2.authz.OAuthAuthzReqMessageContext;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenReqDTO;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2AuthorizeReqDTO;
+import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
+import org.wso2.carbon.identity.oauth2.token.OauthTokenIssuerImpl;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmarks of the opaque token and authorization code generation of {@link OauthTokenIssuerImpl}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenIssuerBenchmark {
+
+    @Param({"UUID", "MD5"})
+    private String valueGenerator;
+
+    private MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration;
+    private OauthTokenIssuerImpl tokenIssuer;
+    private OAuthTokenReqMessageContext tokenReqMessageContext;
+    private OAuthAuthzReqMessageContext authzReqMessageContext;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+
+        BenchmarkEnvironment.init();
+        ValueGenerator generator = "MD5".equals(valueGenerator) ? new MD5Generator() : new UUIDValueGenerator();
+        OAuthServerConfiguration serverConfiguration = BenchmarkEnvironment.stubOnlyMock(
+                OAuthServerConfiguration.class);
+        when(serverConfiguration.getOAuthTokenGenerator()).thenReturn(new OAuthIssuerImpl(generator));
+        oAuthServerConfiguration = BenchmarkEnvironment.stubOnlyStaticMock(OAuthServerConfiguration.class);
+        oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance).thenReturn(serverConfiguration);
+
+        tokenIssuer = new OauthTokenIssuerImpl();
+        tokenReqMessageContext = new OAuthTokenReqMessageContext(new OAuth2AccessTokenReqDTO());
+        authzReqMessageContext = new OAuthAuthzReqMessageContext(new OAuth2AuthorizeReqDTO());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        oAuthServerConfiguration.close();
+        BenchmarkEnvironment.destroy();
+    }
+
+    @Benchmark
+    public String accessToken() throws OAuthSystemException {
+
+        return tokenIssuer.accessToken(tokenReqMessageContext);
+    }
+
+    @Benchmark
+    public String refreshToken() throws OAuthSystemException {
+
+        return tokenIssuer.refreshToken(tokenReqMessageContext);
+    }
+
+    @Benchmark
+    public String authorizationCode() throws OAuthSystemException {
+
+        return tokenIssuer.authorizationCode(authzReqMessageContext);
+    }
+}
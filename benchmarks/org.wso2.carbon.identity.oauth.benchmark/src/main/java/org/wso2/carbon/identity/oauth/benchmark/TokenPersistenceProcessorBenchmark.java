@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.benchmark;
+
+import org.mockito.MockedStatic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.wso2.carbon.core.util.CryptoUtil;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth.tokenprocessor.EncryptionDecryptionPersistenceProcessor;
+import org.wso2.carbon.identity.oauth.tokenprocessor.HashingPersistenceProcessor;
+import org.wso2.carbon.identity.oauth.tokenprocessor.PlainTextPersistenceProcessor;
+import org.wso2.carbon.identity.oauth.tokenprocessor.TokenPersistenceProcessor;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+
+import java.security.cert.Certificate;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import javax.crypto.Cipher;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Benchmarks of the {@link TokenPersistenceProcessor} implementations, which process each token before it is
+ * persisted or looked up.
+ * <p>
+ * The encryption based processor uses RSA with the key pair of the test keystore in place of the carbon crypto
+ * service.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenPersistenceProcessorBenchmark {
+
+    private static final String PLAIN_TEXT = "PlainText";
+    private static final String HASHING = "Hashing";
+    private static final String ENCRYPTION_DECRYPTION = "EncryptionDecryption";
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String CIPHER_TRANSFORMATION = "RSA/ECB/OAEPWithSHA-1AndMGF1Padding";
+
+    @Param({PLAIN_TEXT, HASHING, ENCRYPTION_DECRYPTION})
+    private String processorType;
+
+    private MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration;
+    private MockedStatic<CryptoUtil> cryptoUtil;
+    private TokenPersistenceProcessor persistenceProcessor;
+    private String accessToken;
+    private String refreshToken;
+    private String authorizationCode;
+    private String processedRefreshToken;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+
+        BenchmarkEnvironment.init();
+        OAuthServerConfiguration serverConfiguration = BenchmarkEnvironment.stubOnlyMock(
+                OAuthServerConfiguration.class);
+        when(serverConfiguration.getHashAlgorithm()).thenReturn(HASH_ALGORITHM);
+        oAuthServerConfiguration = BenchmarkEnvironment.stubOnlyStaticMock(OAuthServerConfiguration.class);
+        oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance).thenReturn(serverConfiguration);
+        cryptoUtil = BenchmarkEnvironment.stubOnlyStaticMock(CryptoUtil.class);
+        CryptoUtil defaultCryptoUtil = createCryptoUtil();
+        cryptoUtil.when(CryptoUtil::getDefaultCryptoUtil).thenReturn(defaultCryptoUtil);
+
+        switch (processorType) {
+            case HASHING:
+                persistenceProcessor = new HashingPersistenceProcessor();
+                break;
+            case ENCRYPTION_DECRYPTION:
+                persistenceProcessor = new EncryptionDecryptionPersistenceProcessor();
+                break;
+            default:
+                persistenceProcessor = new PlainTextPersistenceProcessor();
+        }
+        accessToken = UUID.randomUUID().toString();
+        refreshToken = UUID.randomUUID().toString();
+        authorizationCode = UUID.randomUUID().toString();
+        processedRefreshToken = persistenceProcessor.getProcessedRefreshToken(refreshToken);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+
+        cryptoUtil.close();
+        oAuthServerConfiguration.close();
+        BenchmarkEnvironment.destroy();
+    }
+
+    @Benchmark
+    public String processAccessToken() throws IdentityOAuth2Exception {
+
+        return persistenceProcessor.getProcessedAccessTokenIdentifier(accessToken);
+    }
+
+    @Benchmark
+    public String processRefreshToken() throws IdentityOAuth2Exception {
+
+        return persistenceProcessor.getProcessedRefreshToken(refreshToken);
+    }
+
+    @Benchmark
+    public String processAuthorizationCode() throws IdentityOAuth2Exception {
+
+        return persistenceProcessor.getProcessedAuthzCode(authorizationCode);
+    }
+
+    @Benchmark
+    public String preprocessRefreshToken() throws IdentityOAuth2Exception {
+
+        return persistenceProcessor.getPreprocessedRefreshToken(processedRefreshToken);
+    }
+
+    private static CryptoUtil createCryptoUtil() throws Exception {
+
+        Certificate certificate = BenchmarkEnvironment.getCertificate();
+        Cipher encryptCipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+        encryptCipher.init(Cipher.ENCRYPT_MODE, certificate.getPublicKey());
+        Cipher decryptCipher = Cipher.getInstance(CIPHER_TRANSFORMATION);
+        decryptCipher.init(Cipher.DECRYPT_MODE, BenchmarkEnvironment.getPrivateKey());
+
+        // The ciphers are not thread safe, but the crypto util is used only by the thread owning the state.
+        CryptoUtil defaultCryptoUtil = BenchmarkEnvironment.stubOnlyMock(CryptoUtil.class);
+        when(defaultCryptoUtil.encryptAndBase64Encode(any(byte[].class))).thenAnswer(invocation ->
+                Base64.getEncoder().encodeToString(encryptCipher.doFinal(invocation.getArgument(0))));
+        when(defaultCryptoUtil.base64DecodeAndDecrypt(anyString())).thenAnswer(invocation ->
+                decryptCipher.doFinal(Base64.getDecoder().decode((String) invocation.getArgument(0))));
+        return defaultCryptoUtil;
+    }
+}
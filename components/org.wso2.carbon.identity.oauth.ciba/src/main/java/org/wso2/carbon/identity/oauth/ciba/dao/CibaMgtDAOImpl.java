@@ -27,6 +27,7 @@ import org.wso2.carbon.identity.oauth.ciba.common.CibaConstants;
 import org.wso2.carbon.identity.oauth.ciba.exceptions.CibaCoreException;
 import org.wso2.carbon.identity.oauth.ciba.model.CibaAuthCodeDO;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.token.poll.AuthorizationCompletionNotifier;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 
 import java.sql.Connection;
@@ -70,6 +71,9 @@ public class CibaMgtDAOImpl implements CibaMgtDAO {
             throw new CibaCoreException(
                     "Error occurred in persisting authentication status for the authCodeKey: " + authCodeKey, e);
         }
+        if (!AuthReqStatus.REQUESTED.equals(authenticationStatus)) {
+            AuthorizationCompletionNotifier.getInstance().notifyCompletion(authCodeKey);
+        }
     }
 
     @Override
@@ -106,6 +110,7 @@ public class CibaMgtDAOImpl implements CibaMgtDAO {
             throw new CibaCoreException("Error occurred in persisting the successful authentication identified by " +
                     "authCodeKey: " + authCodeKey, e);
         }
+        AuthorizationCompletionNotifier.getInstance().notifyCompletion(authCodeKey);
     }
 
     @Override
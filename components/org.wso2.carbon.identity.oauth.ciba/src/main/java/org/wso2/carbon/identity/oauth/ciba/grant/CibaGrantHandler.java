@@ -32,6 +32,7 @@ import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenRespDTO;
 import org.wso2.carbon.identity.oauth2.model.RequestParameter;
 import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
 import org.wso2.carbon.identity.oauth2.token.handlers.grant.AbstractAuthorizationGrantHandler;
+import org.wso2.carbon.identity.oauth2.token.poll.AuthorizationCompletionNotifier;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 
 import java.sql.Timestamp;
@@ -94,6 +95,22 @@ public class CibaGrantHandler extends AbstractAuthorizationGrantHandler {
 
         // Obtain authentication request identifier from request.
         String authReqId = getAuthReqId(tokReqMsgCtx);
+        return validateAuthRequest(tokReqMsgCtx, authReqId, true);
+    }
+
+    /**
+     * Validates the authentication request identified by the auth_req_id of the token request.
+     *
+     * @param tokReqMsgCtx Token request message context.
+     * @param authReqId    Authentication request identifier.
+     * @param isFirstPoll  Whether this is the first validation of the token request. A token request of a pending
+     *                     authentication request may wait for its completion once and is validated again afterwards,
+     *                     without checking the polling frequency again.
+     * @return true if the token can be issued.
+     * @throws IdentityOAuth2Exception Error while validating the authentication request.
+     */
+    private boolean validateAuthRequest(OAuthTokenReqMessageContext tokReqMsgCtx, String authReqId,
+                                        boolean isFirstPoll) throws IdentityOAuth2Exception {
 
         try {
             // Check whether provided authReqId is a valid and retrieve AuthCode if exists.
@@ -117,11 +134,21 @@ public class CibaGrantHandler extends AbstractAuthorizationGrantHandler {
             }
 
             // Validate whether polling is under proper rate limiting.
-            validatePollingFrequency(cibaAuthCodeDO);
+            if (isFirstPoll) {
+                validatePollingFrequency(cibaAuthCodeDO);
+            }
 
             // Validate whether user is authenticated.
             if (isAuthorizationPending(cibaAuthCodeDO)) {
                 updateLastPolledTime(cibaAuthCodeDO);
+                if (isFirstPoll && AuthorizationCompletionNotifier.getInstance()
+                        .awaitCompletion(cibaAuthCodeDO.getCibaAuthCodeKey())) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Authentication completed while waiting for the request identified by " +
+                                "cibaAuthCodeKey : " + cibaAuthCodeDO.getCibaAuthCodeKey());
+                    }
+                    return validateAuthRequest(tokReqMsgCtx, authReqId, false);
+                }
                 throw new IdentityOAuth2Exception(AUTHORIZATION_PENDING, "Authorization pending");
             }
 
@@ -18,8 +18,13 @@
 
 package org.wso2.carbon.identity.oauth.common;
 
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.apache.oltu.oauth2.common.exception.OAuthProblemException;
 import org.apache.oltu.oauth2.common.utils.OAuthUtils;
+import org.wso2.carbon.identity.base.IdentityRuntimeException;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 
 import java.util.List;
 
@@ -32,6 +37,8 @@ import static org.wso2.carbon.identity.oauth.common.OAuthConstants.ALLOWED_CONTE
  */
 public class OAuthCommonUtil {
 
+    private static final Log log = LogFactory.getLog(OAuthCommonUtil.class);
+
     /**
      * Check whether HTTP content type header is an allowed content type.
      *
@@ -68,4 +75,72 @@ public class OAuthCommonUtil {
             throw OAuthUtils.handleBadContentTypeException(String.join(" or ", ALLOWED_CONTENT_TYPES));
         }
     }
+
+    /**
+     * Read an integer property from the identity configuration.
+     *
+     * @param propertyName Name of the property.
+     * @param defaultValue Value to use when the property is not configured, is not an integer or is less than the
+     *                     minimum value.
+     * @param minimumValue Smallest value accepted for the property.
+     * @return Configured value or the default value.
+     */
+    public static int getIntProperty(String propertyName, int defaultValue, int minimumValue) {
+
+        String value = readProperty(propertyName, defaultValue);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                int intValue = Integer.parseInt(value.trim());
+                if (intValue >= minimumValue) {
+                    return intValue;
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + value + " configured for: " + propertyName + ". Using the default " +
+                        "value: " + defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
+    /**
+     * Read a decimal property from the identity configuration.
+     *
+     * @param propertyName Name of the property.
+     * @param defaultValue Value to use when the property is not configured, is not a number or is not between the
+     *                     bounds.
+     * @param lowerBound   Exclusive lower bound of the values accepted for the property.
+     * @param upperBound   Exclusive upper bound of the values accepted for the property.
+     * @return Configured value or the default value.
+     */
+    public static double getDoubleProperty(String propertyName, double defaultValue, double lowerBound,
+                                           double upperBound) {
+
+        String value = readProperty(propertyName, defaultValue);
+        if (StringUtils.isNotBlank(value)) {
+            try {
+                double doubleValue = Double.parseDouble(value.trim());
+                if (doubleValue > lowerBound && doubleValue < upperBound) {
+                    return doubleValue;
+                }
+            } catch (NumberFormatException e) {
+                log.warn("Invalid value: " + value + " configured for: " + propertyName + ". Using the default " +
+                        "value: " + defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+
+    private static String readProperty(String propertyName, Object defaultValue) {
+
+        try {
+            return IdentityUtil.getProperty(propertyName);
+        } catch (IdentityRuntimeException e) {
+            // The identity configuration is not available everywhere the property is read, such as in unit tests.
+            if (log.isDebugEnabled()) {
+                log.debug("Unable to read: " + propertyName + " from the identity configuration. Using the default " +
+                        "value: " + defaultValue, e);
+            }
+            return null;
+        }
+    }
 }
@@ -19,13 +19,16 @@
 package org.wso2.carbon.identity.oauth.common;
 
 import org.apache.oltu.oauth2.common.exception.OAuthProblemException;
+import org.mockito.MockedStatic;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
 
 import javax.servlet.http.HttpServletRequest;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.ALLOWED_CONTENT_TYPES;
 
@@ -73,4 +76,50 @@ public class OAuthCommonUtilTest {
             }
         }
     }
+
+    @DataProvider(name = "Int Property Provider")
+    public Object[][] getIntProperties() {
+
+        return new Object[][]{
+                {null, 0, 10},
+                {" ", 0, 10},
+                {" 25 ", 0, 25},
+                {"0", 0, 0},
+                {"0", 1, 10},
+                {"-1", 0, 10},
+                {"ten", 0, 10},
+        };
+    }
+
+    @Test(dataProvider = "Int Property Provider")
+    public void testGetIntProperty(String configuredValue, int minimumValue, int expectedValue) {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty("Test.Property")).thenReturn(configuredValue);
+
+            Assert.assertEquals(OAuthCommonUtil.getIntProperty("Test.Property", 10, minimumValue), expectedValue);
+        }
+    }
+
+    @DataProvider(name = "Double Property Provider")
+    public Object[][] getDoubleProperties() {
+
+        return new Object[][]{
+                {null, 0.5},
+                {" 0.01 ", 0.01},
+                {"0", 0.5},
+                {"1", 0.5},
+                {"half", 0.5},
+        };
+    }
+
+    @Test(dataProvider = "Double Property Provider")
+    public void testGetDoubleProperty(String configuredValue, double expectedValue) {
+
+        try (MockedStatic<IdentityUtil> identityUtil = mockStatic(IdentityUtil.class)) {
+            identityUtil.when(() -> IdentityUtil.getProperty("Test.Property")).thenReturn(configuredValue);
+
+            Assert.assertEquals(OAuthCommonUtil.getDoubleProperty("Test.Property", 0.5, 0, 1), expectedValue);
+        }
+    }
 }
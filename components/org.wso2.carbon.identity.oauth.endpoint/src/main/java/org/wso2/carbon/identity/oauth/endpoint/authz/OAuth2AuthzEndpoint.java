@@ -22,7 +22,6 @@ import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
-import com.google.gson.reflect.TypeToken;
 import com.nimbusds.jwt.SignedJWT;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.collections.CollectionUtils;
@@ -2031,9 +2030,7 @@ public class OAuth2AuthzEndpoint {
             Map<String, Object> bindings = new HashMap<>();
             bindings.put(FrameworkConstants.JSAttributes.JS_LOG, jsLogger);
             List<String> accessTokenJSObject = new ArrayList<>();
-            Map<String, Object> parameterMap = gson.fromJson(gson.toJson(oAuthMessage.getRequest().getParameterMap()),
-                    new TypeToken<Map<String, Object>>() {
-                    }.getType());
+            Map<String, Object> parameterMap = getScriptParameterMap(oAuthMessage.getRequest().getParameterMap());
             accessTokenJSObject.add(ACCESS_TOKEN_JS_OBJECT);
             Map<String, Object> result = jsEngine
                     .createEngine()
@@ -2066,6 +2063,23 @@ public class OAuth2AuthzEndpoint {
         return null;
     }
 
+    /**
+     * Build the request parameters passed to the token data function of the script, with the values of each
+     * parameter as a list.
+     *
+     * @param requestParameters Request parameters.
+     * @return Request parameters of the script.
+     */
+    private Map<String, Object> getScriptParameterMap(Map<String, String[]> requestParameters) {
+
+        Map<String, Object> parameterMap = new HashMap<>();
+        for (Map.Entry<String, String[]> parameter : requestParameters.entrySet()) {
+            parameterMap.put(parameter.getKey(), parameter.getValue() == null ? null :
+                    new ArrayList<>(Arrays.asList(parameter.getValue())));
+        }
+        return parameterMap;
+    }
+
     private void setAccessToken(OAuth2AuthorizeRespDTO authzRespDTO,
                                 OAuthASResponse.OAuthAuthorizationResponseBuilder builder,
                                 AuthorizationResponseDTO authorizationResponseDTO) {
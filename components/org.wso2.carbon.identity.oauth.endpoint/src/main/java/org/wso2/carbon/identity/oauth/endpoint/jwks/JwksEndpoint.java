@@ -37,9 +37,12 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.cache.JWKSDocumentCache;
+import org.wso2.carbon.identity.oauth2.cache.JWKSDocumentCacheEntry;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.utils.security.KeystoreUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.security.KeyStore;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateEncodingException;
@@ -52,9 +55,14 @@ import java.util.List;
 
 import javax.jws.WebService;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+
+import static org.wso2.carbon.identity.oauth.common.OAuthCommonUtil.getIntProperty;
 
 /**
  * Rest implementation for JWKS endpoint.
@@ -69,45 +77,93 @@ public class JwksEndpoint {
     private static final String ENABLE_X5C_IN_RESPONSE = "JWTValidatorConfigs.JWKSEndpoint.EnableX5CInResponse";
     public static final String JWKS_IS_THUMBPRINT_HEXIFY_REQUIRED = "JWTValidatorConfigs.JWKSEndpoint" +
             ".IsThumbprintHexifyRequired";
+    private static final String CACHE_CONTROL_MAX_AGE = "JWTValidatorConfigs.JWKSEndpoint.CacheControlMaxAge";
+    private static final int CACHE_CONTROL_MAX_AGE_SECONDS = getIntProperty(CACHE_CONTROL_MAX_AGE, 0, 0);
 
     @GET
     @Path(value = "/jwks")
     @Produces(MediaType.APPLICATION_JSON)
-    public String jwks() {
+    public Response jwks(@HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
 
         String tenantDomain = getTenantDomain();
 
+        JWKSDocumentCacheEntry jwksDocument;
         try {
-            final KeyStore keystore;
-            List<CertificateInfo> certificateInfoList = new ArrayList<>();
-            if (MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equalsIgnoreCase(tenantDomain)) {
-                KeyStoreManager keyStoreManager = KeyStoreManager.getInstance(MultitenantConstants.SUPER_TENANT_ID);
-                keystore = keyStoreManager.getPrimaryKeyStore();
-            } else {
-                try {
-                    int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
-                    IdentityTenantUtil.initializeRegistry(tenantId);
-                    FrameworkUtils.startTenantFlow(tenantDomain);
-                    KeyStoreManager keyStoreManager = KeyStoreManager.getInstance(tenantId);
-                    keystore = keyStoreManager.getKeyStore(generateKSNameFromDomainName(tenantDomain));
-                } finally {
-                    FrameworkUtils.endTenantFlow();
-                }
-            }
-            Enumeration enumeration = keystore.aliases();
-            while (enumeration.hasMoreElements()) {
-                String alias = (String) enumeration.nextElement();
-                if (keystore.isKeyEntry(alias)) {
-                    CertificateInfo certificateInfo = new CertificateInfo(keystore.getCertificate(alias), alias);
-                    certificateInfo.setCertificateChain(keystore.getCertificateChain(alias));
-                    certificateInfoList.add(certificateInfo);
-                }
-            }
-            return buildResponse(certificateInfoList);
+            jwksDocument = getJWKSDocument(tenantDomain);
         } catch (Exception e) {
             String errorMessage = "Error while generating the keyset for tenant domain: " + tenantDomain;
-            return logAndReturnError(errorMessage, e);
+            return Response.ok(logAndReturnError(errorMessage, e)).build();
+        }
+
+        Response.ResponseBuilder responseBuilder;
+        if (jwksDocument.matches(ifNoneMatch)) {
+            responseBuilder = Response.notModified();
+        } else {
+            responseBuilder = Response.ok(jwksDocument.getDocument());
+        }
+        responseBuilder.header(HttpHeaders.ETAG, jwksDocument.getETag());
+        if (CACHE_CONTROL_MAX_AGE_SECONDS > 0) {
+            responseBuilder.header(HttpHeaders.CACHE_CONTROL, "public, max-age=" + CACHE_CONTROL_MAX_AGE_SECONDS);
+        }
+        return responseBuilder.build();
+    }
+
+    /**
+     * Get the JWKS document of the tenant. The document is built from the tenant keystore on every call unless the
+     * JWKS document cache is enabled, in which case it is served from the cache until the signing keys of the tenant
+     * are cleared or the cached document is older than the timeout of the cache.
+     *
+     * @param tenantDomain Tenant domain.
+     * @return JWKS document of the tenant.
+     * @throws Exception If an error occurs while building the JWKS document.
+     */
+    private JWKSDocumentCacheEntry getJWKSDocument(String tenantDomain) throws Exception {
+
+        if (!JWKSDocumentCache.isEnabled()) {
+            return new JWKSDocumentCacheEntry(buildJWKSDocument(tenantDomain));
+        }
+        int tenantId = MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equalsIgnoreCase(tenantDomain) ?
+                MultitenantConstants.SUPER_TENANT_ID : IdentityTenantUtil.getTenantId(tenantDomain);
+        JWKSDocumentCacheEntry jwksDocument = JWKSDocumentCache.getInstance().getJWKSDocument(tenantId);
+        if (jwksDocument == null || jwksDocument.isOlderThan(JWKSDocumentCache.getTimeoutInMillis())) {
+            if (log.isDebugEnabled()) {
+                log.debug("JWKS document is not cached or has expired for tenant domain: " + tenantDomain +
+                        ". Building it from the tenant keystore.");
+            }
+            jwksDocument = new JWKSDocumentCacheEntry(buildJWKSDocument(tenantDomain));
+            JWKSDocumentCache.getInstance().addJWKSDocument(tenantId, jwksDocument);
+        }
+        return jwksDocument;
+    }
+
+    private byte[] buildJWKSDocument(String tenantDomain) throws Exception {
+
+        final KeyStore keystore;
+        List<CertificateInfo> certificateInfoList = new ArrayList<>();
+        if (MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equalsIgnoreCase(tenantDomain)) {
+            KeyStoreManager keyStoreManager = KeyStoreManager.getInstance(MultitenantConstants.SUPER_TENANT_ID);
+            keystore = keyStoreManager.getPrimaryKeyStore();
+        } else {
+            try {
+                int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+                IdentityTenantUtil.initializeRegistry(tenantId);
+                FrameworkUtils.startTenantFlow(tenantDomain);
+                KeyStoreManager keyStoreManager = KeyStoreManager.getInstance(tenantId);
+                keystore = keyStoreManager.getKeyStore(generateKSNameFromDomainName(tenantDomain));
+            } finally {
+                FrameworkUtils.endTenantFlow();
+            }
+        }
+        Enumeration enumeration = keystore.aliases();
+        while (enumeration.hasMoreElements()) {
+            String alias = (String) enumeration.nextElement();
+            if (keystore.isKeyEntry(alias)) {
+                CertificateInfo certificateInfo = new CertificateInfo(keystore.getCertificate(alias), alias);
+                certificateInfo.setCertificateChain(keystore.getCertificateChain(alias));
+                certificateInfoList.add(certificateInfo);
+            }
         }
+        return buildResponse(certificateInfoList).getBytes(StandardCharsets.UTF_8);
     }
 
     private String buildResponse(List<CertificateInfo> certInfoList)
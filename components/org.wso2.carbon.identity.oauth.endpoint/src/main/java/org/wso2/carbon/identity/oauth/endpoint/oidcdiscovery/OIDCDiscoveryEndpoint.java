@@ -23,20 +23,27 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.base.ServerConfigurationException;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.discovery.OIDCDiscoveryEndPointException;
 import org.wso2.carbon.identity.discovery.OIDCProcessor;
 import org.wso2.carbon.identity.discovery.builders.OIDProviderResponseBuilder;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.endpoint.util.factory.OIDCProviderServiceFactory;
+import org.wso2.carbon.identity.openidconnect.cache.OIDCDiscoveryDocumentCache;
+import org.wso2.carbon.identity.openidconnect.cache.OIDCDiscoveryDocumentCacheEntry;
+
+import java.nio.charset.StandardCharsets;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 
 /**
@@ -53,7 +60,8 @@ public class OIDCDiscoveryEndpoint {
     @GET
     @Produces("application/json")
     public Response getOIDProviderConfiguration(
-            @PathParam("issuer") String discoveryEpPathComponent, @Context HttpServletRequest request) {
+            @PathParam("issuer") String discoveryEpPathComponent, @Context HttpServletRequest request,
+            @HeaderParam(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch) {
 
         String tenantDomain = null;
         Object tenantObj = IdentityUtil.threadLocalProperties.get().get(OAuthConstants.TENANT_NAME_FROM_CONTEXT);
@@ -64,7 +72,7 @@ public class OIDCDiscoveryEndpoint {
             tenantDomain = MultitenantConstants.SUPER_TENANT_DOMAIN_NAME;
         }
         if (isValidIssuer(discoveryEpPathComponent)) {
-            return this.getResponse(request, tenantDomain);
+            return this.getResponse(request, tenantDomain, ifNoneMatch);
         } else {
             Response.ResponseBuilder errorResponse = Response.status(HttpServletResponse.SC_BAD_REQUEST);
             if (log.isDebugEnabled()) {
@@ -93,13 +101,12 @@ public class OIDCDiscoveryEndpoint {
         return false;
     }
 
-    private Response getResponse(HttpServletRequest request, String tenant) {
+    private Response getResponse(HttpServletRequest request, String tenant, String ifNoneMatch) {
 
-        String response;
+        OIDCDiscoveryDocumentCacheEntry discoveryDocument;
         OIDCProcessor processor = OIDCProviderServiceFactory.getOIDCService();
         try {
-            OIDProviderResponseBuilder responseBuilder = OIDCDiscoveryServiceFactory.getOIDProviderResponseBuilder();
-            response = responseBuilder.getOIDProviderConfigString(processor.getResponse(request, tenant));
+            discoveryDocument = getDiscoveryDocument(processor, request, tenant);
         } catch (OIDCDiscoveryEndPointException e) {
             Response.ResponseBuilder errorResponse = Response.status(processor.handleError(e));
             return errorResponse.entity(e.getMessage()).build();
@@ -108,7 +115,41 @@ public class OIDCDiscoveryEndpoint {
             Response.ResponseBuilder errorResponse = Response.status(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
             return errorResponse.entity("Error in reading configuration.").build();
         }
-        Response.ResponseBuilder responseBuilder = Response.status(HttpServletResponse.SC_OK);
-        return responseBuilder.entity(response).build();
+        Response.ResponseBuilder responseBuilder;
+        if (discoveryDocument.matches(ifNoneMatch)) {
+            responseBuilder = Response.notModified();
+        } else {
+            responseBuilder = Response.status(HttpServletResponse.SC_OK).entity(discoveryDocument.getDocument());
+        }
+        return responseBuilder.header(HttpHeaders.ETAG, discoveryDocument.getETag()).build();
+    }
+
+    private OIDCDiscoveryDocumentCacheEntry getDiscoveryDocument(OIDCProcessor processor, HttpServletRequest request,
+                                                                 String tenant)
+            throws OIDCDiscoveryEndPointException, ServerConfigurationException {
+
+        if (!OIDCDiscoveryDocumentCache.isEnabled()) {
+            return new OIDCDiscoveryDocumentCacheEntry(buildDiscoveryDocument(processor, request, tenant));
+        }
+        String organizationId = PrivilegedCarbonContext.getThreadLocalCarbonContext().getOrganizationId();
+        OIDCDiscoveryDocumentCacheEntry discoveryDocument =
+                OIDCDiscoveryDocumentCache.getInstance().getDiscoveryDocument(organizationId, tenant);
+        if (discoveryDocument == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("OIDC discovery document is not cached for tenant domain: " + tenant + ". Building it " +
+                        "from the provider configuration.");
+            }
+            discoveryDocument = new OIDCDiscoveryDocumentCacheEntry(buildDiscoveryDocument(processor, request, tenant));
+            OIDCDiscoveryDocumentCache.getInstance().addDiscoveryDocument(organizationId, tenant, discoveryDocument);
+        }
+        return discoveryDocument;
+    }
+
+    private byte[] buildDiscoveryDocument(OIDCProcessor processor, HttpServletRequest request, String tenant)
+            throws OIDCDiscoveryEndPointException, ServerConfigurationException {
+
+        OIDProviderResponseBuilder responseBuilder = OIDCDiscoveryServiceFactory.getOIDProviderResponseBuilder();
+        return responseBuilder.getOIDProviderConfigString(processor.getResponse(request, tenant))
+                .getBytes(StandardCharsets.UTF_8);
     }
 }
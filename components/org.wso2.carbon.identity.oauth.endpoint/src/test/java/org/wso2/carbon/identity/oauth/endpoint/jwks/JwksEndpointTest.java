@@ -50,6 +50,7 @@ import java.io.FileInputStream;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.KeyStore;
@@ -57,6 +58,9 @@ import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -225,7 +229,8 @@ public class JwksEndpointTest {
                         getKeyStoreFromFile("wso2carbon.jks", "wso2carbon"));
                 identityUtil.when(() -> IdentityUtil.getProperty(ENABLE_X5C_IN_RESPONSE)).thenReturn("true");
 
-                String result = jwksEndpoint.jwks();
+                Response response = jwksEndpoint.jwks(null);
+                String result = getResponseBody(response);
 
                 try {
                     JSONObject jwksJson = new JSONObject(result);
@@ -249,6 +254,10 @@ public class JwksEndpointTest {
                     String base64UrlEncodedString = (String) keyObject.get("x5t#S256");
                     byte[] decodedBytes = Base64.getUrlDecoder().decode(base64UrlEncodedString);
                     assertEquals(decodedBytes.length, 32, "Incorrect x5t#S256 size");
+
+                    String eTag = (String) response.getMetadata().getFirst(HttpHeaders.ETAG);
+                    assertEquals(jwksEndpoint.jwks(eTag).getStatus(), Response.Status.NOT_MODIFIED.getStatusCode(),
+                            "Conditional request with the current ETag should not return the key set");
                 } catch (JSONException e) {
                     if ("invalid.com".equals(tenantDomain)) {
                         // This is expected. We don't validate for invalid tenants.
@@ -276,6 +285,15 @@ public class JwksEndpointTest {
         lenient().when(mockOAuthServerConfiguration.getUserInfoJWTSignatureAlgorithm()).thenReturn("SHA384withRSA");
     }
 
+    private String getResponseBody(Response response) {
+
+        Object entity = response.getEntity();
+        if (entity instanceof byte[]) {
+            return new String((byte[]) entity, StandardCharsets.UTF_8);
+        }
+        return (String) entity;
+    }
+
     private KeyStore getKeyStoreFromFile(String keystoreName, String password) throws Exception {
 
         Path tenantKeystorePath = Paths.get(System.getProperty(CarbonBaseConstants.CARBON_HOME), "repository",
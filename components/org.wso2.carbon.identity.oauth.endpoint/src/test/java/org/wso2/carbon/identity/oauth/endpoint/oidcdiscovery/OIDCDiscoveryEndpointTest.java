@@ -53,6 +53,7 @@ import java.util.Map;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -183,8 +184,17 @@ public class OIDCDiscoveryEndpointTest {
             lenient().when(oidProviderConfigResponse.getConfigMap()).thenReturn(configMap);
             lenient().when(defaultOIDCProcessor.handleError(any(OIDCDiscoveryEndPointException.class)))
                     .thenReturn(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            Response response = oidcDiscoveryEndpoint.getOIDProviderConfiguration(tokenEp, httpServletRequest);
+            lenient().when(oidProviderResponseBuilder.getOIDProviderConfigString(any()))
+                    .thenReturn("{\"sampleStringKey\":\"sampleString\"}");
+            Response response = oidcDiscoveryEndpoint.getOIDProviderConfiguration(tokenEp, httpServletRequest, null);
             Assert.assertEquals(expectedResponse, response.getStatus());
+            if (expectedResponse == HttpServletResponse.SC_OK) {
+                String eTag = (String) response.getMetadata().getFirst(HttpHeaders.ETAG);
+                Assert.assertNotNull(eTag);
+                Response notModifiedResponse =
+                        oidcDiscoveryEndpoint.getOIDProviderConfiguration(tokenEp, httpServletRequest, eTag);
+                Assert.assertEquals(notModifiedResponse.getStatus(), HttpServletResponse.SC_NOT_MODIFIED);
+            }
             threadLocalProperties.get().remove(OAuthConstants.TENANT_NAME_FROM_CONTEXT);
         }
 
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.extension.engine.impl;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.script.Compilable;
+import javax.script.CompiledScript;
+import javax.script.ScriptEngine;
+import javax.script.ScriptException;
+
+import static org.wso2.carbon.identity.oauth.common.OAuthCommonUtil.getIntProperty;
+import static org.wso2.carbon.identity.oauth.extension.utils.Constants.COMPILED_SCRIPT_CACHE_SIZE;
+
+/**
+ * Least recently used cache of the scripts compiled by a script engine, keyed by the SHA-256 hash of the script text.
+ * A compiled script does not hold any script state, so the same compiled script can be evaluated against the isolated
+ * bindings of each invocation. An updated script has a different hash, so it is compiled again on its first use.
+ */
+class CompiledScriptCache {
+
+    private static final Log log = LogFactory.getLog(CompiledScriptCache.class);
+    private static final int DEFAULT_CACHE_SIZE = 100;
+    private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
+
+    private final Compilable compiler;
+    private final Map<String, CompiledScript> compiledScripts;
+
+    CompiledScriptCache(ScriptEngine engine) {
+
+        this(engine, getIntProperty(COMPILED_SCRIPT_CACHE_SIZE, DEFAULT_CACHE_SIZE, 1));
+    }
+
+    CompiledScriptCache(ScriptEngine engine, int maxSize) {
+
+        this.compiler = (Compilable) engine;
+        this.compiledScripts = Collections.synchronizedMap(new LinkedHashMap<String, CompiledScript>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = -2411904622834506421L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompiledScript> eldest) {
+
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * Get the compiled form of the script, compiling it if it is not in the cache.
+     *
+     * @param script Script text.
+     * @return Compiled script.
+     * @throws ScriptException If the script cannot be compiled.
+     */
+    CompiledScript getCompiledScript(String script) throws ScriptException {
+
+        String scriptHash = hash(script);
+        CompiledScript compiledScript = compiledScripts.get(scriptHash);
+        if (compiledScript == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Compiling the script with hash: " + scriptHash);
+            }
+            compiledScript = compiler.compile(script);
+            compiledScripts.put(scriptHash, compiledScript);
+        }
+        return compiledScript;
+    }
+
+    int size() {
+
+        return compiledScripts.size();
+    }
+
+    private static String hash(String script) throws ScriptException {
+
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256").digest(script.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new ScriptException(e);
+        }
+        char[] hex = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            hex[i * 2] = HEX_CHARS[(digest[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = HEX_CHARS[digest[i] & 0xF];
+        }
+        return new String(hex);
+    }
+}
@@ -29,11 +29,12 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import javax.script.Bindings;
-import javax.script.Invocable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptException;
+import javax.script.SimpleBindings;
+import javax.script.SimpleScriptContext;
 
 /**
  * This class is used to evaluate the javascripts.
@@ -42,6 +43,8 @@ public class JSEngineImpl implements JSEngine {
 
     private ClassFilter classFilter;
     private final ScriptEngine engine;
+    private final CompiledScriptCache compiledScriptCache;
+    private final ScriptContext context;
     private static final String[] NASHORN_ARGS = {"--no-java", "--no-deprecation-warning"};
     private static final String REMOVE_FUNCTIONS = "var quit=function(){Log.error('quit function is restricted.')};" +
             "var exit=function(){Log.error('exit function is restricted.')};" +
@@ -62,6 +65,24 @@ public class JSEngineImpl implements JSEngine {
         NashornScriptEngineFactory factory = new NashornScriptEngineFactory();
         classFilter = new RestrictedClassFilter();
         this.engine = factory.getScriptEngine(NASHORN_ARGS, getClassLoader(), classFilter);
+        this.compiledScriptCache = new CompiledScriptCache(engine);
+        this.context = engine.getContext();
+    }
+
+    /**
+     * Creates an engine instance that shares the script engine and the compiled scripts of the given engine, but
+     * evaluates the scripts against its own bindings, so that concurrent invocations do not see each other's state.
+     *
+     * @param jsEngine Engine to share the script engine and the compiled scripts with.
+     */
+    private JSEngineImpl(JSEngineImpl jsEngine) {
+
+        this.engine = jsEngine.engine;
+        this.compiledScriptCache = jsEngine.compiledScriptCache;
+        this.classFilter = jsEngine.classFilter;
+        this.context = new SimpleScriptContext();
+        this.context.setBindings(new SimpleBindings(), ScriptContext.GLOBAL_SCOPE);
+        this.context.setBindings(engine.createBindings(), ScriptContext.ENGINE_SCOPE);
     }
 
     /**
@@ -77,38 +98,37 @@ public class JSEngineImpl implements JSEngine {
     @Override
     public JSEngine createEngine() throws ScriptException {
 
-        Bindings bindings = engine.createBindings();
-        engine.setBindings(bindings, ScriptContext.GLOBAL_SCOPE);
-        engine.setBindings(engine.createBindings(), ScriptContext.ENGINE_SCOPE);
-        engine.eval(REMOVE_FUNCTIONS);
-        return JS_ENGINE_INSTANCE;
+        JSEngineImpl jsEngine = new JSEngineImpl(this);
+        jsEngine.evalScript(REMOVE_FUNCTIONS);
+        return jsEngine;
     }
 
     @Override
     public JSEngine addBindings(Map<String, Object> bindings) {
 
-        engine.getBindings(ScriptContext.ENGINE_SCOPE).putAll(bindings);
-        return JS_ENGINE_INSTANCE;
+        context.getBindings(ScriptContext.ENGINE_SCOPE).putAll(bindings);
+        return this;
     }
 
     @Override
     public JSEngine evalScript(String script) throws ScriptException {
 
-        engine.eval(script, engine.getBindings(ScriptContext.ENGINE_SCOPE));
-        return JS_ENGINE_INSTANCE;
+        CompiledScript compiledScript = compiledScriptCache.getCompiledScript(script);
+        ScriptExecutor.getInstance().execute(() -> compiledScript.eval(context));
+        return this;
     }
 
     @Override
     public JSEngine invokeFunction(String functionName, Object... args) throws NoSuchMethodException, ScriptException {
 
-        Object scriptObj = engine.get(functionName);
-        if (scriptObj != null && ((ScriptObjectMirror) scriptObj).isFunction()) {
-            Invocable invocable = (Invocable) engine;
-            invocable.invokeFunction(functionName, args);
-            return JS_ENGINE_INSTANCE;
+        Object scriptObj = context.getBindings(ScriptContext.ENGINE_SCOPE).get(functionName);
+        if (scriptObj instanceof ScriptObjectMirror && ((ScriptObjectMirror) scriptObj).isFunction()) {
+            ScriptObjectMirror function = (ScriptObjectMirror) scriptObj;
+            ScriptExecutor.getInstance().execute(() -> function.call(null, args));
+            return this;
         }
         log.warn(String.format("Function %s is not defined in the script.", functionName));
-        return JS_ENGINE_INSTANCE;
+        return this;
     }
 
     @Override
@@ -116,8 +136,9 @@ public class JSEngineImpl implements JSEngine {
 
         Map<String, Object> jsObjects = new HashMap<>();
         for (String objectName : objectNames) {
-            if (engine.get(objectName) != null) {
-                jsObjects.put(objectName, engine.get(objectName));
+            Object jsObject = context.getBindings(ScriptContext.ENGINE_SCOPE).get(objectName);
+            if (jsObject != null) {
+                jsObjects.put(objectName, jsObject);
             }
         }
         return jsObjects;
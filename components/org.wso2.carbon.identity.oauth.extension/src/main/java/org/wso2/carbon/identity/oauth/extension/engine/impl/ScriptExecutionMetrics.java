@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.extension.engine.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Execution time and failure metrics of the scripts evaluated by the OAuth extension script engines.
+ */
+public class ScriptExecutionMetrics {
+
+    private final AtomicLong executionCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong totalExecutionTimeInMillis = new AtomicLong();
+    private final AtomicLong maxExecutionTimeInMillis = new AtomicLong();
+    private final AtomicInteger abandonedExecutionCount = new AtomicInteger();
+
+    void recordSuccess(long executionTimeInMillis) {
+
+        executionCount.incrementAndGet();
+        recordExecutionTime(executionTimeInMillis);
+    }
+
+    void recordFailure(long executionTimeInMillis) {
+
+        executionCount.incrementAndGet();
+        failureCount.incrementAndGet();
+        recordExecutionTime(executionTimeInMillis);
+    }
+
+    void recordTimeout() {
+
+        timeoutCount.incrementAndGet();
+    }
+
+    void recordAbandoned() {
+
+        abandonedExecutionCount.incrementAndGet();
+    }
+
+    void recordAbandonedCompletion() {
+
+        abandonedExecutionCount.decrementAndGet();
+    }
+
+    private void recordExecutionTime(long executionTimeInMillis) {
+
+        totalExecutionTimeInMillis.addAndGet(executionTimeInMillis);
+        maxExecutionTimeInMillis.accumulateAndGet(executionTimeInMillis, Math::max);
+    }
+
+    public long getExecutionCount() {
+
+        return executionCount.get();
+    }
+
+    public long getFailureCount() {
+
+        return failureCount.get();
+    }
+
+    public long getTimeoutCount() {
+
+        return timeoutCount.get();
+    }
+
+    public long getAverageExecutionTimeInMillis() {
+
+        long executions = executionCount.get();
+        return executions == 0 ? 0 : totalExecutionTimeInMillis.get() / executions;
+    }
+
+    public long getMaxExecutionTimeInMillis() {
+
+        return maxExecutionTimeInMillis.get();
+    }
+
+    /**
+     * Get the number of scripts which did not complete within the timeout and are still running.
+     *
+     * @return Number of abandoned script executions holding a script execution thread.
+     */
+    public int getAbandonedExecutionCount() {
+
+        return abandonedExecutionCount.get();
+    }
+
+    @Override
+    public String toString() {
+
+        return "executions=" + getExecutionCount() + ", failures=" + getFailureCount() + ", timeouts=" +
+                getTimeoutCount() + ", averageExecutionTimeInMillis=" + getAverageExecutionTimeInMillis() +
+                ", maxExecutionTimeInMillis=" + getMaxExecutionTimeInMillis() + ", abandonedExecutions=" +
+                getAbandonedExecutionCount();
+    }
+}
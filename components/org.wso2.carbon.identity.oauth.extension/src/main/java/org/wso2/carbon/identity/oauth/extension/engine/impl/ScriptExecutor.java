@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.extension.engine.impl;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.script.ScriptException;
+
+import static org.wso2.carbon.identity.oauth.common.OAuthCommonUtil.getIntProperty;
+import static org.wso2.carbon.identity.oauth.extension.utils.Constants.SCRIPT_EXECUTION_POOL_SIZE;
+import static org.wso2.carbon.identity.oauth.extension.utils.Constants.SCRIPT_EXECUTION_TIMEOUT;
+
+/**
+ * Runs the script evaluations of the OAuth extension script engines and records their execution time.
+ * <pre>
+ * [oauth.extension.script_execution]
+ * timeout = 2000
+ * pool_size = 4
+ * </pre>
+ * The execution timeout is disabled by default, and the scripts run on the request thread. When a timeout is
+ * configured, the scripts run on a bounded pool of script execution threads and an evaluation that does not complete
+ * within the timeout fails with a {@link ScriptException}.
+ * <p>
+ * The timeout bounds the time a request waits for a script, not the time the script runs. Nashorn cannot stop a
+ * running script, so a timed out script is abandoned: its thread is interrupted, which the script notices only if it
+ * calls into Java code that checks the interrupt, and it keeps the thread until the script returns. Abandoned
+ * scripts are counted in the {@link ScriptExecutionMetrics}, and once all the threads of the pool are held by them,
+ * further evaluations fail immediately instead of queueing behind them, until an abandoned script completes.
+ */
+public class ScriptExecutor {
+
+    private static final Log log = LogFactory.getLog(ScriptExecutor.class);
+
+    private static final int DEFAULT_POOL_SIZE = 4;
+    private static final int QUEUE_SIZE_PER_THREAD = 64;
+
+    private static final int NOT_STARTED = 0;
+    private static final int RUNNING = 1;
+    private static final int COMPLETED = 2;
+    private static final int ABANDONED = 3;
+
+    private static final ScriptExecutor instance = new ScriptExecutor(
+            getIntProperty(SCRIPT_EXECUTION_TIMEOUT, 0, 1),
+            getIntProperty(SCRIPT_EXECUTION_POOL_SIZE, DEFAULT_POOL_SIZE, 1));
+
+    private final long timeoutInMillis;
+    private final int poolSize;
+    private final ScriptExecutionMetrics metrics = new ScriptExecutionMetrics();
+    private volatile ThreadPoolExecutor executor;
+
+    ScriptExecutor(long timeoutInMillis, int poolSize) {
+
+        this.timeoutInMillis = timeoutInMillis;
+        this.poolSize = poolSize;
+    }
+
+    public static ScriptExecutor getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Execution metrics of all the scripts run by this executor.
+     *
+     * @return Script execution metrics.
+     */
+    public ScriptExecutionMetrics getMetrics() {
+
+        return metrics;
+    }
+
+    /**
+     * Run a script evaluation, within the configured timeout if there is one.
+     *
+     * @param task Script evaluation to run.
+     * @return Result of the script evaluation.
+     * @throws ScriptException If the evaluation fails or does not complete within the timeout.
+     */
+    Object execute(ScriptTask task) throws ScriptException {
+
+        long startTime = System.currentTimeMillis();
+        boolean completed = false;
+        try {
+            Object result = timeoutInMillis > 0 ? executeWithTimeout(task) : task.run();
+            completed = true;
+            return result;
+        } catch (RuntimeException e) {
+            throw new ScriptException(e);
+        } finally {
+            long executionTime = System.currentTimeMillis() - startTime;
+            if (completed) {
+                metrics.recordSuccess(executionTime);
+            } else {
+                metrics.recordFailure(executionTime);
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("Script execution " + (completed ? "completed" : "failed") + " in " + executionTime +
+                        " ms. " + metrics);
+            }
+        }
+    }
+
+    /**
+     * Stop the script execution threads. Scripts that are still running are interrupted.
+     */
+    public synchronized void shutdown() {
+
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private Object executeWithTimeout(ScriptTask task) throws ScriptException {
+
+        if (metrics.getAbandonedExecutionCount() >= poolSize) {
+            throw new ScriptException("All the script execution threads are held by scripts which did not complete " +
+                    "within " + timeoutInMillis + " ms.");
+        }
+        AtomicInteger executionState = new AtomicInteger(NOT_STARTED);
+        PrivilegedCarbonContext carbonContext = PrivilegedCarbonContext.getThreadLocalCarbonContext();
+        String tenantDomain = carbonContext.getTenantDomain();
+        int tenantId = carbonContext.getTenantId();
+        Future<Object> future;
+        try {
+            future = getExecutor().submit(() -> {
+                if (!executionState.compareAndSet(NOT_STARTED, RUNNING)) {
+                    return null;
+                }
+                PrivilegedCarbonContext.startTenantFlow();
+                try {
+                    PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantId(tenantId);
+                    PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain);
+                    return task.run();
+                } finally {
+                    PrivilegedCarbonContext.endTenantFlow();
+                    if (!executionState.compareAndSet(RUNNING, COMPLETED)) {
+                        metrics.recordAbandonedCompletion();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            throw new ScriptException("Script execution pool is saturated.");
+        }
+
+        try {
+            return future.get(timeoutInMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            metrics.recordTimeout();
+            recordIfAbandoned(executionState);
+            throw new ScriptException("Script execution did not complete within " + timeoutInMillis + " ms.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            recordIfAbandoned(executionState);
+            Thread.currentThread().interrupt();
+            throw new ScriptException("Interrupted while waiting for the script execution to complete.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ScriptException) {
+                throw (ScriptException) e.getCause();
+            }
+            throw new ScriptException(e);
+        }
+    }
+
+    private void recordIfAbandoned(AtomicInteger executionState) {
+
+        if (executionState.compareAndSet(RUNNING, ABANDONED)) {
+            metrics.recordAbandoned();
+            log.warn("Abandoned a script execution which did not complete within " + timeoutInMillis + " ms. The " +
+                    "script keeps its execution thread until it returns. " + metrics);
+        } else {
+            // The script did not start, or completed after the wait ended.
+            executionState.compareAndSet(NOT_STARTED, ABANDONED);
+        }
+    }
+
+    private ThreadPoolExecutor getExecutor() {
+
+        if (executor == null) {
+            synchronized (this) {
+                if (executor == null) {
+                    executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                            new ArrayBlockingQueue<>(poolSize * QUEUE_SIZE_PER_THREAD),
+                            new ScriptExecutionThreadFactory());
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * A script evaluation run by the executor.
+     */
+    interface ScriptTask {
+
+        Object run() throws ScriptException;
+    }
+
+    /**
+     * Thread factory for the script execution threads.
+     */
+    private static class ScriptExecutionThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, "oauth-extension-script-execution-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
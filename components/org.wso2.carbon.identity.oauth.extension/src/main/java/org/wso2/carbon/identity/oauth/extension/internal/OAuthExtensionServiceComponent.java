@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.extension.internal;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.osgi.service.component.ComponentContext;
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.wso2.carbon.identity.oauth.extension.engine.impl.ScriptExecutionMetrics;
+import org.wso2.carbon.identity.oauth.extension.engine.impl.ScriptExecutor;
+
+/**
+ * Service component of the OAuth extension bundle. Publishes the script execution metrics as a service and stops the
+ * script execution threads when the bundle is deactivated.
+ */
+@Component(name = "org.wso2.carbon.identity.oauth.extension.internal.OAuthExtensionServiceComponent",
+        immediate = true)
+public class OAuthExtensionServiceComponent {
+
+    private static final Log log = LogFactory.getLog(OAuthExtensionServiceComponent.class);
+
+    @Activate
+    protected void activate(ComponentContext context) {
+
+        try {
+            context.getBundleContext().registerService(ScriptExecutionMetrics.class,
+                    ScriptExecutor.getInstance().getMetrics(), null);
+            if (log.isDebugEnabled()) {
+                log.debug("OAuth extension bundle is activated.");
+            }
+        } catch (Throwable e) {
+            log.error("Error occurred while activating the OAuth extension bundle.", e);
+        }
+    }
+
+    @Deactivate
+    protected void deactivate(ComponentContext context) {
+
+        ScriptExecutor.getInstance().shutdown();
+        if (log.isDebugEnabled()) {
+            log.debug("OAuth extension bundle is deactivated. Script executions: " +
+                    ScriptExecutor.getInstance().getMetrics());
+        }
+    }
+}
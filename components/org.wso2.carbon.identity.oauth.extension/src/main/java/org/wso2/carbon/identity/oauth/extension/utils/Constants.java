@@ -25,4 +25,8 @@ public class Constants {
 
     public static final String OPENJDK_SCRIPT_CLASS_NAME = "org.openjdk.nashorn.api.scripting.ScriptObjectMirror";
     public static final String JDK_SCRIPT_CLASS_NAME = "jdk.nashorn.api.scripting.ScriptObjectMirror";
+
+    public static final String SCRIPT_EXECUTION_TIMEOUT = "OAuth.Extension.ScriptExecution.Timeout";
+    public static final String SCRIPT_EXECUTION_POOL_SIZE = "OAuth.Extension.ScriptExecution.PoolSize";
+    public static final String COMPILED_SCRIPT_CACHE_SIZE = "OAuth.Extension.ScriptExecution.CompiledScriptCacheSize";
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.extension.engine.impl;
+
+import org.openjdk.nashorn.api.scripting.NashornScriptEngineFactory;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.script.CompiledScript;
+import javax.script.ScriptException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+
+public class CompiledScriptCacheTest {
+
+    private CompiledScriptCache compiledScriptCache;
+
+    @BeforeMethod
+    public void setUp() {
+
+        compiledScriptCache = new CompiledScriptCache(new NashornScriptEngineFactory().getScriptEngine(), 2);
+    }
+
+    @Test
+    public void testCompiledScriptIsReused() throws ScriptException {
+
+        CompiledScript compiledScript = compiledScriptCache.getCompiledScript("var a = 1;");
+        assertSame(compiledScriptCache.getCompiledScript("var a = 1;"), compiledScript);
+        assertNotSame(compiledScriptCache.getCompiledScript("var a = 2;"), compiledScript);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedScriptIsEvicted() throws ScriptException {
+
+        CompiledScript firstScript = compiledScriptCache.getCompiledScript("var a = 1;");
+        compiledScriptCache.getCompiledScript("var b = 1;");
+        compiledScriptCache.getCompiledScript("var a = 1;");
+        compiledScriptCache.getCompiledScript("var c = 1;");
+
+        assertEquals(compiledScriptCache.size(), 2);
+        assertSame(compiledScriptCache.getCompiledScript("var a = 1;"), firstScript);
+    }
+}
@@ -29,6 +29,7 @@ import java.util.Map;
 import javax.script.ScriptException;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -84,4 +85,15 @@ public class OpenJdkJSEngineImplTest {
         assertEquals("John", ((Map<?, ?>) jsObjects.get("person")).get("name"));
         assertEquals(30, ((Map<?, ?>) jsObjects.get("person")).get("age"));
     }
+
+    @Test
+    public void testEnginesDoNotShareBindings() throws ScriptException {
+
+        JSEngine firstEngine = OpenJdkJSEngineImpl.getInstance().createEngine();
+        JSEngine secondEngine = OpenJdkJSEngineImpl.getInstance().createEngine();
+        firstEngine.evalScript("var isolated = 'first';");
+
+        assertEquals("first", firstEngine.getJSObjects(Collections.singletonList("isolated")).get("isolated"));
+        assertFalse(secondEngine.getJSObjects(Collections.singletonList("isolated")).containsKey("isolated"));
+    }
 }
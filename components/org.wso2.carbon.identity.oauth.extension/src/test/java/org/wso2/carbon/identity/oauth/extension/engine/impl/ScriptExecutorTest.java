@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.extension.engine.impl;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.script.ScriptException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.fail;
+
+public class ScriptExecutorTest {
+
+    @Test
+    public void testAbandonedScriptsBoundThePool() throws Exception {
+
+        ScriptExecutor scriptExecutor = new ScriptExecutor(50, 1);
+        CountDownLatch scriptRelease = new CountDownLatch(1);
+        try {
+            try {
+                scriptExecutor.execute(() -> awaitIgnoringInterrupts(scriptRelease));
+                fail("The script should have timed out.");
+            } catch (ScriptException e) {
+                // Expected, as the script does not return within the timeout.
+            }
+            assertEquals(scriptExecutor.getMetrics().getTimeoutCount(), 1);
+            assertEquals(scriptExecutor.getMetrics().getAbandonedExecutionCount(), 1);
+
+            AtomicBoolean executed = new AtomicBoolean();
+            try {
+                scriptExecutor.execute(() -> executed.getAndSet(true));
+                fail("The script should have been rejected while the pool is held by an abandoned script.");
+            } catch (ScriptException e) {
+                assertFalse(executed.get());
+            }
+
+            scriptRelease.countDown();
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+            while (scriptExecutor.getMetrics().getAbandonedExecutionCount() > 0
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(scriptExecutor.getMetrics().getAbandonedExecutionCount(), 0);
+            assertEquals(scriptExecutor.execute(() -> "completed"), "completed");
+        } finally {
+            scriptRelease.countDown();
+            scriptExecutor.shutdown();
+        }
+    }
+
+    private static Object awaitIgnoringInterrupts(CountDownLatch latch) {
+
+        // Like a Nashorn script, the task does not stop when its thread is interrupted.
+        while (true) {
+            try {
+                latch.await();
+                return null;
+            } catch (InterruptedException e) {
+                // Keep running.
+            }
+        }
+    }
+}
@@ -74,10 +74,16 @@ import org.wso2.carbon.identity.oauth2.OAuth2Constants;
 import org.wso2.carbon.identity.oauth2.OAuth2Service;
 import org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants;
 import org.wso2.carbon.identity.oauth2.authz.handlers.ResponseTypeHandler;
+import org.wso2.carbon.identity.oauth2.dao.AccessTokenDAO;
+import org.wso2.carbon.identity.oauth2.dao.AccessTokenPager;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+import org.wso2.carbon.identity.oauth2.revocation.BulkRevocationProgress;
+import org.wso2.carbon.identity.oauth2.revocation.BulkTokenRevoker;
+import org.wso2.carbon.identity.oauth2.revocation.RevokedTokenIndex;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
+import org.wso2.carbon.identity.oauth2.util.AppInformationLoader;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.oauth2.validators.OAuth2ScopeValidator;
 import org.wso2.carbon.identity.openidconnect.OIDCClaimUtil;
@@ -98,6 +104,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -564,6 +571,8 @@ public class OAuthAdminServiceImpl {
                             app.setCallbackUrl(consoleCallBackURL);
                         }
                     }
+                    // Forget that the client ID was not found, as it may have been looked up before registration.
+                    AppInformationLoader.getInstance().invalidate(app.getOauthConsumerKey());
                     AppInfoCache.getInstance().addToCache(app.getOauthConsumerKey(), app, tenantDomain);
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("Oauth Application registration success : " + application.getApplicationName() +
@@ -1460,24 +1469,7 @@ public class OAuthAdminServiceImpl {
     void updateAppAndRevokeTokensAndAuthzCodes(String consumerKey,
                                                Properties properties) throws IdentityOAuthAdminException {
 
-        int countToken = 0;
         try {
-            Set<AccessTokenDO> activeDetailedTokens = OAuthTokenPersistenceFactory
-                    .getInstance().getAccessTokenDAO().getActiveAcessTokenDataByConsumerKey(consumerKey);
-            String[] accessTokens = new String[activeDetailedTokens.size()];
-
-            for (AccessTokenDO detailToken : activeDetailedTokens) {
-                String token = detailToken.getAccessToken();
-                accessTokens[countToken] = token;
-                countToken++;
-            }
-            clearTokenCacheEntry(consumerKey, activeDetailedTokens);
-
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Access tokens and token of users are removed from the cache for OAuth App with " +
-                        "consumerKey: " + consumerKey);
-            }
-
             Set<String> authorizationCodes = OAuthTokenPersistenceFactory.getInstance().getAuthorizationCodeDAO()
                     .getActiveAuthorizationCodesByConsumerKey(consumerKey);
             for (String authorizationCode : authorizationCodes) {
@@ -1485,14 +1477,22 @@ public class OAuthAdminServiceImpl {
                 OAuthCache.getInstance().clearCacheEntry(cacheKey);
             }
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Access tokens are removed from the cache for OAuth App with consumerKey: " + consumerKey);
+                LOG.debug("Authorization codes are removed from the cache for OAuth App with consumerKey: " +
+                        consumerKey);
             }
 
+            // The access tokens are revoked in chunks once the application is updated, instead of loading all the
+            // active tokens of the application into memory to revoke them in the same transaction.
             OAuthTokenPersistenceFactory.getInstance().getTokenManagementDAO()
                     .updateAppAndRevokeTokensAndAuthzCodes(
                             consumerKey, properties, authorizationCodes.toArray(
-                                    new String[0]), accessTokens);
-
+                                    new String[0]), new String[0]);
+            BulkRevocationProgress progress = BulkTokenRevoker.getInstance().revokeTokensOfApplication(consumerKey,
+                    getTenantDomain());
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Revoking the access tokens of the OAuth App with consumerKey: " + consumerKey +
+                        ". Progress: " + progress);
+            }
         } catch (IdentityOAuth2Exception | IdentityApplicationManagementException e) {
             throw handleError("Error in updating oauth app & revoking access tokens and authz " +
                     "codes for OAuth App with consumerKey: " + consumerKey, e);
@@ -1649,44 +1649,55 @@ public class OAuthAdminServiceImpl {
         }
         Set<OAuthConsumerAppDTO> appDTOs = new HashSet<OAuthConsumerAppDTO>();
         for (String clientId : clientIds) {
-            Set<AccessTokenDO> accessTokenDOs;
+            AccessTokenDO scopedToken;
             try {
-                accessTokenDOs = OAuthTokenPersistenceFactory.getInstance()
-                        .getAccessTokenDAO().getAccessTokens(
-                                clientId, loggedInUser, userStoreDomain, true);
+                scopedToken = getLatestAccessTokenOfClient(clientId, loggedInUser, userStoreDomain);
             } catch (IdentityOAuth2Exception e) {
                 String errorMsg = "Error occurred while retrieving access tokens issued for " +
                         "Client ID : " + clientId + ", User ID : " + username;
                 throw handleError(errorMsg, e);
             }
-            if (!accessTokenDOs.isEmpty()) {
-                Set<String> distinctClientUserScopeCombo = new HashSet<String>();
-                for (AccessTokenDO accessTokenDO : accessTokenDOs) {
-                    AccessTokenDO scopedToken;
-                    String scopeString = buildScopeString(accessTokenDO.getScope());
-                    try {
-                        scopedToken = OAuthTokenPersistenceFactory.getInstance().
-                                getAccessTokenDAO().getLatestAccessToken(clientId, loggedInUser, userStoreDomain,
-                                scopeString, true);
-                        if (scopedToken != null && !distinctClientUserScopeCombo.contains(clientId + ":" + username)) {
-                            OAuthAppDO appDO = getOAuthAppDO(scopedToken.getConsumerKey(), tenantDomain);
-                            if (LOG.isDebugEnabled()) {
-                                LOG.debug("Found App: " + appDO.getApplicationName() + " for user: " + username);
-                            }
-                            appDTOs.add(OAuthUtil.buildConsumerAppDTO(appDO));
-                            distinctClientUserScopeCombo.add(clientId + ":" + username);
-                        }
-                    } catch (IdentityOAuth2Exception e) {
-                        String errorMsg = "Error occurred while retrieving latest access token issued for Client ID :" +
-                                " " + clientId + ", User ID : " + username + " and Scope : " + scopeString;
-                        throw handleError(errorMsg, e);
-                    }
+            if (scopedToken != null) {
+                OAuthAppDO appDO = getOAuthAppDO(scopedToken.getConsumerKey(), tenantDomain);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Found App: " + appDO.getApplicationName() + " for user: " + username);
                 }
+                appDTOs.add(OAuthUtil.buildConsumerAppDTO(appDO));
             }
         }
         return appDTOs.toArray(new OAuthConsumerAppDTO[0]);
     }
 
+    /**
+     * Walk the access tokens issued to the user for the given client page by page, and return the latest access
+     * token of the first scope that still has one. The walk stops as soon as such a token is found.
+     *
+     * @param clientId        Client ID of the application.
+     * @param user            User the tokens are issued to.
+     * @param userStoreDomain User store domain of the token partition.
+     * @return Latest access token, or null if the user has no tokens for the client.
+     * @throws IdentityOAuth2Exception If an error occurs while retrieving the access tokens.
+     */
+    private AccessTokenDO getLatestAccessTokenOfClient(String clientId, AuthenticatedUser user,
+                                                       String userStoreDomain) throws IdentityOAuth2Exception {
+
+        AccessTokenDAO accessTokenDAO = OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO();
+        AtomicReference<AccessTokenDO> latestAccessToken = new AtomicReference<>();
+        AccessTokenPager.forEachPage((afterTokenId, limit) -> accessTokenDAO.getAccessTokens(clientId, user,
+                userStoreDomain, true, afterTokenId, limit), accessTokenDOs -> {
+            for (AccessTokenDO accessTokenDO : accessTokenDOs) {
+                AccessTokenDO scopedToken = accessTokenDAO.getLatestAccessToken(clientId, user, userStoreDomain,
+                        buildScopeString(accessTokenDO.getScope()), true);
+                if (scopedToken != null) {
+                    latestAccessToken.set(scopedToken);
+                    return false;
+                }
+            }
+            return true;
+        });
+        return latestAccessToken.get();
+    }
+
     private OAuthAppDO getOAuthAppDO(String consumerKey, String tenantDomain) throws IdentityOAuthAdminException {
 
         OAuthAppDO appDO;
@@ -1742,7 +1753,7 @@ public class OAuthAdminServiceImpl {
                         Set<AccessTokenDO> accessTokenDOs;
                         try {
                             // Retrieve all ACTIVE or EXPIRED access tokens for particular client authorized by this
-                            // user
+                            // user. The tokens are not paged, as the post revoke listeners receive all of them.
                             accessTokenDOs = OAuthTokenPersistenceFactory.getInstance()
                                     .getAccessTokenDAO().getAccessTokens(
                                             appDTO.getOauthConsumerKey(), user, userStoreDomain, true);
@@ -1791,6 +1802,7 @@ public class OAuthAdminServiceImpl {
                                     OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
                                             .revokeAccessTokens(new String[]{scopedToken
                                                     .getAccessToken()});
+                                    RevokedTokenIndex.getInstance().revokeAccessToken(scopedToken);
                                 } catch (IdentityOAuth2Exception e) {
                                     String errorMsg = "Error occurred while revoking " + "Access Token : " +
                                             scopedToken.getAccessToken();
@@ -1867,6 +1879,7 @@ public class OAuthAdminServiceImpl {
             }
 
             revokeAccessTokens(accessTokens, consumerKey, tenantDomain);
+            RevokedTokenIndex.getInstance().revokeAccessTokens(accessTokenDOs);
             revokeOAuthConsentsForApplication(applicationName, tenantDomain);
         }
         triggerPostApplicationTokenRevokeListeners(application, revokeRespDTO, accessTokenDOs);
@@ -1902,10 +1915,12 @@ public class OAuthAdminServiceImpl {
 
         if (!accessTokenDOs.isEmpty()) {
             List<String> accessTokens = new ArrayList<>();
+            List<AccessTokenDO> revokedAccessTokenDOs = new ArrayList<>();
             for (AccessTokenDO accessTokenDO : accessTokenDOs) {
                 String authorizedOrganizationId = accessTokenDO.getAuthorizedOrganizationId();
                 if (StringUtils.equals(organizationId, authorizedOrganizationId)) {
                     accessTokens.add(accessTokenDO.getAccessToken());
+                    revokedAccessTokenDOs.add(accessTokenDO);
                     clearCacheByAccessTokenAndConsumerKey(accessTokenDO, consumerKey);
                 }
             }
@@ -1916,6 +1931,7 @@ public class OAuthAdminServiceImpl {
 
             String tenantDomain = getTenantDomain(organizationId);
             revokeAccessTokens(accessTokens.toArray(new String[0]), consumerKey, tenantDomain);
+            RevokedTokenIndex.getInstance().revokeAccessTokens(revokedAccessTokenDOs);
             revokeOAuthConsentsForApplication(getApplicationName(consumerKey, tenantDomain), tenantDomain);
         }
         triggerPostApplicationTokenRevokeListeners(application, revokeRespDTO, accessTokenDOs);
@@ -45,6 +45,7 @@ import org.wso2.carbon.identity.core.handler.AbstractIdentityHandler;
 import org.wso2.carbon.identity.core.model.IdentityEventListenerConfig;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantIdCache;
 import org.wso2.carbon.identity.oauth.cache.OAuthCache;
 import org.wso2.carbon.identity.oauth.cache.OAuthCacheKey;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
@@ -61,6 +62,7 @@ import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.dao.SharedAppResolveDAO;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
+import org.wso2.carbon.identity.oauth2.revocation.BulkTokenRevoker;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
@@ -443,6 +445,8 @@ public final class OAuthUtil {
         OAuthCacheKey cacheKey = new OAuthCacheKey(accessTokenDO.getAccessToken());
         String tenantDomain = accessTokenDO.getAuthzUser().getTenantDomain();
         OAuthCache.getInstance().clearCacheEntry(cacheKey,  tenantDomain);
+        AuthorizationGrantIdCache.getInstance().clearGrantId(AuthorizationGrantIdCache.ACCESS_TOKEN,
+                accessTokenDO.getAccessToken());
     }
 
     public static AuthenticatedUser getAuthenticatedUser(String fullyQualifiedUserName) {
@@ -904,7 +908,9 @@ public final class OAuthUtil {
                         LOG.debug("Retrieving all ACTIVE or EXPIRED access tokens for the client: " + clientId
                                 + " authorized by user: " + username + "/" + userStoreDomain);
                     }
-                    // retrieve all ACTIVE or EXPIRED access tokens for particular client authorized by this user
+                    // Retrieve all ACTIVE or EXPIRED access tokens for particular client authorized by this user.
+                    // The tokens are not paged, as whether to revoke every token or only the latest token of each
+                    // scope depends on whether any of the tokens is bound.
                     accessTokenDOs.addAll(OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
                             .getAccessTokens(clientId, authenticatedUser, userStoreDomain, true));
                 } catch (IdentityOAuth2Exception e) {
@@ -943,11 +949,8 @@ public final class OAuthUtil {
                             && accessTokenDO.getAuthzUser().getAccessingOrganization() == null) {
                         continue;
                     }
-                    // Clear cache
-                    String tokenBindingReference = NONE;
                     if (accessTokenDO.getTokenBinding() != null && StringUtils
                             .isNotBlank(accessTokenDO.getTokenBinding().getBindingReference())) {
-                        tokenBindingReference = accessTokenDO.getTokenBinding().getBindingReference();
                         tokenBindingEnabled = true;
                         // Skip current token from being revoked.
                         if (StringUtils.equals(accessTokenDO.getTokenBinding().getBindingValue(),
@@ -960,14 +963,6 @@ public final class OAuthUtil {
                             currentTokenReference)) {
                         continue;
                     }
-                    OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
-                            OAuth2Util.buildScopeString(accessTokenDO.getScope()), tokenBindingReference);
-                    OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
-                            OAuth2Util.buildScopeString(accessTokenDO.getScope()), tokenBindingReference);
-                    OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
-                            OAuth2Util.buildScopeString(accessTokenDO.getScope()));
-                    OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser());
-                    OAuthUtil.clearOAuthCache(accessTokenDO);
                     // Get unique scopes list
                     scopes.add(OAuth2Util.buildScopeString(accessTokenDO.getScope()));
                     accessTokens.add(accessTokenDO);
@@ -980,14 +975,18 @@ public final class OAuthUtil {
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("Revoke latest tokens with scopes for the clientId: " + clientId);
                     }
+                    for (AccessTokenDO accessTokenDO : accessTokens) {
+                        clearTokenCache(accessTokenDO);
+                    }
                     revokeLatestTokensWithScopes(scopes, clientId, authenticatedUser);
                 } else {
                     // If the hashed token is enabled, there can be multiple active tokens with a user with same scope.
                     // Also, if token binding is enabled, there can be multiple active tokens for the same user, scope
                     // and client combination.
-                    // So need to revoke all the tokens.
+                    // So need to revoke all the tokens. The cache entries of the tokens are evicted as they are
+                    // revoked.
                     try {
-                        revokeTokens(accessTokens);
+                        revokeTokens(accessTokens, authenticatedUser.getTenantDomain());
                     } catch (IdentityOAuth2Exception e) {
                         String errorMsg = "Error occurred while revoking Access Token";
                         LOG.error(errorMsg, e);
@@ -1169,17 +1168,28 @@ public final class OAuthUtil {
     }
 
 
-    private static void revokeTokens(List<AccessTokenDO> accessTokens) throws IdentityOAuth2Exception {
+    private static void revokeTokens(List<AccessTokenDO> accessTokens, String tenantDomain)
+            throws IdentityOAuth2Exception {
 
         if (!accessTokens.isEmpty()) {
-            // Revoking token from database.
-            for (AccessTokenDO accessToken : accessTokens) {
-                OAuthUtil.invokePreRevocationBySystemListeners(accessToken, Collections.emptyMap());
-                OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
-                        .revokeAccessTokens(new String[]{accessToken.getAccessToken()}, OAuth2Util.isHashEnabled());
-                OAuthUtil.invokePostRevocationBySystemListeners(accessToken, Collections.emptyMap());
-            }
+            // Revoking tokens from database in chunks. The system revocation listeners are notified of each token.
+            BulkTokenRevoker.getInstance().revokeAccessTokens(accessTokens, tenantDomain, true);
+        }
+    }
+
+    private static void clearTokenCache(AccessTokenDO accessTokenDO) {
+
+        String tokenBindingReference = NONE;
+        if (accessTokenDO.getTokenBinding() != null && StringUtils
+                .isNotBlank(accessTokenDO.getTokenBinding().getBindingReference())) {
+            tokenBindingReference = accessTokenDO.getTokenBinding().getBindingReference();
         }
+        OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
+                OAuth2Util.buildScopeString(accessTokenDO.getScope()), tokenBindingReference);
+        OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
+                OAuth2Util.buildScopeString(accessTokenDO.getScope()));
+        OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser());
+        OAuthUtil.clearOAuthCache(accessTokenDO);
     }
 
     private static void revokeLatestTokensWithScopes(Set<String> scopes, String clientId,
@@ -1209,7 +1219,7 @@ public final class OAuthUtil {
                     if (LOG.isDebugEnabled()) {
                         LOG.debug("Revoking latest scoped token from database");
                     }
-                    revokeTokens(Collections.singletonList(scopedToken));
+                    revokeTokens(Collections.singletonList(scopedToken), authenticatedUser.getTenantDomain());
                 } catch (IdentityOAuth2Exception e) {
                     String errorMsg = "Error occurred while revoking " + "Access Token : "
                             + scopedToken.getAccessToken() + " for user " + authenticatedUser;
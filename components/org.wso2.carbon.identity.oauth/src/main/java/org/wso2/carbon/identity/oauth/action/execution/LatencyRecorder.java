@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.action.execution;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records latencies in a fixed size window of the most recent samples, from which the percentiles are computed. The
+ * count and the maximum cover all the recorded samples.
+ */
+public class LatencyRecorder {
+
+    static final int DEFAULT_WINDOW_SIZE = 1024;
+
+    private final AtomicLongArray samples;
+    private final AtomicLong sampleCount = new AtomicLong();
+    private final AtomicLong maxLatencyInNanos = new AtomicLong();
+
+    public LatencyRecorder() {
+
+        this(DEFAULT_WINDOW_SIZE);
+    }
+
+    LatencyRecorder(int windowSize) {
+
+        this.samples = new AtomicLongArray(windowSize);
+    }
+
+    /**
+     * Record a latency sample.
+     *
+     * @param latencyInNanos Latency in nanoseconds.
+     */
+    public void record(long latencyInNanos) {
+
+        long index = sampleCount.getAndIncrement();
+        samples.set((int) (index % samples.length()), latencyInNanos);
+        maxLatencyInNanos.accumulateAndGet(latencyInNanos, Math::max);
+    }
+
+    public long getCount() {
+
+        return sampleCount.get();
+    }
+
+    public long getMaxLatencyInMicros() {
+
+        return maxLatencyInNanos.get() / 1000;
+    }
+
+    /**
+     * Get a percentile of the latencies in the current sample window, using the nearest rank method.
+     *
+     * @param percentile Percentile, between 0 and 100.
+     * @return Latency of the percentile in microseconds, or 0 if there are no samples.
+     */
+    public long getPercentileInMicros(double percentile) {
+
+        return getPercentilesInMicros(percentile)[0];
+    }
+
+    /**
+     * Get percentiles of the latencies in the current sample window, using the nearest rank method. The window is
+     * copied and sorted once for all the percentiles.
+     *
+     * @param percentiles Percentiles, between 0 and 100.
+     * @return Latencies of the percentiles in microseconds, in the order of the percentiles, which are 0 if there are
+     * no samples.
+     */
+    public long[] getPercentilesInMicros(double... percentiles) {
+
+        long[] latencies = new long[percentiles.length];
+        int windowSize = (int) Math.min(sampleCount.get(), samples.length());
+        if (windowSize == 0) {
+            return latencies;
+        }
+        long[] window = new long[windowSize];
+        for (int i = 0; i < windowSize; i++) {
+            window[i] = samples.get(i);
+        }
+        Arrays.sort(window);
+        for (int i = 0; i < percentiles.length; i++) {
+            int rank = (int) Math.ceil(percentiles[i] / 100 * windowSize);
+            latencies[i] = window[Math.min(Math.max(rank, 1), windowSize) - 1] / 1000;
+        }
+        return latencies;
+    }
+
+    @Override
+    public String toString() {
+
+        long[] percentiles = getPercentilesInMicros(50, 90, 99);
+        return "count=" + getCount() + ", p50InMicros=" + percentiles[0] + ", p90InMicros=" + percentiles[1] +
+                ", p99InMicros=" + percentiles[2] + ", maxInMicros=" + getMaxLatencyInMicros();
+    }
+}
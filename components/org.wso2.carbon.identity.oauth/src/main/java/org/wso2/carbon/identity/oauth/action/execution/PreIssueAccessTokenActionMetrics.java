@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.action.execution;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.action.execution.api.model.ActionType;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.carbon.identity.oauth.common.OAuthCommonUtil.getIntProperty;
+
+/**
+ * Latency of each phase of the pre issue access token action executions, and the results of the operations applied
+ * from the action responses, keyed by the action type and the tenant.
+ * <p>
+ * Latency keys are in the form {@code <action type>/<tenant domain>/<phase>} and operation keys are in the form
+ * {@code <action type>/<tenant domain>/<operation>/<status>}. Collection is disabled by default and is enabled with
+ * {@code OAuth.PreIssueAccessTokenAction.Metrics.Enable}.
+ * <p>
+ * Each latency key holds a fixed size sample window, so only the first {@code MaxTenants} tenants that execute the
+ * action are tracked separately, and the executions of any further tenant are recorded under the {@code *} tenant.
+ * The collected metrics are written to the carbon log at the info level every {@code LogInterval} seconds by a
+ * background thread, as long as executions are being recorded. A log interval of 0 disables the log.
+ * <pre>
+ * [oauth.pre_issue_access_token_action.metrics]
+ * enable = true
+ * max_tenants = 100
+ * log_interval = 300
+ * </pre>
+ */
+public class PreIssueAccessTokenActionMetrics {
+
+    private static final Log LOG = LogFactory.getLog(PreIssueAccessTokenActionMetrics.class);
+
+    private static final String ENABLE = "OAuth.PreIssueAccessTokenAction.Metrics.Enable";
+    private static final String MAX_TENANTS = "OAuth.PreIssueAccessTokenAction.Metrics.MaxTenants";
+    private static final String LOG_INTERVAL = "OAuth.PreIssueAccessTokenAction.Metrics.LogInterval";
+    private static final int DEFAULT_MAX_TENANTS = 100;
+    private static final int DEFAULT_LOG_INTERVAL = 300;
+    private static final String KEY_SEPARATOR = "/";
+    static final String OTHER_TENANTS = "*";
+
+    private static final PreIssueAccessTokenActionMetrics instance =
+            new PreIssueAccessTokenActionMetrics(Boolean.parseBoolean(IdentityUtil.getProperty(ENABLE)),
+                    getIntProperty(MAX_TENANTS, DEFAULT_MAX_TENANTS, 1),
+                    TimeUnit.SECONDS.toNanos(getIntProperty(LOG_INTERVAL, DEFAULT_LOG_INTERVAL, 0)));
+
+    private final boolean enabled;
+    private final int maxTenants;
+    private final Set<String> tenantDomains = ConcurrentHashMap.newKeySet();
+    private final Map<String, LatencyRecorder> latencies = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> operationCounts = new ConcurrentHashMap<>();
+    private final AtomicBoolean recordedSinceLastLog = new AtomicBoolean();
+    private final ScheduledExecutorService logExecutor;
+
+    /**
+     * Phases of a pre issue access token action execution.
+     */
+    public enum Phase {
+
+        /**
+         * Building the action execution request from the token request message context.
+         */
+        REQUEST_BUILD,
+        /**
+         * Everything the action executor does between building the request and processing the response, which is
+         * serializing the request, calling the action endpoint and parsing the response.
+         */
+        ACTION_INVOCATION,
+        /**
+         * Applying the operations of a success response to the access token.
+         */
+        OPERATION_APPLY,
+        /**
+         * The whole action execution, as seen by the grant handler.
+         */
+        TOTAL
+    }
+
+    PreIssueAccessTokenActionMetrics(boolean enabled, int maxTenants, long logIntervalInNanos) {
+
+        this.enabled = enabled;
+        this.maxTenants = maxTenants;
+        if (enabled && logIntervalInNanos > 0) {
+            logExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "pre-issue-access-token-action-metrics-log");
+                thread.setDaemon(true);
+                return thread;
+            });
+            logExecutor.scheduleAtFixedRate(this::logIfRecorded, logIntervalInNanos, logIntervalInNanos,
+                    TimeUnit.NANOSECONDS);
+        } else {
+            logExecutor = null;
+        }
+    }
+
+    public static PreIssueAccessTokenActionMetrics getInstance() {
+
+        return instance;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Get the latency recorders of the phases, keyed by the action type, the tenant and the phase.
+     *
+     * @return Latency recorders.
+     */
+    public Map<String, LatencyRecorder> getLatencies() {
+
+        return Collections.unmodifiableMap(latencies);
+    }
+
+    /**
+     * Get the number of operations applied from the action responses, keyed by the action type, the tenant, the
+     * operation and its execution status.
+     *
+     * @return Operation counts.
+     */
+    public Map<String, AtomicLong> getOperationCounts() {
+
+        return Collections.unmodifiableMap(operationCounts);
+    }
+
+    void recordLatency(ActionType actionType, String tenantDomain, Phase phase, long latencyInNanos) {
+
+        latencies.computeIfAbsent(actionType + KEY_SEPARATOR + getTrackedTenantDomain(tenantDomain) + KEY_SEPARATOR +
+                phase, key -> new LatencyRecorder()).record(latencyInNanos);
+        if (!recordedSinceLastLog.get()) {
+            recordedSinceLastLog.set(true);
+        }
+    }
+
+    void recordOperation(ActionType actionType, String tenantDomain, String operation, String status) {
+
+        operationCounts.computeIfAbsent(actionType + KEY_SEPARATOR + getTrackedTenantDomain(tenantDomain) +
+                KEY_SEPARATOR + operation + KEY_SEPARATOR + status, key -> new AtomicLong()).incrementAndGet();
+    }
+
+    private String getTrackedTenantDomain(String tenantDomain) {
+
+        if (tenantDomains.contains(tenantDomain)) {
+            return tenantDomain;
+        }
+        synchronized (tenantDomains) {
+            if (tenantDomains.size() < maxTenants) {
+                tenantDomains.add(tenantDomain);
+                return tenantDomain;
+            }
+        }
+        return OTHER_TENANTS;
+    }
+
+    /**
+     * Stop writing the metrics to the carbon log.
+     */
+    public void shutdown() {
+
+        if (logExecutor != null) {
+            logExecutor.shutdownNow();
+        }
+    }
+
+    private void logIfRecorded() {
+
+        if (!recordedSinceLastLog.getAndSet(false) || !LOG.isInfoEnabled()) {
+            return;
+        }
+        StringBuilder metrics = new StringBuilder("Pre issue access token action metrics.");
+        new TreeMap<>(latencies).forEach((key, recorder) ->
+                metrics.append(System.lineSeparator()).append(key).append(": ").append(recorder));
+        new TreeMap<>(operationCounts).forEach((key, count) ->
+                metrics.append(System.lineSeparator()).append(key).append(": count=").append(count.get()));
+        LOG.info(metrics);
+    }
+}
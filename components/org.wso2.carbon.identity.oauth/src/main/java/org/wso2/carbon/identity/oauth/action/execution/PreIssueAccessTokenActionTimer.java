@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.action.execution;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.action.execution.api.model.ActionType;
+import org.wso2.carbon.identity.oauth.action.execution.PreIssueAccessTokenActionMetrics.Phase;
+import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
+
+/**
+ * Times the phases of a single pre issue access token action execution. The timer is carried as a property of the
+ * token request message context, rather than in the flow context which is passed through the action execution
+ * framework, so that the request builder and the response processor record their phases on it, and the grant
+ * handler completes it once the action executor returns. The action invocation phase is the part of the execution
+ * that is not spent in the request builder or the response processor.
+ */
+public class PreIssueAccessTokenActionTimer {
+
+    private static final Log LOG = LogFactory.getLog(PreIssueAccessTokenActionTimer.class);
+    private static final String TIMER_PROPERTY = "PreIssueAccessTokenActionTimer";
+
+    private final String tenantDomain;
+    private final long startTime;
+    private long requestBuildTime;
+    private long operationApplyTime;
+
+    private PreIssueAccessTokenActionTimer(String tenantDomain) {
+
+        this.tenantDomain = tenantDomain;
+        this.startTime = System.nanoTime();
+    }
+
+    /**
+     * Start timing an action execution, if the action metrics are enabled.
+     *
+     * @param tokenReqMessageContext Token request message context of the action execution.
+     * @param tenantDomain           Tenant domain of the token request.
+     * @return Timer of the execution, or null if the action metrics are disabled.
+     */
+    public static PreIssueAccessTokenActionTimer start(OAuthTokenReqMessageContext tokenReqMessageContext,
+                                                       String tenantDomain) {
+
+        if (!PreIssueAccessTokenActionMetrics.getInstance().isEnabled()) {
+            return null;
+        }
+        PreIssueAccessTokenActionTimer timer = new PreIssueAccessTokenActionTimer(tenantDomain);
+        tokenReqMessageContext.addProperty(TIMER_PROPERTY, timer);
+        return timer;
+    }
+
+    /**
+     * Get the timer of the action execution from its token request message context.
+     *
+     * @param tokenReqMessageContext Token request message context of the action execution.
+     * @return Timer of the execution, or null if the execution is not timed.
+     */
+    static PreIssueAccessTokenActionTimer from(OAuthTokenReqMessageContext tokenReqMessageContext) {
+
+        if (tokenReqMessageContext == null) {
+            return null;
+        }
+        Object timer = tokenReqMessageContext.getProperty(TIMER_PROPERTY);
+        return timer instanceof PreIssueAccessTokenActionTimer ? (PreIssueAccessTokenActionTimer) timer : null;
+    }
+
+    void recordRequestBuild(long latencyInNanos) {
+
+        requestBuildTime = latencyInNanos;
+        PreIssueAccessTokenActionMetrics.getInstance().recordLatency(ActionType.PRE_ISSUE_ACCESS_TOKEN, tenantDomain,
+                Phase.REQUEST_BUILD, latencyInNanos);
+    }
+
+    void recordOperationApply(long latencyInNanos) {
+
+        operationApplyTime = latencyInNanos;
+        PreIssueAccessTokenActionMetrics.getInstance().recordLatency(ActionType.PRE_ISSUE_ACCESS_TOKEN, tenantDomain,
+                Phase.OPERATION_APPLY, latencyInNanos);
+    }
+
+    void recordOperation(String operation, String status) {
+
+        PreIssueAccessTokenActionMetrics.getInstance().recordOperation(ActionType.PRE_ISSUE_ACCESS_TOKEN, tenantDomain,
+                operation, status);
+    }
+
+    /**
+     * Complete timing the action execution, once the action executor returns.
+     */
+    public void complete() {
+
+        long totalTime = System.nanoTime() - startTime;
+        long invocationTime = Math.max(totalTime - requestBuildTime - operationApplyTime, 0);
+        PreIssueAccessTokenActionMetrics metrics = PreIssueAccessTokenActionMetrics.getInstance();
+        metrics.recordLatency(ActionType.PRE_ISSUE_ACCESS_TOKEN, tenantDomain, Phase.ACTION_INVOCATION,
+                invocationTime);
+        metrics.recordLatency(ActionType.PRE_ISSUE_ACCESS_TOKEN, tenantDomain, Phase.TOTAL, totalTime);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Pre issue access token action executed in " + totalTime / 1000 + " us for tenant: " +
+                    tenantDomain + ". Request build: " + requestBuildTime / 1000 + " us, action invocation: " +
+                    invocationTime / 1000 + " us, operation apply: " + operationApplyTime / 1000 + " us.");
+        }
+    }
+}
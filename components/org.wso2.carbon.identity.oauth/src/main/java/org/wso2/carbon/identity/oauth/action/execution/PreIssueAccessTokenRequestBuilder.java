@@ -86,6 +86,7 @@ public class PreIssueAccessTokenRequestBuilder implements ActionExecutionRequest
                                                               ActionExecutionRequestContext actionExecutionContext)
             throws ActionExecutionRequestBuilderException {
 
+        long startTime = System.nanoTime();
         OAuthTokenReqMessageContext tokenMessageContext =
                 flowContext.getValue("tokenMessageContext", OAuthTokenReqMessageContext.class);
 
@@ -95,8 +96,13 @@ public class PreIssueAccessTokenRequestBuilder implements ActionExecutionRequest
         actionRequestBuilder.actionType(getSupportedActionType());
         actionRequestBuilder.event(getEvent(tokenMessageContext, additionalClaimsToAddToToken));
         actionRequestBuilder.allowedOperations(getAllowedOperations(additionalClaimsToAddToToken));
+        ActionExecutionRequest actionExecutionRequest = actionRequestBuilder.build();
 
-        return actionRequestBuilder.build();
+        PreIssueAccessTokenActionTimer timer = PreIssueAccessTokenActionTimer.from(tokenMessageContext);
+        if (timer != null) {
+            timer.recordRequestBuild(System.nanoTime() - startTime);
+        }
+        return actionExecutionRequest;
     }
 
     private Event getEvent(OAuthTokenReqMessageContext tokenMessageContext, Map<String, Object> claimsToAdd)
@@ -87,6 +87,7 @@ public class PreIssueAccessTokenResponseProcessor implements ActionExecutionResp
                                                                          responseContext)
             throws ActionExecutionResponseProcessorException {
 
+        long startTime = System.nanoTime();
         OAuthTokenReqMessageContext tokenMessageContext =
                 flowContext.getValue("tokenMessageContext", OAuthTokenReqMessageContext.class);
         PreIssueAccessTokenEvent preIssueAccessTokenEvent = (PreIssueAccessTokenEvent) responseContext.getActionEvent();
@@ -121,10 +122,23 @@ public class PreIssueAccessTokenResponseProcessor implements ActionExecutionResp
 
         AccessToken responseAccessToken = responseAccessTokenBuilder.build();
         updateTokenMessageContext(tokenMessageContext, responseAccessToken);
+        recordOperationMetrics(tokenMessageContext, operationExecutionResultList, startTime);
 
         return new SuccessStatus.Builder().setResponseContext(flowContext.getContextData()).build();
     }
 
+    private void recordOperationMetrics(OAuthTokenReqMessageContext tokenMessageContext,
+                                        List<OperationExecutionResult> operationExecutionResultList, long startTime) {
+
+        PreIssueAccessTokenActionTimer timer = PreIssueAccessTokenActionTimer.from(tokenMessageContext);
+        if (timer == null) {
+            return;
+        }
+        timer.recordOperationApply(System.nanoTime() - startTime);
+        operationExecutionResultList.forEach(performedOperation -> timer.recordOperation(
+                performedOperation.getOperation().getOp().toString(), performedOperation.getStatus().toString()));
+    }
+
     private void logOperationExecutionResults(ActionType actionType,
                                               List<OperationExecutionResult> operationExecutionResultList) {
 
@@ -20,6 +20,7 @@ package org.wso2.carbon.identity.oauth.cache;
 
 import org.wso2.carbon.identity.application.authentication.framework.cache.AuthenticationBaseCache;
 import org.wso2.carbon.identity.oauth.dao.OAuthAppDO;
+import org.wso2.carbon.identity.oauth2.util.AppInformationLoader;
 import org.wso2.carbon.utils.CarbonUtils;
 
 /**
@@ -51,4 +52,19 @@ public class AppInfoCache extends AuthenticationBaseCache<String, OAuthAppDO> {
         }
         return instance;
     }
+
+    @Override
+    public void clearCacheEntry(String key) {
+
+        // Invalidated first, so that an in-flight load can't write back the application after it is cleared.
+        AppInformationLoader.getInstance().invalidate(key);
+        super.clearCacheEntry(key);
+    }
+
+    @Override
+    public void clearCacheEntry(String key, String tenantDomain) {
+
+        AppInformationLoader.getInstance().invalidate(key);
+        super.clearCacheEntry(key, tenantDomain);
+    }
 }
@@ -18,8 +18,6 @@
 
 package org.wso2.carbon.identity.oauth.cache;
 
-import com.nimbusds.jwt.JWT;
-import com.nimbusds.jwt.JWTParser;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
@@ -31,6 +29,7 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
+import org.wso2.carbon.identity.oauth2.util.JWTUtils;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.utils.CarbonUtils;
 
@@ -84,6 +83,9 @@ public class AuthorizationGrantCache extends
         if (tokenId == null) {
             tokenId = replaceFromTokenId(key.getUserAttributesId());
             entry.setTokenId(tokenId);
+        } else {
+            AuthorizationGrantIdCache.getInstance().addGrantId(AuthorizationGrantIdCache.ACCESS_TOKEN,
+                    key.getUserAttributesId(), tokenId, TimeUnit.NANOSECONDS.toMillis(entry.getValidityPeriod()));
         }
         storeToSessionStore(tokenId, entry);
 
@@ -144,6 +146,8 @@ public class AuthorizationGrantCache extends
     public void clearCacheEntryByToken(AuthorizationGrantCacheKey key) {
         super.clearCacheEntry(key);
         clearFromSessionStore(replaceFromTokenId(key.getUserAttributesId()));
+        AuthorizationGrantIdCache.getInstance().clearGrantId(AuthorizationGrantIdCache.ACCESS_TOKEN,
+                key.getUserAttributesId());
     }
 
     /**
@@ -154,6 +158,8 @@ public class AuthorizationGrantCache extends
     public void clearCacheEntryByTokenId(AuthorizationGrantCacheKey key, String tokenId) {
         super.clearCacheEntry(key);
         clearFromSessionStore(tokenId);
+        AuthorizationGrantIdCache.getInstance().clearGrantId(AuthorizationGrantIdCache.ACCESS_TOKEN,
+                key.getUserAttributesId());
     }
 
     /**
@@ -168,6 +174,8 @@ public class AuthorizationGrantCache extends
                 OAuthServerConfiguration.getInstance().getAuthorizationCodeValidityPeriodInSeconds());
         entry.setValidityPeriod(validityPeriodNano);
         storeToSessionStore(entry.getCodeId(), entry);
+        AuthorizationGrantIdCache.getInstance().addGrantId(AuthorizationGrantIdCache.AUTHORIZATION_CODE,
+                key.getUserAttributesId(), entry.getCodeId(), TimeUnit.NANOSECONDS.toMillis(validityPeriodNano));
     }
 
     /**
@@ -212,6 +220,8 @@ public class AuthorizationGrantCache extends
             codeId = replaceFromCodeId(key.getUserAttributesId());
         }
         clearFromSessionStore(codeId);
+        AuthorizationGrantIdCache.getInstance().clearGrantId(AuthorizationGrantIdCache.AUTHORIZATION_CODE,
+                key.getUserAttributesId());
     }
 
     /**
@@ -224,6 +234,8 @@ public class AuthorizationGrantCache extends
 
         super.clearCacheEntry(key);
         clearFromSessionStore(authzCodeId);
+        AuthorizationGrantIdCache.getInstance().clearGrantId(AuthorizationGrantIdCache.AUTHORIZATION_CODE,
+                key.getUserAttributesId());
     }
 
     /**
@@ -232,6 +244,11 @@ public class AuthorizationGrantCache extends
      * @return CODE_ID from the database
      */
     private String replaceFromCodeId(String authzCode) {
+        String codeId = AuthorizationGrantIdCache.getInstance().getGrantId(
+                AuthorizationGrantIdCache.AUTHORIZATION_CODE, authzCode);
+        if (codeId != null) {
+            return codeId;
+        }
         try {
             return OAuthTokenPersistenceFactory.getInstance().getAuthorizationCodeDAO()
                     .getCodeIdByAuthorizationCode(authzCode);
@@ -248,10 +265,14 @@ public class AuthorizationGrantCache extends
      * @return TOKEN_ID from the database
      */
     private String replaceFromTokenId(String keyValue) {
+        String tokenId = AuthorizationGrantIdCache.getInstance().getGrantId(AuthorizationGrantIdCache.ACCESS_TOKEN,
+                keyValue);
+        if (tokenId != null) {
+            return tokenId;
+        }
         if (OAuth2Util.isJWT(keyValue)) {
             try {
-                JWT parsedJwtToken = JWTParser.parse(keyValue);
-                keyValue = parsedJwtToken.getJWTClaimsSet().getJWTID();
+                keyValue = JWTUtils.getJWTID(keyValue);
             } catch (ParseException e) {
                 if (log.isDebugEnabled()) {
                     if (IdentityUtil.isTokenLoggable(IdentityConstants.IdentityTokens.ACCESS_TOKEN)) {
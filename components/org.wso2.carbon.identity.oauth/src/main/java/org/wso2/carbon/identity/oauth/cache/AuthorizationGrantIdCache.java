@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.cache;
+
+import org.apache.commons.lang3.StringUtils;
+import org.wso2.carbon.identity.application.authentication.framework.cache.AuthenticationBaseCache;
+import org.wso2.carbon.utils.CarbonUtils;
+
+/**
+ * Maps access tokens and authorization codes to the token ids and code ids used as the session store keys of the
+ * {@link AuthorizationGrantCache}. The mappings are added when the grants are issued, so that the session store
+ * entries can be located without a database lookup. A mapping is not served after the validity period of its grant.
+ */
+public class AuthorizationGrantIdCache extends
+        AuthenticationBaseCache<AuthorizationGrantIdCacheKey, AuthorizationGrantIdCacheEntry> {
+
+    public static final String ACCESS_TOKEN = "AccessToken";
+    public static final String AUTHORIZATION_CODE = "AuthorizationCode";
+
+    private static final String AUTHORIZATION_GRANT_ID_CACHE_NAME = "AuthorizationGrantIdCache";
+
+    private static volatile AuthorizationGrantIdCache instance;
+
+    private AuthorizationGrantIdCache() {
+
+        super(AUTHORIZATION_GRANT_ID_CACHE_NAME);
+    }
+
+    /**
+     * Returns AuthorizationGrantIdCache instance.
+     *
+     * @return Instance of AuthorizationGrantIdCache.
+     */
+    public static AuthorizationGrantIdCache getInstance() {
+
+        CarbonUtils.checkSecurity();
+        if (instance == null) {
+            synchronized (AuthorizationGrantIdCache.class) {
+                if (instance == null) {
+                    instance = new AuthorizationGrantIdCache();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Add the id of a grant to the cache.
+     *
+     * @param grantType              Type of the grant, i.e. {@link #ACCESS_TOKEN} or {@link #AUTHORIZATION_CODE}.
+     * @param grantValue             Access token or authorization code.
+     * @param grantId                Token id or code id of the grant.
+     * @param validityPeriodInMillis Period the mapping is served from the cache.
+     */
+    public void addGrantId(String grantType, String grantValue, String grantId, long validityPeriodInMillis) {
+
+        if (StringUtils.isBlank(grantValue) || StringUtils.isBlank(grantId) || validityPeriodInMillis <= 0) {
+            return;
+        }
+        long currentTime = System.currentTimeMillis();
+        // Grants that never expire are configured with very large validity periods.
+        long expiryTime = validityPeriodInMillis > Long.MAX_VALUE - currentTime ? Long.MAX_VALUE :
+                currentTime + validityPeriodInMillis;
+        super.addToCache(new AuthorizationGrantIdCacheKey(grantType, grantValue),
+                new AuthorizationGrantIdCacheEntry(grantId, expiryTime));
+    }
+
+    /**
+     * Get the id of a grant from the cache.
+     *
+     * @param grantType  Type of the grant, i.e. {@link #ACCESS_TOKEN} or {@link #AUTHORIZATION_CODE}.
+     * @param grantValue Access token or authorization code.
+     * @return Token id or code id of the grant, or null if it is not cached or the mapping has expired.
+     */
+    public String getGrantId(String grantType, String grantValue) {
+
+        if (StringUtils.isBlank(grantValue)) {
+            return null;
+        }
+        AuthorizationGrantIdCacheKey cacheKey = new AuthorizationGrantIdCacheKey(grantType, grantValue);
+        AuthorizationGrantIdCacheEntry cacheEntry = super.getValueFromCache(cacheKey);
+        if (cacheEntry == null) {
+            return null;
+        }
+        if (cacheEntry.isExpired()) {
+            super.clearCacheEntry(cacheKey);
+            return null;
+        }
+        return cacheEntry.getGrantId();
+    }
+
+    /**
+     * Remove the id of a grant from the cache.
+     *
+     * @param grantType  Type of the grant, i.e. {@link #ACCESS_TOKEN} or {@link #AUTHORIZATION_CODE}.
+     * @param grantValue Access token or authorization code.
+     */
+    public void clearGrantId(String grantType, String grantValue) {
+
+        if (StringUtils.isNotBlank(grantValue)) {
+            super.clearCacheEntry(new AuthorizationGrantIdCacheKey(grantType, grantValue));
+        }
+    }
+}
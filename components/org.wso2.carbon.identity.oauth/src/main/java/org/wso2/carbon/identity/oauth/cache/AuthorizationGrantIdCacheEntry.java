@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.cache;
+
+/**
+ * Token id or authorization code id of a grant, along with the time the mapping expires.
+ */
+public class AuthorizationGrantIdCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -7166498627335016548L;
+
+    private final String grantId;
+    private final long expiryTimeInMillis;
+
+    public AuthorizationGrantIdCacheEntry(String grantId, long expiryTimeInMillis) {
+
+        this.grantId = grantId;
+        this.expiryTimeInMillis = expiryTimeInMillis;
+    }
+
+    public String getGrantId() {
+
+        return grantId;
+    }
+
+    public long getExpiryTimeInMillis() {
+
+        return expiryTimeInMillis;
+    }
+
+    public boolean isExpired() {
+
+        return System.currentTimeMillis() > expiryTimeInMillis;
+    }
+}
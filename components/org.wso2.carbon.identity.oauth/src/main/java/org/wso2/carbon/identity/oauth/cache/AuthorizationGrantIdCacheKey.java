@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.cache;
+
+/**
+ * Access token or authorization code is the cache key attribute here. The token id or the code id of the grant is
+ * stored against the cache key.
+ */
+public class AuthorizationGrantIdCacheKey extends CacheKey {
+
+    private static final long serialVersionUID = 3406316830154957402L;
+
+    private final String grantType;
+    private final String grantValue;
+
+    /**
+     * @param grantType  Type of the grant value, i.e. access token or authorization code.
+     * @param grantValue Access token or authorization code.
+     */
+    public AuthorizationGrantIdCacheKey(String grantType, String grantValue) {
+
+        this.grantType = grantType;
+        this.grantValue = grantValue;
+    }
+
+    public String getGrantType() {
+
+        return grantType;
+    }
+
+    public String getGrantValue() {
+
+        return grantValue;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (!(o instanceof AuthorizationGrantIdCacheKey)) {
+            return false;
+        }
+        AuthorizationGrantIdCacheKey other = (AuthorizationGrantIdCacheKey) o;
+        return grantType.equals(other.getGrantType()) && grantValue.equals(other.getGrantValue());
+    }
+
+    @Override
+    public int hashCode() {
+
+        return 31 * grantType.hashCode() + grantValue.hashCode();
+    }
+}
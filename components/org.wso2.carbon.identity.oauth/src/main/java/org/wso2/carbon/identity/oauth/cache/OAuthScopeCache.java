@@ -101,11 +101,13 @@ public class OAuthScopeCache extends BaseCache<OAuthScopeCacheKey, Scope> {
             }
         }
         OAuthScopeBindingCache.getInstance().clear(tenantId);
+        ScopeSnapshotCache.getInstance().invalidate(tenantId);
     }
 
     @Override
     public void clear(int tenantId) {
         super.clear(tenantId);
         OAuthScopeBindingCache.getInstance().clear(tenantId);
+        ScopeSnapshotCache.getInstance().invalidate(tenantId);
     }
 }
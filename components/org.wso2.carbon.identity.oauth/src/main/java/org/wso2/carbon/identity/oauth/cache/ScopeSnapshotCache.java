@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2ScopeServerException;
+import org.wso2.carbon.identity.oauth2.bean.Scope;
+import org.wso2.carbon.identity.oauth2.bean.ScopeBinding;
+import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.identity.oauth.common.OAuthCommonUtil.getIntProperty;
+
+/**
+ * Node local cache of immutable snapshots of the OAuth2 scopes of each tenant.
+ * <p>
+ * A snapshot holds all the OAuth2 scopes of a tenant along with their bindings, so that the scope validators can check
+ * any number of requested scopes in memory. Each tenant has a version that is incremented whenever a scope of the
+ * tenant is registered, updated or deleted through the {@link OAuthScopeCache}. The current snapshot of the tenant is
+ * dropped at the same time, and a snapshot loaded concurrently with such a change is discarded instead of being
+ * published, so a stale snapshot is never swapped in. As changes made on other nodes are not notified, snapshots also
+ * expire after a configured period.
+ * <pre>
+ * [oauth.scope_snapshot_cache]
+ * enable = true
+ * timeout = 300
+ * </pre>
+ * The cache is disabled by default.
+ */
+public class ScopeSnapshotCache {
+
+    private static final Log log = LogFactory.getLog(ScopeSnapshotCache.class);
+
+    private static final String ENABLE = "OAuth.ScopeSnapshotCache.Enable";
+    private static final String TIMEOUT = "OAuth.ScopeSnapshotCache.Timeout";
+
+    private static final int DEFAULT_TIMEOUT = 300;
+
+    private static final ScopeSnapshotCache instance = new ScopeSnapshotCache(
+            Boolean.parseBoolean(IdentityUtil.getProperty(ENABLE)),
+            TimeUnit.SECONDS.toMillis(getIntProperty(TIMEOUT, DEFAULT_TIMEOUT, 0)),
+            tenantId -> OAuthTokenPersistenceFactory.getInstance().getOAuthScopeDAO().getAllScopes(tenantId, false));
+
+    private final Map<Integer, ScopeSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> versions = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long timeoutInMillis;
+    private final ScopeLoader scopeLoader;
+
+    ScopeSnapshotCache(boolean enabled, long timeoutInMillis, ScopeLoader scopeLoader) {
+
+        this.enabled = enabled;
+        this.timeoutInMillis = timeoutInMillis;
+        this.scopeLoader = scopeLoader;
+    }
+
+    public static ScopeSnapshotCache getInstance() {
+
+        return instance;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Get the current scope snapshot of a tenant, loading it if there is no unexpired snapshot of the tenant.
+     *
+     * @param tenantId Tenant ID.
+     * @return Scope snapshot of the tenant.
+     * @throws IdentityOAuth2ScopeServerException If the scopes of the tenant could not be loaded.
+     */
+    public ScopeSnapshot getSnapshot(int tenantId) throws IdentityOAuth2ScopeServerException {
+
+        ScopeSnapshot snapshot = snapshots.get(tenantId);
+        if (snapshot != null && snapshot.expiryTime > System.currentTimeMillis()) {
+            return snapshot;
+        }
+        long version = versions.getOrDefault(tenantId, 0L);
+        ScopeSnapshot loadedSnapshot = new ScopeSnapshot(version, scopeLoader.load(tenantId),
+                System.currentTimeMillis() + timeoutInMillis);
+        // Publish the loaded snapshot only if no scope of the tenant was changed while it was being loaded.
+        snapshots.compute(tenantId, (key, currentSnapshot) ->
+                versions.getOrDefault(tenantId, 0L) == version ? loadedSnapshot : currentSnapshot);
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded the scope snapshot version: " + version + " of tenant: " + tenantId);
+        }
+        return loadedSnapshot;
+    }
+
+    /**
+     * Drop the scope snapshot of a tenant and move the tenant to a new version, after a scope of the tenant changes.
+     *
+     * @param tenantId Tenant ID.
+     */
+    public void invalidate(int tenantId) {
+
+        if (!enabled) {
+            return;
+        }
+        snapshots.compute(tenantId, (key, currentSnapshot) -> {
+            versions.merge(tenantId, 1L, Long::sum);
+            return null;
+        });
+        if (log.isDebugEnabled()) {
+            log.debug("Invalidated the scope snapshot of tenant: " + tenantId);
+        }
+    }
+
+    /**
+     * Loads the OAuth2 scopes of a tenant.
+     */
+    @FunctionalInterface
+    interface ScopeLoader {
+
+        Set<Scope> load(int tenantId) throws IdentityOAuth2ScopeServerException;
+    }
+
+    /**
+     * Immutable snapshot of the OAuth2 scope names and bindings of a tenant.
+     */
+    public static final class ScopeSnapshot {
+
+        private final long version;
+        private final long expiryTime;
+        private final Map<String, Set<String>> scopeBindings;
+
+        ScopeSnapshot(long version, Set<Scope> scopes, long expiryTime) {
+
+            this.version = version;
+            this.expiryTime = expiryTime;
+            Map<String, Set<String>> bindings = new HashMap<>();
+            if (scopes != null) {
+                for (Scope scope : scopes) {
+                    Set<String> bindingsOfScope = new HashSet<>();
+                    if (scope.getScopeBindings() != null) {
+                        for (ScopeBinding scopeBinding : scope.getScopeBindings()) {
+                            if (scopeBinding.getBindings() == null) {
+                                continue;
+                            }
+                            for (String binding : scopeBinding.getBindings()) {
+                                if (StringUtils.isNotEmpty(binding)) {
+                                    bindingsOfScope.add(binding);
+                                }
+                            }
+                        }
+                    }
+                    bindings.put(scope.getName(), Collections.unmodifiableSet(bindingsOfScope));
+                }
+            }
+            this.scopeBindings = Collections.unmodifiableMap(bindings);
+        }
+
+        public long getVersion() {
+
+            return version;
+        }
+
+        /**
+         * Check whether an OAuth2 scope of the given name exists in the snapshot.
+         *
+         * @param scopeName Scope name.
+         * @return True if the scope exists.
+         */
+        public boolean containsScope(String scopeName) {
+
+            return scopeBindings.containsKey(scopeName);
+        }
+
+        /**
+         * Get the bindings of a scope.
+         *
+         * @param scopeName Scope name.
+         * @return Unmodifiable set of the bindings of the scope, which is empty if the scope doesn't exist.
+         */
+        public Set<String> getBindings(String scopeName) {
+
+            return scopeBindings.getOrDefault(scopeName, Collections.emptySet());
+        }
+    }
+}
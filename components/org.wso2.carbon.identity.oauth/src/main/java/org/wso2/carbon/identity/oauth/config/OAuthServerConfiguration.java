@@ -3728,13 +3728,7 @@ public class OAuthServerConfiguration {
 
     private void parseEnableHashMode(OMElement oauthConfigElem) {
 
-        try {
-            persistenceProcessor = getPersistenceProcessor();
-        } catch (IdentityOAuth2Exception e) {
-            log.error("Error while getting an instance of TokenPersistenceProcessor.");
-        }
-
-        if (persistenceProcessor instanceof HashingPersistenceProcessor) {
+        if (isHashingPersistenceProcessorConfigured()) {
             OMElement hashModeElement = oauthConfigElem
                     .getFirstChildWithName(getQNameWithIdentityNS(ConfigElements.ENABLE_CLIENT_SECRET_HASH));
             if (hashModeElement != null) {
@@ -3746,6 +3740,23 @@ public class OAuthServerConfiguration {
         }
     }
 
+    /**
+     * Check whether the configured token persistence processor hashes the tokens. The processor is not instantiated
+     * here, as the hashing persistence processor reads the hash algorithm from this configuration when it is created.
+     *
+     * @return True if the configured token persistence processor is a hashing persistence processor.
+     */
+    private boolean isHashingPersistenceProcessorConfigured() {
+
+        try {
+            return HashingPersistenceProcessor.class.isAssignableFrom(
+                    this.getClass().getClassLoader().loadClass(tokenPersistenceProcessorClassName));
+        } catch (ClassNotFoundException e) {
+            log.error("Error while loading the TokenPersistenceProcessor: " + tokenPersistenceProcessorClassName, e);
+            return false;
+        }
+    }
+
     private void parseRedirectToOAuthErrorPageConfig(OMElement oauthConfigElem) {
 
         OMElement redirectToOAuthErrorPageElem =
@@ -42,6 +42,7 @@ import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
+import org.wso2.carbon.identity.oauth2.validators.scope.UserRolesMemo;
 import org.wso2.carbon.identity.organization.management.organization.user.sharing.models.UserAssociation;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.user.core.UserCoreConstants;
@@ -93,6 +94,7 @@ public class IdentityOathEventListener extends AbstractIdentityUserOperationEven
         }
 
         removeClaimCacheEntry(username, userStoreManager);
+        removeRememberedUserRoles(username, userStoreManager);
         return OAuth2ServiceComponentHolder.getInstance()
                 .getRevocationProcessor()
                 .revokeTokens(username, userStoreManager) &&
@@ -208,6 +210,7 @@ public class IdentityOathEventListener extends AbstractIdentityUserOperationEven
         if (!isEnable()) {
             return true;
         }
+        removeRememberedUserRoles(userName, userStoreManager);
         if (ArrayUtils.isNotEmpty(deletedRoles)) {
             OAuth2ServiceComponentHolder.getInstance()
                     .getRevocationProcessor()
@@ -224,6 +227,7 @@ public class IdentityOathEventListener extends AbstractIdentityUserOperationEven
         if (!isEnable()) {
             return true;
         }
+        removeRememberedUserRoles(userName, userStoreManager);
         if (ArrayUtils.isNotEmpty(deletedInternalRoles)) {
             OAuth2ServiceComponentHolder.getInstance()
                     .getRevocationProcessor()
@@ -280,6 +284,7 @@ public class IdentityOathEventListener extends AbstractIdentityUserOperationEven
         if (CollectionUtils.isNotEmpty(roles)) {
             for (User user : userList) {
                 OAuthUtil.removeUserClaimsFromCache(user.getUsername(), userStoreManager);
+                removeRememberedUserRoles(user.getUsername(), userStoreManager);
                 OAuth2ServiceComponentHolder.getInstance()
                         .getRevocationProcessor()
                         .revokeTokens(user.getUsername(), userStoreManager);
@@ -310,6 +315,7 @@ public class IdentityOathEventListener extends AbstractIdentityUserOperationEven
         userList.addAll(Arrays.asList(newUsers));
         for (String username : userList) {
             OAuthUtil.removeUserClaimsFromCache(username, userStoreManager);
+            removeRememberedUserRoles(username, userStoreManager);
         }
         for (String deletedUser : deletedUsers) {
             OAuth2ServiceComponentHolder.getInstance()
@@ -425,6 +431,20 @@ public class IdentityOathEventListener extends AbstractIdentityUserOperationEven
                 IdentityTenantUtil.getTenantDomain(userStoreManager.getTenantId()));
     }
 
+    /**
+     * Forget the roles remembered for the refresh grants of a user, since the roles of the user are changing.
+     *
+     * @param username         Username of the user.
+     * @param userStoreManager User store manager of the user.
+     */
+    private void removeRememberedUserRoles(String username, UserStoreManager userStoreManager)
+            throws UserStoreException {
+
+        UserRolesMemo.getInstance().invalidate(IdentityTenantUtil.getTenantDomain(userStoreManager.getTenantId()),
+                UserCoreUtil.getDomainName(userStoreManager.getRealmConfiguration()),
+                UserCoreUtil.removeDomainFromName(username));
+    }
+
     /**
      * Revoke access tokens of associated users.
      *
@@ -39,6 +39,44 @@ public class HashingPersistenceProcessor implements TokenPersistenceProcessor {
     protected static final Log LOG = LogFactory.getLog(HashingPersistenceProcessor.class);
     public static final String ALGORITHM = "algorithm";
     public static final String HASH = "hash";
+    private static final String HASH_PREFIX = "{\"" + HASH + "\":\"";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final String hashAlgorithm;
+    private final HashContext hashContext;
+    private final NoSuchAlgorithmException hashAlgorithmError;
+
+    /**
+     * Create a hashing persistence processor for the hash algorithm of the OAuth server configuration.
+     */
+    public HashingPersistenceProcessor() {
+
+        this(OAuthServerConfiguration.getInstance().getHashAlgorithm());
+    }
+
+    /**
+     * Create a hashing persistence processor for the given hash algorithm. The algorithm is resolved once, and an
+     * unsupported algorithm fails each hash operation.
+     *
+     * @param hashAlgorithm Hash algorithm of the processed values.
+     */
+    public HashingPersistenceProcessor(String hashAlgorithm) {
+
+        this.hashAlgorithm = hashAlgorithm;
+        HashContext context = null;
+        NoSuchAlgorithmException error = null;
+        try {
+            if (hashAlgorithm == null) {
+                throw new NoSuchAlgorithmException("Hash algorithm is not configured.");
+            }
+            MessageDigest.getInstance(hashAlgorithm);
+            context = new HashContext(hashAlgorithm);
+        } catch (NoSuchAlgorithmException e) {
+            error = e;
+        }
+        this.hashContext = context;
+        this.hashAlgorithmError = error;
+    }
 
     @Override
     public String getProcessedClientId(String clientId) throws IdentityOAuth2Exception {
@@ -113,30 +151,52 @@ public class HashingPersistenceProcessor implements TokenPersistenceProcessor {
             throw new IdentityOAuth2Exception("plainText value is null or empty to be hash.");
         }
 
-        MessageDigest messageDigest = null;
-        byte[] hash = null;
-        String hashAlgorithm = OAuthServerConfiguration.getInstance().getHashAlgorithm();
-        try {
-            messageDigest = MessageDigest.getInstance(hashAlgorithm);
-            messageDigest.update(plainText.getBytes(StandardCharsets.UTF_8));
-            hash = messageDigest.digest();
-
-        } catch (NoSuchAlgorithmException e) {
+        if (hashContext == null) {
             throw new IdentityOAuth2Exception(
-                    "Error while retrieving MessageDigest for the provided hash algorithm: " + hashAlgorithm, e);
+                    "Error while retrieving MessageDigest for the provided hash algorithm: " + hashAlgorithm,
+                    hashAlgorithmError);
         }
-        JSONObject object = new JSONObject();
-        object.put(ALGORITHM, hashAlgorithm);
-        object.put(HASH, bytesToHex(hash));
-        return object.toString();
+        HashContext context = hashContext;
+        MessageDigest messageDigest = context.messageDigest.get();
+        byte[] hash = messageDigest.digest(plainText.getBytes(StandardCharsets.UTF_8));
+
+        /* Same layout as the serialized JSONObject of the hash and the algorithm, which is how the hashed values are
+        persisted. */
+        StringBuilder result = new StringBuilder(HASH_PREFIX.length() + hash.length * 2 +
+                context.suffix.length());
+        result.append(HASH_PREFIX);
+        appendHex(result, hash);
+        result.append(context.suffix);
+        return result.toString();
     }
 
-    private static String bytesToHex(byte[] bytes) {
+    private static void appendHex(StringBuilder result, byte[] bytes) {
 
-        StringBuilder result = new StringBuilder();
         for (byte byt : bytes) {
-            result.append(Integer.toString((byt & 0xff) + 0x100, 16).substring(1));
+            result.append(HEX_DIGITS[(byt >> 4) & 0x0f]);
+            result.append(HEX_DIGITS[byt & 0x0f]);
+        }
+    }
+
+    /**
+     * Hash algorithm along with the per thread message digests and the serialized algorithm entry.
+     */
+    private static class HashContext {
+
+        private final String suffix;
+        private final ThreadLocal<MessageDigest> messageDigest;
+
+        HashContext(String algorithm) {
+
+            this.suffix = "\",\"" + ALGORITHM + "\":" + JSONObject.quote(algorithm) + "}";
+            this.messageDigest = ThreadLocal.withInitial(() -> {
+                try {
+                    return MessageDigest.getInstance(algorithm);
+                } catch (NoSuchAlgorithmException e) {
+                    // The algorithm is validated before the context is created.
+                    throw new IllegalStateException("Hash algorithm: " + algorithm + " is not supported.", e);
+                }
+            });
         }
-        return result.toString();
     }
 }
@@ -26,6 +26,7 @@ import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.oauth.cache.OAuthScopeCache;
 import org.wso2.carbon.identity.oauth.cache.OAuthScopeCacheKey;
+import org.wso2.carbon.identity.oauth.cache.ScopeSnapshotCache;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientException;
 import org.wso2.carbon.identity.oauth.dao.OAuthAppDO;
@@ -43,7 +44,10 @@ import org.wso2.carbon.utils.DiagnosticLog;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -97,6 +101,7 @@ public class OAuth2ScopeService implements ScopeMetadataService {
         }
 
         OAuthScopeCache.getInstance().addToCache(new OAuthScopeCacheKey(scope.getName()), scope, tenantID);
+        ScopeSnapshotCache.getInstance().invalidate(tenantID);
         return scope;
     }
 
@@ -365,6 +370,7 @@ public class OAuth2ScopeService implements ScopeMetadataService {
 
         OAuthScopeCache.getInstance().addToCache(new OAuthScopeCacheKey(updatedScope.getName()), updatedScope,
                 tenantID);
+        ScopeSnapshotCache.getInstance().invalidate(tenantID);
         OIDCScopeClaimCache.getInstance().clearScopeClaimMap(tenantID);
         return updatedScope;
     }
@@ -838,30 +844,27 @@ public class OAuth2ScopeService implements ScopeMetadataService {
     public List<OAuth2Resource> getMetadata(List<String> scopes) throws IdentityOAuth2ScopeServerException {
 
         List<ScopeMetadata> scopesArray = new ArrayList<>();
+        Map<String, Scope> scopesByName = getScopesByNames(scopes);
         for (String scopeName : scopes) {
-            try {
-                Scope scope = getScope(scopeName);
+            Scope scope = scopesByName.get(scopeName);
+            if (scope != null) {
                 ScopeMetadata scopeMetadata = new ScopeMetadata(scope.getName(), scope.getDisplayName(),
                         scope.getDescription());
                 scopesArray.add(scopeMetadata);
-            } catch (IdentityOAuth2ScopeException e) {
-                if (e instanceof IdentityOAuth2ScopeServerException) {
-                    throw Oauth2ScopeUtils.generateServerException(Oauth2ScopeConstants.ErrorMessages.
-                            ERROR_CODE_FAILED_TO_GET_SCOPE_METADATA, e);
-                }
-                if (log.isDebugEnabled()) {
-                    log.debug("No scope found with name: " + scopeName);
-                }
-                if (LoggerUtils.isDiagnosticLogsEnabled()) {
-                    DiagnosticLog.DiagnosticLogBuilder diagnosticLogBuilder = new
-                            DiagnosticLog.DiagnosticLogBuilder(OAuthConstants.LogConstants.OAUTH_INBOUND_SERVICE,
-                            OAuthConstants.LogConstants.ActionIDs.SCOPE_VALIDATION);
-                    diagnosticLogBuilder.inputParam(LogConstants.InputKeys.SCOPE, scopeName)
-                            .resultMessage("No scope found for the provided scope name.")
-                            .logDetailLevel(DiagnosticLog.LogDetailLevel.APPLICATION)
-                            .resultStatus(DiagnosticLog.ResultStatus.FAILED);
-                    LoggerUtils.triggerDiagnosticLogEvent(diagnosticLogBuilder);
-                }
+                continue;
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("No scope found with name: " + scopeName);
+            }
+            if (LoggerUtils.isDiagnosticLogsEnabled()) {
+                DiagnosticLog.DiagnosticLogBuilder diagnosticLogBuilder = new
+                        DiagnosticLog.DiagnosticLogBuilder(OAuthConstants.LogConstants.OAUTH_INBOUND_SERVICE,
+                        OAuthConstants.LogConstants.ActionIDs.SCOPE_VALIDATION);
+                diagnosticLogBuilder.inputParam(LogConstants.InputKeys.SCOPE, scopeName)
+                        .resultMessage("No scope found for the provided scope name.")
+                        .logDetailLevel(DiagnosticLog.LogDetailLevel.APPLICATION)
+                        .resultStatus(DiagnosticLog.ResultStatus.FAILED);
+                LoggerUtils.triggerDiagnosticLogEvent(diagnosticLogBuilder);
             }
         }
         if (scopesArray.isEmpty()) {
@@ -871,4 +874,48 @@ public class OAuth2ScopeService implements ScopeMetadataService {
             return Collections.singletonList(resource);
         }
     }
+
+    /**
+     * Get the scopes of the given names, reading the scopes which are not in the cache with a single query.
+     *
+     * @param scopeNames Names of the scopes.
+     * @return Scopes found, keyed by the scope name.
+     * @throws IdentityOAuth2ScopeServerException If an error occurs while retrieving the scopes.
+     */
+    private Map<String, Scope> getScopesByNames(List<String> scopeNames) throws IdentityOAuth2ScopeServerException {
+
+        int tenantID = Oauth2ScopeUtils.getTenantID();
+        Map<String, Scope> scopes = new HashMap<>();
+        Set<String> uncachedScopeNames = new HashSet<>();
+        for (String scopeName : scopeNames) {
+            try {
+                validateScopeName(scopeName);
+            } catch (IdentityOAuth2ScopeClientException e) {
+                continue;
+            }
+            Scope scope = OAuthScopeCache.getInstance().getValueFromCache(new OAuthScopeCacheKey(scopeName), tenantID);
+            if (scope != null) {
+                scopes.put(scopeName, scope);
+            } else {
+                uncachedScopeNames.add(scopeName);
+            }
+        }
+        if (uncachedScopeNames.isEmpty()) {
+            return scopes;
+        }
+        Map<String, Scope> scopesFromDB;
+        try {
+            scopesFromDB = OAuthTokenPersistenceFactory.getInstance().getOAuthScopeDAO()
+                    .getScopesByNames(uncachedScopeNames, tenantID);
+        } catch (IdentityOAuth2ScopeServerException e) {
+            throw Oauth2ScopeUtils.generateServerException(Oauth2ScopeConstants.ErrorMessages.
+                    ERROR_CODE_FAILED_TO_GET_SCOPE_METADATA, e);
+        }
+        for (Map.Entry<String, Scope> scopeEntry : scopesFromDB.entrySet()) {
+            OAuthScopeCache.getInstance().addToCache(new OAuthScopeCacheKey(scopeEntry.getKey()),
+                    scopeEntry.getValue(), tenantID);
+            scopes.put(scopeEntry.getKey(), scopeEntry.getValue());
+        }
+        return scopes;
+    }
 }
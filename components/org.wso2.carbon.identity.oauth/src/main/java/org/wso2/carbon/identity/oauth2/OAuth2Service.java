@@ -59,9 +59,11 @@ import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.OAuth2Parameters;
 import org.wso2.carbon.identity.oauth2.model.RefreshTokenValidationDataDO;
 import org.wso2.carbon.identity.oauth2.model.SubjectTokenDO;
+import org.wso2.carbon.identity.oauth2.revocation.RevokedTokenIndex;
 import org.wso2.carbon.identity.oauth2.token.AccessTokenIssuer;
 import org.wso2.carbon.identity.oauth2.token.SubjectTokenIssuer;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinder;
+import org.wso2.carbon.identity.oauth2.token.lock.TokenIssuanceLock;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.openidconnect.model.Constants;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
@@ -671,6 +673,7 @@ public class OAuth2Service extends AbstractAdmin {
                         OAuthUtil.clearOAuthCache(refreshTokenDO.getAccessToken());
                     }
                     getRevocationProcessor().revokeRefreshToken(revokeRequestDTO, refreshTokenDO);
+                    RevokedTokenIndex.getInstance().revokeRefreshToken(refreshTokenDO);
                     addRevokeResponseHeaders(revokeResponseDTO,
                             refreshTokenDO.getAccessToken(),
                             revokeRequestDTO.getToken(),
@@ -720,10 +723,12 @@ public class OAuth2Service extends AbstractAdmin {
                         OAuthUtil.clearOAuthCache(accessTokenDO);
                         String scope = OAuth2Util.buildScopeString(accessTokenDO.getScope());
                         String userId = accessTokenDO.getAuthzUser().getUserId();
-                        synchronized ((revokeRequestDTO.getConsumerKey() + ":" + userId + ":" + scope + ":"
-                                + tokenBindingReference).intern()) {
+                        try (TokenIssuanceLock lock = OAuth2ServiceComponentHolder.getInstance()
+                                .getTokenIssuanceLockManager()
+                                .lock(revokeRequestDTO.getConsumerKey(), userId, scope, tokenBindingReference)) {
                             getRevocationProcessor().revokeAccessToken(revokeRequestDTO, accessTokenDO);
                         }
+                        RevokedTokenIndex.getInstance().revokeAccessToken(accessTokenDO);
                         addRevokeResponseHeaders(revokeResponseDTO,
                                 revokeRequestDTO.getToken(),
                                 accessTokenDO.getRefreshToken(),
@@ -46,9 +46,11 @@ import org.wso2.carbon.identity.oauth2.authz.OAuthAuthzReqMessageContext;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2AuthorizeReqDTO;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2AuthorizeRespDTO;
+import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
 import org.wso2.carbon.identity.oauth2.token.OauthTokenIssuer;
+import org.wso2.carbon.identity.oauth2.token.lock.TokenIssuanceLock;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.openidconnect.IDTokenBuilder;
 
@@ -138,7 +140,8 @@ public class TokenResponseTypeHandler extends AbstractResponseTypeHandler {
 
         AccessTokenDO tokenDO = null;
 
-        synchronized ((consumerKey + ":" + authorizedUserId + ":" + scope).intern()) {
+        try (TokenIssuanceLock lock = OAuth2ServiceComponentHolder.getInstance().getTokenIssuanceLockManager()
+                .lock(consumerKey, authorizedUserId, scope)) {
 
             AccessTokenDO existingAccessTokenDO = null;
             /*
@@ -58,6 +58,7 @@ import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
 import org.wso2.carbon.identity.oauth2.token.OauthTokenIssuer;
+import org.wso2.carbon.identity.oauth2.token.lock.TokenIssuanceLock;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.openidconnect.IDTokenBuilder;
 import org.wso2.carbon.identity.openidconnect.OIDCClaimUtil;
@@ -169,7 +170,8 @@ public class ResponseTypeHandlerUtil {
                     + authorizationReqDTO.getUser().getLoggableUserId());
         }
 
-        synchronized ((consumerKey + ":" + authorizedUserId + ":" + scope).intern()) {
+        try (TokenIssuanceLock lock = OAuth2ServiceComponentHolder.getInstance().getTokenIssuanceLockManager()
+                .lock(consumerKey, authorizedUserId, scope)) {
 
             AccessTokenDO existingTokenBean = getExistingToken(oauthAuthzMsgCtx, authorizedUserId, cacheEnabled);
 
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.common.cache.BaseCache;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.utils.CarbonUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.identity.oauth.common.OAuthCommonUtil.getIntProperty;
+
+/**
+ * Holds the serialized JWKS document published by the JWKS endpoint for each tenant, so that the key set is built
+ * from the tenant keystore only once instead of on every request. The entry of a tenant is cleared when the signing
+ * keys of the tenant are cleared, which happens on tenant deactivation and deletion only. A key added to or rotated
+ * in the tenant keystore is not notified to this component, so a cached document is rebuilt once it is older than
+ * the configured timeout.
+ * <pre>
+ * [oauth.jwks_endpoint.response_cache]
+ * enable = true
+ * timeout = 60
+ * </pre>
+ */
+public class JWKSDocumentCache extends BaseCache<String, JWKSDocumentCacheEntry> {
+
+    private static final String JWKS_DOCUMENT_CACHE_NAME = "JWKSDocumentCache";
+    private static final String JWKS_DOCUMENT_CACHE_KEY = "JWKS";
+    private static final String ENABLE = "JWTValidatorConfigs.JWKSEndpoint.ResponseCache.Enable";
+    private static final String TIMEOUT = "JWTValidatorConfigs.JWKSEndpoint.ResponseCache.Timeout";
+
+    private static final int DEFAULT_TIMEOUT = 60;
+
+    private static final boolean enabled = Boolean.parseBoolean(IdentityUtil.getProperty(ENABLE));
+    private static final long timeoutInMillis = TimeUnit.SECONDS.toMillis(getIntProperty(TIMEOUT, DEFAULT_TIMEOUT, 1));
+
+    private static volatile JWKSDocumentCache instance;
+    private static final Log log = LogFactory.getLog(JWKSDocumentCache.class);
+
+    private JWKSDocumentCache() {
+
+        super(JWKS_DOCUMENT_CACHE_NAME);
+    }
+
+    /**
+     * Return JWKSDocumentCache instance.
+     *
+     * @return JWKSDocumentCache instance.
+     */
+    public static JWKSDocumentCache getInstance() {
+
+        CarbonUtils.checkSecurity();
+        if (instance == null) {
+            synchronized (JWKSDocumentCache.class) {
+                if (instance == null) {
+                    instance = new JWKSDocumentCache();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Check whether the JWKS documents published by the JWKS endpoint should be kept in the cache.
+     *
+     * @return true if the JWKS document cache is enabled.
+     */
+    public static boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Get the time after which a cached JWKS document is rebuilt from the tenant keystore.
+     *
+     * @return Timeout of the cached JWKS documents in milliseconds.
+     */
+    public static long getTimeoutInMillis() {
+
+        return timeoutInMillis;
+    }
+
+    /**
+     * Get the cached JWKS document of the tenant.
+     *
+     * @param tenantId Tenant id.
+     * @return Cached JWKS document or null if it is not cached.
+     */
+    public JWKSDocumentCacheEntry getJWKSDocument(int tenantId) {
+
+        return super.getValueFromCache(JWKS_DOCUMENT_CACHE_KEY, tenantId);
+    }
+
+    /**
+     * Cache the JWKS document of the tenant.
+     *
+     * @param tenantId     Tenant id.
+     * @param jwksDocument JWKS document of the tenant.
+     */
+    public void addJWKSDocument(int tenantId, JWKSDocumentCacheEntry jwksDocument) {
+
+        super.addToCache(JWKS_DOCUMENT_CACHE_KEY, jwksDocument, tenantId);
+    }
+
+    /**
+     * Clear the cached JWKS document of the tenant, so that it is rebuilt from the tenant keystore on the next
+     * request.
+     *
+     * @param tenantId Tenant id.
+     */
+    public void clearJWKSDocument(int tenantId) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Clearing the cached JWKS document of tenant: " + tenantId);
+        }
+        super.clearCacheEntry(JWKS_DOCUMENT_CACHE_KEY, tenantId);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.cache;
+
+import org.apache.commons.codec.digest.DigestUtils;
+import org.wso2.carbon.identity.application.common.cache.CacheEntry;
+
+/**
+ * Serialized document published by an endpoint together with its entity tag. The entity tag is derived from the
+ * content of the document, so it changes only when the published document changes.
+ */
+public abstract class SerializedDocumentCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = 4906270167386218543L;
+
+    private final byte[] document;
+    private final String eTag;
+    private final long createdTime;
+
+    protected SerializedDocumentCacheEntry(byte[] document) {
+
+        this.document = document;
+        this.eTag = "\"" + DigestUtils.sha256Hex(document) + "\"";
+        this.createdTime = System.currentTimeMillis();
+    }
+
+    public byte[] getDocument() {
+
+        return document;
+    }
+
+    public String getETag() {
+
+        return eTag;
+    }
+
+    public long getCreatedTime() {
+
+        return createdTime;
+    }
+
+    /**
+     * Check whether the document was built more than the given time ago.
+     *
+     * @param ageInMillis Maximum age of the document in milliseconds.
+     * @return true if the document is older than the given age.
+     */
+    public boolean isOlderThan(long ageInMillis) {
+
+        return System.currentTimeMillis() - createdTime > ageInMillis;
+    }
+
+    /**
+     * Check whether the given If-None-Match header value matches the entity tag of the document. Weak comparison is
+     * used, as the document is always served with the same representation.
+     *
+     * @param ifNoneMatch Value of the If-None-Match header.
+     * @return true if the client already has the current document.
+     */
+    public boolean matches(String ifNoneMatch) {
+
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String entityTag : ifNoneMatch.split(",")) {
+            entityTag = entityTag.trim();
+            if (entityTag.startsWith("W/")) {
+                entityTag = entityTag.substring(2);
+            }
+            if ("*".equals(entityTag) || eTag.equals(entityTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -30,6 +30,9 @@ public class AccessContextTokenDO {
     private AccessTokenDO newAccessTokenDO;
     private AccessTokenDO existingAccessTokenDO;
     private String userStoreDomain;
+    private String tenantDomain;
+    private long enqueuedTime;
+    private volatile boolean persisted;
 
     public AccessContextTokenDO(String accessToken, String consumerKey, AccessTokenDO newAccessTokenDO, AccessTokenDO
             existingAccessTokenDO, String userStoreDomain) {
@@ -59,4 +62,28 @@ public class AccessContextTokenDO {
     public AccessTokenDO getExistingAccessTokenDO() {
         return existingAccessTokenDO;
     }
+
+    public String getTenantDomain() {
+        return tenantDomain;
+    }
+
+    public void setTenantDomain(String tenantDomain) {
+        this.tenantDomain = tenantDomain;
+    }
+
+    public long getEnqueuedTime() {
+        return enqueuedTime;
+    }
+
+    public void setEnqueuedTime(long enqueuedTime) {
+        this.enqueuedTime = enqueuedTime;
+    }
+
+    public boolean isPersisted() {
+        return persisted;
+    }
+
+    public void setPersisted(boolean persisted) {
+        this.persisted = persisted;
+    }
 }
@@ -22,6 +22,7 @@ import org.wso2.carbon.identity.application.authentication.framework.model.Authe
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -38,6 +39,30 @@ public interface AccessTokenDAO {
                               AccessTokenDO newAccessTokenDO, AccessTokenDO existingAccessTokenDO,
                               String rawUserStoreDomain) throws IdentityOAuth2Exception;
 
+    /**
+     * Persist a batch of access tokens. Each token is persisted the same way as
+     * {@link #insertAccessToken(String, String, AccessTokenDO, AccessTokenDO, String)} and a failure to persist one
+     * token does not prevent the remaining tokens of the batch from being persisted. The tokens persisted successfully
+     * are marked with {@link AccessContextTokenDO#setPersisted(boolean)}.
+     *
+     * @param accessContextTokens Access tokens to be persisted along with the tokens they replace.
+     * @return Number of access tokens persisted.
+     * @throws IdentityOAuth2Exception If an error occurs that prevents persisting the batch.
+     */
+    default int insertAccessTokens(List<AccessContextTokenDO> accessContextTokens) throws IdentityOAuth2Exception {
+
+        int persistedCount = 0;
+        for (AccessContextTokenDO accessContextTokenDO : accessContextTokens) {
+            if (insertAccessToken(accessContextTokenDO.getAccessToken(), accessContextTokenDO.getConsumerKey(),
+                    accessContextTokenDO.getNewAccessTokenDO(), accessContextTokenDO.getExistingAccessTokenDO(),
+                    accessContextTokenDO.getUserStoreDomain())) {
+                accessContextTokenDO.setPersisted(true);
+                persistedCount++;
+            }
+        }
+        return persistedCount;
+    }
+
     AccessTokenDO getLatestAccessToken(String consumerKey, AuthenticatedUser authzUser, String userStoreDomain,
                                        String scope, boolean includeExpiredTokens) throws IdentityOAuth2Exception;
 
@@ -97,6 +122,30 @@ public interface AccessTokenDAO {
     Set<AccessTokenDO> getAccessTokens(String consumerKey, AuthenticatedUser userName,
                                        String userStoreDomain, boolean includeExpired) throws IdentityOAuth2Exception;
 
+    /**
+     * Get a page of the access tokens issued to the given user for the given consumer key, ordered by the token ID.
+     * The next page can be retrieved by passing the token ID of the last token of the current page.
+     *
+     * @param consumerKey       Consumer key of the application.
+     * @param authenticatedUser User the tokens are issued to.
+     * @param userStoreDomain   User store domain of the token partition.
+     * @param includeExpired    Whether to include the expired tokens.
+     * @param afterTokenId      Token ID after which the page starts, or null to retrieve the first page.
+     * @param limit             Maximum number of tokens in the page.
+     * @return Access tokens of the page.
+     * @throws IdentityOAuth2Exception If an error occurs while retrieving the access tokens.
+     */
+    default List<AccessTokenDO> getAccessTokens(String consumerKey, AuthenticatedUser authenticatedUser,
+                                                String userStoreDomain, boolean includeExpired,
+                                                String afterTokenId, int limit) throws IdentityOAuth2Exception {
+
+        // Implementations without paging support return all the access tokens as a single page.
+        if (afterTokenId != null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(getAccessTokens(consumerKey, authenticatedUser, userStoreDomain, includeExpired));
+    }
+
     AccessTokenDO getAccessToken(String accessTokenIdentifier, boolean includeExpired) throws IdentityOAuth2Exception;
 
     Set<String> getAccessTokensByUser(AuthenticatedUser authenticatedUser) throws IdentityOAuth2Exception;
@@ -111,13 +160,73 @@ public interface AccessTokenDAO {
 
     Set<AccessTokenDO> getActiveAcessTokenDataByConsumerKey(String consumerKey) throws IdentityOAuth2Exception;
 
+    /**
+     * Get a page of the active access tokens of the given consumer key, ordered by the token ID. The next page can be
+     * retrieved by passing the token ID of the last token of the current page.
+     *
+     * @param consumerKey  Consumer key of the application.
+     * @param appTenantId  Tenant ID of the application.
+     * @param afterTokenId Token ID after which the page starts, or null to retrieve the first page.
+     * @param limit        Maximum number of tokens in the page.
+     * @return Active access tokens of the page.
+     * @throws IdentityOAuth2Exception If an error occurs while retrieving the access tokens.
+     */
+    default List<AccessTokenDO> getActiveAccessTokenDataByConsumerKey(String consumerKey, int appTenantId,
+                                                                      String afterTokenId, int limit)
+            throws IdentityOAuth2Exception {
+
+        // Implementations without paging support return all the active access tokens as a single page.
+        if (afterTokenId != null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(getActiveAcessTokenDataByConsumerKey(consumerKey));
+    }
+
     Set<AccessTokenDO> getAccessTokensByTenant(int tenantId) throws IdentityOAuth2Exception;
 
+    /**
+     * Get a page of the active and expired access tokens of the given tenant, ordered by the token ID. The next page
+     * can be retrieved by passing the token ID of the last token of the current page.
+     *
+     * @param tenantId     Tenant ID.
+     * @param afterTokenId Token ID after which the page starts, or null to retrieve the first page.
+     * @param limit        Maximum number of tokens in the page.
+     * @return Access tokens of the page.
+     * @throws IdentityOAuth2Exception If an error occurs while retrieving the access tokens.
+     */
+    default List<AccessTokenDO> getAccessTokensByTenant(int tenantId, String afterTokenId, int limit)
+            throws IdentityOAuth2Exception {
+
+        if (afterTokenId != null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(getAccessTokensByTenant(tenantId));
+    }
+
     default Set<AccessTokenDO> getAccessTokensByAuthorizedOrg(String organizationId) throws IdentityOAuth2Exception {
 
         return Collections.emptySet();
     }
 
+    /**
+     * Get a page of the active and expired access tokens issued for the given organization, ordered by the token ID.
+     * The next page can be retrieved by passing the token ID of the last token of the current page.
+     *
+     * @param organizationId Organization ID.
+     * @param afterTokenId   Token ID after which the page starts, or null to retrieve the first page.
+     * @param limit          Maximum number of tokens in the page.
+     * @return Access tokens of the page.
+     * @throws IdentityOAuth2Exception If an error occurs while retrieving the access tokens.
+     */
+    default List<AccessTokenDO> getAccessTokensByAuthorizedOrg(String organizationId, String afterTokenId, int limit)
+            throws IdentityOAuth2Exception {
+
+        if (afterTokenId != null) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(getAccessTokensByAuthorizedOrg(organizationId));
+    }
+
     Set<AccessTokenDO> getAccessTokensOfUserStore(int tenantId, String userStoreDomain) throws
             IdentityOAuth2Exception;
 
@@ -285,6 +394,18 @@ public interface AccessTokenDAO {
         return null;
     }
 
+    /**
+     * Retrieve the state of the access token with the given token id.
+     *
+     * @param tokenId token id.
+     * @return state of the access token, or null if the token is not found.
+     * @throws IdentityOAuth2Exception if the retrieval process fails.
+     */
+    default String getAccessTokenStateByTokenId(String tokenId) throws IdentityOAuth2Exception {
+
+        return null;
+    }
+
     /**
      * Updates whether the token is issued for a consent required grant.
      *
@@ -49,8 +49,11 @@ import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
 import org.wso2.carbon.identity.oauth2.token.OauthTokenIssuer;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
+import org.wso2.carbon.identity.oauth2.util.JWTUtils;
 import org.wso2.carbon.identity.oauth2.util.OAuth2TokenUtil;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.identity.oauth2.validators.RevokedTokenFilter;
+import org.wso2.carbon.identity.oauth2.validators.StatelessJWTTokenValidator;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 
 import java.sql.Connection;
@@ -60,6 +63,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLIntegrityConstraintViolationException;
 import java.sql.Timestamp;
+import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -94,6 +98,8 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
     private static final String CONSENTED_TOKEN_COLUMN_NAME = "CONSENTED_TOKEN";
     private boolean isTokenCleanupFeatureEnabled = OAuthServerConfiguration.getInstance().isTokenCleanupEnabled();
     private static final String DEFAULT_TOKEN_TO_SESSION_MAPPING = "DEFAULT";
+    // Keeps the IN clause of the scope lookup within the limits of all the supported databases.
+    private static final int MAX_TOKEN_PAGE_SIZE = 1000;
 
     private static final Log log = LogFactory.getLog(AccessTokenDAOImpl.class);
     OldTokensCleanDAO oldTokenCleanupObject = new OldTokensCleanDAO();
@@ -465,6 +471,54 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
         }
     }
 
+    @Override
+    public int insertAccessTokens(List<AccessContextTokenDO> accessContextTokens) throws IdentityOAuth2Exception {
+
+        if (!isPersistenceEnabled() || CollectionUtils.isEmpty(accessContextTokens)) {
+            return 0;
+        }
+
+        /*
+         The whole batch shares a single connection, but every token is committed on its own. The insert path rolls
+         back the connection to recover from 'CON_APP_KEY' violations, which would otherwise silently discard the
+         tokens persisted earlier in the same transaction.
+         */
+        int persistedCount = 0;
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(true)) {
+            for (AccessContextTokenDO accessContextTokenDO : accessContextTokens) {
+                AccessTokenDO existingAccessTokenDO = accessContextTokenDO.getExistingAccessTokenDO();
+                String userStoreDomain =
+                        OAuth2Util.getSanitizedUserStoreDomain(accessContextTokenDO.getUserStoreDomain());
+                try {
+                    if (existingAccessTokenDO != null) {
+                        updateAccessTokenState(connection, existingAccessTokenDO.getTokenId(),
+                                OAuthConstants.TokenStates.TOKEN_STATE_EXPIRED, UUID.randomUUID().toString(),
+                                userStoreDomain, existingAccessTokenDO.getGrantType());
+                    }
+                    insertAccessToken(accessContextTokenDO.getAccessToken(), accessContextTokenDO.getConsumerKey(),
+                            accessContextTokenDO.getNewAccessTokenDO(), connection, userStoreDomain);
+                    if (isTokenCleanupFeatureEnabled && existingAccessTokenDO != null) {
+                        oldTokenCleanupObject.cleanupTokenByTokenId(existingAccessTokenDO.getTokenId(), connection);
+                    }
+                    IdentityDatabaseUtil.commitTransaction(connection);
+                    accessContextTokenDO.setPersisted(true);
+                    persistedCount++;
+                } catch (IdentityOAuth2Exception | SQLException e) {
+                    IdentityDatabaseUtil.rollbackTransaction(connection);
+                    log.error("Error occurred while persisting access token of the client: " +
+                            accessContextTokenDO.getConsumerKey() + " in the batch.", e);
+                }
+            }
+        } catch (SQLException e) {
+            throw new IdentityOAuth2Exception("Error occurred while persisting the access token batch.", e);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Persisted " + persistedCount + " out of " + accessContextTokens.size() +
+                    " access tokens in the batch.");
+        }
+        return persistedCount;
+    }
+
     @Override
     public AccessTokenDO getLatestAccessToken(String consumerKey, AuthenticatedUser authzUser, String userStoreDomain,
                                               String scope, boolean includeExpiredTokens)
@@ -1049,6 +1103,113 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
         return new HashSet<>(accessTokenDOMap.values());
     }
 
+    @Override
+    public List<AccessTokenDO> getAccessTokens(String consumerKey, AuthenticatedUser authenticatedUser,
+                                               String userStoreDomain, boolean includeExpired,
+                                               String afterTokenId, int limit) throws IdentityOAuth2Exception {
+
+        if (!isTokenPagingSupported()) {
+            return AccessTokenDAO.super.getAccessTokens(consumerKey, authenticatedUser, userStoreDomain,
+                    includeExpired, afterTokenId, limit);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Retrieving a page of " + limit + " access tokens for client: " + consumerKey + " user: " +
+                    authenticatedUser.toString());
+        }
+
+        String tenantDomain = getUserResidentTenantDomain(authenticatedUser);
+        String tenantAwareUsernameWithNoUserDomain = authenticatedUser.getUserName();
+        String userDomain = OAuth2Util.getUserStoreDomain(authenticatedUser);
+        int tenantId = OAuth2Util.getTenantId(tenantDomain);
+        boolean isUsernameCaseSensitive
+                = IdentityUtil.isUserStoreCaseSensitive(authenticatedUser.getUserStoreDomain(), tenantId);
+        String authenticatedIDP = OAuth2Util.getAuthenticatedIDP(authenticatedUser);
+        int appTenantId = IdentityTenantUtil.getLoginTenantId();
+        if (authenticatedUser.getUserResidentOrganization() != null) {
+            appTenantId = OAuth2Util.getTenantId(authenticatedUser.getTenantDomain());
+        }
+
+        String sql = getTokenPageQuery(SQLQueries.GET_TOKEN_PAGE_BY_CLIENT_ID_USER, afterTokenId).replace(
+                SQLQueries.TOKEN_STATE_PLACEHOLDER,
+                includeExpired ? SQLQueries.TOKEN_STATE_ACTIVE_OR_EXPIRED : SQLQueries.TOKEN_STATE_ACTIVE);
+        if (!isUsernameCaseSensitive) {
+            sql = sql.replace(AUTHZ_USER, LOWER_AUTHZ_USER);
+        }
+
+        List<AccessTokenDO> accessTokenDOs = new ArrayList<>();
+        List<AccessTokenDO> boundAccessTokenDOs = new ArrayList<>();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                ps.setString(1, getPersistenceProcessor().getProcessedClientId(consumerKey));
+                ps.setInt(2, appTenantId);
+                if (isUsernameCaseSensitive) {
+                    ps.setString(3, tenantAwareUsernameWithNoUserDomain);
+                } else {
+                    ps.setString(3, tenantAwareUsernameWithNoUserDomain.toLowerCase());
+                }
+                ps.setInt(4, tenantId);
+                ps.setString(5, userDomain);
+                ps.setString(6, authenticatedIDP);
+                // Set tenant ID of the IDP by considering it is same as appTenantID.
+                ps.setInt(7, appTenantId);
+                if (StringUtils.isNotEmpty(afterTokenId)) {
+                    ps.setString(8, afterTokenId);
+                }
+                ps.setMaxRows(Math.min(limit, MAX_TOKEN_PAGE_SIZE));
+                try (ResultSet rs = ps.executeQuery()) {
+                    ServiceProvider serviceProvider = null;
+                    while (rs.next()) {
+                        if (serviceProvider == null) {
+                            serviceProvider = getServiceProvider(consumerKey, tenantDomain);
+                        }
+                        AuthenticatedUser user = OAuth2Util.createAuthenticatedUser(
+                                tenantAwareUsernameWithNoUserDomain, userDomain, tenantDomain, authenticatedIDP,
+                                rs.getString(11), appTenantId);
+                        user.setAuthenticatedSubjectIdentifier(rs.getString(9), serviceProvider);
+                        AccessTokenDO accessTokenDO = new AccessTokenDO(consumerKey, user, null,
+                                rs.getTimestamp(4, Calendar.getInstance(TimeZone.getTimeZone(UTC))),
+                                rs.getTimestamp(5, Calendar.getInstance(TimeZone.getTimeZone(UTC))),
+                                rs.getLong(6), rs.getLong(7), rs.getString(8));
+                        accessTokenDO.setTokenId(rs.getString(1));
+                        accessTokenDO.setAccessToken(
+                                getPersistenceProcessor().getPreprocessedAccessTokenIdentifier(rs.getString(2)));
+                        accessTokenDO.setRefreshToken(
+                                getPersistenceProcessor().getPreprocessedRefreshToken(rs.getString(3)));
+                        String tokenBindingReference = rs.getString(10);
+                        if (StringUtils.isNotBlank(tokenBindingReference) && !NONE.equals(tokenBindingReference)) {
+                            boundAccessTokenDOs.add(accessTokenDO);
+                        }
+                        accessTokenDOs.add(accessTokenDO);
+                    }
+                }
+            }
+            setScopesToAccessTokenPage(accessTokenDOs, connection);
+            for (AccessTokenDO accessTokenDO : boundAccessTokenDOs) {
+                setTokenBindingToAccessTokenDO(accessTokenDO, connection, accessTokenDO.getTokenId());
+            }
+        } catch (SQLException e) {
+            String errorMsg = "Error occurred while retrieving a page of 'ACTIVE' access tokens for " +
+                    "Client ID : " + consumerKey + " and User ID : " + authenticatedUser;
+            if (includeExpired) {
+                errorMsg = errorMsg.replace("ACTIVE", "ACTIVE or EXPIRED");
+            }
+            throw new IdentityOAuth2Exception(errorMsg, e);
+        }
+        return accessTokenDOs;
+    }
+
+    private ServiceProvider getServiceProvider(String consumerKey, String tenantDomain)
+            throws IdentityOAuth2Exception {
+
+        try {
+            return OAuth2ServiceComponentHolder.getApplicationMgtService().getServiceProviderByClientId(consumerKey,
+                    OAuthConstants.Scope.OAUTH2, tenantDomain);
+        } catch (IdentityApplicationManagementException e) {
+            throw new IdentityOAuth2Exception("Error occurred while retrieving OAuth2 application data " +
+                    "for client id " + consumerKey, e);
+        }
+    }
+
     @Override
     public AccessTokenDO getAccessToken(String accessTokenIdentifier, boolean includeExpired)
             throws IdentityOAuth2Exception {
@@ -1564,6 +1725,7 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
                 IdentityDatabaseUtil.closeAllConnections(connection, null, ps);
             }
         }
+        addToRevokedTokenFilter(tokens);
     }
 
     /**
@@ -1600,7 +1762,6 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
                 log.debug("Revoking access tokens in individual mode");
             }
         }
-
         Connection connection = IdentityDatabaseUtil.getDBConnection();
         PreparedStatement ps = null;
         try {
@@ -1640,6 +1801,31 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
         } finally {
             IdentityDatabaseUtil.closeAllConnections(connection, null, ps);
         }
+        addToRevokedTokenFilter(tokens);
+    }
+
+    /**
+     * Record the revoked tokens in the revoked token filter, so that the tokens are not accepted by the stateless JWT
+     * access token validation. JWT access tokens are recorded by their JWT ID.
+     *
+     * @param tokens Plain text or hashed tokens being revoked.
+     */
+    private void addToRevokedTokenFilter(String... tokens) {
+
+        if (!StatelessJWTTokenValidator.getInstance().isEnabled()) {
+            return;
+        }
+        for (String token : tokens) {
+            String tokenIdentifier = token;
+            if (OAuth2Util.isParsableJWT(token)) {
+                try {
+                    tokenIdentifier = StringUtils.defaultIfEmpty(JWTUtils.getJWTID(token), token);
+                } catch (ParseException e) {
+                    log.debug("Error while parsing the JWT ID of the revoked token.", e);
+                }
+            }
+            RevokedTokenFilter.getInstance().add(tokenIdentifier);
+        }
     }
 
     /**
@@ -2045,6 +2231,125 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
         return activeDetailedTokens;
     }
 
+    @Override
+    public List<AccessTokenDO> getActiveAccessTokenDataByConsumerKey(String consumerKey, int appTenantId,
+                                                                     String afterTokenId, int limit)
+            throws IdentityOAuth2Exception {
+
+        if (!isTokenPagingSupported()) {
+            return AccessTokenDAO.super.getActiveAccessTokenDataByConsumerKey(consumerKey, appTenantId,
+                    afterTokenId, limit);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Retrieving a page of " + limit + " active access tokens for client: " + consumerKey);
+        }
+        List<AccessTokenDO> accessTokenDOs = new ArrayList<>();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            try (PreparedStatement ps = connection.prepareStatement(
+                    getTokenPageQuery(SQLQueries.GET_ACTIVE_TOKEN_PAGE_FOR_CONSUMER_KEY, afterTokenId))) {
+                ps.setString(1, consumerKey);
+                ps.setInt(2, appTenantId);
+                ps.setString(3, OAuthConstants.TokenStates.TOKEN_STATE_ACTIVE);
+                if (StringUtils.isNotEmpty(afterTokenId)) {
+                    ps.setString(4, afterTokenId);
+                }
+                ps.setMaxRows(Math.min(limit, MAX_TOKEN_PAGE_SIZE));
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        String tokenId = rs.getString(1);
+                        String authorizedOrganizationId = rs.getString(7);
+                        AuthenticatedUser user = OAuth2Util.createAuthenticatedUser(rs.getString(3),
+                                rs.getString(5), OAuth2Util.getTenantDomain(rs.getInt(4)), rs.getString(11),
+                                authorizedOrganizationId, appTenantId);
+                        user.setAuthenticatedSubjectIdentifier(rs.getString(6));
+                        AccessTokenDO accessTokenDO = new AccessTokenDO();
+                        accessTokenDO.setTokenId(tokenId);
+                        accessTokenDO.setAccessToken(rs.getString(2));
+                        accessTokenDO.setConsumerKey(consumerKey);
+                        accessTokenDO.setAuthzUser(user);
+                        accessTokenDO.setAuthorizedOrganizationId(authorizedOrganizationId);
+                        String tokenBindingReference = rs.getString(8);
+                        if (StringUtils.isNotBlank(tokenBindingReference) && !NONE.equals(tokenBindingReference)) {
+                            TokenBinding tokenBinding = new TokenBinding();
+                            tokenBinding.setBindingReference(tokenBindingReference);
+                            accessTokenDO.setTokenBinding(tokenBinding);
+                        }
+                        accessTokenDO.setIssuedTime(rs.getTimestamp(9,
+                                Calendar.getInstance(TimeZone.getTimeZone(UTC))));
+                        accessTokenDO.setValidityPeriodInMillis(rs.getLong(10));
+                        accessTokenDOs.add(accessTokenDO);
+                    }
+                }
+            }
+            setScopesToAccessTokenPage(accessTokenDOs, connection);
+        } catch (SQLException e) {
+            throw new IdentityOAuth2Exception("Error occurred while getting a page of access tokens for the " +
+                    "application with consumer key : " + consumerKey, e);
+        }
+        return accessTokenDOs;
+    }
+
+    /**
+     * Build the query for a page of access tokens. The token ID cursor is left out for the first page, instead of
+     * binding an empty cursor, as Oracle treats an empty string as null and the comparison would match no rows.
+     *
+     * @param query        Token page query with the token ID cursor placeholder.
+     * @param afterTokenId Token ID of the last token of the previous page, or null for the first page.
+     * @return Token page query.
+     */
+    private String getTokenPageQuery(String query, String afterTokenId) {
+
+        return query.replace(SQLQueries.TOKEN_ID_CURSOR_PLACEHOLDER,
+                StringUtils.isEmpty(afterTokenId) ? StringUtils.EMPTY : SQLQueries.TOKEN_ID_CURSOR);
+    }
+
+    /**
+     * Check whether the access tokens can be paged with a single token ID cursor. Tokens spread across user store
+     * partitioned tables can't be paged with a single cursor, and the page queries resolve the IDP by its ID column.
+     *
+     * @return True if the token page queries can be used.
+     */
+    private boolean isTokenPagingSupported() {
+
+        return !(OAuth2Util.checkAccessTokenPartitioningEnabled() && OAuth2Util.checkUserNameAssertionEnabled()) &&
+                OAuth2ServiceComponentHolder.isIDPIdColumnEnabled();
+    }
+
+    /**
+     * Load the scopes of a page of access tokens with a single query and set them to the access tokens.
+     *
+     * @param accessTokenDOs Access tokens of the page.
+     * @param connection     Database connection.
+     * @throws SQLException If an error occurs while retrieving the scopes.
+     */
+    private void setScopesToAccessTokenPage(List<AccessTokenDO> accessTokenDOs, Connection connection)
+            throws SQLException {
+
+        if (accessTokenDOs.isEmpty()) {
+            return;
+        }
+        Map<String, List<String>> tokenScopes = new HashMap<>();
+        for (AccessTokenDO accessTokenDO : accessTokenDOs) {
+            tokenScopes.put(accessTokenDO.getTokenId(), new ArrayList<>());
+        }
+        String placeholders = String.join(",", Collections.nCopies(accessTokenDOs.size(), "?"));
+        try (PreparedStatement ps = connection.prepareStatement(SQLQueries.GET_SCOPES_BY_TOKEN_IDS
+                .replace(SQLQueries.TOKEN_ID_LIST_PLACEHOLDER, placeholders))) {
+            int parameterIndex = 1;
+            for (AccessTokenDO accessTokenDO : accessTokenDOs) {
+                ps.setString(parameterIndex++, accessTokenDO.getTokenId());
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    tokenScopes.get(rs.getString(1)).add(rs.getString(2).trim());
+                }
+            }
+        }
+        for (AccessTokenDO accessTokenDO : accessTokenDOs) {
+            accessTokenDO.setScope(tokenScopes.get(accessTokenDO.getTokenId()).toArray(new String[0]));
+        }
+    }
+
     /**
      * This method is used invalidate the existing token and generate a new toke within one DB transaction.
      *
@@ -2164,6 +2469,108 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
         return accessTokenDOs;
     }
 
+    @Override
+    public List<AccessTokenDO> getAccessTokensByTenant(int tenantId, String afterTokenId, int limit)
+            throws IdentityOAuth2Exception {
+
+        if (!isTokenPagingSupported()) {
+            return AccessTokenDAO.super.getAccessTokensByTenant(tenantId, afterTokenId, limit);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Retrieving a page of " + limit + " access tokens of tenant id: " + tenantId);
+        }
+
+        String tenantDomain = OAuth2Util.getTenantDomain(tenantId);
+        String rootTenantDomain = getRootTenantDomainByOrganizationId(resolveOrganizationId(tenantDomain));
+        List<AccessTokenDO> accessTokenDOs = new ArrayList<>();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            try (PreparedStatement ps = connection.prepareStatement(
+                    getTokenPageQuery(SQLQueries.LIST_TOKEN_PAGE_IN_TENANT, afterTokenId))) {
+                ps.setInt(1, tenantId);
+                if (StringUtils.isNotEmpty(afterTokenId)) {
+                    ps.setString(2, afterTokenId);
+                }
+                ps.setMaxRows(Math.min(limit, MAX_TOKEN_PAGE_SIZE));
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        String authorizedOrganization = rs.getString(12);
+                        AuthenticatedUser user = OAuth2Util.createAuthenticatedUser(rs.getString(9),
+                                rs.getString(10), tenantDomain, rs.getString(13), authorizedOrganization,
+                                rootTenantDomain);
+                        AccessTokenDO accessTokenDO = buildAccessTokenOfPage(rs, rs.getString(11), user);
+                        accessTokenDO.setTenantID(tenantId);
+                        accessTokenDOs.add(accessTokenDO);
+                    }
+                }
+            }
+            setScopesToAccessTokenPage(accessTokenDOs, connection);
+        } catch (SQLException e) {
+            throw new IdentityOAuth2Exception("Error occurred while retrieving a page of 'ACTIVE or EXPIRED' " +
+                    "access tokens for user tenant id : " + tenantId, e);
+        }
+        return accessTokenDOs;
+    }
+
+    @Override
+    public List<AccessTokenDO> getAccessTokensByAuthorizedOrg(String organizationId, String afterTokenId, int limit)
+            throws IdentityOAuth2Exception {
+
+        if (!isTokenPagingSupported()) {
+            return AccessTokenDAO.super.getAccessTokensByAuthorizedOrg(organizationId, afterTokenId, limit);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Retrieving a page of " + limit + " access tokens issued for organization id: " +
+                    organizationId);
+        }
+
+        String rootTenantDomain = getRootTenantDomainByOrganizationId(organizationId);
+        List<AccessTokenDO> accessTokenDOs = new ArrayList<>();
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false)) {
+            try (PreparedStatement ps = connection.prepareStatement(
+                    getTokenPageQuery(SQLQueries.LIST_TOKEN_PAGE_ISSUED_FOR_ORGANIZATION, afterTokenId))) {
+                ps.setString(1, organizationId);
+                if (StringUtils.isNotEmpty(afterTokenId)) {
+                    ps.setString(2, afterTokenId);
+                }
+                ps.setMaxRows(Math.min(limit, MAX_TOKEN_PAGE_SIZE));
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        int tenantId = rs.getInt(12);
+                        AuthenticatedUser user = OAuth2Util.createAuthenticatedUser(rs.getString(9),
+                                rs.getString(10), OAuth2Util.getTenantDomain(tenantId), rs.getString(13),
+                                organizationId, rootTenantDomain);
+                        AccessTokenDO accessTokenDO = buildAccessTokenOfPage(rs, rs.getString(11), user);
+                        accessTokenDO.setTenantID(tenantId);
+                        accessTokenDO.setAuthorizedOrganizationId(organizationId);
+                        accessTokenDOs.add(accessTokenDO);
+                    }
+                }
+            }
+            setScopesToAccessTokenPage(accessTokenDOs, connection);
+        } catch (SQLException e) {
+            throw new IdentityOAuth2Exception("Error occurred while retrieving a page of 'ACTIVE or EXPIRED' " +
+                    "access tokens issued for organization: " + organizationId, e);
+        }
+        return accessTokenDOs;
+    }
+
+    /**
+     * Build an access token from the common leading columns of the tenant and organization token page queries.
+     * Scopes of the token are set separately for the whole page.
+     */
+    private AccessTokenDO buildAccessTokenOfPage(ResultSet rs, String consumerKey, AuthenticatedUser user)
+            throws SQLException, IdentityOAuth2Exception {
+
+        AccessTokenDO accessTokenDO = new AccessTokenDO(consumerKey, user, null,
+                rs.getTimestamp(4, Calendar.getInstance(TimeZone.getTimeZone(UTC))),
+                rs.getTimestamp(5, Calendar.getInstance(TimeZone.getTimeZone(UTC))),
+                rs.getLong(6), rs.getLong(7), rs.getString(8));
+        accessTokenDO.setTokenId(rs.getString(1));
+        accessTokenDO.setAccessToken(getPersistenceProcessor().getPreprocessedAccessTokenIdentifier(rs.getString(2)));
+        accessTokenDO.setRefreshToken(getPersistenceProcessor().getPreprocessedRefreshToken(rs.getString(3)));
+        return accessTokenDO;
+    }
+
     public Set<AccessTokenDO> getAccessTokensByAuthorizedOrg(String organizationId) throws IdentityOAuth2Exception {
 
         if (log.isDebugEnabled()) {
@@ -2565,6 +2972,56 @@ public class AccessTokenDAOImpl extends AbstractOAuthDAO implements AccessTokenD
 
     }
 
+    @Override
+    public String getAccessTokenStateByTokenId(String tokenId) throws IdentityOAuth2Exception {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Retrieving access token state by token id: " + tokenId);
+        }
+
+        String tokenState = getAccessTokenStateByTokenId(tokenId, IdentityUtil.getPrimaryDomainName());
+
+        if (tokenState == null && OAuth2Util.checkAccessTokenPartitioningEnabled() && OAuth2Util.
+                checkUserNameAssertionEnabled()) {
+            Map<String, String> availableDomainMappings = OAuth2Util.getAvailableUserStoreDomainMappings();
+            for (Map.Entry<String, String> availableDomainMapping : availableDomainMappings.entrySet()) {
+                tokenState = getAccessTokenStateByTokenId(tokenId, availableDomainMapping.getKey());
+                if (tokenState != null) {
+                    break;
+                }
+            }
+        }
+
+        return tokenState;
+    }
+
+    private String getAccessTokenStateByTokenId(String tokenId, String userStoreDomain)
+            throws IdentityOAuth2Exception {
+
+        Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+        PreparedStatement prepStmt = null;
+        ResultSet resultSet = null;
+        try {
+            String sql = OAuth2Util.getTokenPartitionedSqlByUserStore(SQLQueries.RETRIEVE_TOKEN_STATE_BY_TOKEN_ID,
+                    userStoreDomain);
+
+            prepStmt = connection.prepareStatement(sql);
+            prepStmt.setString(1, tokenId);
+            resultSet = prepStmt.executeQuery();
+
+            if (resultSet.next()) {
+                return resultSet.getString("TOKEN_STATE");
+            }
+            return null;
+
+        } catch (SQLException e) {
+            String errorMsg = "Error occurred while retrieving 'Token State' for token id: " + tokenId;
+            throw new IdentityOAuth2Exception(errorMsg, e);
+        } finally {
+            IdentityDatabaseUtil.closeAllConnections(connection, resultSet, prepStmt);
+        }
+    }
+
     private void updateTokenIdIfAutzCodeGrantType(String oldAccessTokenId, String newAccessTokenId, Connection
             connection) throws IdentityOAuth2Exception {
 
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+
+import java.util.List;
+
+import static org.wso2.carbon.identity.oauth.common.OAuthCommonUtil.getIntProperty;
+
+/**
+ * Walks through the access tokens returned by a keyset paged DAO method one page at a time, so that callers listing
+ * all the tokens of a tenant, an organization or a user hold a single page of tokens in memory. Pages are ordered by
+ * the token ID and the token ID of the last token of a page is the cursor of the next page.
+ */
+public class AccessTokenPager {
+
+    private static final String PAGE_SIZE = "OAuth.TokenListing.PageSize";
+    private static final int DEFAULT_PAGE_SIZE = 500;
+
+    private static final int pageSize = getIntProperty(PAGE_SIZE, DEFAULT_PAGE_SIZE, 1);
+
+    private AccessTokenPager() {
+
+    }
+
+    /**
+     * Pass the access tokens to the handler page by page with the configured page size.
+     *
+     * @param loader  Loads a page of access tokens after a token ID.
+     * @param handler Handles a page of access tokens.
+     * @throws IdentityOAuth2Exception If an error occurs while loading or handling a page.
+     */
+    public static void forEachPage(AccessTokenPageLoader loader, AccessTokenPageHandler handler)
+            throws IdentityOAuth2Exception {
+
+        forEachPage(loader, pageSize, handler);
+    }
+
+    /**
+     * Pass the access tokens to the handler page by page, until all the tokens are handled or the handler asks to
+     * stop.
+     *
+     * @param loader   Loads a page of access tokens after a token ID.
+     * @param pageSize Maximum number of access tokens in a page.
+     * @param handler  Handles a page of access tokens.
+     * @throws IdentityOAuth2Exception If an error occurs while loading or handling a page.
+     */
+    public static void forEachPage(AccessTokenPageLoader loader, int pageSize, AccessTokenPageHandler handler)
+            throws IdentityOAuth2Exception {
+
+        String lastTokenId = null;
+        while (true) {
+            List<AccessTokenDO> page = loader.load(lastTokenId, pageSize);
+            if (page.isEmpty() || !handler.handle(page)) {
+                return;
+            }
+            lastTokenId = page.get(page.size() - 1).getTokenId();
+            // DAOs may return fewer tokens than requested even when more remain, so only an empty page ends the walk.
+            if (lastTokenId == null) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Loads a page of access tokens ordered by the token ID.
+     */
+    @FunctionalInterface
+    public interface AccessTokenPageLoader {
+
+        /**
+         * Load the page of access tokens after the given token ID.
+         *
+         * @param afterTokenId Token ID after which the page starts, or null to load the first page.
+         * @param limit        Maximum number of access tokens in the page.
+         * @return Access tokens of the page.
+         * @throws IdentityOAuth2Exception If an error occurs while loading the page.
+         */
+        List<AccessTokenDO> load(String afterTokenId, int limit) throws IdentityOAuth2Exception;
+    }
+
+    /**
+     * Handles a page of access tokens.
+     */
+    @FunctionalInterface
+    public interface AccessTokenPageHandler {
+
+        /**
+         * Handle a page of access tokens.
+         *
+         * @param page Access tokens of the page.
+         * @return true to continue with the next page, false to stop.
+         * @throws IdentityOAuth2Exception If an error occurs while handling the page.
+         */
+        boolean handle(List<AccessTokenDO> page) throws IdentityOAuth2Exception;
+    }
+}
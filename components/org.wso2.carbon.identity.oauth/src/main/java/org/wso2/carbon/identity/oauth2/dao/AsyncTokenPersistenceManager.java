@@ -0,0 +1,244 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.wso2.carbon.identity.oauth.common.OAuthCommonUtil.getIntProperty;
+
+/**
+ * Asynchronous persistence pipeline for access tokens.
+ * <p>
+ * Producers enqueue the tokens to a bounded queue which is drained in batches by a configurable pool of
+ * {@link TokenPersistenceTask} consumers. When the queue is full, the producer waits up to the configured enqueue
+ * timeout and is then asked to persist synchronously, which throttles the producers to the rate the database can
+ * sustain. On shutdown the consumers persist the queued tokens before they exit, for up to the shutdown timeout.
+ * <p>
+ * The tokens are returned to the clients before they are persisted. A token that fails to be persisted is logged as an
+ * error, counted in the queue metrics and removed from the OAuth cache, so the client gets an invalid token error and
+ * has to request a new token. Authorization codes are always persisted synchronously, as a code has to be persisted
+ * before the client can redeem it, and the code grant deactivates the code in the same transaction as the token is
+ * persisted, which is what rejects replayed codes.
+ * <p>
+ * The pipeline is disabled by default and can be enabled with the following configuration.
+ * <pre>
+ * [oauth.token_persistence.async]
+ * enable = true
+ * pool_size = 4
+ * batch_size = 50
+ * queue_size = 10000
+ * enqueue_timeout = 100
+ * </pre>
+ */
+public class AsyncTokenPersistenceManager {
+
+    private static final Log log = LogFactory.getLog(AsyncTokenPersistenceManager.class);
+
+    private static final String ASYNC_PERSISTENCE_ENABLE = "OAuth.TokenPersistence.Async.Enable";
+    private static final String ASYNC_PERSISTENCE_POOL_SIZE = "OAuth.TokenPersistence.Async.PoolSize";
+    private static final String ASYNC_PERSISTENCE_BATCH_SIZE = "OAuth.TokenPersistence.Async.BatchSize";
+    private static final String ASYNC_PERSISTENCE_QUEUE_SIZE = "OAuth.TokenPersistence.Async.QueueSize";
+    private static final String ASYNC_PERSISTENCE_ENQUEUE_TIMEOUT = "OAuth.TokenPersistence.Async.EnqueueTimeout";
+    private static final String ASYNC_PERSISTENCE_SHUTDOWN_TIMEOUT = "OAuth.TokenPersistence.Async.ShutdownTimeout";
+
+    private static final int DEFAULT_POOL_SIZE = 2;
+    private static final int DEFAULT_BATCH_SIZE = 50;
+    private static final int DEFAULT_QUEUE_SIZE = 10000;
+    private static final long DEFAULT_ENQUEUE_TIMEOUT_IN_MILLIS = 100;
+    private static final long DEFAULT_SHUTDOWN_TIMEOUT_IN_MILLIS = 30000;
+
+    private static final AsyncTokenPersistenceManager instance = new AsyncTokenPersistenceManager();
+
+    private final boolean enabled;
+    private final int poolSize;
+    private final int batchSize;
+    private final long enqueueTimeoutInMillis;
+    private final long shutdownTimeoutInMillis;
+    private final BlockingDeque<AccessContextTokenDO> accessContextTokenQueue;
+    private final PersistenceQueueMetrics accessTokenQueueMetrics;
+    private final List<TokenPersistenceTask> accessTokenTasks = new ArrayList<>();
+    private volatile ExecutorService accessTokenConsumers;
+
+    private AsyncTokenPersistenceManager() {
+
+        enabled = Boolean.parseBoolean(IdentityUtil.getProperty(ASYNC_PERSISTENCE_ENABLE));
+        poolSize = getIntProperty(ASYNC_PERSISTENCE_POOL_SIZE, DEFAULT_POOL_SIZE, 1);
+        batchSize = getIntProperty(ASYNC_PERSISTENCE_BATCH_SIZE, DEFAULT_BATCH_SIZE, 1);
+        int queueSize = getIntProperty(ASYNC_PERSISTENCE_QUEUE_SIZE, DEFAULT_QUEUE_SIZE, 1);
+        enqueueTimeoutInMillis = getIntProperty(ASYNC_PERSISTENCE_ENQUEUE_TIMEOUT,
+                (int) DEFAULT_ENQUEUE_TIMEOUT_IN_MILLIS, 1);
+        shutdownTimeoutInMillis = getIntProperty(ASYNC_PERSISTENCE_SHUTDOWN_TIMEOUT,
+                (int) DEFAULT_SHUTDOWN_TIMEOUT_IN_MILLIS, 1);
+        accessContextTokenQueue = new LinkedBlockingDeque<>(queueSize);
+        accessTokenQueueMetrics = new PersistenceQueueMetrics(accessContextTokenQueue);
+    }
+
+    public static AsyncTokenPersistenceManager getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Check whether asynchronous token persistence is enabled and the consumers are running.
+     *
+     * @return True if the tokens can be enqueued for persistence.
+     */
+    public boolean isEnabled() {
+
+        return enabled && accessTokenConsumers != null && !accessTokenConsumers.isShutdown();
+    }
+
+    /**
+     * Start the persistence consumers if asynchronous token persistence is enabled.
+     */
+    public synchronized void start() {
+
+        if (!enabled || accessTokenConsumers != null) {
+            return;
+        }
+        accessTokenConsumers = Executors.newFixedThreadPool(poolSize,
+                new PersistenceThreadFactory("oauth-access-token-persistence"));
+        for (int i = 0; i < poolSize; i++) {
+            TokenPersistenceTask task = new TokenPersistenceTask(accessContextTokenQueue, batchSize,
+                    accessTokenQueueMetrics);
+            accessTokenTasks.add(task);
+            accessTokenConsumers.execute(task);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Started asynchronous token persistence with " + poolSize + " consumers and batch size: " +
+                    batchSize);
+        }
+    }
+
+    /**
+     * Stop the persistence consumers. New tokens are persisted synchronously from then on, and the consumers persist
+     * the tokens remaining in the queue before they exit. The batches being persisted are not interrupted unless the
+     * consumers do not complete within the shutdown timeout.
+     */
+    public synchronized void shutdown() {
+
+        if (accessTokenConsumers == null) {
+            return;
+        }
+        accessTokenConsumers.shutdown();
+        accessTokenTasks.forEach(TokenPersistenceTask::stop);
+        try {
+            if (accessTokenConsumers.awaitTermination(shutdownTimeoutInMillis, TimeUnit.MILLISECONDS)) {
+                // Persist the tokens enqueued by the requests that raced with the shutdown.
+                TokenPersistenceTask remainingTokens = new TokenPersistenceTask(accessContextTokenQueue, batchSize,
+                        accessTokenQueueMetrics);
+                remainingTokens.stop();
+                remainingTokens.run();
+            } else {
+                accessTokenConsumers.shutdownNow();
+                log.error("Asynchronous token persistence did not complete within " + shutdownTimeoutInMillis +
+                        "ms. " + accessContextTokenQueue.size() + " queued access tokens are not persisted. Queue " +
+                        "metrics: " + accessTokenQueueMetrics);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accessTokenConsumers.shutdownNow();
+            log.error("Interrupted while waiting for the asynchronous token persistence to complete. Queue " +
+                    "metrics: " + accessTokenQueueMetrics);
+        }
+        accessTokenTasks.clear();
+        accessTokenConsumers = null;
+    }
+
+    /**
+     * Enqueue an access token for asynchronous persistence.
+     *
+     * @param accessContextTokenDO Access token to be persisted.
+     * @return True if the token was enqueued. False if the pipeline is disabled or the queue stayed full for the
+     * enqueue timeout, in which case the caller should persist the token synchronously.
+     */
+    public boolean enqueueAccessToken(AccessContextTokenDO accessContextTokenDO) {
+
+        if (!isEnabled()) {
+            return false;
+        }
+        if (StringUtils.isNotEmpty(PrivilegedCarbonContext.getThreadLocalCarbonContext()
+                .getApplicationResidentOrganizationId())) {
+            // The application resident organization is not carried over to the consumers, persist synchronously.
+            return false;
+        }
+        accessContextTokenDO.setTenantDomain(PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain());
+        accessContextTokenDO.setEnqueuedTime(System.currentTimeMillis());
+        return offer(accessContextTokenQueue, accessContextTokenDO, accessTokenQueueMetrics);
+    }
+
+    public PersistenceQueueMetrics getAccessTokenQueueMetrics() {
+
+        return accessTokenQueueMetrics;
+    }
+
+    private <T> boolean offer(BlockingDeque<T> queue, T entry, PersistenceQueueMetrics metrics) {
+
+        try {
+            if (queue.offer(entry, enqueueTimeoutInMillis, TimeUnit.MILLISECONDS)) {
+                metrics.recordEnqueued();
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        metrics.recordRejected();
+        if (log.isDebugEnabled()) {
+            log.debug("Persistence queue is full. Falling back to synchronous persistence. Queue metrics: " +
+                    metrics);
+        }
+        return false;
+    }
+
+    /**
+     * Thread factory for the persistence consumers.
+     */
+    private static class PersistenceThreadFactory implements ThreadFactory {
+
+        private final String namePrefix;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        PersistenceThreadFactory(String namePrefix) {
+
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, namePrefix + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -26,6 +26,8 @@ import org.wso2.carbon.identity.oauth2.IdentityOAuth2ScopeServerException;
 import org.wso2.carbon.identity.oauth2.bean.Scope;
 
 import java.sql.Connection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -52,6 +54,27 @@ public interface OAuthScopeDAO {
 
     Scope getScopeByName(String name, int tenantID) throws IdentityOAuth2ScopeServerException;
 
+    /**
+     * Get the OAuth2 scopes of the given names.
+     *
+     * @param scopeNames Names of the scopes.
+     * @param tenantID   Tenant ID.
+     * @return Scopes found, keyed by the scope name. Names without a scope are not included.
+     * @throws IdentityOAuth2ScopeServerException If an error occurs while retrieving the scopes.
+     */
+    default Map<String, Scope> getScopesByNames(Set<String> scopeNames, int tenantID)
+            throws IdentityOAuth2ScopeServerException {
+
+        Map<String, Scope> scopes = new HashMap<>();
+        for (String scopeName : scopeNames) {
+            Scope scope = getScopeByName(scopeName, tenantID);
+            if (scope != null) {
+                scopes.put(scopeName, scope);
+            }
+        }
+        return scopes;
+    }
+
     boolean isScopeExists(String scopeName, int tenantID) throws IdentityOAuth2ScopeServerException;
 
     boolean isScopeExists(String scopeName, int tenantID, Boolean includeOIDCScopes)
@@ -66,4 +89,22 @@ public interface OAuthScopeDAO {
     boolean validateScope(Connection connection, String accessToken, String resourceUri);
 
     Set<String> getBindingsOfScopeByScopeName(String scopeName, int tenantId) throws IdentityOAuth2Exception;
+
+    /**
+     * Get the bindings of the scopes of the given names.
+     *
+     * @param scopeNames Names of the scopes.
+     * @param tenantId   Tenant ID.
+     * @return Bindings of each scope, keyed by the scope name. Scopes without bindings are mapped to an empty set.
+     * @throws IdentityOAuth2Exception If an error occurs while retrieving the bindings.
+     */
+    default Map<String, Set<String>> getBindingsForScopes(Set<String> scopeNames, int tenantId)
+            throws IdentityOAuth2Exception {
+
+        Map<String, Set<String>> bindings = new HashMap<>();
+        for (String scopeName : scopeNames) {
+            bindings.put(scopeName, getBindingsOfScopeByScopeName(scopeName, tenantId));
+        }
+        return bindings;
+    }
 }
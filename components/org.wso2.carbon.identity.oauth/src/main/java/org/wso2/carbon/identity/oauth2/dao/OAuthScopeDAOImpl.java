@@ -608,6 +608,59 @@ public class OAuthScopeDAOImpl implements OAuthScopeDAO {
         }
     }
 
+    /**
+     * Get the OAuth2 scopes of the given names with a single query.
+     *
+     * @param scopeNames Names of the scopes.
+     * @param tenantID   Tenant ID.
+     * @return Scopes found, keyed by the scope name.
+     * @throws IdentityOAuth2ScopeServerException IdentityOAuth2ScopeServerException
+     */
+    @Override
+    public Map<String, Scope> getScopesByNames(Set<String> scopeNames, int tenantID)
+            throws IdentityOAuth2ScopeServerException {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Get scopes by names called for scope names: " + scopeNames + " in tenantId: " + tenantID);
+        }
+
+        Map<String, Scope> scopes = new HashMap<>();
+        if (scopeNames == null || scopeNames.isEmpty()) {
+            return scopes;
+        }
+        String placeholder = String.join(", ", Collections.nCopies(scopeNames.size(), "?"));
+        String sql = SQLQueries.RETRIEVE_REQUESTED_OAUTH2_SCOPES.replace(SCOPE_LIST_PLACEHOLDER, placeholder);
+
+        try (Connection conn = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            ps.setInt(1, tenantID);
+            ps.setString(2, Oauth2ScopeConstants.SCOPE_TYPE_OAUTH2);
+            int scopeIndex = 3;
+            for (String scopeName : scopeNames) {
+                ps.setString(scopeIndex++, scopeName);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String name = rs.getString(2);
+                    Scope scope = scopes.get(name);
+                    if (scope == null) {
+                        scope = new Scope(name, rs.getString(3), new ArrayList<>(), rs.getString(4));
+                        scopes.put(name, scope);
+                    }
+                    String bindingType = rs.getString(6);
+                    if (bindingType == null) {
+                        bindingType = DEFAULT_SCOPE_BINDING;
+                    }
+                    scope.addScopeBinding(bindingType, rs.getString(5));
+                }
+            }
+            return scopes;
+        } catch (SQLException e) {
+            String msg = "Error occurred while getting scopes by names in tenant :" + tenantID;
+            throw new IdentityOAuth2ScopeServerException(msg, e);
+        }
+    }
+
     /**
      * Get existence of OAuth2 scope for the provided scope name.
      *
@@ -1013,6 +1066,55 @@ public class OAuthScopeDAOImpl implements OAuthScopeDAO {
         }
     }
 
+    /**
+     * Get the bindings of the scopes of the given names with a single query.
+     *
+     * @param scopeNames Names of the scopes.
+     * @param tenantId   Tenant Id
+     * @return Bindings of each scope, keyed by the scope name.
+     * @throws IdentityOAuth2Exception If an SQL error occurs while retrieving the bindings.
+     */
+    @Override
+    public Map<String, Set<String>> getBindingsForScopes(Set<String> scopeNames, int tenantId)
+            throws IdentityOAuth2Exception {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Retrieving bindings of scopes: " + scopeNames + " tenant id: " + tenantId);
+        }
+
+        Map<String, Set<String>> bindings = new HashMap<>();
+        if (scopeNames == null || scopeNames.isEmpty()) {
+            return bindings;
+        }
+        for (String scopeName : scopeNames) {
+            bindings.put(scopeName, new HashSet<>());
+        }
+        String placeholder = String.join(", ", Collections.nCopies(scopeNames.size(), "?"));
+        String sql = SQLQueries.RETRIEVE_BINDINGS_OF_SCOPES_FOR_TENANT.replace(SCOPE_LIST_PLACEHOLDER, placeholder);
+
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement ps = connection.prepareStatement(sql)) {
+            ps.setInt(1, tenantId);
+            int scopeIndex = 2;
+            for (String scopeName : scopeNames) {
+                ps.setString(scopeIndex++, scopeName);
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    String binding = rs.getString(2);
+                    Set<String> scopeBindings = bindings.get(rs.getString(1));
+                    if (scopeBindings != null && StringUtils.isNotEmpty(binding)) {
+                        scopeBindings.add(binding);
+                    }
+                }
+            }
+            return bindings;
+        } catch (SQLException e) {
+            String errorMsg = "Error getting bindings of scopes - " + scopeNames;
+            throw new IdentityOAuth2Exception(errorMsg, e);
+        }
+    }
+
     /**
      * Get the list of roles associated for a given scope.
      *
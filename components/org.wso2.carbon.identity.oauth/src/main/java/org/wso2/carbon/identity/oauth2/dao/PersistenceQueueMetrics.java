@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runtime metrics of an asynchronous persistence queue.
+ */
+public class PersistenceQueueMetrics {
+
+    private final BlockingDeque<?> queue;
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong persistedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong lastBatchSize = new AtomicLong();
+    private final AtomicLong lastLagInMillis = new AtomicLong();
+    private final AtomicLong maxLagInMillis = new AtomicLong();
+
+    public PersistenceQueueMetrics(BlockingDeque<?> queue) {
+
+        this.queue = queue;
+    }
+
+    void recordEnqueued() {
+
+        enqueuedCount.incrementAndGet();
+    }
+
+    void recordRejected() {
+
+        rejectedCount.incrementAndGet();
+    }
+
+    /**
+     * Record the outcome of a persisted batch.
+     *
+     * @param batchSize         Number of entries in the batch.
+     * @param persisted         Number of entries persisted successfully.
+     * @param oldestEnqueueTime Enqueue time of the oldest entry in the batch.
+     */
+    void recordBatch(int batchSize, int persisted, long oldestEnqueueTime) {
+
+        batchCount.incrementAndGet();
+        lastBatchSize.set(batchSize);
+        persistedCount.addAndGet(persisted);
+        failedCount.addAndGet(batchSize - persisted);
+        if (oldestEnqueueTime > 0) {
+            long lag = System.currentTimeMillis() - oldestEnqueueTime;
+            lastLagInMillis.set(lag);
+            maxLagInMillis.accumulateAndGet(lag, Math::max);
+        }
+    }
+
+    public int getQueueDepth() {
+
+        return queue.size();
+    }
+
+    public long getEnqueuedCount() {
+
+        return enqueuedCount.get();
+    }
+
+    public long getRejectedCount() {
+
+        return rejectedCount.get();
+    }
+
+    public long getPersistedCount() {
+
+        return persistedCount.get();
+    }
+
+    public long getFailedCount() {
+
+        return failedCount.get();
+    }
+
+    public long getBatchCount() {
+
+        return batchCount.get();
+    }
+
+    public long getLastBatchSize() {
+
+        return lastBatchSize.get();
+    }
+
+    public long getLastLagInMillis() {
+
+        return lastLagInMillis.get();
+    }
+
+    public long getMaxLagInMillis() {
+
+        return maxLagInMillis.get();
+    }
+
+    @Override
+    public String toString() {
+
+        return "queueDepth=" + getQueueDepth() + ", enqueued=" + getEnqueuedCount() + ", rejected=" +
+                getRejectedCount() + ", persisted=" + getPersistedCount() + ", failed=" + getFailedCount() +
+                ", batches=" + getBatchCount() + ", lastBatchSize=" + getLastBatchSize() + ", lastLagInMillis=" +
+                getLastLagInMillis() + ", maxLagInMillis=" + getMaxLagInMillis();
+    }
+}
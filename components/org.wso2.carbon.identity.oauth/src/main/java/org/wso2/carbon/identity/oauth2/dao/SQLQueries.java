@@ -75,6 +75,9 @@ public class SQLQueries {
     public static final String RETRIEVE_TOKEN_BY_TOKEN_ID = "SELECT ACCESS_TOKEN FROM " +
             "IDN_OAUTH2_ACCESS_TOKEN WHERE TOKEN_ID = ?";
 
+    public static final String RETRIEVE_TOKEN_STATE_BY_TOKEN_ID = "SELECT TOKEN_STATE FROM " +
+            "IDN_OAUTH2_ACCESS_TOKEN WHERE TOKEN_ID = ?";
+
     public static final String UPDATE_TOKEN_AGAINST_AUTHZ_CODE = "UPDATE IDN_OAUTH2_AUTHORIZATION_CODE SET " +
             "TOKEN_ID=? WHERE AUTHORIZATION_CODE=?";
 
@@ -577,6 +580,54 @@ public class SQLQueries {
             "CONSUMER_KEY_ID = (SELECT ID FROM IDN_OAUTH_CONSUMER_APPS WHERE CONSUMER_KEY=? AND TENANT_ID = ?) " +
             "AND TOKEN_STATE=?";
 
+    public static final String TOKEN_ID_LIST_PLACEHOLDER = "_TOKEN_ID_LIST_";
+
+    public static final String TOKEN_ID_CURSOR_PLACEHOLDER = "_TOKEN_ID_CURSOR_";
+
+    public static final String TOKEN_ID_CURSOR = "AND IDN_OAUTH2_ACCESS_TOKEN.TOKEN_ID > ? ";
+
+    public static final String GET_ACTIVE_TOKEN_PAGE_FOR_CONSUMER_KEY = "SELECT IDN_OAUTH2_ACCESS_TOKEN.TOKEN_ID, " +
+            "ACCESS_TOKEN, AUTHZ_USER, IDN_OAUTH2_ACCESS_TOKEN.TENANT_ID, USER_DOMAIN, SUBJECT_IDENTIFIER, " +
+            "AUTHORIZED_ORGANIZATION, TOKEN_BINDING_REF, TIME_CREATED, VALIDITY_PERIOD, IDP.NAME FROM " +
+            "IDN_OAUTH2_ACCESS_TOKEN LEFT JOIN IDP ON IDN_OAUTH2_ACCESS_TOKEN.IDP_ID = IDP.ID WHERE " +
+            "CONSUMER_KEY_ID = (SELECT ID FROM IDN_OAUTH_CONSUMER_APPS WHERE CONSUMER_KEY=? AND TENANT_ID = ?) " +
+            "AND TOKEN_STATE=? " + TOKEN_ID_CURSOR_PLACEHOLDER + "ORDER BY IDN_OAUTH2_ACCESS_TOKEN.TOKEN_ID";
+
+    public static final String GET_SCOPES_BY_TOKEN_IDS = "SELECT TOKEN_ID, TOKEN_SCOPE FROM " +
+            "IDN_OAUTH2_ACCESS_TOKEN_SCOPE WHERE TOKEN_ID IN (" + TOKEN_ID_LIST_PLACEHOLDER + ")";
+
+    public static final String TOKEN_STATE_PLACEHOLDER = "_TOKEN_STATE_";
+
+    public static final String TOKEN_STATE_ACTIVE = "TOKEN_STATE='ACTIVE'";
+
+    public static final String TOKEN_STATE_ACTIVE_OR_EXPIRED = "(TOKEN_STATE='ACTIVE' OR TOKEN_STATE='EXPIRED')";
+
+    public static final String GET_TOKEN_PAGE_BY_CLIENT_ID_USER = "SELECT TOKEN_ID, ACCESS_TOKEN, REFRESH_TOKEN, " +
+            "TIME_CREATED, REFRESH_TOKEN_TIME_CREATED, VALIDITY_PERIOD, REFRESH_TOKEN_VALIDITY_PERIOD, USER_TYPE, " +
+            "SUBJECT_IDENTIFIER, TOKEN_BINDING_REF, AUTHORIZED_ORGANIZATION FROM IDN_OAUTH2_ACCESS_TOKEN WHERE " +
+            "CONSUMER_KEY_ID = (SELECT ID FROM IDN_OAUTH_CONSUMER_APPS WHERE CONSUMER_KEY = ? AND TENANT_ID = ?) " +
+            "AND AUTHZ_USER=? AND TENANT_ID=? AND USER_DOMAIN=? AND " + TOKEN_STATE_PLACEHOLDER + " AND " +
+            "IDP_ID=(SELECT ID FROM IDP WHERE NAME=? AND TENANT_ID=?) " + TOKEN_ID_CURSOR_PLACEHOLDER +
+            "ORDER BY TOKEN_ID";
+
+    public static final String LIST_TOKEN_PAGE_IN_TENANT = "SELECT IDN_OAUTH2_ACCESS_TOKEN.TOKEN_ID, " +
+            "ACCESS_TOKEN, REFRESH_TOKEN, TIME_CREATED, REFRESH_TOKEN_TIME_CREATED, VALIDITY_PERIOD, " +
+            "REFRESH_TOKEN_VALIDITY_PERIOD, USER_TYPE, AUTHZ_USER, IDN_OAUTH2_ACCESS_TOKEN.USER_DOMAIN, " +
+            "CONSUMER_KEY, AUTHORIZED_ORGANIZATION, IDP.NAME FROM IDN_OAUTH2_ACCESS_TOKEN " +
+            "JOIN IDN_OAUTH_CONSUMER_APPS ON IDN_OAUTH_CONSUMER_APPS.ID = CONSUMER_KEY_ID " +
+            "JOIN IDP ON IDP.ID = IDN_OAUTH2_ACCESS_TOKEN.IDP_ID WHERE IDN_OAUTH2_ACCESS_TOKEN.TENANT_ID = ? AND " +
+            TOKEN_STATE_ACTIVE_OR_EXPIRED + " " + TOKEN_ID_CURSOR_PLACEHOLDER +
+            "ORDER BY IDN_OAUTH2_ACCESS_TOKEN.TOKEN_ID";
+
+    public static final String LIST_TOKEN_PAGE_ISSUED_FOR_ORGANIZATION = "SELECT IDN_OAUTH2_ACCESS_TOKEN.TOKEN_ID, " +
+            "ACCESS_TOKEN, REFRESH_TOKEN, TIME_CREATED, REFRESH_TOKEN_TIME_CREATED, VALIDITY_PERIOD, " +
+            "REFRESH_TOKEN_VALIDITY_PERIOD, USER_TYPE, AUTHZ_USER, IDN_OAUTH2_ACCESS_TOKEN.USER_DOMAIN, " +
+            "CONSUMER_KEY, IDN_OAUTH2_ACCESS_TOKEN.TENANT_ID, IDP.NAME FROM IDN_OAUTH2_ACCESS_TOKEN " +
+            "JOIN IDN_OAUTH_CONSUMER_APPS ON IDN_OAUTH_CONSUMER_APPS.ID = CONSUMER_KEY_ID " +
+            "JOIN IDP ON IDP.ID = IDN_OAUTH2_ACCESS_TOKEN.IDP_ID WHERE AUTHORIZED_ORGANIZATION = ? AND " +
+            TOKEN_STATE_ACTIVE_OR_EXPIRED + " " + TOKEN_ID_CURSOR_PLACEHOLDER +
+            "ORDER BY IDN_OAUTH2_ACCESS_TOKEN.TOKEN_ID";
+
     public static final String GET_AUTHORIZATION_CODES_FOR_CONSUMER_KEY = "SELECT AUTHORIZATION_CODE FROM " +
             "IDN_OAUTH2_AUTHORIZATION_CODE WHERE CONSUMER_KEY_ID IN (SELECT ID FROM IDN_OAUTH_CONSUMER_APPS WHERE " +
             "CONSUMER_KEY = ? AND TENANT_ID = ?) ";
@@ -1550,6 +1601,11 @@ public class SQLQueries {
                     "LEFT JOIN IDN_OAUTH2_SCOPE_BINDING SCOPEBINDINGS ON SCOPES.SCOPE_ID=SCOPEBINDINGS.SCOPE_ID " +
                     "WHERE SCOPES.NAME = ? AND TENANT_ID = ?";
 
+    public static final String RETRIEVE_BINDINGS_OF_SCOPES_FOR_TENANT =
+            "SELECT SCOPES.NAME, SCOPEBINDINGS.SCOPE_BINDING FROM IDN_OAUTH2_SCOPE SCOPES " +
+                    "LEFT JOIN IDN_OAUTH2_SCOPE_BINDING SCOPEBINDINGS ON SCOPES.SCOPE_ID=SCOPEBINDINGS.SCOPE_ID " +
+                    "WHERE SCOPES.TENANT_ID = ? AND SCOPES.NAME IN (" + SCOPE_LIST_PLACEHOLDER + ")";
+
     public static final String RETRIEVE_REFRESH_TOKEN =
             "SELECT CONSUMER_KEY, " +
                     "AUTHZ_USER, " +
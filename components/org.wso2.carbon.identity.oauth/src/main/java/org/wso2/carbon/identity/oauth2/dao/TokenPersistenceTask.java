@@ -17,48 +17,154 @@
  */
 package org.wso2.carbon.identity.oauth2.dao;
 
+import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.wso2.carbon.identity.base.IdentityException;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.oauth.OAuthUtil;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.TimeUnit;
 
 /**
- * OAuth token persistence task.
+ * Consumer of the asynchronous access token persistence queue. Drains the queue in batches and persists each batch
+ * through {@link AccessTokenDAO#insertAccessTokens(List)}. Once stopped or interrupted, the consumer persists whatever
+ * is left in the queue before it exits.
+ * <p>
+ * The tokens are already returned to the clients when they are persisted. A token that could not be persisted is
+ * removed from the OAuth cache, so that it is not accepted by the validators either, and is logged as an error.
  */
 public class TokenPersistenceTask implements Runnable {
 
     private static final Log log = LogFactory.getLog(TokenPersistenceTask.class);
-    private BlockingDeque<AccessContextTokenDO> accessContextTokenQueue;
+    private static final int DEFAULT_BATCH_SIZE = 1;
+    private static final long POLL_INTERVAL_IN_MILLIS = 500;
+
+    private final BlockingDeque<AccessContextTokenDO> accessContextTokenQueue;
+    private final int batchSize;
+    private final PersistenceQueueMetrics metrics;
+    private volatile boolean running = true;
 
     public TokenPersistenceTask(BlockingDeque<AccessContextTokenDO> accessContextTokenQueue) {
+
+        this(accessContextTokenQueue, DEFAULT_BATCH_SIZE, new PersistenceQueueMetrics(accessContextTokenQueue));
+    }
+
+    public TokenPersistenceTask(BlockingDeque<AccessContextTokenDO> accessContextTokenQueue, int batchSize,
+                                PersistenceQueueMetrics metrics) {
+
         this.accessContextTokenQueue = accessContextTokenQueue;
+        this.batchSize = Math.max(batchSize, 1);
+        this.metrics = metrics;
     }
 
     @Override
     public void run() {
 
-        log.debug("Access Token context persist consumer is started");
+        if (log.isDebugEnabled()) {
+            log.debug("Access Token context persist consumer is started");
+        }
 
-        while (true) {
-            AccessContextTokenDO accessContextTokenDO = null;
-            String accessToken = null;
+        List<AccessContextTokenDO> batch = new ArrayList<>(batchSize);
+        while (running) {
+            AccessContextTokenDO accessContextTokenDO;
             try {
-                accessContextTokenDO =  accessContextTokenQueue.take();
-                if (accessContextTokenDO != null) {
-                    accessToken = accessContextTokenDO.getAccessToken();
-                    log.debug("Access Token Data persisting Task is started to run");
-                    OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
-                            .insertAccessToken(accessToken, accessContextTokenDO.getConsumerKey(),
-                                    accessContextTokenDO.getNewAccessTokenDO(),
-                                    accessContextTokenDO.getExistingAccessTokenDO(),
-                                    accessContextTokenDO.getUserStoreDomain());
-                }
+                accessContextTokenDO = accessContextTokenQueue.poll(POLL_INTERVAL_IN_MILLIS, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
-                log.error("Error occurred while getting AccessContextTokenDO instance from accessContextTokenQueue", e);
-            } catch (IdentityException e) {
-                log.error("Error occurred while persisting access token :" + accessToken, e);
+                Thread.currentThread().interrupt();
+                break;
             }
+            if (accessContextTokenDO == null) {
+                continue;
+            }
+            batch.add(accessContextTokenDO);
+            accessContextTokenQueue.drainTo(batch, batchSize - 1);
+            persist(batch);
+            batch.clear();
+        }
+
+        // Drain the tokens left in the queue so that they are not lost on shutdown. The interrupt flag is cleared
+        // meanwhile, as it would otherwise abort the database calls.
+        boolean interrupted = Thread.interrupted();
+        while (accessContextTokenQueue.drainTo(batch, batchSize) > 0) {
+            persist(batch);
+            batch.clear();
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
         }
+        if (log.isDebugEnabled()) {
+            log.debug("Access Token context persist consumer is stopped");
+        }
+    }
+
+    /**
+     * Stop the consumer once it persists the tokens left in the queue. Unlike an interrupt, stopping does not abort a
+     * batch that is being persisted.
+     */
+    public void stop() {
+
+        running = false;
+    }
+
+    private void persist(List<AccessContextTokenDO> batch) {
+
+        long oldestEnqueueTime = 0;
+        Map<String, List<AccessContextTokenDO>> tokensByTenant = new LinkedHashMap<>();
+        for (AccessContextTokenDO accessContextTokenDO : batch) {
+            tokensByTenant.computeIfAbsent(StringUtils.defaultString(accessContextTokenDO.getTenantDomain()),
+                    tenantDomain -> new ArrayList<>()).add(accessContextTokenDO);
+            if (oldestEnqueueTime == 0 || accessContextTokenDO.getEnqueuedTime() < oldestEnqueueTime) {
+                oldestEnqueueTime = accessContextTokenDO.getEnqueuedTime();
+            }
+        }
+
+        int persisted = 0;
+        for (Map.Entry<String, List<AccessContextTokenDO>> entry : tokensByTenant.entrySet()) {
+            persisted += persistForTenant(entry.getKey(), entry.getValue());
+        }
+        metrics.recordBatch(batch.size(), persisted, oldestEnqueueTime);
+        if (log.isDebugEnabled()) {
+            log.debug("Persisted access token batch of size: " + batch.size() + ". Queue metrics: " + metrics);
+        }
+    }
+
+    private int persistForTenant(String tenantDomain, List<AccessContextTokenDO> tokens) {
+
+        // Token persistence resolves the application tenant from the carbon context of the issuing request.
+        PrivilegedCarbonContext.startTenantFlow();
+        int persisted = 0;
+        try {
+            if (StringUtils.isNotEmpty(tenantDomain)) {
+                PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain, true);
+            }
+            persisted = OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO().insertAccessTokens(tokens);
+        } catch (IdentityOAuth2Exception | RuntimeException e) {
+            // Keep the consumer alive, a failed batch must not stop the persistence of the following batches.
+            log.error("Error occurred while persisting a batch of " + tokens.size() + " access tokens of the " +
+                    "tenant: " + tenantDomain, e);
+        } finally {
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+        if (persisted < tokens.size()) {
+            tokens.stream().filter(token -> !token.isPersisted()).forEach(this::discard);
+        }
+        return persisted;
+    }
+
+    private void discard(AccessContextTokenDO accessContextTokenDO) {
+
+        log.error("Access token issued to the client: " + accessContextTokenDO.getConsumerKey() + " of the tenant: " +
+                accessContextTokenDO.getTenantDomain() + " could not be persisted. The token will not be accepted.");
+        AccessTokenDO accessTokenDO = accessContextTokenDO.getNewAccessTokenDO();
+        String tenantDomain = accessTokenDO != null && accessTokenDO.getAuthzUser() != null ?
+                accessTokenDO.getAuthzUser().getTenantDomain() : accessContextTokenDO.getTenantDomain();
+        OAuthUtil.clearOAuthCacheByTenant(accessContextTokenDO.getAccessToken(), tenantDomain);
     }
 }
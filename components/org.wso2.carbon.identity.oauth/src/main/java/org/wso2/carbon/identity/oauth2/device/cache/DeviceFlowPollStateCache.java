@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.device.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.common.cache.BaseCache;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.utils.CarbonUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the polling state of pending device codes so that token requests polling for a device code which is not
+ * yet authorized neither read nor update the device flow table. Entries are cleared on every status transition of
+ * the device code, after which the next poll is served from the database.
+ * <p>
+ * A poll which read the polling state before a status transition must not write it back after the transition cleared
+ * it, whether the transition happened on this node or reached it as a cluster cache invalidation. Each entry
+ * therefore carries a version. A poll which misses the cache first {@link #reserve reserves} the device code with a
+ * loading entry of a new version before it reads the database, and a poll writes the polling state through
+ * {@link #addToCacheIfUnchanged}, which skips the write unless the cache still holds the version the poll started
+ * from. A status transition clears the entry, so the version the poll started from is gone.
+ */
+public class DeviceFlowPollStateCache
+        extends BaseCache<DeviceAuthorizationGrantCacheKey, DeviceFlowPollStateCacheEntry> {
+
+    private static final String DEVICE_FLOW_POLL_STATE_CACHE_NAME = "DeviceFlowPollStateCache";
+    private static final String ENABLE = "OAuth.DeviceFlow.PollStateCache.Enable";
+    private static final int LOCK_STRIPES = 64;
+
+    private static final boolean enabled = Boolean.parseBoolean(IdentityUtil.getProperty(ENABLE));
+
+    private static volatile DeviceFlowPollStateCache instance;
+    private static final Log log = LogFactory.getLog(DeviceFlowPollStateCache.class);
+
+    private final AtomicLong versions = new AtomicLong();
+    private final Object[] locks = new Object[LOCK_STRIPES];
+
+    private DeviceFlowPollStateCache() {
+
+        super(DEVICE_FLOW_POLL_STATE_CACHE_NAME);
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    /**
+     * Return DeviceFlowPollStateCache instance.
+     *
+     * @return DeviceFlowPollStateCache instance.
+     */
+    public static DeviceFlowPollStateCache getInstance() {
+
+        CarbonUtils.checkSecurity();
+        if (instance == null) {
+            synchronized (DeviceFlowPollStateCache.class) {
+                if (instance == null) {
+                    instance = new DeviceFlowPollStateCache();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Check whether polling state of device codes should be kept in the cache.
+     *
+     * @return true if the poll state cache is enabled.
+     */
+    public static boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Reserve a device code which is not in the cache with a loading entry of a new version, before its polling state
+     * is read from the database.
+     *
+     * @param key Key of the device code.
+     * @return Version to be passed to {@link #addToCacheIfUnchanged} once the polling state is read.
+     */
+    public long reserve(DeviceAuthorizationGrantCacheKey key) {
+
+        long version = versions.incrementAndGet();
+        synchronized (getLock(key)) {
+            super.addToCache(key, DeviceFlowPollStateCacheEntry.loading(version));
+        }
+        return version;
+    }
+
+    /**
+     * Add the polling state of a device code unless the cache no longer holds the given version of it, because the
+     * status of the device code changed or another poll reserved it meanwhile.
+     *
+     * @param key       Key of the device code.
+     * @param pollState Polling state of the device code.
+     * @param version   Version of the entry the poll started from.
+     * @return true if the cache holds the polling state.
+     */
+    public boolean addToCacheIfUnchanged(DeviceAuthorizationGrantCacheKey key, DeviceFlowPollStateCacheEntry pollState,
+                                         long version) {
+
+        synchronized (getLock(key)) {
+            DeviceFlowPollStateCacheEntry cachedPollState = super.getValueFromCache(key);
+            if (cachedPollState == null || cachedPollState.getVersion() != version) {
+                return false;
+            }
+            if (cachedPollState != pollState) {
+                pollState.setVersion(version);
+                super.addToCache(key, pollState);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Clears the polling state of a device code.
+     *
+     * @param deviceCode Device code whose status changed.
+     */
+    public void clearCacheEntry(String deviceCode) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Clearing polling state of device_code: " + deviceCode);
+        }
+        DeviceAuthorizationGrantCacheKey key = new DeviceAuthorizationGrantCacheKey(deviceCode);
+        synchronized (getLock(key)) {
+            super.clearCacheEntry(key);
+        }
+    }
+
+    private Object getLock(DeviceAuthorizationGrantCacheKey key) {
+
+        return locks[(key.hashCode() & Integer.MAX_VALUE) % LOCK_STRIPES];
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.device.cache;
+
+import org.wso2.carbon.identity.oauth.cache.CacheEntry;
+import org.wso2.carbon.identity.oauth2.device.constants.Constants;
+
+/**
+ * Polling state of a device code which is still waiting for the user to complete the authorization.
+ * Only the last poll time changes between polls, so it is kept here instead of being written to the database.
+ * An entry without a status marks a device code whose polling state is being loaded from the database.
+ */
+public class DeviceFlowPollStateCacheEntry extends CacheEntry {
+
+    private static final long serialVersionUID = -2611562468153627306L;
+
+    private final String clientId;
+    private final String status;
+    private final long pollTime;
+    private final long expiryTime;
+    private long lastPollTime;
+    private volatile long version;
+
+    public DeviceFlowPollStateCacheEntry(String clientId, String status, long lastPollTime, long pollTime,
+                                         long expiryTime) {
+
+        this.clientId = clientId;
+        this.status = status;
+        this.lastPollTime = lastPollTime;
+        this.pollTime = pollTime;
+        this.expiryTime = expiryTime;
+    }
+
+    /**
+     * Create the entry of a device code whose polling state is being loaded from the database.
+     *
+     * @param version Version of the entry.
+     * @return Loading entry.
+     */
+    static DeviceFlowPollStateCacheEntry loading(long version) {
+
+        DeviceFlowPollStateCacheEntry pollState = new DeviceFlowPollStateCacheEntry(null, null, 0, 0, 0);
+        pollState.setVersion(version);
+        return pollState;
+    }
+
+    public String getClientId() {
+
+        return clientId;
+    }
+
+    public String getStatus() {
+
+        return status;
+    }
+
+    public long getLastPollTime() {
+
+        return lastPollTime;
+    }
+
+    public long getPollTime() {
+
+        return pollTime;
+    }
+
+    public long getExpiryTime() {
+
+        return expiryTime;
+    }
+
+    public long getVersion() {
+
+        return version;
+    }
+
+    void setVersion(long version) {
+
+        this.version = version;
+    }
+
+    /**
+     * Check whether the polling state of the device code is still being loaded from the database.
+     *
+     * @return true if this is a loading entry.
+     */
+    public boolean isLoading() {
+
+        return status == null;
+    }
+
+    /**
+     * Record a poll of the device code and return the polling status to be reported to the client.
+     *
+     * @param newPollTime Time of the new poll request.
+     * @return {@link Constants#SLOW_DOWN} if the client polls faster than the polling interval, the pending status of
+     * the device code otherwise or null if the device code has expired and the database has to be consulted.
+     */
+    public synchronized String registerPoll(long newPollTime) {
+
+        if (expiryTime < newPollTime) {
+            return null;
+        }
+        boolean withinValidPollInterval = newPollTime - lastPollTime > pollTime;
+        lastPollTime = newPollTime;
+        return withinValidPollInterval ? status : Constants.SLOW_DOWN;
+    }
+
+    /**
+     * Check whether the polling state of a device code with the given status can be served from the cache.
+     *
+     * @param status Status of the device code.
+     * @return true if the device code is still waiting for the user.
+     */
+    public static boolean isPendingStatus(String status) {
+
+        return Constants.PENDING.equals(status) || Constants.USED.equals(status);
+    }
+}
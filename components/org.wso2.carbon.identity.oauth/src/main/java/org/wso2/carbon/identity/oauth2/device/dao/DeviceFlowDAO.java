@@ -117,6 +117,20 @@ public interface DeviceFlowDAO {
         throw new NotImplementedException("Not Implemented.");
     }
 
+    /**
+     * Get the polling state of a device code without resolving the authorized user or scopes.
+     *
+     * @param deviceCode Code that is used to identify the device.
+     * @param clientId   Consumer key of the application.
+     * @return Device flow DO with the status, last poll time, polling interval and expiry time or null if the device
+     * code does not exist for the client.
+     * @throws IdentityOAuth2Exception Error while getting the polling state.
+     */
+    default DeviceFlowDO getPollingState(String deviceCode, String clientId) throws IdentityOAuth2Exception {
+
+        return null;
+    }
+
     /**
      * Get the authentication status for device code.
      * @deprecated
@@ -32,12 +32,15 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.device.cache.DeviceFlowPollStateCache;
+import org.wso2.carbon.identity.oauth2.device.cache.DeviceFlowPollStateCacheEntry;
 import org.wso2.carbon.identity.oauth2.device.codegenerator.GenerateKeys;
 import org.wso2.carbon.identity.oauth2.device.constants.Constants;
 import org.wso2.carbon.identity.oauth2.device.errorcodes.DeviceErrorCodes;
 import org.wso2.carbon.identity.oauth2.device.model.DeviceFlowDO;
 import org.wso2.carbon.identity.oauth2.device.util.DeviceFlowUtil;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
+import org.wso2.carbon.identity.oauth2.token.poll.AuthorizationCompletionNotifier;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 
 import java.sql.Connection;
@@ -142,6 +145,7 @@ public class DeviceFlowDAOImpl implements DeviceFlowDAO {
             throw new IdentityOAuth2Exception("Error when setting the authentication status for the user_code: " +
                     DigestUtils.sha256Hex(userCode), e);
         }
+        handleStatusChangeOfUserCode(userCode, false);
     }
 
     @Override
@@ -167,6 +171,7 @@ public class DeviceFlowDAOImpl implements DeviceFlowDAO {
             throw new IdentityOAuth2Exception("Error when setting the authentication status for the user_code: " +
                     userCode, e);
         }
+        handleStatusChangeOfUserCode(userCode, !DeviceFlowPollStateCacheEntry.isPendingStatus(status));
     }
 
     @Override
@@ -250,6 +255,36 @@ public class DeviceFlowDAOImpl implements DeviceFlowDAO {
         }
     }
 
+    @Override
+    public DeviceFlowDO getPollingState(String deviceCode, String clientId) throws IdentityOAuth2Exception {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Getting polling state for device_code: " + deviceCode);
+        }
+        try (Connection connection = IdentityDatabaseUtil.getDBConnection(false);
+             PreparedStatement prepStmt =
+                     connection.prepareStatement(SQLQueries.DeviceFlowDAOSQLQueries.GET_POLLING_STATE)) {
+            prepStmt.setString(1, deviceCode);
+            prepStmt.setString(2, clientId);
+            try (ResultSet resultSet = prepStmt.executeQuery()) {
+                if (!resultSet.next()) {
+                    return null;
+                }
+                DeviceFlowDO deviceFlowDO = new DeviceFlowDO();
+                deviceFlowDO.setDeviceCode(deviceCode);
+                deviceFlowDO.setStatus(resultSet.getString(1));
+                deviceFlowDO.setLastPollTime(resultSet.getTimestamp(2,
+                        Calendar.getInstance(TimeZone.getTimeZone(Constants.UTC))));
+                deviceFlowDO.setPollTime(resultSet.getLong(3));
+                deviceFlowDO.setExpiryTime(resultSet.getTimestamp(4,
+                        Calendar.getInstance(TimeZone.getTimeZone(Constants.UTC))));
+                return deviceFlowDO;
+            }
+        } catch (SQLException e) {
+            throw new IdentityOAuth2Exception("Error when getting polling state for device_code: " + deviceCode, e);
+        }
+    }
+
     private void handleAuthorizationPending(String deviceStatus, Timestamp newPollTime, DeviceFlowDO deviceFlowDO)
             throws IdentityOAuth2Exception {
 
@@ -426,6 +461,7 @@ public class DeviceFlowDAOImpl implements DeviceFlowDAO {
             throw new IdentityOAuth2Exception("Error when setting authenticated user for user_code: " +
                     userCode, e);
         }
+        handleStatusChangeOfUserCode(userCode, true);
     }
 
     @Override
@@ -450,6 +486,7 @@ public class DeviceFlowDAOImpl implements DeviceFlowDAO {
             throw new IdentityOAuth2Exception("Error when setting expired status for device_code: " +
                     deviceCode, e);
         }
+        handleStatusChange(deviceCode, true);
     }
 
     @Override
@@ -730,6 +767,42 @@ public class DeviceFlowDAOImpl implements DeviceFlowDAO {
         return scopeSet;
     }
 
+    /**
+     * Propagate a status change of the device code correlated with the user code.
+     *
+     * @param userCode  Code that is used to correlate user and device.
+     * @param completed Whether the device code left the pending state.
+     * @throws IdentityOAuth2Exception Error while getting device code for user code.
+     */
+    private void handleStatusChangeOfUserCode(String userCode, boolean completed) throws IdentityOAuth2Exception {
+
+        if (!DeviceFlowPollStateCache.isEnabled()
+                && !(completed && AuthorizationCompletionNotifier.getInstance().isEnabled())) {
+            return;
+        }
+        Optional<String> deviceCode = getDeviceCodeForUserCode(userCode);
+        if (deviceCode.isPresent()) {
+            handleStatusChange(deviceCode.get(), completed);
+        }
+    }
+
+    /**
+     * Clear the cached polling state of the device code, so that the next poll of the device observes the new
+     * status from the database, and wake the token requests waiting for the device code if it left the pending state.
+     *
+     * @param deviceCode Code that is used to identify the device.
+     * @param completed  Whether the device code left the pending state.
+     */
+    private void handleStatusChange(String deviceCode, boolean completed) {
+
+        if (DeviceFlowPollStateCache.isEnabled()) {
+            DeviceFlowPollStateCache.getInstance().clearCacheEntry(deviceCode);
+        }
+        if (completed) {
+            AuthorizationCompletionNotifier.getInstance().notifyCompletion(deviceCode);
+        }
+    }
+
     /**
      * This checks whether polling frequency is correct or not.
      *
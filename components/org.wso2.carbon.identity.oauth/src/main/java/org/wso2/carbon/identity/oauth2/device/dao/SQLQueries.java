@@ -58,6 +58,12 @@ public class SQLQueries {
                 "IDN_OAUTH_CONSUMER_APPS on IDN_OAUTH_CONSUMER_APPS.ID = IDN_OAUTH2_DEVICE_FLOW.CONSUMER_KEY_ID " +
                 "WHERE DEVICE_CODE = ? AND IDN_OAUTH_CONSUMER_APPS.CONSUMER_KEY = ?";
 
+        public static final String GET_POLLING_STATE = "SELECT IDN_OAUTH2_DEVICE_FLOW.STATUS, " +
+                "IDN_OAUTH2_DEVICE_FLOW.LAST_POLL_TIME, IDN_OAUTH2_DEVICE_FLOW.POLL_TIME, " +
+                "IDN_OAUTH2_DEVICE_FLOW.EXPIRY_TIME FROM IDN_OAUTH2_DEVICE_FLOW INNER JOIN " +
+                "IDN_OAUTH_CONSUMER_APPS on IDN_OAUTH_CONSUMER_APPS.ID = IDN_OAUTH2_DEVICE_FLOW.CONSUMER_KEY_ID " +
+                "WHERE DEVICE_CODE = ? AND IDN_OAUTH_CONSUMER_APPS.CONSUMER_KEY = ?";
+
         public static final String CHECK_CLIENT_ID_EXISTS = "SELECT CONSUMER_KEY FROM IDN_OAUTH_CONSUMER_APPS WHERE " +
                 "CONSUMER_KEY = ? AND TENANT_ID = ?";
 
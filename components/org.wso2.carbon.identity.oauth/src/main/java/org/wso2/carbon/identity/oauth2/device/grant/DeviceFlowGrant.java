@@ -23,6 +23,9 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.device.cache.DeviceAuthorizationGrantCacheKey;
+import org.wso2.carbon.identity.oauth2.device.cache.DeviceFlowPollStateCache;
+import org.wso2.carbon.identity.oauth2.device.cache.DeviceFlowPollStateCacheEntry;
 import org.wso2.carbon.identity.oauth2.device.constants.Constants;
 import org.wso2.carbon.identity.oauth2.device.dao.DeviceFlowPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.device.errorcodes.DeviceErrorCodes;
@@ -31,6 +34,7 @@ import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenRespDTO;
 import org.wso2.carbon.identity.oauth2.model.RequestParameter;
 import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
 import org.wso2.carbon.identity.oauth2.token.handlers.grant.AbstractAuthorizationGrantHandler;
+import org.wso2.carbon.identity.oauth2.token.poll.AuthorizationCompletionNotifier;
 
 import java.sql.Timestamp;
 import java.util.Date;
@@ -50,8 +54,6 @@ public class DeviceFlowGrant extends AbstractAuthorizationGrantHandler {
         RequestParameter[] parameters = oAuthTokenReqMessageContext.getOauth2AccessTokenReqDTO().getRequestParameters();
         String deviceCode = null;
         String clientId = oAuthTokenReqMessageContext.getOauth2AccessTokenReqDTO().getClientId();
-        String deviceStatus = null;
-        DeviceFlowDO deviceFlowDO = null;
 
         for (RequestParameter parameter : parameters) {
             if (Constants.DEVICE_CODE.equals(parameter.getKey()) && StringUtils.isNotBlank(parameter.getValue()[0])) {
@@ -63,6 +65,38 @@ public class DeviceFlowGrant extends AbstractAuthorizationGrantHandler {
         if (log.isDebugEnabled()) {
             log.debug("Getting ready to release token for device_code: " + deviceCode);
         }
+        try {
+            return validateDeviceCode(oAuthTokenReqMessageContext, deviceCode, clientId);
+        } catch (IdentityOAuth2Exception e) {
+            if (!DeviceErrorCodes.SubDeviceErrorCodes.AUTHORIZATION_PENDING.equals(e.getErrorCode())
+                    || !AuthorizationCompletionNotifier.getInstance().awaitCompletion(deviceCode)) {
+                throw e;
+            }
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Authorization completed while waiting for device_code: " + deviceCode);
+        }
+        try {
+            return validateDeviceCode(oAuthTokenReqMessageContext, deviceCode, clientId);
+        } catch (IdentityOAuth2Exception e) {
+            if (DeviceErrorCodes.SubDeviceErrorCodes.SLOW_DOWN.equals(e.getErrorCode())) {
+                // The poll that waited already counted towards the polling interval of the client.
+                throw new IdentityOAuth2Exception(DeviceErrorCodes.SubDeviceErrorCodes.AUTHORIZATION_PENDING,
+                        DeviceErrorCodes.SubDeviceErrorCodesDescriptions.AUTHORIZATION_PENDING);
+            }
+            throw e;
+        }
+    }
+
+    private boolean validateDeviceCode(OAuthTokenReqMessageContext oAuthTokenReqMessageContext, String deviceCode,
+                                       String clientId) throws IdentityOAuth2Exception {
+
+        String deviceStatus = null;
+        DeviceFlowDO deviceFlowDO = null;
+        if (DeviceFlowPollStateCache.isEnabled() && deviceCode != null) {
+            handlePendingPoll(deviceCode, clientId);
+        }
 
         try {
             deviceFlowDO = DeviceFlowPersistenceFactory.getInstance().getDeviceFlowDAO()
@@ -87,6 +121,69 @@ public class DeviceFlowGrant extends AbstractAuthorizationGrantHandler {
         return false;
     }
 
+    /**
+     * Serve the poll of a device code which is still pending from the poll state cache, without reading or writing
+     * the device flow table. Returns without throwing if the poll has to be served from the database.
+     *
+     * @param deviceCode Code that is used to identify the device.
+     * @param clientId   Consumer key of the application.
+     * @throws IdentityOAuth2Exception Authorization pending or slow down error for a pending device code.
+     */
+    private void handlePendingPoll(String deviceCode, String clientId) throws IdentityOAuth2Exception {
+
+        DeviceFlowPollStateCache pollStateCache = DeviceFlowPollStateCache.getInstance();
+        DeviceAuthorizationGrantCacheKey cacheKey = new DeviceAuthorizationGrantCacheKey(deviceCode);
+        DeviceFlowPollStateCacheEntry pollState = pollStateCache.getValueFromCache(cacheKey);
+        long version;
+        if (pollState == null) {
+            version = pollStateCache.reserve(cacheKey);
+            pollState = loadPollState(deviceCode, clientId);
+            if (pollState == null) {
+                return;
+            }
+        } else if (pollState.isLoading() || !StringUtils.equals(clientId, pollState.getClientId())) {
+            return;
+        } else {
+            version = pollState.getVersion();
+        }
+
+        String pollStatus = pollState.registerPoll(System.currentTimeMillis());
+        if (pollStatus == null) {
+            // Let the database path mark the device code as expired.
+            pollStateCache.clearCacheEntry(deviceCode);
+            return;
+        }
+        if (!pollStateCache.addToCacheIfUnchanged(cacheKey, pollState, version)) {
+            // The status of a device code changed while polling, so the polling state read may be stale.
+            if (log.isDebugEnabled()) {
+                log.debug("Polling state of device_code: " + deviceCode + " changed while polling. Serving the " +
+                        "poll from the database.");
+            }
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Served poll of device_code: " + deviceCode + " from the poll state cache with status: " +
+                    pollStatus);
+        }
+        String errorCode = Constants.SLOW_DOWN.equals(pollStatus) ? DeviceErrorCodes.SubDeviceErrorCodes.SLOW_DOWN :
+                DeviceErrorCodes.SubDeviceErrorCodes.AUTHORIZATION_PENDING;
+        handleInvalidRequests(new IdentityOAuth2Exception(errorCode, pollStatus));
+    }
+
+    private DeviceFlowPollStateCacheEntry loadPollState(String deviceCode, String clientId)
+            throws IdentityOAuth2Exception {
+
+        DeviceFlowDO pollingState = DeviceFlowPersistenceFactory.getInstance().getDeviceFlowDAO()
+                .getPollingState(deviceCode, clientId);
+        if (pollingState == null || !DeviceFlowPollStateCacheEntry.isPendingStatus(pollingState.getStatus())
+                || pollingState.getExpiryTime() == null) {
+            return null;
+        }
+        long lastPollTime = pollingState.getLastPollTime() != null ? pollingState.getLastPollTime().getTime() : 0;
+        return new DeviceFlowPollStateCacheEntry(clientId, pollingState.getStatus(), lastPollTime,
+                pollingState.getPollTime(), pollingState.getExpiryTime().getTime());
+    }
+
     private void setLastPollTime(String deviceCode)
             throws IdentityOAuth2Exception {
 
@@ -51,6 +51,7 @@ import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 import org.wso2.carbon.identity.handler.event.account.lock.service.AccountLockService;
+import org.wso2.carbon.identity.oauth.action.execution.PreIssueAccessTokenActionMetrics;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth.common.token.bindings.TokenBinderInfo;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
@@ -73,6 +74,7 @@ import org.wso2.carbon.identity.oauth2.client.authentication.OAuthClientAuthenti
 import org.wso2.carbon.identity.oauth2.client.authentication.OAuthClientAuthnService;
 import org.wso2.carbon.identity.oauth2.client.authentication.PublicClientAuthenticator;
 import org.wso2.carbon.identity.oauth2.dao.AccessTokenDAO;
+import org.wso2.carbon.identity.oauth2.dao.AsyncTokenPersistenceManager;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.dao.TokenManagementDAO;
 import org.wso2.carbon.identity.oauth2.device.api.DeviceAuthService;
@@ -93,6 +95,9 @@ import org.wso2.carbon.identity.oauth2.rar.core.AuthorizationDetailsProcessorFac
 import org.wso2.carbon.identity.oauth2.rar.token.AccessTokenResponseRARHandler;
 import org.wso2.carbon.identity.oauth2.rar.token.IntrospectionRARDataProvider;
 import org.wso2.carbon.identity.oauth2.rar.token.JWTAccessTokenRARClaimProvider;
+import org.wso2.carbon.identity.oauth2.revocation.BulkTokenRevoker;
+import org.wso2.carbon.identity.oauth2.revocation.RevokedTokenIndex;
+import org.wso2.carbon.identity.oauth2.revocation.RevokedTokenPropagator;
 import org.wso2.carbon.identity.oauth2.scopeservice.APIResourceBasedScopeMetadataService;
 import org.wso2.carbon.identity.oauth2.scopeservice.ScopeMetadataService;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinder;
@@ -106,15 +111,21 @@ import org.wso2.carbon.identity.oauth2.token.handlers.claims.ImpersonatedAccessT
 import org.wso2.carbon.identity.oauth2.token.handlers.claims.JWTAccessTokenClaimProvider;
 import org.wso2.carbon.identity.oauth2.token.handlers.response.AccessTokenResponseHandler;
 import org.wso2.carbon.identity.oauth2.token.handlers.response.FederatedTokenResponseHandler;
+import org.wso2.carbon.identity.oauth2.token.lock.TokenIssuanceLockManager;
+import org.wso2.carbon.identity.oauth2.util.AppInformationLoader;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.identity.oauth2.validators.jwt.JWKSetManager;
+import org.wso2.carbon.identity.oauth2.validators.jwt.JWKSourceDataProvider;
 import org.wso2.carbon.identity.oauth2.validators.scope.RoleBasedScopeIssuer;
 import org.wso2.carbon.identity.oauth2.validators.scope.ScopeValidator;
 import org.wso2.carbon.identity.oauth2.validators.validationhandler.ScopeValidationHandler;
 import org.wso2.carbon.identity.oauth2.validators.validationhandler.impl.M2MScopeValidationHandler;
 import org.wso2.carbon.identity.oauth2.validators.validationhandler.impl.NoPolicyScopeValidationHandler;
 import org.wso2.carbon.identity.oauth2.validators.validationhandler.impl.RoleBasedScopeValidationHandler;
+import org.wso2.carbon.identity.openidconnect.ClaimResolutionExecutor;
 import org.wso2.carbon.identity.openidconnect.OpenIDConnectClaimFilter;
 import org.wso2.carbon.identity.openidconnect.OpenIDConnectClaimFilterImpl;
+import org.wso2.carbon.identity.openidconnect.cache.OIDCDiscoveryDocumentCache;
 import org.wso2.carbon.identity.openidconnect.dao.ScopeClaimMappingDAO;
 import org.wso2.carbon.identity.openidconnect.dao.ScopeClaimMappingDAOImpl;
 import org.wso2.carbon.identity.organization.management.role.management.service.RoleManager;
@@ -477,6 +488,21 @@ public class OAuth2ServiceComponent {
                 || OAuthServerConfiguration.getInstance().isUseLegacyPermissionAccessForUserBasedAuth()) {
             initializeLegacyScopeToNewScopeMappings();
         }
+        AsyncTokenPersistenceManager.getInstance().start();
+        JWKSourceDataProvider.getInstance().prefetchJWKSources();
+    }
+
+    protected void deactivate(ComponentContext context) {
+
+        AsyncTokenPersistenceManager.getInstance().shutdown();
+        BulkTokenRevoker.getInstance().shutdown();
+        AppInformationLoader.getInstance().shutdown();
+        ClaimResolutionExecutor.getInstance().shutdown();
+        JWKSetManager.getInstance().shutdown();
+        PreIssueAccessTokenActionMetrics.getInstance().shutdown();
+        if (log.isDebugEnabled()) {
+            log.debug("Identity OAuth2ServiceComponent bundle is deactivated.");
+        }
     }
 
     /**
@@ -767,6 +793,55 @@ public class OAuth2ServiceComponent {
         }
     }
 
+    @Reference(
+            name = "oauth.revoked.token.propagator",
+            service = RevokedTokenPropagator.class,
+            cardinality = ReferenceCardinality.OPTIONAL,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetRevokedTokenPropagator"
+    )
+    protected void setRevokedTokenPropagator(RevokedTokenPropagator revokedTokenPropagator) {
+
+        revokedTokenPropagator.setListener(RevokedTokenIndex.getInstance());
+        OAuth2ServiceComponentHolder.getInstance().setRevokedTokenPropagator(revokedTokenPropagator);
+        if (log.isDebugEnabled()) {
+            log.debug("Revoked token propagator got registered: " + revokedTokenPropagator.getClass().getName());
+        }
+    }
+
+    protected void unsetRevokedTokenPropagator(RevokedTokenPropagator revokedTokenPropagator) {
+
+        revokedTokenPropagator.setListener(null);
+        OAuth2ServiceComponentHolder.getInstance().setRevokedTokenPropagator(null);
+        if (log.isDebugEnabled()) {
+            log.debug("Revoked token propagator got removed: " + revokedTokenPropagator.getClass().getName());
+        }
+    }
+
+    @Reference(
+            name = "oauth.token.issuance.lock.manager",
+            service = TokenIssuanceLockManager.class,
+            cardinality = ReferenceCardinality.OPTIONAL,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "unsetTokenIssuanceLockManager"
+    )
+    protected void setTokenIssuanceLockManager(TokenIssuanceLockManager tokenIssuanceLockManager) {
+
+        OAuth2ServiceComponentHolder.getInstance().setTokenIssuanceLockManager(tokenIssuanceLockManager);
+        if (log.isDebugEnabled()) {
+            log.debug("Token issuance lock manager got registered: " +
+                    tokenIssuanceLockManager.getClass().getName());
+        }
+    }
+
+    protected void unsetTokenIssuanceLockManager(TokenIssuanceLockManager tokenIssuanceLockManager) {
+
+        OAuth2ServiceComponentHolder.getInstance().setTokenIssuanceLockManager(null);
+        if (log.isDebugEnabled()) {
+            log.debug("Token issuance lock manager got removed: " + tokenIssuanceLockManager.getClass().getName());
+        }
+    }
+
     @Reference(
             name = "carbon.organization.management.role.management.component",
             service = RoleManager.class,
@@ -1728,6 +1803,7 @@ public class OAuth2ServiceComponent {
             log.debug("Registering the AuthorizationDetailsProcessor service.");
         }
         AuthorizationDetailsProcessorFactory.getInstance().setAuthorizationDetailsProcessors(processor);
+        OIDCDiscoveryDocumentCache.invalidateAll();
     }
 
     /**
@@ -1741,6 +1817,7 @@ public class OAuth2ServiceComponent {
             log.debug("Unregistering the AuthorizationDetailsProcessor service.");
         }
         AuthorizationDetailsProcessorFactory.getInstance().setAuthorizationDetailsProcessors(null);
+        OIDCDiscoveryDocumentCache.invalidateAll();
     }
 
     /**
@@ -52,8 +52,11 @@ import org.wso2.carbon.identity.oauth2.rar.AuthorizationDetailsService;
 import org.wso2.carbon.identity.oauth2.rar.validator.AuthorizationDetailsValidator;
 import org.wso2.carbon.identity.oauth2.rar.validator.DefaultAuthorizationDetailsValidator;
 import org.wso2.carbon.identity.oauth2.responsemode.provider.ResponseModeProvider;
+import org.wso2.carbon.identity.oauth2.revocation.RevokedTokenPropagator;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinder;
 import org.wso2.carbon.identity.oauth2.token.handlers.claims.JWTAccessTokenClaimProvider;
+import org.wso2.carbon.identity.oauth2.token.lock.TokenIssuanceLockManager;
+import org.wso2.carbon.identity.oauth2.token.lock.TokenIssuanceLockManagerFactory;
 import org.wso2.carbon.identity.openidconnect.ClaimProvider;
 import org.wso2.carbon.identity.openidconnect.dao.ScopeClaimMappingDAO;
 import org.wso2.carbon.identity.organization.management.role.management.service.RoleManager;
@@ -136,6 +139,9 @@ public class OAuth2ServiceComponentHolder {
     private AuthorizationDetailsValidator authorizationDetailsValidator;
     private AuthorizationDetailsTypeManager authorizationDetailsTypeManager;
     private AuthorizationDetailsSchemaValidator authorizationDetailsSchemaValidator;
+    private RevokedTokenPropagator revokedTokenPropagator;
+    private volatile TokenIssuanceLockManager tokenIssuanceLockManager;
+    private volatile TokenIssuanceLockManager defaultTokenIssuanceLockManager;
 
     private OAuth2ServiceComponentHolder() {
 
@@ -1028,4 +1034,55 @@ public class OAuth2ServiceComponentHolder {
 
         this.authorizationDetailsSchemaValidator = schemaValidator;
     }
+
+    /**
+     * Get the {@link RevokedTokenPropagator} used to propagate the token revocations to the other nodes.
+     *
+     * @return Registered {@link RevokedTokenPropagator}, or null if the revocations are not propagated.
+     */
+    public RevokedTokenPropagator getRevokedTokenPropagator() {
+
+        return revokedTokenPropagator;
+    }
+
+    /**
+     * Set the {@link RevokedTokenPropagator} used to propagate the token revocations to the other nodes.
+     *
+     * @param revokedTokenPropagator A {@link RevokedTokenPropagator} instance.
+     */
+    public void setRevokedTokenPropagator(RevokedTokenPropagator revokedTokenPropagator) {
+
+        this.revokedTokenPropagator = revokedTokenPropagator;
+    }
+
+    /**
+     * Get the {@link TokenIssuanceLockManager} which serializes the issuance of the tokens. The lock manager
+     * registered as an OSGi service is preferred over the configured lock manager.
+     *
+     * @return Token issuance lock manager.
+     */
+    public TokenIssuanceLockManager getTokenIssuanceLockManager() {
+
+        if (tokenIssuanceLockManager != null) {
+            return tokenIssuanceLockManager;
+        }
+        if (defaultTokenIssuanceLockManager == null) {
+            synchronized (this) {
+                if (defaultTokenIssuanceLockManager == null) {
+                    defaultTokenIssuanceLockManager = TokenIssuanceLockManagerFactory.createLockManager();
+                }
+            }
+        }
+        return defaultTokenIssuanceLockManager;
+    }
+
+    /**
+     * Set the {@link TokenIssuanceLockManager} which serializes the issuance of the tokens.
+     *
+     * @param tokenIssuanceLockManager A {@link TokenIssuanceLockManager} instance.
+     */
+    public void setTokenIssuanceLockManager(TokenIssuanceLockManager tokenIssuanceLockManager) {
+
+        this.tokenIssuanceLockManager = tokenIssuanceLockManager;
+    }
 }
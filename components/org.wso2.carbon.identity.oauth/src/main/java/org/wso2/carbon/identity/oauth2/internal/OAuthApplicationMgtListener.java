@@ -61,6 +61,8 @@ import org.wso2.carbon.identity.oauth2.IdentityOAuth2ScopeConsentException;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
+import org.wso2.carbon.identity.oauth2.revocation.BulkRevocationProgress;
+import org.wso2.carbon.identity.oauth2.revocation.BulkTokenRevoker;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 
 import java.io.ByteArrayInputStream;
@@ -493,53 +495,6 @@ public class OAuthApplicationMgtListener extends AbstractApplicationMgtListener
         }
     }
 
-    /**
-     * Clear the cache entries against the token.
-     *
-     * @param accessTokenDOSet Set of access token DO.
-     * @param consumerKey      Consumer key of the application.
-     * @param tenantDomain     Tenant domain of the application.
-     *
-     * @throws IdentityOAuth2Exception IdentityOAuth2Exception.
-     */
-    private void clearCacheEntriesAgainstTokenByConsumerKey(Set<AccessTokenDO> accessTokenDOSet, String consumerKey,
-                                                            String tenantDomain) throws IdentityOAuth2Exception {
-
-        AppInfoCache appInfoCache = AppInfoCache.getInstance();
-        appInfoCache.clearCacheEntry(consumerKey, tenantDomain);
-        OAuthCache.getInstance().clearCacheEntry(new OAuthCacheKey(consumerKey));
-        if (isNotEmpty(accessTokenDOSet)) {
-            for (AccessTokenDO accessTokenDo : accessTokenDOSet) {
-                String tokenBindingReference = "NONE";
-                if (accessTokenDo.getTokenBinding() != null && StringUtils
-                        .isNotBlank(accessTokenDo.getTokenBinding().getBindingReference())) {
-                    tokenBindingReference = accessTokenDo.getTokenBinding().getBindingReference();
-                }
-                // Remove access token from OAuthCache.
-                OAuthUtil.clearOAuthCache(accessTokenDo.getConsumerKey(), accessTokenDo.getAuthzUser(),
-                        OAuth2Util.buildScopeString(accessTokenDo.getScope()), tokenBindingReference);
-                OAuthUtil.clearOAuthCache(accessTokenDo.getConsumerKey(), accessTokenDo.getAuthzUser(),
-                        OAuth2Util.buildScopeString(accessTokenDo.getScope()));
-                OAuthUtil.clearOAuthCache(accessTokenDo.getConsumerKey(), accessTokenDo.getAuthzUser());
-                OAuthUtil.clearOAuthCache(accessTokenDo);
-            }
-
-            Set<String> accessTokens = OAuthTokenPersistenceFactory.getInstance()
-                    .getAccessTokenDAO().getActiveTokensByConsumerKey(consumerKey);
-            for (String accessToken : accessTokens) {
-                // Remove access token from AuthorizationGrantCache
-                AuthorizationGrantCacheKey grantCacheKey = new AuthorizationGrantCacheKey(accessToken);
-                AuthorizationGrantCache.getInstance().clearCacheEntryByToken(grantCacheKey);
-                OAuthCacheKey oauthCacheKey = new OAuthCacheKey(accessToken);
-                CacheEntry oauthCacheEntry = OAuthCache.getInstance().getValueFromCache(oauthCacheKey);
-                if (oauthCacheEntry != null) {
-                    OAuthCache.getInstance().clearCacheEntry(oauthCacheKey);
-                    OAuthCache.getInstance().clearCacheEntry(oauthCacheKey, tenantDomain);
-                }
-            }
-        }
-    }
-
     /**
      * Clear the cache entries against the authorization code.
      *
@@ -741,21 +696,16 @@ public class OAuthApplicationMgtListener extends AbstractApplicationMgtListener
                     .equalsIgnoreCase(config.getInboundAuthType()) &&
                     config.getInboundAuthKey() != null) {
                 String oauthKey = config.getInboundAuthKey();
-                int countToken = 0;
-                Set<AccessTokenDO> activeDetailedTokens;
+                AppInfoCache.getInstance().clearCacheEntry(oauthKey, tenantDomain);
+                OAuthCache.getInstance().clearCacheEntry(new OAuthCacheKey(oauthKey));
                 try {
-                    activeDetailedTokens = OAuthTokenPersistenceFactory
-                            .getInstance().getAccessTokenDAO().getActiveAcessTokenDataByConsumerKey(oauthKey);
-                    String[] accessTokens = new String[activeDetailedTokens.size()];
-                    for (AccessTokenDO detailToken : activeDetailedTokens) {
-                        String token = detailToken.getAccessToken();
-                        accessTokens[countToken] = token;
-                        countToken++;
+                    BulkRevocationProgress progress = BulkTokenRevoker.getInstance().revokeTokensOfApplication(
+                            oauthKey, tenantDomain);
+                    if (log.isDebugEnabled()) {
+                        log.debug("Revoking the access tokens of the disabled application. Progress: " +
+                                progress);
                     }
-                    clearCacheEntriesAgainstTokenByConsumerKey(activeDetailedTokens, oauthKey, tenantDomain);
-                    OAuthTokenPersistenceFactory.getInstance().getTokenManagementDAO()
-                            .revokeTokens(oauthKey, accessTokens);
-                } catch (IdentityOAuth2Exception | IdentityApplicationManagementException e) {
+                } catch (IdentityOAuth2Exception e) {
                     throw new IdentityApplicationManagementException("Error occurred while revoking tokens and " +
                             "authz code for client ID: " + config.getInboundAuthKey() + " and tenant domain: " +
                             tenantDomain, e);
@@ -24,9 +24,13 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.oauth.OAuthUtil;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.dao.AccessTokenDAO;
+import org.wso2.carbon.identity.oauth2.dao.AccessTokenPager;
+import org.wso2.carbon.identity.oauth2.dao.AccessTokenPager.AccessTokenPageHandler;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
+import org.wso2.carbon.identity.oauth2.revocation.BulkTokenRevoker;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
@@ -36,7 +40,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.TokenBindings.NONE;
 
@@ -49,62 +52,40 @@ public class OAuthTenantMgtListenerImpl extends AbstractIdentityTenantMgtListene
     public void onPreDelete(int tenantId) throws StratosException {
 
         clearTokenData(tenantId);
+        OAuth2Util.clearSigningKeyCache(tenantId);
     }
 
     @Override
     public void onTenantDeactivation(int tenantId) throws StratosException {
 
         clearTokenData(tenantId);
+        OAuth2Util.clearSigningKeyCache(tenantId);
     }
 
     private void clearTokenData(int tenantId) throws StratosException {
 
         try {
-            Set<AccessTokenDO> accessTokenDOs = OAuthTokenPersistenceFactory.getInstance()
-                    .getAccessTokenDAO().getAccessTokensByTenant(tenantId);
-            String organizationId =
-                    OAuth2ServiceComponentHolder.getInstance().getOrganizationManager().resolveOrganizationId(
-                            IdentityTenantUtil.getTenantDomain(tenantId));
-            Set<AccessTokenDO> accessTokensByAuthorizedOrg =
-                    OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
-                            .getAccessTokensByAuthorizedOrg(organizationId);
-            accessTokenDOs.addAll(accessTokensByAuthorizedOrg);
-
+            String tenantDomain = IdentityTenantUtil.getTenantDomain(tenantId);
+            String organizationId = OAuth2ServiceComponentHolder.getInstance().getOrganizationManager()
+                    .resolveOrganizationId(tenantDomain);
+            AccessTokenDAO accessTokenDAO = OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO();
             Map<String, AccessTokenDO> latestAccessTokens = new HashMap<>();
-            for (AccessTokenDO accessTokenDO : accessTokenDOs) {
-                String keyString = accessTokenDO.getConsumerKey() + ":" + accessTokenDO.getAuthzUser() + ":" +
-                        OAuth2Util.buildScopeString(accessTokenDO.getScope()) + ":"
-                        + accessTokenDO.getAuthzUser().getFederatedIdPName();
-                AccessTokenDO accessTokenDOFromMap = latestAccessTokens.get(keyString);
-                if (accessTokenDOFromMap != null) {
-                    if (accessTokenDOFromMap.getIssuedTime().before(accessTokenDO.getIssuedTime())) {
-                        latestAccessTokens.put(keyString, accessTokenDO);
+            AccessTokenPageHandler pageHandler = accessTokens -> {
+                for (AccessTokenDO accessTokenDO : accessTokens) {
+                    AccessTokenDO supersededToken = trackLatestToken(accessTokenDO, latestAccessTokens);
+                    if (supersededToken != null) {
+                        clearTokenCache(supersededToken);
                     }
-                } else {
-                    latestAccessTokens.put(keyString, accessTokenDO);
                 }
-
-                //Clear cache
-                OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
-                        OAuth2Util.buildScopeString(accessTokenDO.getScope()));
-                OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser());
-                OAuthUtil.clearOAuthCache(accessTokenDO);
-                TokenBinding tokenBinding = accessTokenDO.getTokenBinding();
-                String tokenBindingReference = (tokenBinding != null &&
-                        StringUtils.isNotBlank(tokenBinding.getBindingReference())) ?
-                        tokenBinding.getBindingReference() : NONE;
-                String authorizedOrgId = StringUtils.isNotEmpty(accessTokenDO.getAuthorizedOrganizationId()) ?
-                        accessTokenDO.getAuthorizedOrganizationId() : OAuthConstants.AuthorizedOrganization.NONE;
-                OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
-                        OAuth2Util.buildScopeString(accessTokenDO.getScope()), tokenBindingReference, authorizedOrgId);
-            }
-            ArrayList<String> tokensToRevoke = new ArrayList<>();
-            for (Map.Entry entry : latestAccessTokens.entrySet()) {
-                tokensToRevoke.add(((AccessTokenDO) entry.getValue()).getAccessToken());
-            }
-            OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
-                    .revokeAccessTokens(tokensToRevoke.toArray(new String[tokensToRevoke.size()]),
-                            OAuth2Util.isHashEnabled());
+                return true;
+            };
+            AccessTokenPager.forEachPage((afterTokenId, limit) ->
+                    accessTokenDAO.getAccessTokensByTenant(tenantId, afterTokenId, limit), pageHandler);
+            AccessTokenPager.forEachPage((afterTokenId, limit) ->
+                    accessTokenDAO.getAccessTokensByAuthorizedOrg(organizationId, afterTokenId, limit), pageHandler);
+            // The latest tokens are evicted from the caches as they are revoked.
+            BulkTokenRevoker.getInstance().revokeAccessTokens(new ArrayList<>(latestAccessTokens.values()),
+                    tenantDomain, false);
             List<AuthzCodeDO> latestAuthzCodes = OAuthTokenPersistenceFactory.getInstance()
                     .getAuthorizationCodeDAO().getLatestAuthorizationCodesByTenant(tenantId);
             for (AuthzCodeDO authzCodeDO : latestAuthzCodes) {
@@ -121,4 +102,46 @@ public class OAuthTenantMgtListenerImpl extends AbstractIdentityTenantMgtListene
             throw new StratosException(e.getMessage(), e);
         }
     }
+
+    /**
+     * Keep track of the latest access token of each client, user, scope and IDP combination.
+     *
+     * @return The access token which is no longer the latest of its combination, or null if there is none.
+     */
+    private AccessTokenDO trackLatestToken(AccessTokenDO accessTokenDO,
+                                           Map<String, AccessTokenDO> latestAccessTokens) {
+
+        String keyString = accessTokenDO.getConsumerKey() + ":" + accessTokenDO.getAuthzUser() + ":" +
+                OAuth2Util.buildScopeString(accessTokenDO.getScope()) + ":"
+                + accessTokenDO.getAuthzUser().getFederatedIdPName();
+        AccessTokenDO accessTokenDOFromMap = latestAccessTokens.get(keyString);
+        if (accessTokenDOFromMap == null) {
+            latestAccessTokens.put(keyString, accessTokenDO);
+            return null;
+        }
+        if (accessTokenDOFromMap.getIssuedTime().before(accessTokenDO.getIssuedTime())) {
+            latestAccessTokens.put(keyString, accessTokenDO);
+            return accessTokenDOFromMap;
+        }
+        return accessTokenDO;
+    }
+
+    /**
+     * Clear the OAuth caches of an access token which is not revoked.
+     */
+    private void clearTokenCache(AccessTokenDO accessTokenDO) {
+
+        OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
+                OAuth2Util.buildScopeString(accessTokenDO.getScope()));
+        OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser());
+        OAuthUtil.clearOAuthCache(accessTokenDO);
+        TokenBinding tokenBinding = accessTokenDO.getTokenBinding();
+        String tokenBindingReference = (tokenBinding != null &&
+                StringUtils.isNotBlank(tokenBinding.getBindingReference())) ?
+                tokenBinding.getBindingReference() : NONE;
+        String authorizedOrgId = StringUtils.isNotEmpty(accessTokenDO.getAuthorizedOrganizationId()) ?
+                accessTokenDO.getAuthorizedOrganizationId() : OAuthConstants.AuthorizedOrganization.NONE;
+        OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
+                OAuth2Util.buildScopeString(accessTokenDO.getScope()), tokenBindingReference, authorizedOrgId);
+    }
 }
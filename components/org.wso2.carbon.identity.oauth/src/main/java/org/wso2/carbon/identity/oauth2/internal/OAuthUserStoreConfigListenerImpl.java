@@ -24,6 +24,7 @@ import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
+import org.wso2.carbon.identity.oauth2.revocation.RevokedTokenIndex;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.user.store.configuration.listener.AbstractUserStoreConfigListener;
 import org.wso2.carbon.user.api.UserStoreException;
@@ -111,6 +112,7 @@ public class OAuthUserStoreConfigListenerImpl extends AbstractUserStoreConfigLis
                 OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
                         .revokeAccessTokens(tokensToRevoke.toArray(new String[tokensToRevoke.size()]),
                                 OAuth2Util.isHashEnabled());
+                RevokedTokenIndex.getInstance().revokeAccessTokens(latestAccessTokens.values());
             }
 
             List<AuthzCodeDO> latestAuthzCodes = OAuthTokenPersistenceFactory.getInstance()
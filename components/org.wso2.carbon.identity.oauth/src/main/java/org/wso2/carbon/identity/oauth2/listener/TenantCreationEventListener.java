@@ -24,10 +24,14 @@ import org.wso2.carbon.identity.oauth.IdentityOAuthAdminException;
 import org.wso2.carbon.identity.oauth.OAuthUtil;
 import org.wso2.carbon.identity.oauth.common.OAuthConstants;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.dao.AccessTokenDAO;
+import org.wso2.carbon.identity.oauth2.dao.AccessTokenPager;
+import org.wso2.carbon.identity.oauth2.dao.AccessTokenPager.AccessTokenPageHandler;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
+import org.wso2.carbon.identity.oauth2.revocation.BulkTokenRevoker;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
@@ -35,10 +39,10 @@ import org.wso2.carbon.stratos.common.beans.TenantInfoBean;
 import org.wso2.carbon.stratos.common.exception.StratosException;
 import org.wso2.carbon.stratos.common.listeners.TenantMgtListener;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.TokenBindings.NONE;
 
@@ -113,52 +117,28 @@ public class TenantCreationEventListener implements TenantMgtListener {
     private void revokeTokens(int tenantId) throws StratosException {
 
         try {
-            Set<AccessTokenDO> accessTokenDOs = OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
-                    .getAccessTokensByTenant(tenantId);
-            String organizationId =
-                    OAuth2ServiceComponentHolder.getInstance().getOrganizationManager().resolveOrganizationId(
-                            IdentityTenantUtil.getTenantDomain(tenantId));
-            Set<AccessTokenDO> accessTokensByAuthorizedOrg =
-                    OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
-                            .getAccessTokensByAuthorizedOrg(organizationId);
-            accessTokenDOs.addAll(accessTokensByAuthorizedOrg);
-
+            String tenantDomain = IdentityTenantUtil.getTenantDomain(tenantId);
+            String organizationId = OAuth2ServiceComponentHolder.getInstance().getOrganizationManager()
+                    .resolveOrganizationId(tenantDomain);
+            AccessTokenDAO accessTokenDAO = OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO();
             Map<String, AccessTokenDO> latestAccessTokens = new HashMap<>();
-
-            for (AccessTokenDO accessTokenDO : accessTokenDOs) {
-                String keyString = accessTokenDO.getConsumerKey() + ":" + accessTokenDO.getAuthzUser() + ":" +
-                        OAuth2Util.buildScopeString(accessTokenDO.getScope()) + ":"
-                        + accessTokenDO.getAuthzUser().getFederatedIdPName();
-                AccessTokenDO accessTokenDOFromMap = latestAccessTokens.get(keyString);
-                if (accessTokenDOFromMap != null) {
-                    if (accessTokenDOFromMap.getIssuedTime().before(accessTokenDO.getIssuedTime())) {
-                        latestAccessTokens.put(keyString, accessTokenDO);
+            AccessTokenPageHandler pageHandler = accessTokens -> {
+                for (AccessTokenDO accessTokenDO : accessTokens) {
+                    AccessTokenDO supersededToken = trackLatestToken(accessTokenDO, latestAccessTokens);
+                    if (supersededToken != null) {
+                        clearTokenCache(supersededToken);
                     }
-                } else {
-                    latestAccessTokens.put(keyString, accessTokenDO);
                 }
+                return true;
+            };
+            AccessTokenPager.forEachPage((afterTokenId, limit) ->
+                    accessTokenDAO.getAccessTokensByTenant(tenantId, afterTokenId, limit), pageHandler);
+            AccessTokenPager.forEachPage((afterTokenId, limit) ->
+                    accessTokenDAO.getAccessTokensByAuthorizedOrg(organizationId, afterTokenId, limit), pageHandler);
 
-                OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
-                        OAuth2Util.buildScopeString(accessTokenDO.getScope()));
-                OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser());
-                OAuthUtil.clearOAuthCache(accessTokenDO);
-                TokenBinding tokenBinding = accessTokenDO.getTokenBinding();
-                String tokenBindingReference = (tokenBinding != null &&
-                        StringUtils.isNotBlank(tokenBinding.getBindingReference())) ?
-                        tokenBinding.getBindingReference() : NONE;
-                String authorizedOrgId = StringUtils.isNotEmpty(accessTokenDO.getAuthorizedOrganizationId()) ?
-                        accessTokenDO.getAuthorizedOrganizationId() : OAuthConstants.AuthorizedOrganization.NONE;
-                OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
-                        OAuth2Util.buildScopeString(accessTokenDO.getScope()), tokenBindingReference, authorizedOrgId);
-            }
-
-            OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO().revokeAccessTokens(
-                    latestAccessTokens
-                            .values()
-                            .stream()
-                            .map(AccessTokenDO::getAccessToken)
-                            .toArray(String[]::new),
-                    OAuth2Util.isHashEnabled());
+            // The latest tokens are evicted from the caches as they are revoked.
+            BulkTokenRevoker.getInstance().revokeAccessTokens(new ArrayList<>(latestAccessTokens.values()),
+                    tenantDomain, false);
 
             List<AuthzCodeDO> latestAuthzCodes = OAuthTokenPersistenceFactory.getInstance()
                     .getAuthorizationCodeDAO().getLatestAuthorizationCodesByTenant(tenantId);
@@ -177,4 +157,45 @@ public class TenantCreationEventListener implements TenantMgtListener {
         }
     }
 
+    /**
+     * Keep track of the latest access token of each client, user, scope and IDP combination.
+     *
+     * @return The access token which is no longer the latest of its combination, or null if there is none.
+     */
+    private AccessTokenDO trackLatestToken(AccessTokenDO accessTokenDO,
+                                           Map<String, AccessTokenDO> latestAccessTokens) {
+
+        String keyString = accessTokenDO.getConsumerKey() + ":" + accessTokenDO.getAuthzUser() + ":" +
+                OAuth2Util.buildScopeString(accessTokenDO.getScope()) + ":"
+                + accessTokenDO.getAuthzUser().getFederatedIdPName();
+        AccessTokenDO accessTokenDOFromMap = latestAccessTokens.get(keyString);
+        if (accessTokenDOFromMap == null) {
+            latestAccessTokens.put(keyString, accessTokenDO);
+            return null;
+        }
+        if (accessTokenDOFromMap.getIssuedTime().before(accessTokenDO.getIssuedTime())) {
+            latestAccessTokens.put(keyString, accessTokenDO);
+            return accessTokenDOFromMap;
+        }
+        return accessTokenDO;
+    }
+
+    /**
+     * Clear the OAuth caches of an access token which is not revoked.
+     */
+    private void clearTokenCache(AccessTokenDO accessTokenDO) {
+
+        OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
+                OAuth2Util.buildScopeString(accessTokenDO.getScope()));
+        OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser());
+        OAuthUtil.clearOAuthCache(accessTokenDO);
+        TokenBinding tokenBinding = accessTokenDO.getTokenBinding();
+        String tokenBindingReference = (tokenBinding != null &&
+                StringUtils.isNotBlank(tokenBinding.getBindingReference())) ?
+                tokenBinding.getBindingReference() : NONE;
+        String authorizedOrgId = StringUtils.isNotEmpty(accessTokenDO.getAuthorizedOrganizationId()) ?
+                accessTokenDO.getAuthorizedOrganizationId() : OAuthConstants.AuthorizedOrganization.NONE;
+        OAuthUtil.clearOAuthCache(accessTokenDO.getConsumerKey(), accessTokenDO.getAuthzUser(),
+                OAuth2Util.buildScopeString(accessTokenDO.getScope()), tokenBindingReference, authorizedOrgId);
+    }
 }
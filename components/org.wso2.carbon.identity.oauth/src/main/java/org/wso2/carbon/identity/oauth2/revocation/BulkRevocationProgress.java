@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.revocation;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress of a bulk token revocation, which is updated as each chunk of tokens is revoked.
+ */
+public class BulkRevocationProgress {
+
+    private final String consumerKey;
+    private final AtomicLong revokedTokenCount = new AtomicLong();
+    private final AtomicLong chunkCount = new AtomicLong();
+    private final CompletableFuture<Long> completion = new CompletableFuture<>();
+
+    public BulkRevocationProgress(String consumerKey) {
+
+        this.consumerKey = consumerKey;
+    }
+
+    void recordChunk(int revokedTokens) {
+
+        revokedTokenCount.addAndGet(revokedTokens);
+        chunkCount.incrementAndGet();
+    }
+
+    void complete() {
+
+        completion.complete(revokedTokenCount.get());
+    }
+
+    void fail(Throwable throwable) {
+
+        completion.completeExceptionally(throwable);
+    }
+
+    public String getConsumerKey() {
+
+        return consumerKey;
+    }
+
+    public long getRevokedTokenCount() {
+
+        return revokedTokenCount.get();
+    }
+
+    public long getChunkCount() {
+
+        return chunkCount.get();
+    }
+
+    public boolean isDone() {
+
+        return completion.isDone();
+    }
+
+    public boolean isFailed() {
+
+        return completion.isCompletedExceptionally();
+    }
+
+    /**
+     * Get the future which completes with the number of revoked tokens once the revocation is done.
+     *
+     * @return Completion of the revocation.
+     */
+    public CompletableFuture<Long> getCompletion() {
+
+        return completion;
+    }
+
+    @Override
+    public String toString() {
+
+        return "consumerKey=" + consumerKey + ", revokedTokens=" + getRevokedTokenCount() + ", chunks=" +
+                getChunkCount() + ", done=" + isDone() + ", failed=" + isFailed();
+    }
+}
@@ -0,0 +1,366 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.revocation;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.OAuthUtil;
+import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCache;
+import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCacheKey;
+import org.wso2.carbon.identity.oauth.cache.OAuthCache;
+import org.wso2.carbon.identity.oauth.cache.OAuthCacheKey;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.dao.AccessTokenDAO;
+import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.wso2.carbon.identity.oauth.common.OAuthCommonUtil.getIntProperty;
+
+/**
+ * Revokes access tokens in chunks.
+ * <p>
+ * The active tokens of an application are read page by page, ordered by the token ID, so that only a single chunk of
+ * tokens is held in memory at a time. A list of tokens which is already resolved by the caller, such as the tokens of
+ * a deleted user or of a deactivated tenant, is split into chunks of the same size. The tokens of each chunk are
+ * revoked with a single batch update, the cache entries shared by the tokens of a chunk are evicted once, and the
+ * chunk is published to the {@link RevokedTokenIndex} as a single event.
+ * The revocation can optionally run on a small background pool, in which case the caller gets a
+ * {@link BulkRevocationProgress} to follow the revocation, which can also be looked up with {@link #getProgress}
+ * while the revocation is in progress.
+ * <pre>
+ * [oauth.token_revocation.bulk]
+ * chunk_size = 500
+ * async = false
+ * pool_size = 2
+ * </pre>
+ */
+public class BulkTokenRevoker {
+
+    private static final Log log = LogFactory.getLog(BulkTokenRevoker.class);
+
+    private static final String BULK_REVOCATION_CHUNK_SIZE = "OAuth.TokenRevocation.Bulk.ChunkSize";
+    private static final String BULK_REVOCATION_ASYNC = "OAuth.TokenRevocation.Bulk.Async";
+    private static final String BULK_REVOCATION_POOL_SIZE = "OAuth.TokenRevocation.Bulk.PoolSize";
+
+    private static final int DEFAULT_CHUNK_SIZE = 500;
+    private static final int DEFAULT_POOL_SIZE = 2;
+
+    private static final BulkTokenRevoker instance = new BulkTokenRevoker(
+            getIntProperty(BULK_REVOCATION_CHUNK_SIZE, DEFAULT_CHUNK_SIZE, 1),
+            Boolean.parseBoolean(IdentityUtil.getProperty(BULK_REVOCATION_ASYNC)),
+            getIntProperty(BULK_REVOCATION_POOL_SIZE, DEFAULT_POOL_SIZE, 1));
+
+    private final int chunkSize;
+    private final boolean async;
+    private final int poolSize;
+    private final Map<String, BulkRevocationProgress> revocationsInProgress = new ConcurrentHashMap<>();
+    private volatile ExecutorService executor;
+
+    BulkTokenRevoker(int chunkSize, boolean async, int poolSize) {
+
+        this.chunkSize = chunkSize;
+        this.async = async;
+        this.poolSize = poolSize;
+    }
+
+    public static BulkTokenRevoker getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Check whether the bulk revocations are configured to run in the background.
+     *
+     * @return True if the revocations should be submitted with {@link #revokeTokensByConsumerKeyAsync}.
+     */
+    public boolean isAsyncEnabled() {
+
+        return async;
+    }
+
+    /**
+     * Revoke all the active access tokens of an application on the calling thread.
+     *
+     * @param consumerKey  Consumer key of the application.
+     * @param tenantDomain Tenant domain of the application.
+     * @return Progress of the completed revocation.
+     * @throws IdentityOAuth2Exception If an error occurred while revoking a chunk of tokens.
+     */
+    public BulkRevocationProgress revokeTokensByConsumerKey(String consumerKey, String tenantDomain)
+            throws IdentityOAuth2Exception {
+
+        BulkRevocationProgress progress = new BulkRevocationProgress(consumerKey);
+        try {
+            revoke(consumerKey, tenantDomain, progress);
+        } catch (IdentityOAuth2Exception | RuntimeException e) {
+            progress.fail(e);
+            throw e;
+        }
+        progress.complete();
+        return progress;
+    }
+
+    /**
+     * Revoke all the active access tokens of an application in the background.
+     *
+     * @param consumerKey  Consumer key of the application.
+     * @param tenantDomain Tenant domain of the application.
+     * @return Progress of the revocation, which completes once all the tokens are revoked, or completes
+     * exceptionally if the revocation fails. The caller is expected to report the failure.
+     */
+    public BulkRevocationProgress revokeTokensByConsumerKeyAsync(String consumerKey, String tenantDomain) {
+
+        String revocationKey = getRevocationKey(consumerKey, tenantDomain);
+        BulkRevocationProgress progress = new BulkRevocationProgress(consumerKey);
+        BulkRevocationProgress existingProgress = revocationsInProgress.putIfAbsent(revocationKey, progress);
+        if (existingProgress != null) {
+            // The revocation in progress revokes the tokens issued until it reaches the end of the token table.
+            if (log.isDebugEnabled()) {
+                log.debug("Revocation of the access tokens of the application with consumer key: " + consumerKey +
+                        " is already in progress. Progress: " + existingProgress);
+            }
+            return existingProgress;
+        }
+        progress.getCompletion().whenComplete((revokedTokens, throwable) ->
+                revocationsInProgress.remove(revocationKey, progress));
+        try {
+            getExecutor().execute(() -> {
+                PrivilegedCarbonContext.startTenantFlow();
+                try {
+                    PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain, true);
+                    revoke(consumerKey, tenantDomain, progress);
+                    progress.complete();
+                } catch (IdentityOAuth2Exception | RuntimeException e) {
+                    // The failure is reported through the completion of the progress.
+                    if (log.isDebugEnabled()) {
+                        log.debug("Error while revoking the access tokens of the application with consumer key: " +
+                                consumerKey + ". Progress: " + progress, e);
+                    }
+                    progress.fail(e);
+                } finally {
+                    PrivilegedCarbonContext.endTenantFlow();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            progress.fail(e);
+        }
+        return progress;
+    }
+
+    /**
+     * Revoke all the active access tokens of an application, in the background if the bulk revocations are
+     * configured to run in the background, or on the calling thread otherwise. A failure of a background
+     * revocation is logged.
+     *
+     * @param consumerKey  Consumer key of the application.
+     * @param tenantDomain Tenant domain of the application.
+     * @return Progress of the revocation.
+     * @throws IdentityOAuth2Exception If an error occurred while revoking a chunk of tokens on the calling thread.
+     */
+    public BulkRevocationProgress revokeTokensOfApplication(String consumerKey, String tenantDomain)
+            throws IdentityOAuth2Exception {
+
+        if (!async) {
+            return revokeTokensByConsumerKey(consumerKey, tenantDomain);
+        }
+        BulkRevocationProgress progress = revokeTokensByConsumerKeyAsync(consumerKey, tenantDomain);
+        progress.getCompletion().whenComplete((revokedTokens, throwable) -> {
+            if (throwable != null) {
+                log.error("Error while revoking the access tokens of the application with consumer key: " +
+                        consumerKey + " in tenant domain: " + tenantDomain + ". Progress: " + progress, throwable);
+            } else if (log.isDebugEnabled()) {
+                log.debug("Revoked the access tokens of the application. Progress: " + progress);
+            }
+        });
+        return progress;
+    }
+
+    /**
+     * Revoke the given access tokens on the calling thread, in chunks of the configured size.
+     *
+     * @param accessTokens    Access tokens to revoke.
+     * @param tenantDomain    Tenant domain to evict the cache entries of the tokens from.
+     * @param notifyListeners Whether to notify the system revocation listeners of each token before and after its
+     *                        chunk is revoked.
+     * @throws IdentityOAuth2Exception If an error occurred while revoking a chunk of tokens.
+     */
+    public void revokeAccessTokens(List<AccessTokenDO> accessTokens, String tenantDomain, boolean notifyListeners)
+            throws IdentityOAuth2Exception {
+
+        AccessTokenDAO accessTokenDAO = OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO();
+        for (int from = 0; from < accessTokens.size(); from += chunkSize) {
+            List<AccessTokenDO> chunk = accessTokens.subList(from, Math.min(from + chunkSize, accessTokens.size()));
+            if (notifyListeners) {
+                for (AccessTokenDO accessTokenDO : chunk) {
+                    OAuthUtil.invokePreRevocationBySystemListeners(accessTokenDO, Collections.emptyMap());
+                }
+            }
+            revokeChunk(accessTokenDAO, chunk, tenantDomain);
+            if (notifyListeners) {
+                for (AccessTokenDO accessTokenDO : chunk) {
+                    OAuthUtil.invokePostRevocationBySystemListeners(accessTokenDO, Collections.emptyMap());
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the progress of the background revocation of the access tokens of an application.
+     *
+     * @param consumerKey  Consumer key of the application.
+     * @param tenantDomain Tenant domain of the application.
+     * @return Progress of the revocation, or null if there is no revocation in progress for the application.
+     */
+    public BulkRevocationProgress getProgress(String consumerKey, String tenantDomain) {
+
+        return revocationsInProgress.get(getRevocationKey(consumerKey, tenantDomain));
+    }
+
+    /**
+     * Stop the background revocations. Revocations in progress are interrupted between the chunks.
+     */
+    public synchronized void shutdown() {
+
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private void revoke(String consumerKey, String tenantDomain, BulkRevocationProgress progress)
+            throws IdentityOAuth2Exception {
+
+        AccessTokenDAO accessTokenDAO = OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO();
+        int appTenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        String lastTokenId = null;
+        while (!Thread.currentThread().isInterrupted()) {
+            List<AccessTokenDO> chunk = accessTokenDAO.getActiveAccessTokenDataByConsumerKey(consumerKey,
+                    appTenantId, lastTokenId, chunkSize);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            revokeChunk(accessTokenDAO, chunk, tenantDomain);
+            progress.recordChunk(chunk.size());
+            if (log.isDebugEnabled()) {
+                log.debug("Revoked a chunk of " + chunk.size() + " access tokens. Progress: " + progress);
+            }
+            lastTokenId = chunk.get(chunk.size() - 1).getTokenId();
+            // A short page does not mean the last page, as the DAO can cap the page size below the chunk size.
+            if (lastTokenId == null) {
+                break;
+            }
+        }
+    }
+
+    private void revokeChunk(AccessTokenDAO accessTokenDAO, List<AccessTokenDO> chunk, String tenantDomain)
+            throws IdentityOAuth2Exception {
+
+        String[] accessTokens = new String[chunk.size()];
+        Set<String> evictedCacheKeys = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            AccessTokenDO accessTokenDO = chunk.get(i);
+            accessTokens[i] = accessTokenDO.getAccessToken();
+            clearCacheEntries(accessTokenDO, tenantDomain, evictedCacheKeys);
+        }
+        accessTokenDAO.revokeAccessTokens(accessTokens, OAuth2Util.isHashEnabled());
+        RevokedTokenIndex.getInstance().revokeAccessTokens(chunk);
+    }
+
+    private void clearCacheEntries(AccessTokenDO accessTokenDO, String tenantDomain, Set<String> evictedCacheKeys) {
+
+        String consumerKey = accessTokenDO.getConsumerKey();
+        String scope = OAuth2Util.buildScopeString(accessTokenDO.getScope());
+        String tokenBindingReference = OAuthConstants.TokenBindings.NONE;
+        if (accessTokenDO.getTokenBinding() != null &&
+                StringUtils.isNotBlank(accessTokenDO.getTokenBinding().getBindingReference())) {
+            tokenBindingReference = accessTokenDO.getTokenBinding().getBindingReference();
+        }
+        String authorizedOrgId = StringUtils.isNotEmpty(accessTokenDO.getAuthorizedOrganizationId()) ?
+                accessTokenDO.getAuthorizedOrganizationId() : OAuthConstants.AuthorizedOrganization.NONE;
+        // Tokens of the same user share the user level cache entries, which need to be evicted only once.
+        AuthenticatedUser authzUser = accessTokenDO.getAuthzUser();
+        String userKey = consumerKey + ":" + OAuth2Util.getAuthenticatedIDP(authzUser) + ":" +
+                authzUser.toFullQualifiedUsername() + ":" + authorizedOrgId;
+        if (evictedCacheKeys.add(userKey + ":" + scope + ":" + tokenBindingReference)) {
+            OAuthUtil.clearOAuthCache(consumerKey, authzUser, scope, tokenBindingReference, authorizedOrgId);
+        }
+        if (evictedCacheKeys.add(userKey + ":" + scope)) {
+            OAuthUtil.clearOAuthCache(consumerKey, authzUser, scope);
+        }
+        if (evictedCacheKeys.add(userKey)) {
+            OAuthUtil.clearOAuthCache(consumerKey, authzUser);
+        }
+        OAuthUtil.clearOAuthCache(accessTokenDO);
+        AuthorizationGrantCache.getInstance().clearCacheEntryByToken(
+                new AuthorizationGrantCacheKey(accessTokenDO.getAccessToken()));
+        OAuthCache.getInstance().clearCacheEntry(new OAuthCacheKey(accessTokenDO.getAccessToken()), tenantDomain);
+    }
+
+    private String getRevocationKey(String consumerKey, String tenantDomain) {
+
+        return tenantDomain + ":" + consumerKey;
+    }
+
+    private ExecutorService getExecutor() {
+
+        if (executor == null) {
+            synchronized (this) {
+                if (executor == null) {
+                    executor = Executors.newFixedThreadPool(poolSize, new RevocationThreadFactory());
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Thread factory for the background revocations.
+     */
+    private static class RevocationThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, "oauth-bulk-token-revocation-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
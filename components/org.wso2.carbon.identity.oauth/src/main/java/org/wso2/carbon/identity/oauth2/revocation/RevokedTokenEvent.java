@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.revocation;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Revocation of a set of tokens, propagated between the nodes of a cluster. The tokens are identified by their token
+ * IDs and, for JWT access tokens, by their JWT IDs, hence the token values are never propagated.
+ */
+public class RevokedTokenEvent implements Serializable {
+
+    private static final long serialVersionUID = 4520783104853746127L;
+
+    private final Set<String> tokenIdentifiers;
+    private final long expiryTime;
+
+    /**
+     * Create a revoked token event.
+     *
+     * @param tokenIdentifiers Token IDs and JWT IDs of the revoked tokens.
+     * @param expiryTime       Time in milliseconds after which the revoked tokens are expired anyway.
+     */
+    public RevokedTokenEvent(Set<String> tokenIdentifiers, long expiryTime) {
+
+        this.tokenIdentifiers = Collections.unmodifiableSet(new HashSet<>(tokenIdentifiers));
+        this.expiryTime = expiryTime;
+    }
+
+    public Set<String> getTokenIdentifiers() {
+
+        return tokenIdentifiers;
+    }
+
+    public long getExpiryTime() {
+
+        return expiryTime;
+    }
+}
@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.revocation;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+import org.wso2.carbon.identity.oauth2.model.RefreshTokenValidationDataDO;
+import org.wso2.carbon.identity.oauth2.util.JWTUtils;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.identity.oauth2.validators.RevokedTokenFilter;
+import org.wso2.carbon.identity.oauth2.validators.StatelessJWTTokenValidator;
+
+import java.sql.Timestamp;
+import java.text.ParseException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.wso2.carbon.identity.oauth.common.OAuthCommonUtil.getIntProperty;
+
+/**
+ * In-memory index of the tokens revoked in the cluster, keyed by the token IDs and the JWT IDs of the revoked tokens.
+ * <p>
+ * The revocations of this node are published through the registered {@link RevokedTokenPropagator}, and the
+ * revocations received from the other nodes are applied to the index, so that a node relying on a cached access token
+ * or a self-contained JWT can learn about a revocation without reading the token store. An entry is retained only
+ * until the revoked token expires, bounded by the configured maximum retention period. Expired entries are swept every
+ * minute, and the index holds at most the configured number of entries. Revocations of tokens which have not expired
+ * are never evicted. When the index is full, the revocations which do not fit are dropped and the index is marked
+ * {@link #isOverflowed() overflowed} until the dropped revocations expire, during which the callers cannot rely on the
+ * index to tell that a token is not revoked and have to check the token store instead.
+ * <pre>
+ * [oauth.token_revocation.index]
+ * max_retention_period = 86400
+ * max_size = 100000
+ * </pre>
+ */
+public class RevokedTokenIndex implements RevokedTokenListener {
+
+    private static final Log log = LogFactory.getLog(RevokedTokenIndex.class);
+
+    private static final String MAX_RETENTION_PERIOD = "OAuth.TokenRevocation.Index.MaxRetentionPeriod";
+    private static final String MAX_SIZE = "OAuth.TokenRevocation.Index.MaxSize";
+    private static final int DEFAULT_MAX_RETENTION_PERIOD_IN_SECONDS = 86400;
+    private static final int DEFAULT_MAX_SIZE = 100000;
+    private static final long SWEEP_INTERVAL_IN_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private static final RevokedTokenIndex instance = new RevokedTokenIndex(TimeUnit.SECONDS.toMillis(
+            getIntProperty(MAX_RETENTION_PERIOD, DEFAULT_MAX_RETENTION_PERIOD_IN_SECONDS, 1)),
+            getIntProperty(MAX_SIZE, DEFAULT_MAX_SIZE, 1));
+
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final long maxRetentionPeriodInMillis;
+    private final int maxSize;
+    private final AtomicLong nextSweepTime = new AtomicLong();
+    // Latest expiry time of the revocations dropped because the index was full.
+    private final AtomicLong overflowExpiryTime = new AtomicLong();
+
+    RevokedTokenIndex(long maxRetentionPeriodInMillis) {
+
+        this(maxRetentionPeriodInMillis, DEFAULT_MAX_SIZE);
+    }
+
+    RevokedTokenIndex(long maxRetentionPeriodInMillis, int maxSize) {
+
+        this.maxRetentionPeriodInMillis = maxRetentionPeriodInMillis;
+        this.maxSize = maxSize;
+        this.nextSweepTime.set(System.currentTimeMillis() + SWEEP_INTERVAL_IN_MILLIS);
+    }
+
+    public static RevokedTokenIndex getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Record the revocation of an access token and publish it to the other nodes.
+     *
+     * @param accessTokenDO Revoked access token.
+     */
+    public void revokeAccessToken(AccessTokenDO accessTokenDO) {
+
+        revoke(accessTokenDO.getTokenId(), accessTokenDO.getAccessToken(),
+                getExpiryTime(accessTokenDO.getIssuedTime(), accessTokenDO.getValidityPeriodInMillis()));
+    }
+
+    /**
+     * Record the revocation of a refresh token, along with the access token issued with it, and publish it to the
+     * other nodes.
+     *
+     * @param refreshTokenDO Revoked refresh token.
+     */
+    public void revokeRefreshToken(RefreshTokenValidationDataDO refreshTokenDO) {
+
+        revoke(refreshTokenDO.getTokenId(), refreshTokenDO.getAccessToken(),
+                getExpiryTime(refreshTokenDO.getAccessTokenIssuedTime(),
+                        refreshTokenDO.getAccessTokenValidityInMillis()));
+    }
+
+    /**
+     * Record the revocation of the access token with the given token id, along with its JWT ID if the token is a JWT,
+     * and publish it to the other nodes. The revocation is retained for the maximum retention period, as the expiry
+     * time of the token is not known.
+     *
+     * @param tokenId     Id of the revoked access token.
+     * @param accessToken Revoked access token, or null if the token is not known.
+     */
+    public void revokeAccessToken(String tokenId, String accessToken) {
+
+        revoke(tokenId, accessToken, System.currentTimeMillis() + maxRetentionPeriodInMillis);
+    }
+
+    /**
+     * Record the revocation of a batch of access tokens and publish it to the other nodes as a single event, which
+     * is retained until the last of the tokens expires.
+     *
+     * @param accessTokenDOs Revoked access tokens.
+     */
+    public void revokeAccessTokens(Collection<AccessTokenDO> accessTokenDOs) {
+
+        Set<String> tokenIdentifiers = new HashSet<>();
+        long expiryTime = 0;
+        for (AccessTokenDO accessTokenDO : accessTokenDOs) {
+            addTokenIdentifiers(tokenIdentifiers, accessTokenDO.getTokenId(), accessTokenDO.getAccessToken());
+            expiryTime = Math.max(expiryTime, getExpiryTime(accessTokenDO.getIssuedTime(),
+                    accessTokenDO.getValidityPeriodInMillis()));
+        }
+        revoke(tokenIdentifiers, expiryTime);
+    }
+
+    /**
+     * Check whether the token with the given token ID or JWT ID is revoked.
+     *
+     * @param tokenIdentifier Token ID or JWT ID.
+     * @return True if the token is known to be revoked.
+     */
+    public boolean isRevoked(String tokenIdentifier) {
+
+        if (StringUtils.isEmpty(tokenIdentifier)) {
+            return false;
+        }
+        Long expiryTime = revokedTokens.get(tokenIdentifier);
+        if (expiryTime == null) {
+            return false;
+        }
+        if (expiryTime < System.currentTimeMillis()) {
+            revokedTokens.remove(tokenIdentifier, expiryTime);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Check whether revocations were dropped because the index was full, and have not expired yet. While the index is
+     * overflowed, a token which is not found in the index may still be revoked.
+     *
+     * @return True if the index may miss revocations.
+     */
+    public boolean isOverflowed() {
+
+        return overflowExpiryTime.get() >= System.currentTimeMillis();
+    }
+
+    /**
+     * Apply a revocation received from another node. The revocation is not published again.
+     *
+     * @param event Revoked token event.
+     */
+    @Override
+    public void onTokensRevoked(RevokedTokenEvent event) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Received revocation of " + event.getTokenIdentifiers().size() + " token identifiers.");
+        }
+        apply(event);
+    }
+
+    public int size() {
+
+        return revokedTokens.size();
+    }
+
+    private void revoke(String tokenId, String accessToken, long expiryTime) {
+
+        Set<String> tokenIdentifiers = new HashSet<>();
+        addTokenIdentifiers(tokenIdentifiers, tokenId, accessToken);
+        revoke(tokenIdentifiers, expiryTime);
+    }
+
+    private void revoke(Set<String> tokenIdentifiers, long expiryTime) {
+
+        if (tokenIdentifiers.isEmpty()) {
+            return;
+        }
+        RevokedTokenEvent event = new RevokedTokenEvent(tokenIdentifiers, expiryTime);
+        apply(event);
+        RevokedTokenPropagator propagator = OAuth2ServiceComponentHolder.getInstance().getRevokedTokenPropagator();
+        if (propagator != null) {
+            try {
+                propagator.publish(event);
+            } catch (RuntimeException e) {
+                log.error("Error while publishing the token revocation with: " + propagator.getClass().getName(), e);
+            }
+        }
+    }
+
+    private void addTokenIdentifiers(Set<String> tokenIdentifiers, String tokenId, String accessToken) {
+
+        if (StringUtils.isNotEmpty(tokenId)) {
+            tokenIdentifiers.add(tokenId);
+        }
+        // JWT access tokens are identified by their JWT IDs, while opaque token values are never recorded.
+        if (StringUtils.isNotEmpty(accessToken) && OAuth2Util.isParsableJWT(accessToken)) {
+            try {
+                String jti = JWTUtils.getJWTID(accessToken);
+                if (StringUtils.isNotEmpty(jti)) {
+                    tokenIdentifiers.add(jti);
+                }
+            } catch (ParseException e) {
+                log.debug("Error while parsing the JWT ID of the revoked token.", e);
+            }
+        }
+    }
+
+    private void apply(RevokedTokenEvent event) {
+
+        long currentTime = System.currentTimeMillis();
+        if (event.getExpiryTime() < currentTime) {
+            return;
+        }
+        boolean hasRoom = makeRoom(currentTime, event.getTokenIdentifiers().size());
+        boolean isStatelessJWTValidationEnabled = StatelessJWTTokenValidator.getInstance().isEnabled();
+        for (String tokenIdentifier : event.getTokenIdentifiers()) {
+            if (hasRoom) {
+                revokedTokens.merge(tokenIdentifier, event.getExpiryTime(), Math::max);
+            }
+            if (isStatelessJWTValidationEnabled) {
+                RevokedTokenFilter.getInstance().add(tokenIdentifier);
+            }
+        }
+        if (!hasRoom) {
+            overflow(event.getExpiryTime());
+        }
+        sweepIfRequired(currentTime);
+    }
+
+    private long getExpiryTime(Timestamp issuedTime, long validityPeriodInMillis) {
+
+        long maxExpiryTime = System.currentTimeMillis() + maxRetentionPeriodInMillis;
+        if (issuedTime == null || validityPeriodInMillis < 0) {
+            return maxExpiryTime;
+        }
+        long expiryTime = issuedTime.getTime() + validityPeriodInMillis;
+        // A negative value means the expiry time overflowed due to a long validity period.
+        return expiryTime < 0 ? maxExpiryTime : Math.min(expiryTime, maxExpiryTime);
+    }
+
+    /**
+     * Make room for the given number of entries by removing the expired entries, if the index is full. Entries which
+     * have not expired are never removed, as the tokens they protect would be accepted again.
+     *
+     * @param currentTime Current time in milliseconds.
+     * @param newEntries  Number of entries to be added.
+     * @return True if the index has room for the entries.
+     */
+    private boolean makeRoom(long currentTime, int newEntries) {
+
+        if (revokedTokens.size() + newEntries <= maxSize) {
+            return true;
+        }
+        synchronized (revokedTokens) {
+            if (revokedTokens.size() + newEntries > maxSize) {
+                revokedTokens.values().removeIf(expiryTime -> expiryTime < currentTime);
+            }
+            return revokedTokens.size() + newEntries <= maxSize;
+        }
+    }
+
+    private void overflow(long expiryTime) {
+
+        boolean wasOverflowed = isOverflowed();
+        overflowExpiryTime.accumulateAndGet(expiryTime, Math::max);
+        if (!wasOverflowed) {
+            log.warn("Revoked token index reached its maximum size of " + maxSize + " entries. Tokens are checked " +
+                    "against the token store until " + new Timestamp(overflowExpiryTime.get()) + ".");
+        }
+    }
+
+    private void sweepIfRequired(long currentTime) {
+
+        long sweepTime = nextSweepTime.get();
+        if (currentTime < sweepTime || !nextSweepTime.compareAndSet(sweepTime, currentTime +
+                SWEEP_INTERVAL_IN_MILLIS)) {
+            return;
+        }
+        revokedTokens.values().removeIf(expiryTime -> expiryTime < currentTime);
+    }
+}
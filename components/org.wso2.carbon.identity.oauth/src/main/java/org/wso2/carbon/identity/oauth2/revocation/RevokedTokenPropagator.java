@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.revocation;
+
+/**
+ * Extension point to propagate the token revocations of a node to the other nodes of a cluster, so that each node can
+ * keep its {@link RevokedTokenIndex} in sync. Implementations can be registered as an OSGi service, e.g. backed by a
+ * cluster messaging or a pub-sub system.
+ */
+public interface RevokedTokenPropagator {
+
+    /**
+     * Publish the revocation to the other nodes of the cluster. Implementations should not block the caller on
+     * remote delivery.
+     *
+     * @param event Revoked token event.
+     */
+    void publish(RevokedTokenEvent event);
+
+    /**
+     * Set the listener which should be invoked with the revocations received from the other nodes.
+     *
+     * @param listener Revoked token listener.
+     */
+    void setListener(RevokedTokenListener listener);
+}
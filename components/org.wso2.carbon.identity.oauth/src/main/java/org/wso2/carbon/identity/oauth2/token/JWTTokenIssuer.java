@@ -22,9 +22,6 @@ import com.nimbusds.jose.Algorithm;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JOSEObjectType;
 import com.nimbusds.jose.JWSAlgorithm;
-import com.nimbusds.jose.JWSHeader;
-import com.nimbusds.jose.JWSSigner;
-import com.nimbusds.jose.util.Base64URL;
 import com.nimbusds.jwt.JWT;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.JWTParser;
@@ -52,15 +49,13 @@ import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
 import org.wso2.carbon.identity.oauth2.token.handlers.claims.JWTAccessTokenClaimProvider;
 import org.wso2.carbon.identity.oauth2.token.handlers.grant.AuthorizationGrantHandler;
+import org.wso2.carbon.identity.oauth2.util.JWTSigningContext;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.openidconnect.CustomClaimsCallbackHandler;
 import org.wso2.carbon.identity.openidconnect.OIDCClaimUtil;
 import org.wso2.carbon.identity.openidconnect.util.ClaimHandlerUtil;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 
-import java.security.Key;
-import java.security.cert.Certificate;
-import java.security.interfaces.RSAPrivateKey;
 import java.text.ParseException;
 import java.util.Arrays;
 import java.util.Calendar;
@@ -74,7 +69,6 @@ import java.util.UUID;
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OIDCConfigProperties.SUBJECT_TOKEN_EXPIRY_TIME_VALUE;
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.RENEW_TOKEN_WITHOUT_REVOKING_EXISTING_ENABLE_CONFIG;
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.REQUEST_BINDING_TYPE;
-import static org.wso2.carbon.identity.oauth2.util.OAuth2Util.getPrivateKey;
 
 /**
  * Self contained access token builder.
@@ -107,6 +101,8 @@ public class JWTTokenIssuer extends OauthTokenIssuerImpl {
     private Algorithm signatureAlgorithm = null;
     private static final String ENABLE_PPID_FOR_ACCESS_TOKENS = "OAuth.OpenIDConnect.EnablePairwiseSubForAccessToken";
     private static final String JWT_TYP_HEADER_VALUE = "jwt";
+    private static final JOSEObjectType DEFAULT_TYP_HEADER = new JOSEObjectType(DEFAULT_TYP_HEADER_VALUE);
+    private static final JOSEObjectType JWT_TYP_HEADER = new JOSEObjectType(JWT_TYP_HEADER_VALUE);
     private static final String MAY_ACT = "may_act";
     private static final String SUB = "sub";
 
@@ -481,23 +477,19 @@ public class JWTTokenIssuer extends OauthTokenIssuerImpl {
             // Add claim with signer tenant to jwt claims set.
             jwtClaimsSet = setSignerRealm(tenantDomain, jwtClaimsSet);
 
-            Key privateKey = getPrivateKey(tenantDomain, tenantId);
-            JWSSigner signer = OAuth2Util.createJWSSigner((RSAPrivateKey) privateKey);
-            JWSHeader.Builder headerBuilder = new JWSHeader.Builder((JWSAlgorithm) signatureAlgorithm);
-            Certificate certificate = OAuth2Util.getCertificate(tenantDomain, tenantId);
-            String certThumbPrint = OAuth2Util.getThumbPrintWithPrevAlgorithm(certificate, false);
-            headerBuilder.keyID(OAuth2Util.getKID(OAuth2Util.getCertificate(tenantDomain, tenantId),
-                    (JWSAlgorithm) signatureAlgorithm, tenantDomain));
+            // Signer, 'kid' and 'x5t' are reused from the tenant signing context instead of being rebuilt per token.
+            JWTSigningContext signingContext = OAuth2Util.getJWTSigningContext(tenantDomain, tenantId,
+                    (JWSAlgorithm) signatureAlgorithm);
 
+            JOSEObjectType type;
             if (authorizationContext != null && authorizationContext.isSubjectTokenFlow()) {
-                headerBuilder.type(new JOSEObjectType(JWT_TYP_HEADER_VALUE));
+                type = JWT_TYP_HEADER;
             } else {
                 // Set the required "typ" header "at+jwt" for access tokens issued by the issuer
-                headerBuilder.type(new JOSEObjectType(DEFAULT_TYP_HEADER_VALUE));
+                type = DEFAULT_TYP_HEADER;
             }
-            headerBuilder.x509CertThumbprint(new Base64URL(certThumbPrint));
-            SignedJWT signedJWT = new SignedJWT(headerBuilder.build(), jwtClaimsSet);
-            signedJWT.sign(signer);
+            SignedJWT signedJWT = new SignedJWT(signingContext.getHeader(type), jwtClaimsSet);
+            signedJWT.sign(signingContext.getSigner());
             return signedJWT.serialize();
         } catch (JOSEException e) {
             throw new IdentityOAuth2Exception("Error occurred while signing JWT", e);
@@ -41,6 +41,7 @@ import org.wso2.carbon.identity.central.log.mgt.utils.LoggerUtils;
 import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.oauth.OAuthUtil;
+import org.wso2.carbon.identity.oauth.action.execution.PreIssueAccessTokenActionTimer;
 import org.wso2.carbon.identity.oauth.cache.CacheEntry;
 import org.wso2.carbon.identity.oauth.cache.OAuthCache;
 import org.wso2.carbon.identity.oauth.cache.OAuthCacheKey;
@@ -55,6 +56,8 @@ import org.wso2.carbon.identity.oauth.internal.OAuthComponentServiceHolder;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2ClientException;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.OAuth2Service;
+import org.wso2.carbon.identity.oauth2.dao.AccessContextTokenDO;
+import org.wso2.carbon.identity.oauth2.dao.AsyncTokenPersistenceManager;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenReqDTO;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenRespDTO;
@@ -62,8 +65,10 @@ import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.rar.AuthorizationDetailsService;
 import org.wso2.carbon.identity.oauth2.rar.util.AuthorizationDetailsUtils;
+import org.wso2.carbon.identity.oauth2.revocation.RevokedTokenIndex;
 import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
 import org.wso2.carbon.identity.oauth2.token.OauthTokenIssuer;
+import org.wso2.carbon.identity.oauth2.token.lock.TokenIssuanceLock;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.oauth2.util.Oauth2ScopeUtils;
 import org.wso2.carbon.identity.oauth2.validators.OAuth2ScopeHandler;
@@ -175,7 +180,8 @@ public abstract class AbstractAuthorizationGrantHandler implements Authorization
                     "Error while retrieving oauth issuer for the app with clientId: " + consumerKey, e);
         }
 
-        synchronized ((consumerKey + ":" + authorizedUserId + ":" + scope + ":" + tokenBindingReference).intern()) {
+        try (TokenIssuanceLock lock = OAuth2ServiceComponentHolder.getInstance().getTokenIssuanceLockManager()
+                .lock(consumerKey, authorizedUserId, scope, tokenBindingReference)) {
             AccessTokenDO existingTokenBean = null;
 
             OAuthAppDO oAuthAppDO = (OAuthAppDO) tokReqMsgCtx.getProperty(OAUTH_APP);
@@ -434,6 +440,7 @@ public abstract class AbstractAuthorizationGrantHandler implements Authorization
         OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
                 .updateAccessTokenState(existingTokenBean.getTokenId(), OAuthConstants.TokenStates
                         .TOKEN_STATE_REVOKED, existingTokenBean.getGrantType());
+        RevokedTokenIndex.getInstance().revokeAccessToken(existingTokenBean);
         clearExistingTokenFromCache(tokReqMsgCtx, existingTokenBean);
         OAuthUtil.invokePostRevocationBySystemListeners(existingTokenBean, Collections.emptyMap());
 
@@ -524,11 +531,13 @@ public abstract class AbstractAuthorizationGrantHandler implements Authorization
         if (checkExecutePreIssueAccessTokensActions(tokenReqMessageContext)) {
 
             FlowContext flowContext = FlowContext.create().add("tokenMessageContext", tokenReqMessageContext);
+            String tenantDomain = IdentityTenantUtil.getTenantDomain(IdentityTenantUtil.getLoginTenantId());
+            PreIssueAccessTokenActionTimer timer = PreIssueAccessTokenActionTimer.start(tokenReqMessageContext,
+                    tenantDomain);
 
             try {
                 executionStatus = OAuthComponentServiceHolder.getInstance().getActionExecutorService()
-                        .execute(ActionType.PRE_ISSUE_ACCESS_TOKEN, flowContext,
-                                IdentityTenantUtil.getTenantDomain(IdentityTenantUtil.getLoginTenantId()));
+                        .execute(ActionType.PRE_ISSUE_ACCESS_TOKEN, flowContext, tenantDomain);
 
                 if (log.isDebugEnabled()) {
                     log.debug(String.format(
@@ -539,6 +548,10 @@ public abstract class AbstractAuthorizationGrantHandler implements Authorization
                 }
             } catch (ActionExecutionException e) {
                 throw new IdentityOAuth2Exception("Error occurred while executing pre issue access token actions.", e);
+            } finally {
+                if (timer != null) {
+                    timer.complete();
+                }
             }
         }
         return executionStatus;
@@ -675,12 +688,36 @@ public abstract class AbstractAuthorizationGrantHandler implements Authorization
                     " and bindingRef: " + getTokenBindingReference(tokReqMsgCtx) +
                     " and authorized organization: " + getAuthorizedOrganization(tokReqMsgCtx));
         }
-        storeAccessToken(tokenReq, getUserStoreDomain(tokReqMsgCtx.getAuthorizedUser()), newTokenBean, newAccessToken,
-                existingTokenBean);
+        String userStoreDomain = getUserStoreDomain(tokReqMsgCtx.getAuthorizedUser());
+        if (isAsyncTokenPersistenceAllowed(tokReqMsgCtx, existingTokenBean) &&
+                AsyncTokenPersistenceManager.getInstance().enqueueAccessToken(new AccessContextTokenDO(newAccessToken,
+                        tokenReq.getClientId(), newTokenBean, null, userStoreDomain))) {
+            return;
+        }
+        storeAccessToken(tokenReq, userStoreDomain, newTokenBean, newAccessToken, existingTokenBean);
         this.authorizationDetailsService
                 .storeOrReplaceAccessTokenAuthorizationDetails(newTokenBean, existingTokenBean, tokReqMsgCtx);
     }
 
+    /**
+     * Check whether the new access token can be handed over to the asynchronous token persistence, instead of being
+     * persisted within the token issuance lock.
+     * <p>
+     * A token that replaces an existing token is persisted synchronously, as the existing token is expired in the
+     * same transaction, and until then the following requests of the same client, user and scope would still find
+     * the existing token active. So is a token of a rich authorization request, as its authorization details refer to
+     * the token row and are persisted right after it.
+     *
+     * @param tokReqMsgCtx      Token request message context.
+     * @param existingTokenBean Existing token that is expired by the new token, or null.
+     * @return True if the token can be persisted asynchronously.
+     */
+    protected boolean isAsyncTokenPersistenceAllowed(OAuthTokenReqMessageContext tokReqMsgCtx,
+                                                     AccessTokenDO existingTokenBean) {
+
+        return existingTokenBean == null && !AuthorizationDetailsUtils.isRichAuthorizationRequest(tokReqMsgCtx);
+    }
+
     private void updateCacheIfEnabled(AccessTokenDO newTokenBean, String scope, OauthTokenIssuer oauthTokenIssuer)
             throws IdentityOAuth2Exception {
 
@@ -51,6 +51,7 @@ import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenRespDTO;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.identity.oauth2.model.AuthzCodeDO;
 import org.wso2.carbon.identity.oauth2.rar.util.AuthorizationDetailsUtils;
+import org.wso2.carbon.identity.oauth2.revocation.RevokedTokenIndex;
 import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.utils.DiagnosticLog;
@@ -260,6 +261,15 @@ public class AuthorizationCodeGrantHandler extends AbstractAuthorizationGrantHan
         }
     }
 
+    @Override
+    protected boolean isAsyncTokenPersistenceAllowed(OAuthTokenReqMessageContext tokReqMsgCtx,
+                                                     AccessTokenDO existingTokenBean) {
+
+        // The insert deactivates the authorization code in the same transaction, which is what rejects a replayed
+        // authorization code.
+        return false;
+    }
+
     @Override
     public boolean issueRefreshToken() throws IdentityOAuth2Exception {
 
@@ -348,6 +358,11 @@ public class AuthorizationCodeGrantHandler extends AbstractAuthorizationGrantHan
             }
         }
         OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO().revokeAccessToken(tokenId, userId);
+        if (accessTokenDO != null) {
+            RevokedTokenIndex.getInstance().revokeAccessToken(accessTokenDO);
+        } else {
+            RevokedTokenIndex.getInstance().revokeAccessToken(tokenId, accessToken);
+        }
         clearAccessTokenOAuthCache(accessTokenDO);
 
         if (log.isDebugEnabled()) {
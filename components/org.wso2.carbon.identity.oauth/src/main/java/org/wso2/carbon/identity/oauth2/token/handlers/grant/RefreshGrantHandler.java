@@ -40,6 +40,7 @@ import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.handler.event.account.lock.exception.AccountLockServiceException;
 import org.wso2.carbon.identity.handler.event.account.lock.service.AccountLockService;
+import org.wso2.carbon.identity.oauth.action.execution.PreIssueAccessTokenActionTimer;
 import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCache;
 import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCacheEntry;
 import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCacheKey;
@@ -69,6 +70,7 @@ import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
 import org.wso2.carbon.identity.oauth2.token.OauthTokenIssuer;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinder;
 import org.wso2.carbon.identity.oauth2.token.bindings.TokenBinding;
+import org.wso2.carbon.identity.oauth2.token.lock.TokenIssuanceLock;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.user.profile.mgt.association.federation.FederatedAssociationManager;
 import org.wso2.carbon.identity.user.profile.mgt.association.federation.exception.FederatedAssociationManagerClientException;
@@ -165,7 +167,8 @@ public class RefreshGrantHandler extends AbstractAuthorizationGrantHandler {
                     + tokReqMsgCtx.getAuthorizedUser().getLoggableMaskedUserId(), e);
         }
         String tokenBindingReference = getTokenBindingReference(tokReqMsgCtx);
-        synchronized ((consumerKey + ":" + authorizedUserId + ":" + scope + ":" + tokenBindingReference).intern()) {
+        try (TokenIssuanceLock lock = OAuth2ServiceComponentHolder.getInstance().getTokenIssuanceLockManager()
+                .lock(consumerKey, authorizedUserId, scope, tokenBindingReference)) {
             // sets accessToken, refreshToken and validity data
             setTokenData(accessTokenBean, tokReqMsgCtx, validationBean, tokenReq, accessTokenBean.getIssuedTime());
             persistNewToken(tokReqMsgCtx, accessTokenBean, tokenReq.getClientId());
@@ -860,11 +863,13 @@ public class RefreshGrantHandler extends AbstractAuthorizationGrantHandler {
             setCustomizedAccessTokenAttributesToMessageContext(refreshTokenValidationDataDO, tokenReqMessageContext);
 
             FlowContext flowContext = FlowContext.create().add("tokenMessageContext", tokenReqMessageContext);
+            String tenantDomain = IdentityTenantUtil.getTenantDomain(IdentityTenantUtil.getLoginTenantId());
+            PreIssueAccessTokenActionTimer timer = PreIssueAccessTokenActionTimer.start(tokenReqMessageContext,
+                    tenantDomain);
 
             try {
                 executionStatus = OAuthComponentServiceHolder.getInstance().getActionExecutorService()
-                        .execute(ActionType.PRE_ISSUE_ACCESS_TOKEN, flowContext,
-                                IdentityTenantUtil.getTenantDomain(IdentityTenantUtil.getLoginTenantId()));
+                        .execute(ActionType.PRE_ISSUE_ACCESS_TOKEN, flowContext, tenantDomain);
                 if (log.isDebugEnabled()) {
                     log.debug(String.format(
                             "Invoked pre issue access token action for clientID: %s grant types: %s. Status: %s",
@@ -874,6 +879,10 @@ public class RefreshGrantHandler extends AbstractAuthorizationGrantHandler {
                 }
             } catch (ActionExecutionException e) {
                 throw new IdentityOAuth2Exception("Error occurred while executing pre issue access token actions.", e);
+            } finally {
+                if (timer != null) {
+                    timer.complete();
+                }
             }
         }
         return executionStatus;
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.token.lock;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Lock manager which maps the lock keys to a fixed number of reentrant locks.
+ * <p>
+ * The stripe of a key is derived from the hash codes of the key parts, so no key string is built or retained per
+ * request. Keys sharing a stripe are serialized together, which only costs throughput. The grant locks are taken from
+ * a separate set of stripes, as a token lock is acquired while holding a grant lock, and a shared stripe could then
+ * be locked in the opposite order by another request. A request which can't get the lock within the timeout proceeds
+ * without it, so that a hot client and user pair can't hold up the request threads.
+ */
+public class StripedTokenIssuanceLockManager implements TokenIssuanceLockManager {
+
+    private static final Log log = LogFactory.getLog(StripedTokenIssuanceLockManager.class);
+
+    private final Stripe[] stripes;
+    private final Stripe[] grantStripes;
+    private final long timeoutInNanos;
+    private final TokenIssuanceLockMetrics metrics = new TokenIssuanceLockMetrics();
+
+    /**
+     * @param stripeCount     Number of locks, rounded up to a power of two.
+     * @param timeoutInMillis Maximum time to wait for a lock.
+     */
+    public StripedTokenIssuanceLockManager(int stripeCount, long timeoutInMillis) {
+
+        if (stripeCount <= 0 || timeoutInMillis < 0) {
+            throw new IllegalArgumentException("Invalid stripe count: " + stripeCount + " or timeout: " +
+                    timeoutInMillis);
+        }
+        int size = Integer.highestOneBit(stripeCount);
+        if (size < stripeCount) {
+            size <<= 1;
+        }
+        stripes = createStripes(size);
+        grantStripes = createStripes(size);
+        timeoutInNanos = TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+    }
+
+    @Override
+    public TokenIssuanceLock lock(String... keyParts) {
+
+        return lock(stripes[indexOf(keyParts)]);
+    }
+
+    @Override
+    public TokenIssuanceLock lockGrant(String... keyParts) {
+
+        return lock(grantStripes[indexOf(keyParts)]);
+    }
+
+    private TokenIssuanceLock lock(Stripe stripe) {
+
+        if (stripe.tryLock()) {
+            metrics.recordUncontended();
+            return stripe;
+        }
+        long startTime = System.nanoTime();
+        try {
+            if (stripe.tryLock(timeoutInNanos, TimeUnit.NANOSECONDS)) {
+                metrics.recordAcquired(System.nanoTime() - startTime);
+                return stripe;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        metrics.recordTimedOut(System.nanoTime() - startTime);
+        log.warn("Proceeding without the token issuance lock as it was not acquired within " +
+                TimeUnit.NANOSECONDS.toMillis(timeoutInNanos) + "ms. Concurrent requests of the same client and " +
+                "user may issue duplicate tokens. Lock metrics: " + metrics);
+        return NoOpTokenIssuanceLockManager.NO_LOCK;
+    }
+
+    public int getStripeCount() {
+
+        return stripes.length;
+    }
+
+    public TokenIssuanceLockMetrics getMetrics() {
+
+        return metrics;
+    }
+
+    int indexOf(String... keyParts) {
+
+        int hash = 1;
+        for (String keyPart : keyParts) {
+            hash = 31 * hash + (keyPart == null ? 0 : keyPart.hashCode());
+        }
+        // Spread the higher bits, as only the lower bits select the stripe.
+        hash ^= (hash >>> 16);
+        return hash & (stripes.length - 1);
+    }
+
+    private static Stripe[] createStripes(int size) {
+
+        Stripe[] stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new Stripe();
+        }
+        return stripes;
+    }
+
+    /**
+     * Lock of a stripe, which is also the handle returned to the callers to release it.
+     */
+    private static class Stripe extends ReentrantLock implements TokenIssuanceLock {
+
+        private static final long serialVersionUID = 7394614126387254130L;
+
+        @Override
+        public void close() {
+
+            unlock();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.token.lock;
+
+/**
+ * Serializes the issuance and revocation of the tokens of the same client, user, scope and token binding, so that
+ * concurrent requests reuse the same active token instead of issuing duplicates.
+ * <p>
+ * The default implementation locks within the node. A lock manager which coordinates across the nodes of a cluster
+ * can be registered as an OSGi service, which then takes precedence over the configured lock manager.
+ */
+public interface TokenIssuanceLockManager {
+
+    /**
+     * Acquire the lock for the key made of the given parts. Implementations should give up waiting after a bounded
+     * time and return a lock which holds nothing, in which case the caller proceeds without mutual exclusion, as
+     * it would on another node of the cluster.
+     *
+     * @param keyParts Parts of the lock key, such as the client ID, user ID and scope.
+     * @return Lock to be released by the caller.
+     */
+    TokenIssuanceLock lock(String... keyParts);
+
+    /**
+     * Acquire the lock for a grant, such as an authorization code or a refresh token, which is held while the token
+     * of the grant is issued with {@link #lock}. Implementations must not let a grant lock and a token lock share
+     * the same underlying lock, as two requests taking them in the opposite order would then wait for each other.
+     *
+     * @param keyParts Parts of the lock key, such as the grant type, client ID and grant.
+     * @return Lock to be released by the caller.
+     */
+    default TokenIssuanceLock lockGrant(String... keyParts) {
+
+        return lock(keyParts);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.token.lock;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import static org.wso2.carbon.identity.oauth.common.OAuthCommonUtil.getIntProperty;
+
+/**
+ * Creates the token issuance lock manager from the configuration.
+ * <pre>
+ * [oauth.token_issuance.lock]
+ * type = "striped"
+ * stripes = 1024
+ * timeout = 2000
+ * </pre>
+ * The type can be "striped" or "none".
+ */
+public class TokenIssuanceLockManagerFactory {
+
+    private static final Log log = LogFactory.getLog(TokenIssuanceLockManagerFactory.class);
+
+    private static final String LOCK_TYPE = "OAuth.TokenIssuance.Lock.Type";
+    private static final String LOCK_STRIPES = "OAuth.TokenIssuance.Lock.Stripes";
+    private static final String LOCK_TIMEOUT = "OAuth.TokenIssuance.Lock.Timeout";
+
+    private static final String LOCK_TYPE_STRIPED = "striped";
+    private static final String LOCK_TYPE_NONE = "none";
+    private static final int DEFAULT_STRIPES = 1024;
+    private static final int DEFAULT_TIMEOUT_IN_MILLIS = 2000;
+
+    private TokenIssuanceLockManagerFactory() {
+
+    }
+
+    /**
+     * Create the lock manager configured for the node.
+     *
+     * @return Token issuance lock manager.
+     */
+    public static TokenIssuanceLockManager createLockManager() {
+
+        String type = StringUtils.defaultIfBlank(IdentityUtil.getProperty(LOCK_TYPE), LOCK_TYPE_STRIPED).trim();
+        if (LOCK_TYPE_NONE.equalsIgnoreCase(type)) {
+            return new NoOpTokenIssuanceLockManager();
+        }
+        if (!LOCK_TYPE_STRIPED.equalsIgnoreCase(type)) {
+            log.warn("Unsupported token issuance lock type: " + type + ". Using the default type: " +
+                    LOCK_TYPE_STRIPED);
+        }
+        return new StripedTokenIssuanceLockManager(getIntProperty(LOCK_STRIPES, DEFAULT_STRIPES, 1),
+                getIntProperty(LOCK_TIMEOUT, DEFAULT_TIMEOUT_IN_MILLIS, 1));
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.token.lock;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Wait time metrics of the token issuance locks.
+ */
+public class TokenIssuanceLockMetrics {
+
+    private final AtomicLong acquiredCount = new AtomicLong();
+    private final AtomicLong contendedCount = new AtomicLong();
+    private final AtomicLong timedOutCount = new AtomicLong();
+    private final AtomicLong totalWaitTimeInNanos = new AtomicLong();
+    private final AtomicLong maxWaitTimeInNanos = new AtomicLong();
+
+    void recordUncontended() {
+
+        acquiredCount.incrementAndGet();
+    }
+
+    void recordAcquired(long waitTimeInNanos) {
+
+        acquiredCount.incrementAndGet();
+        contendedCount.incrementAndGet();
+        recordWaitTime(waitTimeInNanos);
+    }
+
+    void recordTimedOut(long waitTimeInNanos) {
+
+        timedOutCount.incrementAndGet();
+        contendedCount.incrementAndGet();
+        recordWaitTime(waitTimeInNanos);
+    }
+
+    private void recordWaitTime(long waitTimeInNanos) {
+
+        totalWaitTimeInNanos.addAndGet(waitTimeInNanos);
+        maxWaitTimeInNanos.accumulateAndGet(waitTimeInNanos, Math::max);
+    }
+
+    public long getAcquiredCount() {
+
+        return acquiredCount.get();
+    }
+
+    public long getContendedCount() {
+
+        return contendedCount.get();
+    }
+
+    public long getTimedOutCount() {
+
+        return timedOutCount.get();
+    }
+
+    public long getAverageWaitTimeInMillis() {
+
+        long contended = contendedCount.get();
+        return contended == 0 ? 0 : totalWaitTimeInNanos.get() / contended / 1000000;
+    }
+
+    public long getMaxWaitTimeInMillis() {
+
+        return maxWaitTimeInNanos.get() / 1000000;
+    }
+
+    @Override
+    public String toString() {
+
+        return "acquired=" + getAcquiredCount() + ", contended=" + getContendedCount() + ", timedOut=" +
+                getTimedOutCount() + ", averageWaitTimeInMillis=" + getAverageWaitTimeInMillis() +
+                ", maxWaitTimeInMillis=" + getMaxWaitTimeInMillis();
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.token.poll;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.wso2.carbon.identity.oauth.common.OAuthCommonUtil.getIntProperty;
+
+/**
+ * In-process notifier which lets a token request of a pending CIBA or device flow authorization wait until the
+ * authorization completes, instead of returning authorization_pending right away and making the client poll again.
+ * Waiting requests are keyed by an identifier of the pending authorization, such as the device code, and are woken
+ * when the status of that authorization changes on this node. A request which is not woken within the configured
+ * timeout is answered with authorization_pending as before.
+ */
+public class AuthorizationCompletionNotifier {
+
+    private static final Log log = LogFactory.getLog(AuthorizationCompletionNotifier.class);
+
+    private static final String ENABLE = "OAuth.LongPolling.Enable";
+    private static final String TIMEOUT = "OAuth.LongPolling.Timeout";
+    private static final String MAX_WAITING_REQUESTS = "OAuth.LongPolling.MaxWaitingRequests";
+
+    private static final int DEFAULT_TIMEOUT = 10;
+    private static final int DEFAULT_MAX_WAITING_REQUESTS = 100;
+
+    private static final AuthorizationCompletionNotifier instance = new AuthorizationCompletionNotifier(
+            Boolean.parseBoolean(IdentityUtil.getProperty(ENABLE)),
+            TimeUnit.SECONDS.toMillis(getIntProperty(TIMEOUT, DEFAULT_TIMEOUT, 0)),
+            getIntProperty(MAX_WAITING_REQUESTS, DEFAULT_MAX_WAITING_REQUESTS, 0));
+
+    private final Map<String, Waiters> waiters = new ConcurrentHashMap<>();
+    private final Map<String, Long> completions = new ConcurrentHashMap<>();
+    private final AtomicInteger waitingRequests = new AtomicInteger();
+    private final boolean enabled;
+    private final long timeoutInMillis;
+    private final int maxWaitingRequests;
+
+    AuthorizationCompletionNotifier(boolean enabled, long timeoutInMillis, int maxWaitingRequests) {
+
+        this.enabled = enabled && timeoutInMillis > 0 && maxWaitingRequests > 0;
+        this.timeoutInMillis = timeoutInMillis;
+        this.maxWaitingRequests = maxWaitingRequests;
+    }
+
+    public static AuthorizationCompletionNotifier getInstance() {
+
+        return instance;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Wait until the given pending authorization completes or the configured timeout elapses. A completion which
+     * happened shortly before this call, between reading the pending status and starting to wait, is also observed.
+     *
+     * @param key Identifier of the pending authorization.
+     * @return true if the authorization completed and its status has to be read again, false if the timeout elapsed
+     * or long polling is disabled or saturated.
+     */
+    public boolean awaitCompletion(String key) {
+
+        if (!enabled || StringUtils.isBlank(key)) {
+            return false;
+        }
+        if (waitingRequests.incrementAndGet() > maxWaitingRequests) {
+            waitingRequests.decrementAndGet();
+            if (log.isDebugEnabled()) {
+                log.debug("Maximum number of waiting token requests reached. Not waiting for the completion of: " +
+                        key);
+            }
+            return false;
+        }
+        Waiters registered = waiters.compute(key, (k, current) -> {
+            Waiters result = current != null ? current : new Waiters();
+            result.count++;
+            return result;
+        });
+        try {
+            if (isRecentlyCompleted(key)) {
+                return true;
+            }
+            return registered.latch.await(timeoutInMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            waiters.computeIfPresent(key, (k, current) -> current != registered || --current.count > 0 ?
+                    current : null);
+            waitingRequests.decrementAndGet();
+        }
+    }
+
+    /**
+     * Wake the token requests waiting for the given authorization.
+     *
+     * @param key Identifier of the authorization whose status changed.
+     */
+    public void notifyCompletion(String key) {
+
+        if (!enabled || StringUtils.isBlank(key)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (completions.size() >= maxWaitingRequests) {
+            completions.values().removeIf(completedAt -> now - completedAt > timeoutInMillis);
+        }
+        // Record the completion before waking the waiters, so that a request which registers afterwards sees it.
+        completions.put(key, now);
+        Waiters waiting = waiters.remove(key);
+        if (waiting != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Waking " + waiting.count + " token request(s) waiting for the completion of: " + key);
+            }
+            waiting.latch.countDown();
+        }
+    }
+
+    int getWaitingRequestCount() {
+
+        return waitingRequests.get();
+    }
+
+    private boolean isRecentlyCompleted(String key) {
+
+        Long completedAt = completions.get(key);
+        return completedAt != null && System.currentTimeMillis() - completedAt <= timeoutInMillis;
+    }
+
+    /**
+     * Token requests waiting for the same authorization.
+     */
+    private static class Waiters {
+
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private int count;
+    }
+}
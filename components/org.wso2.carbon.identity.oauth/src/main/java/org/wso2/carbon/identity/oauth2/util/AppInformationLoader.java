@@ -0,0 +1,373 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientException;
+import org.wso2.carbon.identity.oauth.dao.OAuthAppDO;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import static org.wso2.carbon.identity.oauth.common.OAuthCommonUtil.getIntProperty;
+
+/**
+ * Loads the OAuth applications missing in the AppInfoCache.
+ * <p>
+ * Concurrent misses for the same client ID and tenant are coalesced, so that only one of the requests reads the
+ * application from the database while the others wait for its result. Optionally, client IDs which are not found can
+ * be remembered for a short period, and the cached applications can be reloaded in the background once they get
+ * older than a configured age, so that a popular application doesn't drop out of the cache under load.
+ * <p>
+ * The entries of a client ID are invalidated through {@link #invalidate} when its application is registered, updated
+ * or deleted on this node. A load which started before the invalidation does not write its result to the cache, as
+ * it may have read the application before the change.
+ * <pre>
+ * [oauth.app_info_cache]
+ * negative_cache_timeout = 30
+ * negative_cache_size = 10000
+ * refresh_after = 600
+ * </pre>
+ * Both the negative caching and the background refresh are disabled by default.
+ */
+public class AppInformationLoader {
+
+    private static final Log log = LogFactory.getLog(AppInformationLoader.class);
+
+    private static final String NEGATIVE_CACHE_TIMEOUT = "OAuth.AppInfoCache.NegativeCacheTimeout";
+    private static final String NEGATIVE_CACHE_SIZE = "OAuth.AppInfoCache.NegativeCacheSize";
+    private static final String REFRESH_AFTER = "OAuth.AppInfoCache.RefreshAfter";
+
+    private static final int DEFAULT_NEGATIVE_CACHE_SIZE = 10000;
+    private static final int REFRESH_QUEUE_SIZE = 100;
+    // Maximum number of applications whose load time is tracked for the background refresh.
+    private static final int MAX_TRACKED_APPS = 10000;
+
+    private static final AppInformationLoader instance = new AppInformationLoader(
+            TimeUnit.SECONDS.toMillis(getIntProperty(NEGATIVE_CACHE_TIMEOUT, 0, 0)),
+            getIntProperty(NEGATIVE_CACHE_SIZE, DEFAULT_NEGATIVE_CACHE_SIZE, 0),
+            TimeUnit.SECONDS.toMillis(getIntProperty(REFRESH_AFTER, 0, 0)));
+
+    private final Map<String, CompletableFuture<OAuthAppDO>> inFlightLoads = new ConcurrentHashMap<>();
+    private final Map<String, NotFoundEntry> notFoundClients = new ConcurrentHashMap<>();
+    private final Map<String, Long> loadTimes = new ConcurrentHashMap<>();
+    private final AtomicLong invalidationCount = new AtomicLong();
+    private final ReadWriteLock invalidationLock = new ReentrantReadWriteLock();
+    private final long negativeCacheTimeoutInMillis;
+    private final int negativeCacheSize;
+    private final long refreshAfterInMillis;
+    private volatile ThreadPoolExecutor refreshExecutor;
+
+    AppInformationLoader(long negativeCacheTimeoutInMillis, int negativeCacheSize, long refreshAfterInMillis) {
+
+        this.negativeCacheTimeoutInMillis = negativeCacheTimeoutInMillis;
+        this.negativeCacheSize = negativeCacheSize;
+        this.refreshAfterInMillis = refreshAfterInMillis;
+    }
+
+    public static AppInformationLoader getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Load an application missing in the cache. If the application is already being loaded by another request, the
+     * result of that request is returned instead.
+     *
+     * @param clientId    Client ID of the application.
+     * @param tenantId    ID of the tenant the application is looked up in.
+     * @param appLoader   Reads the application from the database.
+     * @param cacheWriter Adds the loaded application to the cache.
+     * @return Loaded application.
+     * @throws IdentityOAuth2Exception     Error while loading the application.
+     * @throws InvalidOAuthClientException If an application is not found for the given client ID.
+     */
+    public OAuthAppDO load(String clientId, int tenantId, AppLoader appLoader, Consumer<OAuthAppDO> cacheWriter)
+            throws IdentityOAuth2Exception, InvalidOAuthClientException {
+
+        String key = buildKey(clientId, tenantId);
+        NotFoundEntry notFoundEntry = notFoundClients.get(key);
+        if (notFoundEntry != null) {
+            if (notFoundEntry.expiryTime > System.currentTimeMillis()) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Application for client ID: " + clientId + " was recently not found in tenant: " +
+                            tenantId);
+                }
+                throw new InvalidOAuthClientException(notFoundEntry.message);
+            }
+            notFoundClients.remove(key, notFoundEntry);
+        }
+
+        CompletableFuture<OAuthAppDO> load = new CompletableFuture<>();
+        CompletableFuture<OAuthAppDO> inFlightLoad;
+        while ((inFlightLoad = inFlightLoads.putIfAbsent(key, load)) != null) {
+            try {
+                return awaitLoad(inFlightLoad, clientId);
+            } catch (CancellationException e) {
+                // A background refresh which couldn't be scheduled, load the application on this request instead.
+                inFlightLoads.remove(key, inFlightLoad);
+            }
+        }
+        long loadVersion = invalidationCount.get();
+        try {
+            OAuthAppDO oAuthAppDO = loadAndCache(key, appLoader, cacheWriter, loadVersion);
+            load.complete(oAuthAppDO);
+            return oAuthAppDO;
+        } catch (InvalidOAuthClientException e) {
+            rememberNotFound(key, e.getMessage(), loadVersion);
+            load.completeExceptionally(e);
+            throw e;
+        } catch (IdentityOAuth2Exception | RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(key, load);
+        }
+    }
+
+    /**
+     * Reload a cached application in the background if it was loaded before the configured refresh age.
+     *
+     * @param clientId    Client ID of the application.
+     * @param tenantId    ID of the tenant the application is looked up in.
+     * @param appLoader   Reads the application from the database.
+     * @param cacheWriter Adds the reloaded application to the cache.
+     */
+    public void refreshIfStale(String clientId, int tenantId, AppLoader appLoader, Consumer<OAuthAppDO> cacheWriter) {
+
+        String key = buildKey(clientId, tenantId);
+        Long loadTime = loadTimes.get(key);
+        if (loadTime == null) {
+            // Loaded before this node tracked the load time, refresh after a full period from now.
+            trackLoadTime(key, System.currentTimeMillis());
+            return;
+        }
+        if (System.currentTimeMillis() - loadTime < refreshAfterInMillis) {
+            return;
+        }
+        CompletableFuture<OAuthAppDO> refresh = new CompletableFuture<>();
+        if (inFlightLoads.putIfAbsent(key, refresh) != null) {
+            return;
+        }
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        try {
+            getRefreshExecutor().execute(() -> refresh(key, tenantDomain, appLoader, cacheWriter, refresh));
+        } catch (RejectedExecutionException e) {
+            inFlightLoads.remove(key, refresh);
+            refresh.cancel(false);
+        }
+    }
+
+    public boolean isRefreshEnabled() {
+
+        return refreshAfterInMillis > 0;
+    }
+
+    /**
+     * Invalidate the entries of a client ID in all the tenants, once its application is registered, updated or
+     * deleted. Must be called before the application is removed from the cache, so that an in-flight load can't
+     * write back the application it read before the change.
+     *
+     * @param clientId Client ID of the application.
+     */
+    public void invalidate(String clientId) {
+
+        String keySuffix = ":" + clientId;
+        invalidationLock.writeLock().lock();
+        try {
+            invalidationCount.incrementAndGet();
+            notFoundClients.keySet().removeIf(key -> key.endsWith(keySuffix));
+            loadTimes.keySet().removeIf(key -> key.endsWith(keySuffix));
+        } finally {
+            invalidationLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stop the background refreshes.
+     */
+    public synchronized void shutdown() {
+
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+            refreshExecutor = null;
+        }
+    }
+
+    private void refresh(String key, String tenantDomain, AppLoader appLoader, Consumer<OAuthAppDO> cacheWriter,
+                         CompletableFuture<OAuthAppDO> refresh) {
+
+        PrivilegedCarbonContext.startTenantFlow();
+        try {
+            PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain, true);
+            refresh.complete(loadAndCache(key, appLoader, cacheWriter, invalidationCount.get()));
+        } catch (IdentityOAuth2Exception | InvalidOAuthClientException | RuntimeException e) {
+            // The cached application is left to expire, and is then loaded by a request.
+            loadTimes.remove(key);
+            refresh.completeExceptionally(e);
+            if (log.isDebugEnabled()) {
+                log.debug("Error while refreshing the cached application: " + key, e);
+            }
+        } finally {
+            inFlightLoads.remove(key, refresh);
+            PrivilegedCarbonContext.endTenantFlow();
+        }
+    }
+
+    private OAuthAppDO loadAndCache(String key, AppLoader appLoader, Consumer<OAuthAppDO> cacheWriter,
+                                    long loadVersion) throws IdentityOAuth2Exception, InvalidOAuthClientException {
+
+        OAuthAppDO oAuthAppDO = appLoader.load();
+        if (oAuthAppDO == null) {
+            return null;
+        }
+        invalidationLock.readLock().lock();
+        try {
+            if (invalidationCount.get() != loadVersion) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Application: " + key + " is not cached as an application was invalidated while " +
+                            "it was being loaded.");
+                }
+                return oAuthAppDO;
+            }
+            // Added to the cache before the load is completed, so that the later requests hit the cache.
+            cacheWriter.accept(oAuthAppDO);
+            if (isRefreshEnabled()) {
+                trackLoadTime(key, System.currentTimeMillis());
+            }
+        } finally {
+            invalidationLock.readLock().unlock();
+        }
+        return oAuthAppDO;
+    }
+
+    private void trackLoadTime(String key, long loadTime) {
+
+        // Applications which are not tracked are not refreshed, and are loaded again once they expire in the cache.
+        if (loadTimes.size() < MAX_TRACKED_APPS || loadTimes.containsKey(key)) {
+            loadTimes.put(key, loadTime);
+        }
+    }
+
+    private OAuthAppDO awaitLoad(CompletableFuture<OAuthAppDO> inFlightLoad, String clientId)
+            throws IdentityOAuth2Exception, InvalidOAuthClientException {
+
+        try {
+            return inFlightLoad.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdentityOAuth2Exception("Interrupted while loading the application for client ID: " +
+                    clientId, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof InvalidOAuthClientException) {
+                throw (InvalidOAuthClientException) cause;
+            }
+            if (cause instanceof IdentityOAuth2Exception) {
+                throw (IdentityOAuth2Exception) cause;
+            }
+            throw new IdentityOAuth2Exception("Error while loading the application for client ID: " + clientId,
+                    cause);
+        }
+    }
+
+    private void rememberNotFound(String key, String message, long loadVersion) {
+
+        if (negativeCacheTimeoutInMillis <= 0) {
+            return;
+        }
+        long currentTime = System.currentTimeMillis();
+        if (notFoundClients.size() >= negativeCacheSize) {
+            notFoundClients.values().removeIf(entry -> entry.expiryTime <= currentTime);
+            if (notFoundClients.size() >= negativeCacheSize) {
+                return;
+            }
+        }
+        invalidationLock.readLock().lock();
+        try {
+            // The application may have been registered after it was looked up.
+            if (invalidationCount.get() == loadVersion) {
+                notFoundClients.put(key, new NotFoundEntry(message, currentTime + negativeCacheTimeoutInMillis));
+            }
+        } finally {
+            invalidationLock.readLock().unlock();
+        }
+    }
+
+    private ThreadPoolExecutor getRefreshExecutor() {
+
+        if (refreshExecutor == null) {
+            synchronized (this) {
+                if (refreshExecutor == null) {
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                            new ArrayBlockingQueue<>(REFRESH_QUEUE_SIZE), runnable -> {
+                                Thread thread = new Thread(runnable, "oauth-app-info-refresh");
+                                thread.setDaemon(true);
+                                return thread;
+                            }, new ThreadPoolExecutor.AbortPolicy());
+                    refreshExecutor = executor;
+                }
+            }
+        }
+        return refreshExecutor;
+    }
+
+    private static String buildKey(String clientId, int tenantId) {
+
+        return tenantId + ":" + clientId;
+    }
+
+    /**
+     * Reads an OAuth application from the database.
+     */
+    @FunctionalInterface
+    public interface AppLoader {
+
+        OAuthAppDO load() throws IdentityOAuth2Exception, InvalidOAuthClientException;
+    }
+
+    /**
+     * Client ID which was not found, along with the error message to be returned until the entry expires.
+     */
+    private static class NotFoundEntry {
+
+        private final String message;
+        private final long expiryTime;
+
+        NotFoundEntry(String message, long expiryTime) {
+
+            this.message = message;
+            this.expiryTime = expiryTime;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.util;
+
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.util.Base64URL;
+
+import java.security.Key;
+import java.security.cert.Certificate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the reusable signing material of a tenant for a given signature algorithm. The signer, the certificate
+ * thumbprint and the key id are computed once and the JWS headers are built from them on demand, so that signing a
+ * JWT does not repeat the key lookup, the signer creation and the thumbprint calculation for every token.
+ */
+public class JWTSigningContext {
+
+    private final JWSSigner signer;
+    private final Key privateKey;
+    private final Certificate certificate;
+    private final JWSAlgorithm signatureAlgorithm;
+    private final String keyId;
+    private final String certThumbprint;
+    private final JWSHeader header;
+    private final Map<String, JWSHeader> typedHeaders = new ConcurrentHashMap<>();
+
+    public JWTSigningContext(JWSSigner signer, Key privateKey, Certificate certificate,
+                             JWSAlgorithm signatureAlgorithm, String keyId, String certThumbprint) {
+
+        this.signer = signer;
+        this.privateKey = privateKey;
+        this.certificate = certificate;
+        this.signatureAlgorithm = signatureAlgorithm;
+        this.keyId = keyId;
+        this.certThumbprint = certThumbprint;
+        this.header = new JWSHeader.Builder(signatureAlgorithm)
+                .keyID(keyId)
+                .x509CertThumbprint(new Base64URL(certThumbprint))
+                .build();
+    }
+
+    public JWSSigner getSigner() {
+
+        return signer;
+    }
+
+    public Certificate getCertificate() {
+
+        return certificate;
+    }
+
+    public JWSAlgorithm getSignatureAlgorithm() {
+
+        return signatureAlgorithm;
+    }
+
+    public String getKeyId() {
+
+        return keyId;
+    }
+
+    public String getCertThumbprint() {
+
+        return certThumbprint;
+    }
+
+    /**
+     * Get the JWS header with the algorithm, 'kid' and 'x5t' values of this context.
+     *
+     * @return JWS header.
+     */
+    public JWSHeader getHeader() {
+
+        return header;
+    }
+
+    /**
+     * Get the JWS header with the algorithm, 'kid' and 'x5t' values of this context and the given 'typ' value.
+     *
+     * @param type Value of the 'typ' header.
+     * @return JWS header.
+     */
+    public JWSHeader getHeader(JOSEObjectType type) {
+
+        if (type == null) {
+            return header;
+        }
+        return typedHeaders.computeIfAbsent(type.getType(), typeValue -> new JWSHeader.Builder(signatureAlgorithm)
+                .keyID(keyId)
+                .x509CertThumbprint(new Base64URL(certThumbprint))
+                .type(type)
+                .build());
+    }
+
+    /**
+     * Check whether this context was built from the given key material. A mismatch means the tenant keystore has
+     * been reloaded and the context needs to be rebuilt.
+     *
+     * @param privateKey  Current signing key of the tenant.
+     * @param certificate Current signing certificate of the tenant.
+     * @return True if the context was built from the given key and certificate.
+     */
+    public boolean isBuiltFrom(Key privateKey, Certificate certificate) {
+
+        return this.privateKey == privateKey && this.certificate == certificate;
+    }
+}
@@ -21,6 +21,8 @@ package org.wso2.carbon.identity.oauth2.util;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.util.Base64URL;
+import com.nimbusds.jose.util.JSONObjectUtils;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import org.apache.commons.collections.MapUtils;
@@ -104,6 +106,25 @@ public class JWTUtils {
         return StringUtils.countMatches(tokenIdentifier, DOT_SEPARATOR) == 2;
     }
 
+    /**
+     * Get the "jti" claim of a JWT. Only the payload of the JWT is decoded and the claim is read from the payload JSON,
+     * without parsing the header or building the claims set.
+     *
+     * @param jwt Serialized JWT.
+     * @return Value of the "jti" claim, or null if the claim is not present.
+     * @throws ParseException If the payload of the JWT is not a valid JSON object.
+     */
+    public static String getJWTID(String jwt) throws ParseException {
+
+        int payloadStart = jwt.indexOf('.') + 1;
+        int payloadEnd = payloadStart > 0 ? jwt.indexOf('.', payloadStart) : -1;
+        if (payloadEnd < 0) {
+            throw new ParseException("Invalid serialized JWT. Missing the payload part.", 0);
+        }
+        Base64URL payload = new Base64URL(jwt.substring(payloadStart, payloadEnd));
+        return JSONObjectUtils.getString(JSONObjectUtils.parse(payload.decodeToString()), OAuth2Util.JTI);
+    }
+
     /**
      * Get JWT Claim sets for the given access token.
      *
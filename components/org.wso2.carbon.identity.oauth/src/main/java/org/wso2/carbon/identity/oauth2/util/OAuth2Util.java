@@ -26,7 +26,6 @@ import com.nimbusds.jose.JWEEncrypter;
 import com.nimbusds.jose.JWEHeader;
 import com.nimbusds.jose.JWEObject;
 import com.nimbusds.jose.JWSAlgorithm;
-import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSSigner;
 import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jose.Payload;
@@ -123,6 +122,7 @@ import org.wso2.carbon.identity.oauth2.authz.OAuthAuthzReqMessageContext;
 import org.wso2.carbon.identity.oauth2.bean.OAuthClientAuthnContext;
 import org.wso2.carbon.identity.oauth2.bean.Scope;
 import org.wso2.carbon.identity.oauth2.bean.ScopeBinding;
+import org.wso2.carbon.identity.oauth2.cache.JWKSDocumentCache;
 import org.wso2.carbon.identity.oauth2.client.authentication.OAuthClientAuthenticator;
 import org.wso2.carbon.identity.oauth2.client.authentication.OAuthClientAuthnException;
 import org.wso2.carbon.identity.oauth2.config.SpOAuth2ExpiryTimeConfiguration;
@@ -197,6 +197,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -205,6 +206,7 @@ import java.util.stream.Collectors;
 import javax.servlet.http.HttpServletRequest;
 import javax.xml.namespace.QName;
 
+import static org.wso2.carbon.identity.oauth.common.OAuthCommonUtil.getIntProperty;
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OAUTH_BUILD_ISSUER_WITH_HOSTNAME;
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OAuth10AEndpoints.OAUTH_AUTHZ_EP_URL;
 import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OAuth10AEndpoints.OAUTH_REQUEST_TOKEN_EP_URL;
@@ -355,6 +357,14 @@ public class OAuth2Util {
 
     private static Map<Integer, Certificate> publicCerts = new ConcurrentHashMap<Integer, Certificate>();
     private static Map<Integer, Key> privateKeys = new ConcurrentHashMap<Integer, Key>();
+    private static Map<String, JWTSigningContext> jwtSigningContexts = new ConcurrentHashMap<>();
+    private static Map<Integer, Long> signingKeyLoadTimes = new ConcurrentHashMap<>();
+    // Cached signing keys are reloaded from the tenant keystore after this interval, so that rotated keys are picked
+    // up without a restart. 0 keeps them until the tenant is deactivated or deleted.
+    private static final String SIGNING_KEY_REFRESH_INTERVAL = "OAuth.SigningKeyCache.RefreshInterval";
+    private static final int DEFAULT_SIGNING_KEY_REFRESH_INTERVAL_IN_SECONDS = 900;
+    private static final long signingKeyRefreshIntervalInMillis = TimeUnit.SECONDS.toMillis(
+            getIntProperty(SIGNING_KEY_REFRESH_INTERVAL, DEFAULT_SIGNING_KEY_REFRESH_INTERVAL_IN_SECONDS, 0));
 
     // Supported Signature Algorithms
     private static final String NONE = "NONE";
@@ -2492,16 +2502,21 @@ public class OAuth2Util {
     public static OAuthAppDO getAppInformationByClientId(String clientId)
             throws IdentityOAuth2Exception, InvalidOAuthClientException {
 
+        AppInformationLoader appInformationLoader = AppInformationLoader.getInstance();
         OAuthAppDO oAuthAppDO = AppInfoCache.getInstance().getValueFromCache(clientId);
         if (oAuthAppDO != null) {
-            return oAuthAppDO;
-        } else {
-            oAuthAppDO = new OAuthAppDAO().getAppInformation(clientId, IdentityTenantUtil.getLoginTenantId());
-            if (oAuthAppDO != null) {
-                AppInfoCache.getInstance().addToCache(clientId, oAuthAppDO);
+            if (appInformationLoader.isRefreshEnabled()) {
+                int tenantId = IdentityTenantUtil.getLoginTenantId();
+                appInformationLoader.refreshIfStale(clientId, tenantId,
+                        () -> new OAuthAppDAO().getAppInformation(clientId, tenantId),
+                        app -> AppInfoCache.getInstance().addToCache(clientId, app));
             }
             return oAuthAppDO;
         }
+        int tenantId = IdentityTenantUtil.getLoginTenantId();
+        return appInformationLoader.load(clientId, tenantId,
+                () -> new OAuthAppDAO().getAppInformation(clientId, tenantId),
+                app -> AppInfoCache.getInstance().addToCache(clientId, app));
     }
 
     /**
@@ -2516,20 +2531,31 @@ public class OAuth2Util {
     public static OAuthAppDO getAppInformationByClientId(String clientId, String tenantDomain)
             throws IdentityOAuth2Exception, InvalidOAuthClientException {
 
+        AppInformationLoader appInformationLoader = AppInformationLoader.getInstance();
         OAuthAppDO oAuthAppDO = AppInfoCache.getInstance().getValueFromCache(clientId, tenantDomain);
-        if (oAuthAppDO == null) {
-            oAuthAppDO = new OAuthAppDAO().getAppInformation(clientId, IdentityTenantUtil.getTenantId(tenantDomain));
-            if (oAuthAppDO != null) {
-                if (!AuthzUtil.isLegacyAuthzRuntime() && oAuthAppDO.getAppOwner() != null &&
-                        StringUtils.isNotEmpty(oAuthAppDO.getAppOwner().getTenantDomain())) {
-                    AppInfoCache.getInstance().addToCache(clientId, oAuthAppDO,
-                            oAuthAppDO.getAppOwner().getTenantDomain());
-                } else {
-                    AppInfoCache.getInstance().addToCache(clientId, oAuthAppDO, tenantDomain);
-                }
+        if (oAuthAppDO != null) {
+            if (appInformationLoader.isRefreshEnabled()) {
+                int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+                appInformationLoader.refreshIfStale(clientId, tenantId,
+                        () -> new OAuthAppDAO().getAppInformation(clientId, tenantId),
+                        app -> addToAppInfoCache(clientId, app, tenantDomain));
             }
+            return oAuthAppDO;
+        }
+        int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
+        return appInformationLoader.load(clientId, tenantId,
+                () -> new OAuthAppDAO().getAppInformation(clientId, tenantId),
+                app -> addToAppInfoCache(clientId, app, tenantDomain));
+    }
+
+    private static void addToAppInfoCache(String clientId, OAuthAppDO oAuthAppDO, String tenantDomain) {
+
+        if (!AuthzUtil.isLegacyAuthzRuntime() && oAuthAppDO.getAppOwner() != null &&
+                StringUtils.isNotEmpty(oAuthAppDO.getAppOwner().getTenantDomain())) {
+            AppInfoCache.getInstance().addToCache(clientId, oAuthAppDO, oAuthAppDO.getAppOwner().getTenantDomain());
+        } else {
+            AppInfoCache.getInstance().addToCache(clientId, oAuthAppDO, tenantDomain);
         }
-        return oAuthAppDO;
     }
 
     /**
@@ -3386,20 +3412,95 @@ public class OAuth2Util {
             }
 
             int tenantId = IdentityTenantUtil.getTenantId(tenantDomain);
-            Key privateKey = getPrivateKey(tenantDomain, tenantId);
-            JWSSigner signer = OAuth2Util.createJWSSigner((RSAPrivateKey) privateKey);
-            JWSHeader.Builder headerBuilder = new JWSHeader.Builder((JWSAlgorithm) signatureAlgorithm);
-            headerBuilder.keyID(getKID(getCertificate(tenantDomain, tenantId), signatureAlgorithm, tenantDomain));
-            Certificate certificate = getCertificate(tenantDomain, tenantId);
-            headerBuilder.x509CertThumbprint(new Base64URL(getThumbPrintWithPrevAlgorithm(certificate, false)));
-            SignedJWT signedJWT = new SignedJWT(headerBuilder.build(), jwtClaimsSet);
-            signedJWT.sign(signer);
+            JWTSigningContext signingContext = getJWTSigningContext(tenantDomain, tenantId, signatureAlgorithm);
+            SignedJWT signedJWT = new SignedJWT(signingContext.getHeader(), jwtClaimsSet);
+            signedJWT.sign(signingContext.getSigner());
             return signedJWT;
         } catch (JOSEException e) {
             throw new IdentityOAuth2Exception("Error occurred while signing JWT", e);
         }
     }
 
+    /**
+     * Get the signing context of the tenant for the given signature algorithm. The context holds the signer, the
+     * 'kid' and the 'x5t' values of the tenant signing key and is reused until the tenant key or certificate changes.
+     *
+     * @param tenantDomain       Signing tenant domain.
+     * @param tenantId           Signing tenant id.
+     * @param signatureAlgorithm JWT signing algorithm.
+     * @return Signing context of the tenant.
+     * @throws IdentityOAuth2Exception If an error occurs while loading the signing key or the certificate.
+     */
+    public static JWTSigningContext getJWTSigningContext(String tenantDomain, int tenantId,
+                                                         JWSAlgorithm signatureAlgorithm)
+            throws IdentityOAuth2Exception {
+
+        refreshSigningKeysIfExpired(tenantId);
+        Key privateKey = getPrivateKey(tenantDomain, tenantId);
+        Certificate certificate = getCertificate(tenantDomain, tenantId);
+        String contextKey = tenantId + ":" + signatureAlgorithm.getName();
+        JWTSigningContext signingContext = jwtSigningContexts.get(contextKey);
+        if (signingContext != null && signingContext.isBuiltFrom(privateKey, certificate)) {
+            return signingContext;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Building the JWT signing context for the tenant: " + tenantDomain + " and the algorithm: " +
+                    signatureAlgorithm);
+        }
+        signingContext = new JWTSigningContext(createJWSSigner((RSAPrivateKey) privateKey), privateKey, certificate,
+                signatureAlgorithm, getKID(certificate, signatureAlgorithm, tenantDomain),
+                getThumbPrintWithPrevAlgorithm(certificate, false));
+        jwtSigningContexts.put(contextKey, signingContext);
+        return signingContext;
+    }
+
+    /**
+     * Clear the cached signing keys of the tenant once they are older than the signing key refresh interval, so that
+     * a key rotated in the tenant keystore is used for signing without a restart.
+     *
+     * @param tenantId Tenant id.
+     */
+    private static void refreshSigningKeysIfExpired(int tenantId) {
+
+        if (signingKeyRefreshIntervalInMillis <= 0) {
+            return;
+        }
+        long currentTime = System.currentTimeMillis();
+        Long loadTime = signingKeyLoadTimes.putIfAbsent(tenantId, currentTime);
+        if (loadTime != null && currentTime - loadTime >= signingKeyRefreshIntervalInMillis &&
+                signingKeyLoadTimes.replace(tenantId, loadTime, currentTime)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Reloading the signing keys of tenant: " + tenantId + " from the tenant keystore.");
+            }
+            clearSigningKeys(tenantId);
+        }
+    }
+
+    /**
+     * Clear the cached signing key, certificate, JWT signing contexts and published JWKS document of the tenant.
+     * They will be reloaded from the tenant keystore on the next use. This should be invoked when the keystore of the
+     * tenant is rotated. Otherwise, they are reloaded once the signing key refresh interval elapses.
+     *
+     * @param tenantId Tenant id.
+     */
+    public static void clearSigningKeyCache(int tenantId) {
+
+        signingKeyLoadTimes.remove(tenantId);
+        clearSigningKeys(tenantId);
+    }
+
+    private static void clearSigningKeys(int tenantId) {
+
+        privateKeys.remove(tenantId);
+        publicCerts.remove(tenantId);
+        String contextKeyPrefix = tenantId + ":";
+        jwtSigningContexts.keySet().removeIf(contextKey -> contextKey.startsWith(contextKeyPrefix));
+        if (JWKSDocumentCache.isEnabled()) {
+            JWKSDocumentCache.getInstance().clearJWKSDocument(tenantId);
+        }
+    }
+
     public static Key getPrivateKey(String tenantDomain, int tenantId) throws IdentityOAuth2Exception {
 
         Key privateKey;
@@ -44,12 +44,13 @@ import org.wso2.carbon.identity.oauth.IdentityOAuthAdminException;
 import org.wso2.carbon.identity.oauth.cache.CacheEntry;
 import org.wso2.carbon.identity.oauth.cache.OAuthCache;
 import org.wso2.carbon.identity.oauth.cache.OAuthCacheKey;
+import org.wso2.carbon.identity.oauth.cache.ScopeSnapshotCache;
 import org.wso2.carbon.identity.oauth.internal.OAuthComponentServiceHolder;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2ScopeServerException;
 import org.wso2.carbon.identity.oauth2.OAuth2Constants;
 import org.wso2.carbon.identity.oauth2.authz.OAuthAuthzReqMessageContext;
-import org.wso2.carbon.identity.oauth2.bean.Scope;
+import org.wso2.carbon.identity.oauth2.dao.OAuthScopeDAO;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
@@ -68,6 +69,7 @@ import org.wso2.carbon.utils.multitenancy.MultitenantUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -279,15 +281,17 @@ public class JDBCScopeValidator extends OAuth2ScopeValidator {
             userRoles = getUserRoles(user);
         }
         if (ArrayUtils.isNotEmpty(userRoles)) {
+            Map<String, Set<String>> bindingsOfScopes = getBindingsOfRegisteredScopes(requestedScopes, tenantId);
             for (String scope : requestedScopes) {
-                if (!isScopeValid(scope, tenantId)) {
+                Set<String> bindingsOfScope = bindingsOfScopes.get(scope);
+                if (bindingsOfScope == null) {
                     // If the scope is not registered return false.
                     if (log.isDebugEnabled()) {
                         log.debug("Requested scope " + scope + " is invalid");
                     }
                     return false;
                 }
-                if (!isUserAuthorizedForScope(scope, userRoles, tenantId)) {
+                if (!isUserAuthorizedForScope(scope, new HashSet<>(bindingsOfScope), userRoles)) {
                     if (log.isDebugEnabled()) {
                         log.debug("User " + user.getLoggableUserId() + "in not authorised for scope " + scope);
                     }
@@ -374,24 +378,55 @@ public class JDBCScopeValidator extends OAuth2ScopeValidator {
         return SCOPE_VALIDATOR_NAME;
     }
 
-    private boolean isScopeValid(String scopeName, int tenantId) {
+    /**
+     * Get the bindings of the requested scopes which are registered in the tenant. The scopes are looked up in the
+     * scope snapshot of the tenant if the snapshot cache is enabled, and with a single query for all the requested
+     * scopes otherwise.
+     *
+     * @param requestedScopes Requested scopes.
+     * @param tenantId        Tenant ID.
+     * @return Bindings of each registered scope, keyed by the scope name. Scopes which are not registered are not
+     * included.
+     * @throws IdentityOAuth2Exception If an error occurs while retrieving the bindings of the scopes.
+     */
+    private Map<String, Set<String>> getBindingsOfRegisteredScopes(String[] requestedScopes, int tenantId)
+            throws IdentityOAuth2Exception {
 
-        Scope scope = null;
+        Set<String> scopeNames = new HashSet<>(Arrays.asList(requestedScopes));
+        Map<String, Set<String>> bindingsOfScopes = new HashMap<>();
+        if (ScopeSnapshotCache.getInstance().isEnabled()) {
+            try {
+                ScopeSnapshotCache.ScopeSnapshot scopeSnapshot = ScopeSnapshotCache.getInstance().getSnapshot(tenantId);
+                for (String scopeName : scopeNames) {
+                    if (scopeSnapshot.containsScope(scopeName)) {
+                        bindingsOfScopes.put(scopeName, scopeSnapshot.getBindings(scopeName));
+                    }
+                }
+                return bindingsOfScopes;
+            } catch (IdentityOAuth2ScopeServerException e) {
+                log.error("Error while loading the scope snapshot of tenant: " + tenantId, e);
+            }
+        }
 
+        OAuthScopeDAO scopeDAO = OAuthTokenPersistenceFactory.getInstance().getOAuthScopeDAO();
+        Set<String> registeredScopeNames;
         try {
-            scope = OAuthTokenPersistenceFactory.getInstance().getOAuthScopeDAO().getScopeByName(scopeName, tenantId);
+            registeredScopeNames = scopeDAO.getScopesByNames(scopeNames, tenantId).keySet();
         } catch (IdentityOAuth2ScopeServerException e) {
-            log.error("Error while retrieving scope with name :" + scopeName);
+            log.error("Error while retrieving scopes with names :" + scopeNames);
+            return bindingsOfScopes;
         }
-
-        return scope != null;
+        if (registeredScopeNames.isEmpty()) {
+            return bindingsOfScopes;
+        }
+        Map<String, Set<String>> bindings = scopeDAO.getBindingsForScopes(registeredScopeNames, tenantId);
+        for (String scopeName : registeredScopeNames) {
+            bindingsOfScopes.put(scopeName, bindings.getOrDefault(scopeName, new HashSet<>()));
+        }
+        return bindingsOfScopes;
     }
 
-    private boolean isUserAuthorizedForScope(String scopeName, String[] userRoles, int tenantId)
-            throws IdentityOAuth2Exception {
-
-        Set<String> rolesOfScope = OAuthTokenPersistenceFactory.getInstance().getOAuthScopeDAO().
-                getBindingsOfScopeByScopeName(scopeName, tenantId);
+    private boolean isUserAuthorizedForScope(String scopeName, Set<String> rolesOfScope, String[] userRoles) {
 
         if (CollectionUtils.isEmpty(rolesOfScope)) {
             if (log.isDebugEnabled()) {
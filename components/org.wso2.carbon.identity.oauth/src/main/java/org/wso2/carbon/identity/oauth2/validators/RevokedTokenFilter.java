@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.validators;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.wso2.carbon.identity.oauth.common.OAuthCommonUtil.getDoubleProperty;
+import static org.wso2.carbon.identity.oauth.common.OAuthCommonUtil.getIntProperty;
+
+/**
+ * Compact probabilistic filter of the revoked token identifiers and JWT IDs of this node.
+ * <p>
+ * The filter is not shared between the nodes of a cluster. The revocations of the other nodes are recorded only when
+ * they are received through a registered {@link org.wso2.carbon.identity.oauth2.revocation.RevokedTokenPropagator}.
+ * <p>
+ * The identifiers are kept in a pair of bloom filters which are rotated every retention period, so that an identifier
+ * is remembered for at least one retention period and the memory used by the filter stays bounded. A negative answer
+ * of {@link #mightBeRevoked(String)} is always correct, while a positive answer may be a false positive, which should
+ * be confirmed against the token store.
+ * <p>
+ * The filter can be tuned with the following configuration. The retention period defaults to the longest configured
+ * access token validity period.
+ * <pre>
+ * [oauth.token_validation.revocation_filter]
+ * expected_insertions = 100000
+ * false_positive_probability = 0.01
+ * retention_period = 3600
+ * </pre>
+ */
+public class RevokedTokenFilter {
+
+    private static final Log log = LogFactory.getLog(RevokedTokenFilter.class);
+
+    private static final String EXPECTED_INSERTIONS = "OAuth.TokenValidation.RevocationFilter.ExpectedInsertions";
+    private static final String FALSE_POSITIVE_PROBABILITY =
+            "OAuth.TokenValidation.RevocationFilter.FalsePositiveProbability";
+    private static final String RETENTION_PERIOD = "OAuth.TokenValidation.RevocationFilter.RetentionPeriod";
+
+    private static final int DEFAULT_EXPECTED_INSERTIONS = 100000;
+    private static final double DEFAULT_FALSE_POSITIVE_PROBABILITY = 0.01;
+    private static final long DEFAULT_RETENTION_PERIOD_IN_SECONDS = 3600;
+
+    private static volatile RevokedTokenFilter instance;
+
+    private final int numberOfBits;
+    private final int numberOfHashFunctions;
+    private final long retentionPeriodInMillis;
+    private volatile Generation current;
+    private volatile Generation previous;
+
+    /**
+     * Create a revoked token filter.
+     *
+     * @param expectedInsertions       Expected number of revoked identifiers within a retention period.
+     * @param falsePositiveProbability Tolerated false positive probability.
+     * @param retentionPeriodInMillis  Minimum period an identifier is remembered.
+     */
+    public RevokedTokenFilter(int expectedInsertions, double falsePositiveProbability, long retentionPeriodInMillis) {
+
+        if (expectedInsertions <= 0 || falsePositiveProbability <= 0 || falsePositiveProbability >= 1 ||
+                retentionPeriodInMillis <= 0) {
+            throw new IllegalArgumentException("Invalid revoked token filter configuration. Expected insertions: " +
+                    expectedInsertions + ", false positive probability: " + falsePositiveProbability +
+                    ", retention period: " + retentionPeriodInMillis);
+        }
+        double bits = -expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2));
+        this.numberOfBits = (int) Math.min(Integer.MAX_VALUE - Long.SIZE, Math.max(Long.SIZE, Math.ceil(bits)));
+        this.numberOfHashFunctions = Math.max(1,
+                (int) Math.round((double) numberOfBits / expectedInsertions * Math.log(2)));
+        this.retentionPeriodInMillis = retentionPeriodInMillis;
+        long currentTime = System.currentTimeMillis();
+        this.current = new Generation(numberOfBits, currentTime);
+        this.previous = new Generation(numberOfBits, currentTime - retentionPeriodInMillis);
+    }
+
+    public static RevokedTokenFilter getInstance() {
+
+        if (instance == null) {
+            synchronized (RevokedTokenFilter.class) {
+                if (instance == null) {
+                    instance = new RevokedTokenFilter(
+                            getIntProperty(EXPECTED_INSERTIONS, DEFAULT_EXPECTED_INSERTIONS, 1),
+                            getDoubleProperty(FALSE_POSITIVE_PROBABILITY, DEFAULT_FALSE_POSITIVE_PROBABILITY, 0, 1),
+                            TimeUnit.SECONDS.toMillis(getRetentionPeriodInSeconds()));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Record a revoked token identifier or JWT ID.
+     *
+     * @param tokenIdentifier Revoked token identifier.
+     */
+    public void add(String tokenIdentifier) {
+
+        if (StringUtils.isEmpty(tokenIdentifier)) {
+            return;
+        }
+        rotateIfRequired();
+        current.put(tokenIdentifier, numberOfHashFunctions);
+    }
+
+    /**
+     * Check whether the given token identifier or JWT ID may have been revoked within the retention period.
+     *
+     * @param tokenIdentifier Token identifier.
+     * @return False if the identifier was definitely not revoked. True if it might have been revoked.
+     */
+    public boolean mightBeRevoked(String tokenIdentifier) {
+
+        if (StringUtils.isEmpty(tokenIdentifier)) {
+            return false;
+        }
+        rotateIfRequired();
+        return current.mightContain(tokenIdentifier, numberOfHashFunctions) ||
+                previous.mightContain(tokenIdentifier, numberOfHashFunctions);
+    }
+
+    /**
+     * Get the minimum period for which a revoked identifier is remembered by the filter. Tokens which live longer than
+     * this period can't be validated against the filter alone.
+     *
+     * @return Retention period in milliseconds.
+     */
+    public long getRetentionPeriodInMillis() {
+
+        return retentionPeriodInMillis;
+    }
+
+    private void rotateIfRequired() {
+
+        long currentTime = System.currentTimeMillis();
+        if (currentTime - current.startTime < retentionPeriodInMillis) {
+            return;
+        }
+        synchronized (this) {
+            if (currentTime - current.startTime < retentionPeriodInMillis) {
+                return;
+            }
+            if (currentTime - current.startTime < 2 * retentionPeriodInMillis) {
+                previous = current;
+            } else {
+                // Nothing was recorded for a whole retention period, hence the current generation is outdated as well.
+                previous = new Generation(numberOfBits, currentTime - retentionPeriodInMillis);
+            }
+            current = new Generation(numberOfBits, currentTime);
+            if (log.isDebugEnabled()) {
+                log.debug("Rotated the revoked token filter.");
+            }
+        }
+    }
+
+    private static long getRetentionPeriodInSeconds() {
+
+        int retentionPeriod = getIntProperty(RETENTION_PERIOD, 0, 1);
+        if (retentionPeriod > 0) {
+            return retentionPeriod;
+        }
+        // Revocations should be remembered until the revoked tokens expire.
+        long validityPeriod = Math.max(
+                OAuthServerConfiguration.getInstance().getUserAccessTokenValidityPeriodInSeconds(),
+                OAuthServerConfiguration.getInstance().getApplicationAccessTokenValidityPeriodInSeconds());
+        return validityPeriod > 0 ? validityPeriod : DEFAULT_RETENTION_PERIOD_IN_SECONDS;
+    }
+
+    /**
+     * Bloom filter of the identifiers revoked within a retention period.
+     */
+    private static class Generation {
+
+        private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+        private static final long FNV_PRIME = 0x100000001b3L;
+
+        private final AtomicLongArray bits;
+        private final int numberOfBits;
+        private final long startTime;
+
+        Generation(int numberOfBits, long startTime) {
+
+            this.bits = new AtomicLongArray((numberOfBits + Long.SIZE - 1) / Long.SIZE);
+            this.numberOfBits = numberOfBits;
+            this.startTime = startTime;
+        }
+
+        void put(String value, int numberOfHashFunctions) {
+
+            long hash1 = hash(value);
+            long hash2 = mix(hash1);
+            for (int i = 0; i < numberOfHashFunctions; i++) {
+                int bit = index(hash1 + i * hash2);
+                long mask = 1L << bit;
+                bits.accumulateAndGet(bit >>> 6, mask, (word, bitMask) -> word | bitMask);
+            }
+        }
+
+        boolean mightContain(String value, int numberOfHashFunctions) {
+
+            long hash1 = hash(value);
+            long hash2 = mix(hash1);
+            for (int i = 0; i < numberOfHashFunctions; i++) {
+                int bit = index(hash1 + i * hash2);
+                if ((bits.get(bit >>> 6) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int index(long combinedHash) {
+
+            return (int) ((combinedHash & Long.MAX_VALUE) % numberOfBits);
+        }
+
+        private static long hash(String value) {
+
+            long hash = FNV_OFFSET_BASIS;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= FNV_PRIME;
+            }
+            return hash;
+        }
+
+        private static long mix(long hash) {
+
+            // Finalizer of MurmurHash3, used to derive an independent second hash for double hashing.
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash | 1;
+        }
+    }
+}
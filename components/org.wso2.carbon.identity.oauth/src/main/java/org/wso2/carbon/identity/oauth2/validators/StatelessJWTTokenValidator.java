@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.validators;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.lang.ArrayUtils;
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientException;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth.dao.OAuthAppDO;
+import org.wso2.carbon.identity.oauth.internal.OAuthComponentServiceHolder;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2IntrospectionResponseDTO;
+import org.wso2.carbon.identity.oauth2.revocation.RevokedTokenIndex;
+import org.wso2.carbon.identity.oauth2.util.JWTUtils;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
+
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.security.interfaces.RSAPublicKey;
+import java.text.ParseException;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Self-contained validator of the JWT access tokens issued by this server.
+ * <p>
+ * The signature is verified with the cached public key of the signing tenant and the expiry, not before time and
+ * audience are validated from the claims, while revocations are checked against the {@link RevokedTokenFilter}. Hence
+ * the token store is not consulted for the common case. Whenever the token can't be validated conclusively from its
+ * claims, e.g. bound tokens, tokens of applications with scope validators, tokens which may have been revoked or
+ * tokens living longer than the revocation filter retention, the validator returns null so that the token is validated
+ * through the regular flow.
+ * <p>
+ * The revocation filter is local to each node. It records the revocations made on this node and the revocations
+ * received through a registered {@link org.wso2.carbon.identity.oauth2.revocation.RevokedTokenPropagator}. Without a
+ * propagator, a token revoked on another node of a cluster is accepted by this node until it expires. Hence the
+ * stateless mode should be enabled on a cluster only along with a propagator.
+ * <p>
+ * The stateless mode is disabled by default and can be enabled with the following configuration.
+ * <pre>
+ * [oauth.token_validation.stateless_jwt]
+ * enable = true
+ * allowed_audiences = ["https://api.example.com"]
+ * </pre>
+ */
+public class StatelessJWTTokenValidator {
+
+    private static final Log log = LogFactory.getLog(StatelessJWTTokenValidator.class);
+
+    private static final String STATELESS_JWT_VALIDATION_ENABLE = "OAuth.TokenValidation.StatelessJWT.Enable";
+    private static final String STATELESS_JWT_ALLOWED_AUDIENCES =
+            "OAuth.TokenValidation.StatelessJWT.AllowedAudiences.Audience";
+    private static final String JWT_TOKEN_TYPE = "JWT";
+    private static final String CLIENT_ID = "client_id";
+    private static final String AUTHORIZED_PARTY = "azp";
+    private static final String SCOPE = "scope";
+    private static final String BINDING_REFERENCE = "binding_ref";
+    private static final String ALGO_PREFIX = "RS";
+    private static final String ALGO_PREFIX_PS = "PS";
+    private static final String INVALID_TOKEN_ERROR = "Token validation failed";
+
+    private static final StatelessJWTTokenValidator instance = new StatelessJWTTokenValidator();
+
+    private final boolean enabled;
+    private final List<String> allowedAudiences;
+    private final Map<String, TenantVerifier> tenantVerifiers = new ConcurrentHashMap<>();
+
+    private StatelessJWTTokenValidator() {
+
+        enabled = Boolean.parseBoolean(IdentityUtil.getProperty(STATELESS_JWT_VALIDATION_ENABLE));
+        allowedAudiences = IdentityUtil.getPropertyAsList(STATELESS_JWT_ALLOWED_AUDIENCES);
+    }
+
+    public static StatelessJWTTokenValidator getInstance() {
+
+        return instance;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Validate the given JWT access token without consulting the token store.
+     * <p>
+     * The response doesn't contain the username, since resolving it requires the persisted token. Resource servers
+     * which need the username should keep the stateless mode disabled.
+     *
+     * @param accessToken JWT access token.
+     * @return Introspection response, or null if the token should be validated through the regular flow.
+     */
+    public OAuth2IntrospectionResponseDTO validate(String accessToken) {
+
+        try {
+            return validateToken(accessToken);
+        } catch (ParseException | JOSEException | IdentityOAuth2Exception | InvalidOAuthClientException |
+                 OrganizationManagementException | RuntimeException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Stateless validation of the JWT access token failed. Falling back to the regular " +
+                        "validation.", e);
+            }
+            return null;
+        }
+    }
+
+    private OAuth2IntrospectionResponseDTO validateToken(String accessToken) throws ParseException, JOSEException,
+            IdentityOAuth2Exception, InvalidOAuthClientException, OrganizationManagementException {
+
+        SignedJWT signedJWT = JWTUtils.parseJWT(accessToken);
+        String alg = JWTUtils.verifyAlgorithm(signedJWT);
+        if (!alg.startsWith(ALGO_PREFIX) && !alg.startsWith(ALGO_PREFIX_PS)) {
+            return null;
+        }
+        JWTClaimsSet claimsSet = signedJWT.getJWTClaimsSet();
+        if (!JWTUtils.validateRequiredFields(claimsSet)) {
+            return buildInactiveResponse();
+        }
+        if (RevokedTokenIndex.getInstance().isRevoked(claimsSet.getJWTID())) {
+            return buildInactiveResponse();
+        }
+        if (RevokedTokenIndex.getInstance().isOverflowed()) {
+            // The revoked token index may miss the revocation of the token, so the token store has to be checked.
+            return null;
+        }
+        if (!isSelfContained(claimsSet)) {
+            return null;
+        }
+        String tenantDomain = getSigningTenantDomain(claimsSet);
+        if (StringUtils.isEmpty(tenantDomain)) {
+            return null;
+        }
+        if (!OAuthServerConfiguration.getInstance().isCrossTenantTokenIntrospectionAllowed() &&
+                !tenantDomain.equalsIgnoreCase(PrivilegedCarbonContext.getThreadLocalCarbonContext()
+                        .getTenantDomain())) {
+            return null;
+        }
+        String clientId = getClientId(claimsSet);
+        if (StringUtils.isEmpty(clientId) || !isStatelessValidationAllowed(clientId, tenantDomain)) {
+            return null;
+        }
+
+        if (!signedJWT.verify(getVerifier(tenantDomain))) {
+            if (log.isDebugEnabled()) {
+                log.debug("Signature validation failed for the JWT access token with jti: " + claimsSet.getJWTID());
+            }
+            return buildInactiveResponse();
+        }
+        // Throws if the issuer doesn't match the resident identity provider, which is handled by the regular flow.
+        JWTUtils.getIDPForIssuer(claimsSet.getIssuer(), tenantDomain, StringUtils.EMPTY);
+
+        if (!JWTUtils.checkExpirationTime(claimsSet.getExpirationTime()) || !isNotBeforeTimeValid(claimsSet) ||
+                !isAudienceAllowed(claimsSet.getAudience())) {
+            return buildInactiveResponse();
+        }
+        return buildActiveResponse(claimsSet, clientId);
+    }
+
+    /**
+     * Check whether the token can be validated from its claims and the revocation filter alone.
+     *
+     * @param claimsSet Claims of the token.
+     * @return True if the token is self-contained.
+     */
+    private boolean isSelfContained(JWTClaimsSet claimsSet) {
+
+        // Bound tokens and organization switched tokens require the persisted token to be validated.
+        if (claimsSet.getClaim(OAuthConstants.CNF) != null || claimsSet.getClaim(BINDING_REFERENCE) != null ||
+                claimsSet.getClaim(OAuthConstants.ORG_ID) != null) {
+            return false;
+        }
+        Date issueTime = claimsSet.getIssueTime();
+        if (issueTime == null) {
+            return false;
+        }
+        // Revocations are remembered by the filter only for the retention period.
+        RevokedTokenFilter revokedTokenFilter = RevokedTokenFilter.getInstance();
+        long lifetime = claimsSet.getExpirationTime().getTime() - issueTime.getTime();
+        if (lifetime > revokedTokenFilter.getRetentionPeriodInMillis()) {
+            return false;
+        }
+        String jti = claimsSet.getJWTID();
+        if (revokedTokenFilter.mightBeRevoked(jti)) {
+            return false;
+        }
+        try {
+            // Bulk revocations identify the tokens with the processed token identifiers.
+            String processedJti = OAuth2Util.getPersistenceProcessor().getProcessedAccessTokenIdentifier(jti);
+            return StringUtils.equals(jti, processedJti) || !revokedTokenFilter.mightBeRevoked(processedJti);
+        } catch (IdentityOAuth2Exception e) {
+            return false;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private String getSigningTenantDomain(JWTClaimsSet claimsSet) {
+
+        Object realm = claimsSet.getClaim(OAuthConstants.OIDCClaims.REALM);
+        if (realm instanceof Map) {
+            Object signingTenant = ((Map<String, Object>) realm).get(OAuthConstants.OIDCClaims.SIGNING_TENANT);
+            if (signingTenant instanceof String) {
+                return (String) signingTenant;
+            }
+        }
+        return null;
+    }
+
+    private String getClientId(JWTClaimsSet claimsSet) throws ParseException {
+
+        String clientId = claimsSet.getStringClaim(CLIENT_ID);
+        if (StringUtils.isEmpty(clientId)) {
+            clientId = claimsSet.getStringClaim(AUTHORIZED_PARTY);
+        }
+        return clientId;
+    }
+
+    /**
+     * Scope validators validate the scopes against the persisted token, hence the tokens of the applications with
+     * scope validators are validated through the regular flow.
+     */
+    private boolean isStatelessValidationAllowed(String clientId, String tenantDomain)
+            throws IdentityOAuth2Exception, InvalidOAuthClientException {
+
+        OAuthAppDO app = OAuth2Util.getAppInformationByClientId(clientId, tenantDomain);
+        return app != null && OAuthConstants.OauthAppStates.APP_STATE_ACTIVE.equalsIgnoreCase(app.getState()) &&
+                ArrayUtils.isEmpty(app.getScopeValidators()) &&
+                CollectionUtils.isEmpty(OAuthComponentServiceHolder.getInstance().getScopeValidators());
+    }
+
+    private JWSVerifier getVerifier(String tenantDomain) throws IdentityOAuth2Exception {
+
+        Certificate certificate = OAuth2Util.getCertificate(tenantDomain,
+                IdentityTenantUtil.getTenantId(tenantDomain));
+        TenantVerifier tenantVerifier = tenantVerifiers.get(tenantDomain);
+        // The certificates are cached by OAuth2Util, hence a different instance means the signing key was changed.
+        if (tenantVerifier == null || tenantVerifier.certificate != certificate) {
+            PublicKey publicKey = certificate.getPublicKey();
+            if (!(publicKey instanceof RSAPublicKey)) {
+                throw new IdentityOAuth2Exception("Public key of tenant: " + tenantDomain +
+                        " is not an RSA public key.");
+            }
+            tenantVerifier = new TenantVerifier(certificate, new RSASSAVerifier((RSAPublicKey) publicKey));
+            tenantVerifiers.put(tenantDomain, tenantVerifier);
+        }
+        return tenantVerifier.verifier;
+    }
+
+    private boolean isNotBeforeTimeValid(JWTClaimsSet claimsSet) {
+
+        try {
+            JWTUtils.checkNotBeforeTime(claimsSet.getNotBeforeTime());
+            return true;
+        } catch (IdentityOAuth2Exception e) {
+            return false;
+        }
+    }
+
+    private boolean isAudienceAllowed(List<String> audience) {
+
+        if (CollectionUtils.isEmpty(allowedAudiences)) {
+            return true;
+        }
+        return audience.stream().anyMatch(allowedAudiences::contains);
+    }
+
+    private OAuth2IntrospectionResponseDTO buildActiveResponse(JWTClaimsSet claimsSet, String clientId)
+            throws ParseException {
+
+        OAuth2IntrospectionResponseDTO introResp = new OAuth2IntrospectionResponseDTO();
+        introResp.setActive(true);
+        introResp.setTokenType(JWT_TOKEN_TYPE);
+        introResp.setClientId(clientId);
+        introResp.setScope(claimsSet.getStringClaim(SCOPE));
+        introResp.setSub(claimsSet.getSubject());
+        introResp.setIss(claimsSet.getIssuer());
+        introResp.setAud(String.join(",", claimsSet.getAudience()));
+        introResp.setJti(claimsSet.getJWTID());
+        introResp.setAut(claimsSet.getStringClaim(OAuthConstants.AUTHORIZED_USER_TYPE));
+        // should be in seconds
+        introResp.setExp(claimsSet.getExpirationTime().getTime() / 1000);
+        introResp.setIat(claimsSet.getIssueTime().getTime() / 1000);
+        if (claimsSet.getNotBeforeTime() != null) {
+            introResp.setNbf(claimsSet.getNotBeforeTime().getTime() / 1000);
+        }
+        return introResp;
+    }
+
+    private OAuth2IntrospectionResponseDTO buildInactiveResponse() {
+
+        OAuth2IntrospectionResponseDTO introResp = new OAuth2IntrospectionResponseDTO();
+        introResp.setActive(false);
+        introResp.setError(INVALID_TOKEN_ERROR);
+        return introResp;
+    }
+
+    /**
+     * Signature verifier of a tenant along with the certificate it was created from.
+     */
+    private static class TenantVerifier {
+
+        private final Certificate certificate;
+        private final JWSVerifier verifier;
+
+        TenantVerifier(Certificate certificate, JWSVerifier verifier) {
+
+            this.certificate = certificate;
+            this.verifier = verifier;
+        }
+    }
+}
@@ -41,12 +41,14 @@ import org.wso2.carbon.identity.oauth.tokenprocessor.TokenProvider;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.carbon.identity.oauth2.OAuth2Constants;
 import org.wso2.carbon.identity.oauth2.authcontext.AuthorizationContextTokenGenerator;
+import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2ClientApplicationDTO;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2IntrospectionResponseDTO;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2TokenValidationRequestDTO;
 import org.wso2.carbon.identity.oauth2.dto.OAuth2TokenValidationResponseDTO;
 import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+import org.wso2.carbon.identity.oauth2.revocation.RevokedTokenIndex;
 import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
 import org.wso2.carbon.identity.organization.management.service.exception.OrganizationManagementException;
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
@@ -198,6 +200,9 @@ public class TokenValidationHandler {
         if (hasAccessTokenExpired(accessTokenDO)) {
             return buildClientAppErrorResponse("Access token expired");
         }
+        if (hasAccessTokenRevoked(accessTokenDO)) {
+            return buildClientAppErrorResponse("Access token revoked");
+        }
         // Set the token expiration time
         responseDTO.setExpiryTime(getAccessTokenExpirationTime(accessTokenDO));
 
@@ -251,6 +256,15 @@ public class TokenValidationHandler {
 
         OAuth2TokenValidationRequestDTO.OAuth2AccessToken oAuth2Token = validationRequest.getAccessToken();
 
+        if (isStatelessJWTValidation(validationRequest)) {
+            // Validate self-contained JWT access tokens without consulting the token store.
+            OAuth2IntrospectionResponseDTO statelessIntroResp =
+                    StatelessJWTTokenValidator.getInstance().validate(oAuth2Token.getIdentifier());
+            if (statelessIntroResp != null) {
+                return statelessIntroResp;
+            }
+        }
+
         // To hold the applicable validators list from all the available validators. This list will be prioritized if we
         // have a token_type_hint.
         List<OAuth2TokenValidator> applicableValidators = new ArrayList<>();
@@ -569,6 +583,17 @@ public class TokenValidationHandler {
                 return introResp;
             }
 
+            // The access token may have been served from the cache after it was revoked on another node.
+            if (hasAccessTokenRevoked(accessTokenDO)) {
+                if (diagnosticLogBuilder != null) {
+                    // diagnosticLogBuilder is not null only if diagnostic logs are enabled.
+                    diagnosticLogBuilder.resultMessage("Token is revoked.");
+                    LoggerUtils.triggerDiagnosticLogEvent(diagnosticLogBuilder);
+                }
+                introResp.setActive(false);
+                return introResp;
+            }
+
             // should be in seconds
             if (accessTokenDO.getValidityPeriodInMillis() < 0) {
                 introResp.setExp(Long.MAX_VALUE);
@@ -864,6 +889,30 @@ public class TokenValidationHandler {
         return false;
     }
 
+    /**
+     * Check whether the access token was revoked, which the cached access token may not reflect if it was revoked on
+     * another node. While the revoked token index is overflowed, the state of the token is read from the database, as
+     * the index may miss the revocation.
+     *
+     * @param accessTokenDO Access token.
+     * @return True if the access token is revoked.
+     * @throws IdentityOAuth2Exception If an error occurs while reading the state of the token.
+     */
+    private boolean hasAccessTokenRevoked(AccessTokenDO accessTokenDO) throws IdentityOAuth2Exception {
+
+        RevokedTokenIndex revokedTokenIndex = RevokedTokenIndex.getInstance();
+        if (revokedTokenIndex.isRevoked(accessTokenDO.getTokenId())) {
+            return true;
+        }
+        if (!revokedTokenIndex.isOverflowed() || !OAuth2Util.isTokenPersistenceEnabled()) {
+            return false;
+        }
+        String tokenState = OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
+                .getAccessTokenStateByTokenId(accessTokenDO.getTokenId());
+        // A token which is not found may not be persisted yet, in which case it cannot have been revoked either.
+        return tokenState != null && !OAuthConstants.TokenStates.TOKEN_STATE_ACTIVE.equals(tokenState);
+    }
+
     private boolean hasRefreshTokenExpired(AccessTokenDO accessTokenDO) {
 
         if (accessTokenDO.getRefreshTokenValidityPeriodInMillis() < 0) {
@@ -893,6 +942,16 @@ public class TokenValidationHandler {
                 tokenIdentifier);
     }
 
+    private boolean isStatelessJWTValidation(OAuth2TokenValidationRequestDTO validationRequest) {
+
+        OAuth2TokenValidationRequestDTO.OAuth2AccessToken accessToken = validationRequest.getAccessToken();
+        // The authorization context token requires the persisted token, hence it is generated by the regular flow.
+        return StatelessJWTTokenValidator.getInstance().isEnabled() &&
+                !StringUtils.equalsIgnoreCase(accessToken.getTokenType(), DPOP_TOKEN_TYPE) &&
+                !(tokenGenerator != null && validationRequest.getRequiredClaimURIs() != null) &&
+                isParsableJWT(accessToken.getIdentifier());
+    }
+
     private boolean isSkipValidatorForJWT(OAuth2TokenValidator tokenValidator, boolean isJWTTokenValidation) {
 
         return isJWTTokenValidation && BEARER_TOKEN_TYPE.equals(tokenValidator.getTokenType());
@@ -59,7 +59,9 @@ import java.text.ParseException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+import static org.wso2.carbon.identity.oauth.common.OAuthCommonUtil.getIntProperty;
 import static org.wso2.carbon.identity.openidconnect.model.Constants.PS;
 import static org.wso2.carbon.identity.openidconnect.model.Constants.RS;
 
@@ -69,15 +71,17 @@ import static org.wso2.carbon.identity.openidconnect.model.Constants.RS;
 public class JWKSBasedJWTValidator implements JWTValidator {
 
     private static final Log log = LogFactory.getLog(JWKSBasedJWTValidator.class);
-    private ConfigurableJWTProcessor<SecurityContext> jwtProcessor;
     private static final String ENFORCE_CERTIFICATE_VALIDITY
             = "JWTValidatorConfigs.EnforceCertificateExpiryTimeValidity";
+    private static final String JWT_PROCESSOR_CACHE_SIZE = "JWTValidatorConfigs.JWTProcessorCacheSize";
+    private static final int DEFAULT_JWT_PROCESSOR_CACHE_SIZE = 100;
 
-    public JWKSBasedJWTValidator() {
-        /* Set up a JWT processor to parse the tokens and then check their signature and validity time window
-        (bounded by the "iat", "nbf" and "exp" claims). */
-        this.jwtProcessor = new DefaultJWTProcessor<>();
-    }
+    /* JWT processors configured per jwks_uri and algorithm. A configured processor is not modified afterwards, hence
+    it can be shared by concurrent validations. Lookups do not lock, and the least recently used processor is evicted
+    when a new processor is added to a full cache. */
+    private static final Map<String, CachedJWTProcessor> jwtProcessors = new ConcurrentHashMap<>();
+    private static final int jwtProcessorCacheSize = getIntProperty(JWT_PROCESSOR_CACHE_SIZE,
+            DEFAULT_JWT_PROCESSOR_CACHE_SIZE, 1);
 
     @Override
     public boolean validateSignature(String jwtString, String jwksUri, String algorithm, Map<String, Object> opts)
@@ -192,8 +196,7 @@ public class JWKSBasedJWTValidator implements JWTValidator {
                     algorithm);
         }
         try {
-            // set the Key Selector for the jwks_uri.
-            setJWKeySelector(jwksUri, algorithm);
+            ConfigurableJWTProcessor<SecurityContext> jwtProcessor = getJWTProcessor(jwksUri, algorithm);
 
             // Process the token, set optional context parameters.
             SecurityContext securityContext = null;
@@ -222,20 +225,72 @@ public class JWKSBasedJWTValidator implements JWTValidator {
         }
     }
 
-    private void setJWKeySelector(String jwksUri, String algorithm) throws MalformedURLException {
+    /**
+     * Get the JWT processor for the given jwks_uri and algorithm. The cached processor is reused as long as the JWK
+     * source held by {@link JWKSourceDataProvider} is unchanged. Once the JWK source is refreshed or evicted from the
+     * JWKS cache, a new processor is configured with the current JWK source.
+     *
+     * @param jwksUri   Identity provider's jwks_uri.
+     * @param algorithm Expected signing algorithm of the JWT.
+     * @return JWT processor configured with the key selector for the jwks_uri.
+     * @throws MalformedURLException If the provided jwks_uri is malformed.
+     */
+    private ConfigurableJWTProcessor<SecurityContext> getJWTProcessor(String jwksUri, String algorithm)
+            throws MalformedURLException {
 
         /* The public RSA keys to validate the signatures will be sourced from the OAuth 2.0 server's JWK set,
         published at a well-known URL. The RemoteJWKSet object caches the retrieved keys to speed up subsequent
         look-ups and can also gracefully handle key-rollover. */
         JWKSource<SecurityContext> keySource = JWKSourceDataProvider.getInstance().getJWKSource(jwksUri);
 
+        String cacheKey = jwksUri + "|" + algorithm;
+        CachedJWTProcessor cachedJWTProcessor = jwtProcessors.get(cacheKey);
+        if (cachedJWTProcessor != null && cachedJWTProcessor.keySource == keySource) {
+            cachedJWTProcessor.lastAccessTime = System.nanoTime();
+            return cachedJWTProcessor.jwtProcessor;
+        }
+
         // The expected JWS algorithm of the access tokens (agreed out-of-band).
         JWSAlgorithm expectedJWSAlg = JWSAlgorithm.parse(algorithm);
 
-        /* Configure the JWT processor with a key selector to feed matching public RSA keys sourced from the JWK set
-        URL. */
+        /* Set up a JWT processor to parse the tokens and then check their signature and validity time window
+        (bounded by the "iat", "nbf" and "exp" claims). Configure the JWT processor with a key selector to feed
+        matching public RSA keys sourced from the JWK set URL. */
+        ConfigurableJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
         JWSKeySelector<SecurityContext> keySelector = new JWSVerificationKeySelector<>(expectedJWSAlg, keySource);
         jwtProcessor.setJWSKeySelector(keySelector);
+
+        if (cachedJWTProcessor == null && jwtProcessors.size() >= jwtProcessorCacheSize) {
+            evictLeastRecentlyUsedJWTProcessor();
+        }
+        jwtProcessors.put(cacheKey, new CachedJWTProcessor(keySource, jwtProcessor));
+        if (log.isDebugEnabled()) {
+            log.debug("Configured a new JWT processor for jwks_uri: " + jwksUri + " and algorithm: " + algorithm);
+        }
+        return jwtProcessor;
+    }
+
+    /**
+     * Clear the cached JWT processors.
+     */
+    public static void clearJWTProcessorCache() {
+
+        jwtProcessors.clear();
+    }
+
+    private static void evictLeastRecentlyUsedJWTProcessor() {
+
+        String leastRecentlyUsedKey = null;
+        long leastRecentAccessTime = Long.MAX_VALUE;
+        for (Map.Entry<String, CachedJWTProcessor> entry : jwtProcessors.entrySet()) {
+            if (entry.getValue().lastAccessTime < leastRecentAccessTime) {
+                leastRecentAccessTime = entry.getValue().lastAccessTime;
+                leastRecentlyUsedKey = entry.getKey();
+            }
+        }
+        if (leastRecentlyUsedKey != null) {
+            jwtProcessors.remove(leastRecentlyUsedKey);
+        }
     }
 
     private boolean isSupportedAlgorithm(String alg) {
@@ -260,4 +315,21 @@ public class JWKSBasedJWTValidator implements JWTValidator {
         }
         return false;
     }
+
+    /**
+     * JWT processor configured with the key selector for a JWK source.
+     */
+    private static class CachedJWTProcessor {
+
+        private final JWKSource<SecurityContext> keySource;
+        private final ConfigurableJWTProcessor<SecurityContext> jwtProcessor;
+        private volatile long lastAccessTime = System.nanoTime();
+
+        CachedJWTProcessor(JWKSource<SecurityContext> keySource,
+                           ConfigurableJWTProcessor<SecurityContext> jwtProcessor) {
+
+            this.keySource = keySource;
+            this.jwtProcessor = jwtProcessor;
+        }
+    }
 }
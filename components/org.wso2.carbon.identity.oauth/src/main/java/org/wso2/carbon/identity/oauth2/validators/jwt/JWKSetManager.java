@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.validators.jwt;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSetCache;
+import com.nimbusds.jose.jwk.source.RemoteJWKSet;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.Resource;
+import com.nimbusds.jose.util.ResourceRetriever;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.io.IOException;
+import java.net.URL;
+import java.text.ParseException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.wso2.carbon.identity.oauth.common.OAuthCommonUtil.getIntProperty;
+
+/**
+ * Keeps the remote JWK sets used for JWT validation warm.
+ * <p>
+ * The JWK sets fetched from a jwks_uri are refreshed in the background shortly before they expire, so that requests
+ * don't wait on the remote endpoint once the keys get old. If a refresh fails, the last fetched keys continue to be
+ * served for a bounded grace period. Concurrent fetches of the same jwks_uri are coalesced into a single request.
+ * <pre>
+ * [jwt_validator_configs.jwks_endpoint.background_refresh]
+ * enable = true
+ * cache_lifespan = 300
+ * refresh_ahead = 60
+ * stale_grace_period = 600
+ * </pre>
+ * The background refresh is disabled by default.
+ */
+public class JWKSetManager {
+
+    private static final Log log = LogFactory.getLog(JWKSetManager.class);
+
+    private static final String BACKGROUND_REFRESH_ENABLE_XPATH =
+            "JWTValidatorConfigs.JWKSEndpoint.BackgroundRefresh.Enable";
+    private static final String CACHE_LIFESPAN_XPATH = "JWTValidatorConfigs.JWKSEndpoint.BackgroundRefresh" +
+            ".CacheLifespan";
+    private static final String REFRESH_AHEAD_XPATH = "JWTValidatorConfigs.JWKSEndpoint.BackgroundRefresh" +
+            ".RefreshAhead";
+    private static final String STALE_GRACE_PERIOD_XPATH = "JWTValidatorConfigs.JWKSEndpoint.BackgroundRefresh" +
+            ".StaleGracePeriod";
+
+    private static final int DEFAULT_CACHE_LIFESPAN = 300;
+    private static final int DEFAULT_REFRESH_AHEAD = 60;
+    private static final int DEFAULT_STALE_GRACE_PERIOD = 600;
+    private static final int REFRESH_POOL_SIZE = 2;
+
+    private static final JWKSetManager instance = new JWKSetManager(
+            Boolean.parseBoolean(IdentityUtil.getProperty(BACKGROUND_REFRESH_ENABLE_XPATH)),
+            TimeUnit.SECONDS.toMillis(getIntProperty(CACHE_LIFESPAN_XPATH, DEFAULT_CACHE_LIFESPAN, 0)),
+            TimeUnit.SECONDS.toMillis(getIntProperty(REFRESH_AHEAD_XPATH, DEFAULT_REFRESH_AHEAD, 0)),
+            TimeUnit.SECONDS.toMillis(getIntProperty(STALE_GRACE_PERIOD_XPATH, DEFAULT_STALE_GRACE_PERIOD, 0)));
+
+    private final Map<String, ManagedJWKSet> jwkSets = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long cacheLifespanInMillis;
+    private final long refreshAheadInMillis;
+    private final long staleGracePeriodInMillis;
+    private volatile ScheduledExecutorService refreshExecutor;
+
+    JWKSetManager(boolean enabled, long cacheLifespanInMillis, long refreshAheadInMillis,
+                  long staleGracePeriodInMillis) {
+
+        this.enabled = enabled;
+        this.cacheLifespanInMillis = cacheLifespanInMillis;
+        this.refreshAheadInMillis = Math.min(refreshAheadInMillis, cacheLifespanInMillis);
+        this.staleGracePeriodInMillis = staleGracePeriodInMillis;
+    }
+
+    public static JWKSetManager getInstance() {
+
+        return instance;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Create a JWK source for the jwks_uri, backed by the keys managed for the jwks_uri.
+     *
+     * @param jwksUrl           JWKS endpoint.
+     * @param resourceRetriever Retriever used to fetch the JWK set.
+     * @return Remote JWK set.
+     */
+    public RemoteJWKSet<SecurityContext> createJWKSource(URL jwksUrl, ResourceRetriever resourceRetriever) {
+
+        ManagedJWKSet managedJWKSet = jwkSets.computeIfAbsent(jwksUrl.toString(), uri -> new ManagedJWKSet(jwksUrl));
+        managedJWKSet.resourceRetriever = resourceRetriever;
+        // Start checking for expiring keys in the background.
+        getRefreshExecutor();
+        return new RemoteJWKSet<>(jwksUrl, managedJWKSet, managedJWKSet);
+    }
+
+    /**
+     * Fetch the JWK set of a jwks_uri in the background, if a JWK source has been created for it.
+     *
+     * @param jwksUri JWKS endpoint.
+     */
+    public void refresh(String jwksUri) {
+
+        ManagedJWKSet managedJWKSet = jwkSets.get(jwksUri);
+        if (managedJWKSet != null) {
+            scheduleRefresh(managedJWKSet);
+        }
+    }
+
+    /**
+     * Discard the keys of a jwks_uri, so that they are fetched again on the next lookup.
+     *
+     * @param jwksUri JWKS endpoint.
+     */
+    public void invalidate(String jwksUri) {
+
+        ManagedJWKSet managedJWKSet = jwkSets.get(jwksUri);
+        if (managedJWKSet != null) {
+            managedJWKSet.jwkSet = null;
+        }
+    }
+
+    public synchronized void shutdown() {
+
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+            refreshExecutor = null;
+        }
+        jwkSets.clear();
+    }
+
+    private void scheduleRefresh(ManagedJWKSet managedJWKSet) {
+
+        if (!managedJWKSet.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            getRefreshExecutor().execute(() -> {
+                try {
+                    Resource resource = managedJWKSet.retrieveResource(managedJWKSet.jwksUrl);
+                    managedJWKSet.put(JWKSet.parse(resource.getContent()));
+                    if (log.isDebugEnabled()) {
+                        log.debug("Refreshed the JWKS of: " + managedJWKSet.jwksUrl + " in the background.");
+                    }
+                } catch (IOException | ParseException | RuntimeException e) {
+                    log.warn("Error while refreshing the JWKS of: " + managedJWKSet.jwksUrl + ". The previously " +
+                            "fetched keys are served until they are past the grace period.");
+                    if (log.isDebugEnabled()) {
+                        log.debug("Error while refreshing the JWKS of: " + managedJWKSet.jwksUrl, e);
+                    }
+                } finally {
+                    managedJWKSet.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            managedJWKSet.refreshing.set(false);
+        }
+    }
+
+    /**
+     * Refresh the JWK sets which are about to expire, and drop the ones which are no longer used.
+     */
+    private void refreshExpiringJWKSets() {
+
+        long currentTime = System.currentTimeMillis();
+        for (ManagedJWKSet managedJWKSet : jwkSets.values()) {
+            if (currentTime - managedJWKSet.lastAccessTime > cacheLifespanInMillis + staleGracePeriodInMillis) {
+                // Not used within the lifespan of its keys. It is registered again on the next lookup.
+                jwkSets.remove(managedJWKSet.jwksUrl.toString(), managedJWKSet);
+            } else if (managedJWKSet.jwkSet != null && managedJWKSet.isRefreshDue(currentTime)) {
+                scheduleRefresh(managedJWKSet);
+            }
+        }
+    }
+
+    private ScheduledExecutorService getRefreshExecutor() {
+
+        if (refreshExecutor == null) {
+            synchronized (this) {
+                if (refreshExecutor == null) {
+                    ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(REFRESH_POOL_SIZE,
+                            runnable -> {
+                                Thread thread = new Thread(runnable, "jwks-background-refresh");
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+                    long checkInterval = Math.max(refreshAheadInMillis / 2, TimeUnit.SECONDS.toMillis(1));
+                    executor.scheduleWithFixedDelay(this::refreshExpiringJWKSets, checkInterval, checkInterval,
+                            TimeUnit.MILLISECONDS);
+                    refreshExecutor = executor;
+                }
+            }
+        }
+        return refreshExecutor;
+    }
+
+    /**
+     * Keys of a single jwks_uri. Acts as the key cache of the remote JWK sets created for the jwks_uri, and coalesces
+     * the concurrent fetches of the jwks_uri.
+     */
+    private class ManagedJWKSet implements JWKSetCache, ResourceRetriever {
+
+        private final URL jwksUrl;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile ResourceRetriever resourceRetriever;
+        private volatile JWKSet jwkSet;
+        private volatile long fetchedTime;
+        private volatile long lastAccessTime = System.currentTimeMillis();
+        private CompletableFuture<Resource> inFlightRetrieval;
+
+        private ManagedJWKSet(URL jwksUrl) {
+
+            this.jwksUrl = jwksUrl;
+        }
+
+        @Override
+        public void put(JWKSet jwkSet) {
+
+            this.fetchedTime = System.currentTimeMillis();
+            this.jwkSet = jwkSet;
+        }
+
+        @Override
+        public JWKSet get() {
+
+            long currentTime = System.currentTimeMillis();
+            lastAccessTime = currentTime;
+            // Register again if this was dropped while idle, so that it gets refreshed in the background.
+            jwkSets.putIfAbsent(jwksUrl.toString(), this);
+
+            JWKSet currentJWKSet = jwkSet;
+            if (currentJWKSet == null) {
+                return null;
+            }
+            long age = currentTime - fetchedTime;
+            if (age >= cacheLifespanInMillis + staleGracePeriodInMillis) {
+                return null;
+            }
+            if (isRefreshDue(currentTime)) {
+                if (age >= cacheLifespanInMillis && log.isDebugEnabled()) {
+                    log.debug("Serving expired JWKS of: " + jwksUrl + " while it is being refreshed.");
+                }
+                scheduleRefresh(this);
+            }
+            return currentJWKSet;
+        }
+
+        @Override
+        public Resource retrieveResource(URL url) throws IOException {
+
+            CompletableFuture<Resource> retrieval;
+            boolean retrievedByThisThread = false;
+            synchronized (this) {
+                if (inFlightRetrieval == null) {
+                    inFlightRetrieval = new CompletableFuture<>();
+                    retrievedByThisThread = true;
+                }
+                retrieval = inFlightRetrieval;
+            }
+
+            if (retrievedByThisThread) {
+                try {
+                    Resource resource = resourceRetriever.retrieveResource(url);
+                    retrieval.complete(resource);
+                    return resource;
+                } catch (IOException | RuntimeException e) {
+                    retrieval.completeExceptionally(e);
+                    throw e;
+                } finally {
+                    synchronized (this) {
+                        inFlightRetrieval = null;
+                    }
+                }
+            }
+
+            try {
+                return retrieval.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for the JWKS of: " + url, e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw new IOException("Error while retrieving the JWKS of: " + url, e.getCause());
+            }
+        }
+
+        private boolean isRefreshDue(long currentTime) {
+
+            return currentTime - fetchedTime >= cacheLifespanInMillis - refreshAheadInMillis;
+        }
+    }
+}
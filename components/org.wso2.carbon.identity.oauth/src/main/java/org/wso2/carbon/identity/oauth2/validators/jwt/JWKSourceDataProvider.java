@@ -21,6 +21,7 @@ package org.wso2.carbon.identity.oauth2.validators.jwt;
 import com.nimbusds.jose.jwk.source.RemoteJWKSet;
 import com.nimbusds.jose.proc.SecurityContext;
 import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.nimbusds.jose.util.ResourceRetriever;
 import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -47,6 +48,7 @@ public class JWKSourceDataProvider {
             ".HTTPReadTimeout";
     private static final String HTTP_SIZE_LIMIT_XPATH = "JWTValidatorConfigs.JWKSEndpoint" +
             ".HTTPSizeLimit";
+    private static final String PREFETCH_URI_XPATH = "JWTValidatorConfigs.JWKSEndpoint.Prefetch.URI";
     private static final Log log = LogFactory.getLog(JWKSourceDataProvider.class);
 
     private static JWKSourceDataProvider jwkSourceDataProvider = new JWKSourceDataProvider();
@@ -104,6 +106,7 @@ public class JWKSourceDataProvider {
         try {
             JWKSCacheKey jwksCacheKey = new JWKSCacheKey(jwksUri);
             JWKSCache.getInstance().clearCacheEntry(jwksCacheKey);
+            JWKSetManager.getInstance().invalidate(jwksUri);
             RemoteJWKSet<SecurityContext> jwkSet = retrieveJWKSFromJWKSEndpoint(jwksUri);
             JWKSCache.getInstance().addToCache(jwksCacheKey, new JWKSCacheEntry(jwkSet));
         } catch (MalformedURLException e) {
@@ -111,6 +114,32 @@ public class JWKSourceDataProvider {
         }
     }
 
+    /**
+     * Fetch the JWKS of the configured jwks_uris in the background, so that they are available before the first
+     * request which needs them. Only applicable when the background refresh of JWKS is enabled.
+     */
+    public void prefetchJWKSources() {
+
+        JWKSetManager jwkSetManager = JWKSetManager.getInstance();
+        if (!jwkSetManager.isEnabled()) {
+            return;
+        }
+        for (String jwksUri : IdentityUtil.getPropertyAsList(PREFETCH_URI_XPATH)) {
+            if (StringUtils.isBlank(jwksUri)) {
+                continue;
+            }
+            try {
+                jwkSetManager.createJWKSource(new URL(jwksUri.trim()), createResourceRetriever());
+                jwkSetManager.refresh(jwksUri.trim());
+                if (log.isDebugEnabled()) {
+                    log.debug("Scheduled prefetching the JWKS of: " + jwksUri);
+                }
+            } catch (MalformedURLException e) {
+                log.warn("Invalid jwks_uri: " + jwksUri + " configured in " + PREFETCH_URI_XPATH);
+            }
+        }
+    }
+
     /**
      * Retrieve JWKS from jwks_uri.
      *
@@ -120,6 +149,21 @@ public class JWKSourceDataProvider {
      */
     private RemoteJWKSet<SecurityContext> retrieveJWKSFromJWKSEndpoint(String jwksUri) throws MalformedURLException {
 
+        URL jwksUrl = new URL(jwksUri);
+        JWKSetManager jwkSetManager = JWKSetManager.getInstance();
+        if (jwkSetManager.isEnabled()) {
+            return jwkSetManager.createJWKSource(jwksUrl, createResourceRetriever());
+        }
+        return new RemoteJWKSet<>(jwksUrl, createResourceRetriever());
+    }
+
+    /**
+     * Create the resource retriever used to fetch JWKS, according to the configured HTTP connection settings.
+     *
+     * @return Resource retriever.
+     */
+    private ResourceRetriever createResourceRetriever() {
+
         // Retrieve HTTP endpoint configurations.
         int connectionTimeout = readHTTPConnectionConfigValue(HTTP_CONNECTION_TIMEOUT_XPATH);
         int readTimeout = readHTTPConnectionConfigValue(HTTP_READ_TIMEOUT_XPATH);
@@ -137,17 +181,15 @@ public class JWKSourceDataProvider {
         }
 
         if (Boolean.parseBoolean(proxyEnabled)) {
-            ExtendedDefaultResourceRetriever resourceRetriever = new ExtendedDefaultResourceRetriever(
+            return new ExtendedDefaultResourceRetriever(
                     connectionTimeout,
                     readTimeout,
                     sizeLimit);
-            return new RemoteJWKSet<>(new URL(jwksUri), resourceRetriever);
         }
-        DefaultResourceRetriever resourceRetriever = new DefaultResourceRetriever(
+        return new DefaultResourceRetriever(
                 connectionTimeout,
                 readTimeout,
                 sizeLimit);
-        return new RemoteJWKSet<>(new URL(jwksUri), resourceRetriever);
     }
 
     /**
@@ -134,11 +134,7 @@ public abstract class AbstractRoleBasedScopeIssuer {
         String requestedScopesString = String.join(" ", requestedScopes);
         String tenantDomain;
         try {
-            if (authenticatedUser.isFederatedUser()) {
-                tenantDomain = getAppInformationByClientId(consumerKey).getAppOwner().getTenantDomain();
-            } else {
-                tenantDomain = authenticatedUser.getTenantDomain();
-            }
+            tenantDomain = getScopeTenantDomain(consumerKey, authenticatedUser);
             if (!MultitenantConstants.SUPER_TENANT_DOMAIN_NAME.equals(tenantDomain)) {
                 isTenantFlowStarted = true;
                 PrivilegedCarbonContext.startTenantFlow();
@@ -163,6 +159,25 @@ public abstract class AbstractRoleBasedScopeIssuer {
         return appScopes;
     }
 
+    /**
+     * Get the tenant domain the application scopes are resolved in for the given user. Scopes of federated users are
+     * resolved in the tenant of the application owner.
+     *
+     * @param consumerKey       Consumer Key of the application
+     * @param authenticatedUser Authenticated User
+     * @return Tenant domain of the application scopes
+     * @throws InvalidOAuthClientException If the application is not found
+     * @throws IdentityOAuth2Exception     Error while retrieving the application
+     */
+    protected String getScopeTenantDomain(String consumerKey, AuthenticatedUser authenticatedUser)
+            throws InvalidOAuthClientException, IdentityOAuth2Exception {
+
+        if (authenticatedUser.isFederatedUser()) {
+            return getAppInformationByClientId(consumerKey).getAppOwner().getTenantDomain();
+        }
+        return authenticatedUser.getTenantDomain();
+    }
+
     private Map<String, String> getAppScopes(Set<Scope> scopes) {
 
         Map<String, String> appScopes = new HashMap<>();
@@ -37,6 +37,7 @@ import org.wso2.carbon.identity.application.common.model.RoleMapping;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationConstants;
 import org.wso2.carbon.identity.application.common.util.IdentityApplicationManagementUtil;
 import org.wso2.carbon.identity.base.IdentityConstants;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
 import org.wso2.carbon.identity.oauth.OAuthUtil;
 import org.wso2.carbon.identity.oauth.cache.CacheEntry;
@@ -49,6 +50,7 @@ import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientExcepti
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
 import org.wso2.carbon.identity.oauth.internal.OAuthComponentServiceHolder;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2ScopeServerException;
 import org.wso2.carbon.identity.oauth2.OAuth2Constants;
 import org.wso2.carbon.identity.oauth2.authz.OAuthAuthzReqMessageContext;
 import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
@@ -76,6 +78,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -90,6 +93,8 @@ public class RoleBasedScopeIssuer extends AbstractRoleBasedScopeIssuer implement
     private static final String DEFAULT_SCOPE_NAME = "default";
     private static final String PRESERVED_CASE_SENSITIVE_VARIABLE = "preservedCaseSensitive";
     private static final String ACCESS_TOKEN_DO = "AccessTokenDO";
+    private static final String SCOPE_ROLE_INDEX_ENABLED =
+            "OAuth.ScopeValidation.RoleBasedScopeIssuer.EnableScopeRoleIndex";
 
     // Setting the "retrieveRolesFromUserStoreForScopeValidation" as a System property which is used when
     // skipping the scope role validation during token issuing using JWT bearer grant.
@@ -224,7 +229,8 @@ public class RoleBasedScopeIssuer extends AbstractRoleBasedScopeIssuer implement
                 return true;
             }
             userRoles = getUserRoles(authenticatedUser, null);
-            authorizedScopes = getAuthorizedScopes(userRoles, requestedScopes, appScopes);
+            authorizedScopes = getAuthorizedScopes(userRoles, requestedScopes, appScopes,
+                    getScopeRoleIndex(clientId, authenticatedUser));
             oAuth2TokenValidationMessageContext.getResponseDTO().setScope(authorizedScopes.toArray(
                     new String[0]));
         }
@@ -309,7 +315,8 @@ public class RoleBasedScopeIssuer extends AbstractRoleBasedScopeIssuer implement
                 return scopes;
             }
             String[] userRoles = getUserRoles(authenticatedUser, null);
-            authorizedScopes = getAuthorizedScopes(userRoles, requestedScopes, appScopes);
+            authorizedScopes = getAuthorizedScopes(userRoles, requestedScopes, appScopes,
+                    getScopeRoleIndex(clientId, authenticatedUser));
             scopes.addAll(authorizedScopes);
         }
         return scopes;
@@ -335,7 +342,8 @@ public class RoleBasedScopeIssuer extends AbstractRoleBasedScopeIssuer implement
                 return getAllowedScopes(requestedScopes);
             }
             String[] userRoles = getUserRoles(authenticatedUser, null);
-            authorizedScopes = getAuthorizedScopes(userRoles, requestedScopes, appScopes);
+            authorizedScopes = getAuthorizedScopes(userRoles, requestedScopes, appScopes,
+                    getScopeRoleIndex(clientId, authenticatedUser));
         }
         return authorizedScopes;
     }
@@ -371,7 +379,7 @@ public class RoleBasedScopeIssuer extends AbstractRoleBasedScopeIssuer implement
             String[] userRoles = new String[0];
             // If no scopes can be found in the context of the application.
             if (isAppScopesEmpty(appScopes, clientId)) {
-                authorizedScopes = getAuthorizedScopes(userRoles, requestedScopes, appScopes);
+                authorizedScopes = getAuthorizedScopes(userRoles, requestedScopes, appScopes, null);
                 scopes.addAll(authorizedScopes);
                 return scopes;
             }
@@ -407,7 +415,8 @@ public class RoleBasedScopeIssuer extends AbstractRoleBasedScopeIssuer implement
                 }
                 userRoles = getUserRoles(authenticatedUser, grantType);
             }
-            authorizedScopes = getAuthorizedScopes(userRoles, requestedScopes, appScopes);
+            authorizedScopes = getAuthorizedScopes(userRoles, requestedScopes, appScopes,
+                    getScopeRoleIndex(clientId, authenticatedUser));
             scopes.addAll(authorizedScopes);
         }
         return scopes;
@@ -447,6 +456,14 @@ public class RoleBasedScopeIssuer extends AbstractRoleBasedScopeIssuer implement
                     authenticatedUser.getAuthenticatedSubjectIdentifier());
         }
         String userStoreDomain = authenticatedUser.getUserStoreDomain();
+        // Roles resolved for a previous refresh of the user's tokens are reused while they are remembered.
+        boolean isRefreshGrant = StringUtils.equals(REFRESH_TOKEN_GRANT_TYPE, grantType);
+        if (isRefreshGrant) {
+            userRoles = UserRolesMemo.getInstance().getRoles(tenantDomain, userStoreDomain, username);
+            if (userRoles != null) {
+                return userRoles;
+            }
+        }
         RealmService realmService = OAuthComponentServiceHolder.getInstance().getRealmService();
         try {
             int tenantId = realmService.getTenantManager().getTenantId(tenantDomain);
@@ -457,6 +474,9 @@ public class RoleBasedScopeIssuer extends AbstractRoleBasedScopeIssuer implement
             UserStoreManager userStoreManager = realmService.getTenantUserRealm(tenantId).getUserStoreManager();
             String endUsernameWithDomain = addDomainToName(username, userStoreDomain);
             userRoles = userStoreManager.getRoleListOfUser(endUsernameWithDomain);
+            if (isRefreshGrant) {
+                UserRolesMemo.getInstance().putRoles(tenantDomain, userStoreDomain, username, userRoles);
+            }
 
         } catch (UserStoreException e) {
             // Log and return since we do not want to stop issuing the token in case of scope validation failures.
@@ -471,10 +491,11 @@ public class RoleBasedScopeIssuer extends AbstractRoleBasedScopeIssuer implement
      * @param userRoles       Roles list of user
      * @param requestedScopes Requested scopes
      * @param appScopes       Scopes of the Application
+     * @param scopeRoleIndex  Role bindings index of the scopes of the tenant, or null to use the application scopes
      * @return authorized scopes list
      */
     private List<String> getAuthorizedScopes(String[] userRoles, List<String> requestedScopes,
-                                             Map<String, String> appScopes) {
+                                             Map<String, String> appScopes, ScopeRoleIndex scopeRoleIndex) {
 
         List<String> defaultScope = new ArrayList<>();
         defaultScope.add(DEFAULT_SCOPE_NAME);
@@ -482,8 +503,7 @@ public class RoleBasedScopeIssuer extends AbstractRoleBasedScopeIssuer implement
             userRoles = new String[0];
         }
         List<String> authorizedScopes = new ArrayList<>();
-        String preservedCaseSensitiveValue = System.getProperty(PRESERVED_CASE_SENSITIVE_VARIABLE);
-        boolean preservedCaseSensitive = JavaUtils.isTrueExplicitly(preservedCaseSensitiveValue);
+        boolean preservedCaseSensitive = isPreservedCaseSensitive();
         List<String> userRoleList;
         if (preservedCaseSensitive) {
             userRoleList = Arrays.asList(userRoles);
@@ -493,18 +513,57 @@ public class RoleBasedScopeIssuer extends AbstractRoleBasedScopeIssuer implement
                 userRoleList.add(aRole.toLowerCase(Locale.ENGLISH));
             }
         }
+        Set<String> scopesOfUserRoles = null;
         // Iterate the requested scopes list.
         for (String scope : requestedScopes) {
             boolean isRestrictUnassignedScopes = OAuth2ServiceComponentHolder.isRestrictUnassignedScopes();
             // Get the set of roles associated with the requested scope.
             if ((isRestrictUnassignedScopes && oAuthServerConfiguration.getAllowedScopes().contains(scope)) ||
                     appScopes.containsKey(scope) || !isRestrictUnassignedScopes) {
-                addAuthorizedRoles(appScopes, scope, preservedCaseSensitive, userRoleList, authorizedScopes);
+                String roles = appScopes.get(scope);
+                if (scopeRoleIndex != null && StringUtils.isNotEmpty(roles) && scopeRoleIndex.isRoleBound(scope)) {
+                    if (scopesOfUserRoles == null) {
+                        scopesOfUserRoles = scopeRoleIndex.getAuthorizedScopes(userRoleList);
+                    }
+                    if (scopesOfUserRoles.contains(scope)) {
+                        authorizedScopes.add(scope);
+                    }
+                } else {
+                    addAuthorizedRoles(appScopes, scope, preservedCaseSensitive, userRoleList, authorizedScopes);
+                }
             }
         }
         return (!authorizedScopes.isEmpty()) ? authorizedScopes : defaultScope;
     }
 
+    /**
+     * Get the role bindings index of the scopes of the tenant the application scopes are resolved in.
+     *
+     * @param clientId          Client ID of the application
+     * @param authenticatedUser Authenticated user
+     * @return Scope role index, or null if the index is disabled or could not be loaded
+     */
+    private ScopeRoleIndex getScopeRoleIndex(String clientId, AuthenticatedUser authenticatedUser) {
+
+        if (!Boolean.parseBoolean(IdentityUtil.getProperty(SCOPE_ROLE_INDEX_ENABLED))) {
+            return null;
+        }
+        try {
+            String tenantDomain = getScopeTenantDomain(clientId, authenticatedUser);
+            return ScopeRoleIndex.getInstance(IdentityTenantUtil.getTenantId(tenantDomain),
+                    isPreservedCaseSensitive());
+        } catch (InvalidOAuthClientException | IdentityOAuth2Exception | IdentityOAuth2ScopeServerException e) {
+            // Fall back to the role bindings of the application scopes of the request.
+            log.error("Error while loading the scope role index " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private boolean isPreservedCaseSensitive() {
+
+        return JavaUtils.isTrueExplicitly(System.getProperty(PRESERVED_CASE_SENSITIVE_VARIABLE));
+    }
+
     private void addAuthorizedRoles(Map<String, String> appScopes, String scope, boolean preservedCaseSensitive,
                                     List<String> userRoleList, List<String> authorizedScopes) {
 
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.validators.scope;
+
+import org.wso2.carbon.identity.oauth.cache.OAuthScopeBindingCache;
+import org.wso2.carbon.identity.oauth.cache.OAuthScopeBindingCacheKey;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2ScopeServerException;
+import org.wso2.carbon.identity.oauth2.OAuth2Constants;
+import org.wso2.carbon.identity.oauth2.Oauth2ScopeConstants;
+import org.wso2.carbon.identity.oauth2.bean.Scope;
+import org.wso2.carbon.identity.oauth2.bean.ScopeBinding;
+import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable index of the role bindings of the OAuth2 scopes of a tenant.
+ * <p>
+ * Each role bound to a scope is indexed against the set of scopes it authorizes, so that the scopes a user is
+ * authorized for can be resolved as the union of the scopes of the user's roles, instead of splitting and comparing
+ * the role bindings of each requested scope on every request. As in the per-scope check, only the first default
+ * binding of a scope is read, its roles are trimmed, and the roles of the user are only case normalized.
+ * <p>
+ * The index is built from the scopes held in the {@link OAuthScopeBindingCache}, which is cleared whenever a scope of
+ * the tenant is added, updated or deleted, and it is rebuilt only when the cached scopes of the tenant change.
+ */
+public class ScopeRoleIndex {
+
+    private static final OAuthScopeBindingCacheKey BINDING_CACHE_KEY =
+            new OAuthScopeBindingCacheKey(Oauth2ScopeConstants.DEFAULT_SCOPE_BINDING);
+
+    private static final Map<Integer, ScopeRoleIndex> tenantIndexes = new ConcurrentHashMap<>();
+
+    private final Scope[] scopes;
+    private final boolean caseSensitive;
+    private final Map<String, Set<String>> scopeRoles = new HashMap<>();
+    private final Map<String, Set<String>> roleScopes = new HashMap<>();
+
+    ScopeRoleIndex(Scope[] scopes, boolean caseSensitive) {
+
+        this.scopes = scopes;
+        this.caseSensitive = caseSensitive;
+        for (Scope scope : scopes) {
+            Set<String> roles = new HashSet<>();
+            ScopeBinding scopeBinding = getDefaultScopeBinding(scope.getScopeBindings());
+            if (scopeBinding != null && scopeBinding.getBindings() != null) {
+                // Bindings are split and trimmed the same way AbstractRoleBasedScopeIssuer reads the app scopes.
+                for (String role : String.join(",", scopeBinding.getBindings()).split(",")) {
+                    String trimmedRole = role.trim();
+                    if (!trimmedRole.isEmpty()) {
+                        roles.add(normalize(trimmedRole));
+                    }
+                }
+            }
+            if (roles.isEmpty()) {
+                continue;
+            }
+            scopeRoles.put(scope.getName(), Collections.unmodifiableSet(roles));
+            for (String role : roles) {
+                roleScopes.computeIfAbsent(role, key -> new HashSet<>()).add(scope.getName());
+            }
+        }
+    }
+
+    /**
+     * Get the index of a tenant, rebuilding it if the role bound scopes of the tenant have changed since the current
+     * index of the tenant was built.
+     *
+     * @param tenantId      Tenant ID.
+     * @param caseSensitive Whether the roles are compared case sensitively.
+     * @return Scope role index of the tenant.
+     * @throws IdentityOAuth2ScopeServerException If the scopes of the tenant could not be loaded.
+     */
+    public static ScopeRoleIndex getInstance(int tenantId, boolean caseSensitive)
+            throws IdentityOAuth2ScopeServerException {
+
+        Scope[] scopes = OAuthScopeBindingCache.getInstance().getValueFromCache(BINDING_CACHE_KEY, tenantId);
+        if (scopes == null) {
+            Set<Scope> scopesOfTenant = OAuthTokenPersistenceFactory.getInstance().getOAuthScopeDAO()
+                    .getScopes(tenantId, Oauth2ScopeConstants.DEFAULT_SCOPE_BINDING);
+            scopes = scopesOfTenant.toArray(new Scope[0]);
+            OAuthScopeBindingCache.getInstance().addToCache(BINDING_CACHE_KEY, scopes, tenantId);
+        }
+        ScopeRoleIndex index = tenantIndexes.get(tenantId);
+        if (index == null || index.scopes != scopes || index.caseSensitive != caseSensitive) {
+            index = new ScopeRoleIndex(scopes, caseSensitive);
+            tenantIndexes.put(tenantId, index);
+        }
+        return index;
+    }
+
+    /**
+     * Check whether roles are bound to the given scope in the index.
+     *
+     * @param scope Scope name.
+     * @return True if the scope is bound to at least one role.
+     */
+    public boolean isRoleBound(String scope) {
+
+        return scopeRoles.containsKey(scope);
+    }
+
+    /**
+     * Get the indexed scopes authorized for at least one of the given roles.
+     *
+     * @param roles Roles of the user.
+     * @return Names of the scopes bound to the given roles.
+     */
+    public Set<String> getAuthorizedScopes(Collection<String> roles) {
+
+        Set<String> authorizedScopes = new HashSet<>();
+        if (roles == null) {
+            return authorizedScopes;
+        }
+        for (String role : roles) {
+            Set<String> scopesOfRole = roleScopes.get(normalize(role));
+            if (scopesOfRole != null) {
+                authorizedScopes.addAll(scopesOfRole);
+            }
+        }
+        return authorizedScopes;
+    }
+
+    private ScopeBinding getDefaultScopeBinding(List<ScopeBinding> scopeBindings) {
+
+        if (scopeBindings == null) {
+            return null;
+        }
+        for (ScopeBinding scopeBinding : scopeBindings) {
+            if (OAuth2Constants.RoleBasedScope.OAUTH2_DEFAULT_SCOPE.equalsIgnoreCase(scopeBinding.getBindingType())) {
+                return scopeBinding;
+            }
+        }
+        return null;
+    }
+
+    private String normalize(String role) {
+
+        return caseSensitive ? role : role.toLowerCase(Locale.ENGLISH);
+    }
+}
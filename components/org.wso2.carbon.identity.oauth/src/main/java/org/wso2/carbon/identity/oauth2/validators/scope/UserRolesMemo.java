@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.validators.scope;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.wso2.carbon.identity.oauth.common.OAuthCommonUtil.getIntProperty;
+
+/**
+ * Short lived memo of the roles resolved for users by the {@link RoleBasedScopeIssuer}.
+ * <p>
+ * A client refreshing its tokens repeatedly makes the issuer read the roles of the same user from the user store on
+ * every refresh grant. Remembering the resolved roles for a short period avoids those lookups, at the cost of a role
+ * change made outside the user operation listeners of this node taking effect on the refreshed tokens only after the
+ * memo entry expires. Role changes made through this node invalidate the remembered roles of the affected users.
+ * <pre>
+ * [oauth.role_based_scope_issuer]
+ * user_roles_memo_timeout = 60
+ * user_roles_memo_size = 10000
+ * </pre>
+ * The memo is disabled by default.
+ */
+public class UserRolesMemo {
+
+    private static final Log log = LogFactory.getLog(UserRolesMemo.class);
+
+    private static final String MEMO_TIMEOUT = "OAuth.ScopeValidation.RoleBasedScopeIssuer.UserRolesMemoTimeout";
+    private static final String MEMO_SIZE = "OAuth.ScopeValidation.RoleBasedScopeIssuer.UserRolesMemoSize";
+
+    private static final int DEFAULT_MEMO_SIZE = 10000;
+
+    private static final UserRolesMemo instance = new UserRolesMemo(
+            TimeUnit.SECONDS.toMillis(getIntProperty(MEMO_TIMEOUT, 0, 0)),
+            getIntProperty(MEMO_SIZE, DEFAULT_MEMO_SIZE, 0));
+
+    private final Map<String, MemoEntry> userRoles = new ConcurrentHashMap<>();
+    private final long timeoutInMillis;
+    private final int size;
+
+    UserRolesMemo(long timeoutInMillis, int size) {
+
+        this.timeoutInMillis = timeoutInMillis;
+        this.size = size;
+    }
+
+    public static UserRolesMemo getInstance() {
+
+        return instance;
+    }
+
+    public boolean isEnabled() {
+
+        return timeoutInMillis > 0 && size > 0;
+    }
+
+    /**
+     * Get the remembered roles of a user.
+     *
+     * @param tenantDomain    Tenant domain of the user.
+     * @param userStoreDomain User store domain of the user.
+     * @param username        Tenant aware username.
+     * @return Roles of the user, or null if they are not remembered or have expired.
+     */
+    public String[] getRoles(String tenantDomain, String userStoreDomain, String username) {
+
+        if (!isEnabled()) {
+            return null;
+        }
+        String key = buildKey(tenantDomain, userStoreDomain, username);
+        MemoEntry entry = userRoles.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiryTime <= System.currentTimeMillis()) {
+            userRoles.remove(key, entry);
+            return null;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Using the remembered roles of the user in tenant: " + tenantDomain);
+        }
+        return entry.roles.clone();
+    }
+
+    /**
+     * Remember the roles of a user. The roles are not remembered if the memo is full of unexpired entries.
+     *
+     * @param tenantDomain    Tenant domain of the user.
+     * @param userStoreDomain User store domain of the user.
+     * @param username        Tenant aware username.
+     * @param roles           Roles of the user.
+     */
+    public void putRoles(String tenantDomain, String userStoreDomain, String username, String[] roles) {
+
+        if (!isEnabled() || roles == null) {
+            return;
+        }
+        long currentTime = System.currentTimeMillis();
+        if (userRoles.size() >= size) {
+            userRoles.values().removeIf(entry -> entry.expiryTime <= currentTime);
+            if (userRoles.size() >= size) {
+                return;
+            }
+        }
+        userRoles.put(buildKey(tenantDomain, userStoreDomain, username),
+                new MemoEntry(roles.clone(), currentTime + timeoutInMillis));
+    }
+
+    /**
+     * Forget the remembered roles of a user, so that the next refresh grant of the user reads the roles again.
+     *
+     * @param tenantDomain    Tenant domain of the user.
+     * @param userStoreDomain User store domain of the user.
+     * @param username        Tenant aware username.
+     */
+    public void invalidate(String tenantDomain, String userStoreDomain, String username) {
+
+        if (userRoles.isEmpty()) {
+            return;
+        }
+        userRoles.remove(buildKey(tenantDomain, userStoreDomain, username));
+    }
+
+    private String buildKey(String tenantDomain, String userStoreDomain, String username) {
+
+        return tenantDomain + ":" + StringUtils.upperCase(userStoreDomain) + ":" + username;
+    }
+
+    private static class MemoEntry {
+
+        private final String[] roles;
+        private final long expiryTime;
+
+        MemoEntry(String[] roles, long expiryTime) {
+
+            this.roles = roles;
+            this.expiryTime = expiryTime;
+        }
+    }
+}
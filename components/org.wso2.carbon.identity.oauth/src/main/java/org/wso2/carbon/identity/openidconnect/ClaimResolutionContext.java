@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.openidconnect;
+
+import org.wso2.carbon.identity.application.authentication.framework.handler.approles.exception.ApplicationRolesException;
+import org.wso2.carbon.identity.oauth2.authz.OAuthAuthzReqMessageContext;
+import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
+import org.wso2.carbon.user.api.UserStoreException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the user claims resolved while issuing the tokens of a single request.
+ * <p>
+ * The context is kept as a property of the request message context, so that when both an ID token and a JWT access
+ * token are issued for the same request, the claims already read from the user store for one token are reused for
+ * the other, and only the claims which were not read yet are fetched.
+ */
+public class ClaimResolutionContext {
+
+    private static final String CLAIM_RESOLUTION_CONTEXT = "ClaimResolutionContext";
+
+    private final Map<String, ResolvedClaims> resolvedUserClaims = new ConcurrentHashMap<>();
+    private final Map<String, String[]> resolvedAppAssociatedRoles = new ConcurrentHashMap<>();
+
+    /**
+     * Get the claim resolution context of a token request, creating one if it doesn't exist yet.
+     *
+     * @param tokenReqMessageContext Token request message context.
+     * @return Claim resolution context of the request.
+     */
+    public static ClaimResolutionContext of(OAuthTokenReqMessageContext tokenReqMessageContext) {
+
+        Object context = tokenReqMessageContext.getProperty(CLAIM_RESOLUTION_CONTEXT);
+        if (context instanceof ClaimResolutionContext) {
+            return (ClaimResolutionContext) context;
+        }
+        ClaimResolutionContext claimResolutionContext = new ClaimResolutionContext();
+        tokenReqMessageContext.addProperty(CLAIM_RESOLUTION_CONTEXT, claimResolutionContext);
+        return claimResolutionContext;
+    }
+
+    /**
+     * Get the claim resolution context of an authorization request, creating one if it doesn't exist yet.
+     *
+     * @param authzReqMessageContext Authorization request message context.
+     * @return Claim resolution context of the request.
+     */
+    public static ClaimResolutionContext of(OAuthAuthzReqMessageContext authzReqMessageContext) {
+
+        Object context = authzReqMessageContext.getProperty(CLAIM_RESOLUTION_CONTEXT);
+        if (context instanceof ClaimResolutionContext) {
+            return (ClaimResolutionContext) context;
+        }
+        ClaimResolutionContext claimResolutionContext = new ClaimResolutionContext();
+        authzReqMessageContext.addProperty(CLAIM_RESOLUTION_CONTEXT, claimResolutionContext);
+        return claimResolutionContext;
+    }
+
+    /**
+     * Get the values of the given local claims of a user. Only the claims which were not resolved earlier in the
+     * request are read from the user store.
+     *
+     * @param tenantDomain Tenant domain the user is resolved in.
+     * @param username     Fully qualified username.
+     * @param claimURIs    Local claim URIs.
+     * @param claimLoader  Reads the claim values from the user store.
+     * @return Claim values of the user. The returned map is not shared with other callers.
+     * @throws UserStoreException Error while reading the claims from the user store.
+     */
+    Map<String, String> getUserClaims(String tenantDomain, String username, List<String> claimURIs,
+                                      UserClaimLoader claimLoader) throws UserStoreException {
+
+        ResolvedClaims resolvedClaims = resolvedUserClaims.computeIfAbsent(tenantDomain + ":" + username,
+                key -> new ResolvedClaims());
+        synchronized (resolvedClaims) {
+            List<String> unresolvedClaimURIs = new ArrayList<>();
+            for (String claimURI : claimURIs) {
+                if (!resolvedClaims.claimURIs.contains(claimURI)) {
+                    unresolvedClaimURIs.add(claimURI);
+                }
+            }
+            if (!unresolvedClaimURIs.isEmpty()) {
+                Map<String, String> claimValues = claimLoader.load(unresolvedClaimURIs);
+                if (claimValues != null) {
+                    resolvedClaims.claimValues.putAll(claimValues);
+                }
+                resolvedClaims.claimURIs.addAll(unresolvedClaimURIs);
+            }
+
+            Map<String, String> userClaims = new HashMap<>();
+            for (String claimURI : claimURIs) {
+                String claimValue = resolvedClaims.claimValues.get(claimURI);
+                if (claimValue != null) {
+                    userClaims.put(claimURI, claimValue);
+                }
+            }
+            return userClaims;
+        }
+    }
+
+    /**
+     * Get the roles of a user associated with an application, resolving them only once per request.
+     *
+     * @param userKey       Key identifying the user.
+     * @param applicationId Application resource ID.
+     * @param rolesLoader   Resolves the application roles of the user.
+     * @return Application associated roles of the user.
+     * @throws ApplicationRolesException Error while resolving the roles.
+     */
+    String[] getAppAssociatedRoles(String userKey, String applicationId, AppRolesLoader rolesLoader)
+            throws ApplicationRolesException {
+
+        String key = userKey + ":" + applicationId;
+        String[] roles = resolvedAppAssociatedRoles.get(key);
+        if (roles == null) {
+            roles = rolesLoader.load();
+            if (roles != null) {
+                resolvedAppAssociatedRoles.put(key, roles);
+            }
+        }
+        return roles == null ? null : roles.clone();
+    }
+
+    private static class ResolvedClaims {
+
+        private final Set<String> claimURIs = new HashSet<>();
+        private final Map<String, String> claimValues = new HashMap<>();
+    }
+
+    /**
+     * Reads the values of local claims of a user from the user store.
+     */
+    @FunctionalInterface
+    interface UserClaimLoader {
+
+        Map<String, String> load(List<String> claimURIs) throws UserStoreException;
+    }
+
+    /**
+     * Resolves the roles of a user associated with an application.
+     */
+    @FunctionalInterface
+    interface AppRolesLoader {
+
+        String[] load() throws ApplicationRolesException;
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.openidconnect;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.wso2.carbon.identity.oauth.common.OAuthCommonUtil.getIntProperty;
+
+/**
+ * Bounded executor used to resolve independent parts of the OIDC user claims concurrently, such as the application
+ * roles of the user while the user store claims are being read.
+ * <pre>
+ * [oauth.oidc.claim_resolution.parallel]
+ * enable = true
+ * pool_size = 4
+ * timeout = 2000
+ * </pre>
+ * Parallel resolution is disabled by default. When it is disabled, or when the executor is saturated, the claims are
+ * resolved on the request thread. A task which doesn't complete within the timeout fails the claim resolution.
+ */
+public class ClaimResolutionExecutor {
+
+    private static final Log log = LogFactory.getLog(ClaimResolutionExecutor.class);
+
+    private static final String PARALLEL_CLAIM_RESOLUTION_ENABLE =
+            "OAuth.OpenIDConnect.ClaimResolution.Parallel.Enable";
+    private static final String PARALLEL_CLAIM_RESOLUTION_POOL_SIZE =
+            "OAuth.OpenIDConnect.ClaimResolution.Parallel.PoolSize";
+    private static final String PARALLEL_CLAIM_RESOLUTION_TIMEOUT =
+            "OAuth.OpenIDConnect.ClaimResolution.Parallel.Timeout";
+
+    private static final int DEFAULT_POOL_SIZE = 4;
+    private static final int DEFAULT_TIMEOUT_IN_MILLIS = 2000;
+    private static final int QUEUE_SIZE_PER_THREAD = 64;
+
+    private static final ClaimResolutionExecutor instance = new ClaimResolutionExecutor(
+            Boolean.parseBoolean(IdentityUtil.getProperty(PARALLEL_CLAIM_RESOLUTION_ENABLE)),
+            getIntProperty(PARALLEL_CLAIM_RESOLUTION_POOL_SIZE, DEFAULT_POOL_SIZE, 1),
+            getIntProperty(PARALLEL_CLAIM_RESOLUTION_TIMEOUT, DEFAULT_TIMEOUT_IN_MILLIS, 1));
+
+    private final boolean enabled;
+    private final int poolSize;
+    private final long timeoutInMillis;
+    private volatile ThreadPoolExecutor executor;
+
+    ClaimResolutionExecutor(boolean enabled, int poolSize, long timeoutInMillis) {
+
+        this.enabled = enabled;
+        this.poolSize = poolSize;
+        this.timeoutInMillis = timeoutInMillis;
+    }
+
+    public static ClaimResolutionExecutor getInstance() {
+
+        return instance;
+    }
+
+    public boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Maximum time the request thread waits for a task submitted to this executor.
+     *
+     * @return Timeout in milliseconds.
+     */
+    public long getTimeoutInMillis() {
+
+        return timeoutInMillis;
+    }
+
+    /**
+     * Submit a task to be run in the tenant flow of the calling thread.
+     *
+     * @param task Task to run.
+     * @param <T>  Type of the task result.
+     * @return Future of the task, or null if parallel resolution is disabled or the executor is saturated, in which
+     * case the caller should run the task itself.
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+
+        if (!enabled) {
+            return null;
+        }
+        String tenantDomain = PrivilegedCarbonContext.getThreadLocalCarbonContext().getTenantDomain();
+        try {
+            return getExecutor().submit(() -> {
+                PrivilegedCarbonContext.startTenantFlow();
+                try {
+                    PrivilegedCarbonContext.getThreadLocalCarbonContext().setTenantDomain(tenantDomain, true);
+                    return task.call();
+                } finally {
+                    PrivilegedCarbonContext.endTenantFlow();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Claim resolution executor is saturated. Resolving claims on the request thread.");
+            }
+            return null;
+        }
+    }
+
+    public synchronized void shutdown() {
+
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private ThreadPoolExecutor getExecutor() {
+
+        if (executor == null) {
+            synchronized (this) {
+                if (executor == null) {
+                    executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                            new ArrayBlockingQueue<>(poolSize * QUEUE_SIZE_PER_THREAD),
+                            new ClaimResolutionThreadFactory());
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * Thread factory for the claim resolution threads.
+     */
+    private static class ClaimResolutionThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, "oidc-claim-resolution-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -409,7 +409,8 @@ public class DefaultOIDCClaimsCallbackHandler implements CustomClaimsCallbackHan
             String clientId = requestMsgCtx.getOauth2AccessTokenReqDTO().getClientId();
             AuthenticatedUser authenticatedUser = requestMsgCtx.getAuthorizedUser();
 
-            return getUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser);
+            return getUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser,
+                    ClaimResolutionContext.of(requestMsgCtx));
         } catch (UserStoreException | IdentityApplicationManagementException | IdentityException |
                  OrganizationManagementException e) {
             if (FrameworkUtils.isContinueOnClaimHandlingErrorAllowed()) {
@@ -542,7 +543,8 @@ public class DefaultOIDCClaimsCallbackHandler implements CustomClaimsCallbackHan
             String clientId = authzReqMessageContext.getAuthorizationReqDTO().getConsumerKey();
             AuthenticatedUser authenticatedUser = authzReqMessageContext.getAuthorizationReqDTO().getUser();
 
-            return getUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser);
+            return getUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser,
+                    ClaimResolutionContext.of(authzReqMessageContext));
         } catch (UserStoreException | IdentityApplicationManagementException | IdentityException |
                  OrganizationManagementException e) {
             if (FrameworkUtils.isContinueOnClaimHandlingErrorAllowed()) {
@@ -595,7 +597,8 @@ public class DefaultOIDCClaimsCallbackHandler implements CustomClaimsCallbackHan
     }
 
     private Map<String, Object> getUserClaimsInOIDCDialect(String spTenantDomain, String clientId,
-                                                           AuthenticatedUser authenticatedUser)
+                                                           AuthenticatedUser authenticatedUser,
+                                                           ClaimResolutionContext claimResolutionContext)
             throws IdentityApplicationManagementException, IdentityException, UserStoreException,
             OrganizationManagementException {
 
@@ -619,7 +622,8 @@ public class DefaultOIDCClaimsCallbackHandler implements CustomClaimsCallbackHan
         List<String> requestedClaimUris = getRequestedClaimUris(requestClaimMappings);
         // Improve runtime claim value storage in cache through https://github.com/wso2/product-is/issues/15056
         requestedClaimUris.removeIf(claim -> claim.startsWith("http://wso2.org/claims/runtime/"));
-        return OIDCClaimUtil.getUserClaimsInOIDCDialect(serviceProvider, authenticatedUser, requestedClaimUris);
+        return OIDCClaimUtil.getUserClaimsInOIDCDialect(serviceProvider, authenticatedUser, requestedClaimUris,
+                claimResolutionContext);
     }
 
     private ClaimMapping[] getRequestedClaimMappings(ServiceProvider serviceProvider) {
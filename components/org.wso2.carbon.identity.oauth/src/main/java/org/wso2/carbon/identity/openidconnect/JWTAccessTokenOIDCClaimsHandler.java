@@ -226,7 +226,8 @@ public class JWTAccessTokenOIDCClaimsHandler implements CustomClaimsCallbackHand
             String clientId = requestMsgCtx.getOauth2AccessTokenReqDTO().getClientId();
             AuthenticatedUser authenticatedUser = requestMsgCtx.getAuthorizedUser();
 
-            return getLocalUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser);
+            return getLocalUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser,
+                    ClaimResolutionContext.of(requestMsgCtx));
         } catch (UserStoreException | IdentityApplicationManagementException | IdentityException |
                  OrganizationManagementException e) {
             if (FrameworkUtils.isContinueOnClaimHandlingErrorAllowed()) {
@@ -534,7 +535,8 @@ public class JWTAccessTokenOIDCClaimsHandler implements CustomClaimsCallbackHand
             String clientId = authzReqMessageContext.getAuthorizationReqDTO().getConsumerKey();
             AuthenticatedUser authenticatedUser = authzReqMessageContext.getAuthorizationReqDTO().getUser();
 
-            return getLocalUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser);
+            return getLocalUserClaimsInOIDCDialect(spTenantDomain, clientId, authenticatedUser,
+                    ClaimResolutionContext.of(authzReqMessageContext));
         } catch (UserStoreException | IdentityApplicationManagementException | IdentityException |
                  OrganizationManagementException e) {
             if (FrameworkUtils.isContinueOnClaimHandlingErrorAllowed()) {
@@ -646,9 +648,10 @@ public class JWTAccessTokenOIDCClaimsHandler implements CustomClaimsCallbackHand
     /**
      * Get user claims in OIDC claim dialect from userstore.
      *
-     * @param spTenantDomain    Service Provider Tenant Domain
-     * @param clientId          Client Id
-     * @param authenticatedUser Authenticated User
+     * @param spTenantDomain         Service Provider Tenant Domain
+     * @param clientId               Client Id
+     * @param authenticatedUser      Authenticated User
+     * @param claimResolutionContext Claims resolved earlier in the same request
      * @return User claims in OIDC dialect
      * @throws IdentityApplicationManagementException Identity Application Management Exception
      * @throws IdentityException                      Identity Exception
@@ -656,7 +659,8 @@ public class JWTAccessTokenOIDCClaimsHandler implements CustomClaimsCallbackHand
      * @throws OrganizationManagementException        Organization Management Exception
      */
     private Map<String, Object> getLocalUserClaimsInOIDCDialect(String spTenantDomain, String clientId,
-                                                                AuthenticatedUser authenticatedUser)
+                                                                AuthenticatedUser authenticatedUser,
+                                                                ClaimResolutionContext claimResolutionContext)
             throws IdentityApplicationManagementException, IdentityException, UserStoreException,
             OrganizationManagementException {
 
@@ -678,7 +682,8 @@ public class JWTAccessTokenOIDCClaimsHandler implements CustomClaimsCallbackHand
         }
         List<String> localClaimURIs = allowedClaims.stream().map(oidcToLocalClaimMappings::get).filter(Objects::nonNull)
                 .collect(Collectors.toList());
-        return OIDCClaimUtil.getUserClaimsInOIDCDialect(serviceProvider, authenticatedUser, localClaimURIs);
+        return OIDCClaimUtil.getUserClaimsInOIDCDialect(serviceProvider, authenticatedUser, localClaimURIs,
+                claimResolutionContext);
     }
 
     /**
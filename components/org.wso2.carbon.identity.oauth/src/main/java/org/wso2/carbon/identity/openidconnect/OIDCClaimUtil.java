@@ -66,6 +66,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.regex.Pattern;
 
 import static org.apache.commons.collections.CollectionUtils.isNotEmpty;
@@ -442,6 +446,27 @@ public class OIDCClaimUtil {
                                                           List<String> claimURIList) throws IdentityException,
             UserStoreException, OrganizationManagementException {
 
+        return getUserClaimsInOIDCDialect(serviceProvider, authenticatedUser, claimURIList, null);
+    }
+
+    /**
+     * Get user claims in OIDC dialect, reusing the claims already resolved for the same request.
+     *
+     * @param serviceProvider        Service Provider
+     * @param authenticatedUser      Authenticated User
+     * @param claimURIList           List of claim URIs
+     * @param claimResolutionContext Claims resolved earlier in the request. Can be null.
+     * @return User claims in OIDC dialect
+     * @throws IdentityException
+     * @throws UserStoreException
+     * @throws OrganizationManagementException
+     */
+    public static Map<String, Object> getUserClaimsInOIDCDialect(ServiceProvider serviceProvider,
+                                                                 AuthenticatedUser authenticatedUser,
+                                                                 List<String> claimURIList,
+                                                                 ClaimResolutionContext claimResolutionContext)
+            throws IdentityException, UserStoreException, OrganizationManagementException {
+
         Map<String, Object> userClaimsMappedToOIDCDialect = new HashMap<>();
 
         String fullQualifiedUsername = authenticatedUser.toFullQualifiedUsername();
@@ -486,6 +511,13 @@ public class OIDCClaimUtil {
             appRoleClaimRequested = true;
         }
 
+        // Application roles don't depend on the user store claims, hence they are resolved alongside them.
+        Future<String[]> appAssociatedRolesFuture = null;
+        if (roleClaimRequested || appRoleClaimRequested) {
+            appAssociatedRolesFuture = ClaimResolutionExecutor.getInstance().submit(() ->
+                    getAppAssociatedRolesOfUser(authenticatedUser, serviceProvider, claimResolutionContext));
+        }
+
         Map<String, String> userClaims;
         if (isSharedUserProfileResolverEnabled() && isSharedUserAccessingSharedOrg(authenticatedUser) &&
                 StringUtils.isNotEmpty(authenticatedUser.getSharedUserId())) {
@@ -500,17 +532,19 @@ public class OIDCClaimUtil {
 
             try {
                 FrameworkUtils.startTenantFlow(userAccessingTenantDomain);
-                userClaims = getUserClaimsInLocalDialect(fullQualifiedSharedUsername, realm, claimURIList);
+                userClaims = getUserClaimsInLocalDialect(userAccessingTenantDomain, fullQualifiedSharedUsername,
+                        realm, claimURIList, claimResolutionContext);
             } finally {
                 FrameworkUtils.endTenantFlow();
             }
         } else {
-            userClaims = getUserClaimsInLocalDialect(fullQualifiedUsername, realm, claimURIList);
+            userClaims = getUserClaimsInLocalDialect(userTenantDomain, fullQualifiedUsername, realm, claimURIList,
+                    claimResolutionContext);
         }
 
         if (roleClaimRequested || appRoleClaimRequested) {
-            String[] appAssocatedRolesOfUser = getAppAssociatedRolesOfUser(authenticatedUser,
-                    serviceProvider.getApplicationResourceId());
+            String[] appAssocatedRolesOfUser = awaitAppAssociatedRolesOfUser(appAssociatedRolesFuture,
+                    authenticatedUser, serviceProvider, claimResolutionContext);
             if (roleClaimRequested) {
                 setRoleClaimInLocalDialect(userClaims, appAssocatedRolesOfUser);
             }
@@ -572,6 +606,66 @@ public class OIDCClaimUtil {
                 claimURIList.toArray(new String[0]), null);
     }
 
+    private static Map<String, String> getUserClaimsInLocalDialect(String tenantDomain, String username,
+                                                                   UserRealm realm, List<String> claimURIList,
+                                                                   ClaimResolutionContext claimResolutionContext)
+            throws UserStoreException {
+
+        if (claimResolutionContext == null) {
+            return getUserClaimsInLocalDialect(username, realm, claimURIList);
+        }
+        return claimResolutionContext.getUserClaims(tenantDomain, username, claimURIList,
+                unresolvedClaimURIs -> getUserClaimsInLocalDialect(username, realm, unresolvedClaimURIs));
+    }
+
+    private static String[] getAppAssociatedRolesOfUser(AuthenticatedUser authenticatedUser,
+                                                        ServiceProvider serviceProvider,
+                                                        ClaimResolutionContext claimResolutionContext)
+            throws ApplicationRolesException {
+
+        String applicationId = serviceProvider.getApplicationResourceId();
+        if (claimResolutionContext == null) {
+            return getAppAssociatedRolesOfUser(authenticatedUser, applicationId);
+        }
+        return claimResolutionContext.getAppAssociatedRoles(authenticatedUser.toFullQualifiedUsername(),
+                applicationId, () -> getAppAssociatedRolesOfUser(authenticatedUser, applicationId));
+    }
+
+    private static String[] awaitAppAssociatedRolesOfUser(Future<String[]> appAssociatedRolesFuture,
+                                                          AuthenticatedUser authenticatedUser,
+                                                          ServiceProvider serviceProvider,
+                                                          ClaimResolutionContext claimResolutionContext)
+            throws IdentityException {
+
+        if (appAssociatedRolesFuture != null) {
+            try {
+                return appAssociatedRolesFuture.get(ClaimResolutionExecutor.getInstance().getTimeoutInMillis(),
+                        TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                appAssociatedRolesFuture.cancel(true);
+                Thread.currentThread().interrupt();
+                throw new IdentityException("Interrupted while resolving the application roles of the user.", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IdentityException) {
+                    throw (IdentityException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IdentityException("Error while resolving the application roles of the user.", cause);
+            } catch (TimeoutException e) {
+                /* The lookup is not repeated on the request thread, as it would add up to the time already spent
+                waiting, and the claims are not issued without the roles. */
+                appAssociatedRolesFuture.cancel(true);
+                throw new IdentityException("Timed out after " +
+                        ClaimResolutionExecutor.getInstance().getTimeoutInMillis() +
+                        "ms while resolving the application roles of the user.", e);
+            }
+        }
+        return getAppAssociatedRolesOfUser(authenticatedUser, serviceProvider, claimResolutionContext);
+    }
+
     /**
      * Get app associated roles of the user.
      *
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.openidconnect;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.claim.metadata.mgt.exception.ClaimMetadataException;
+import org.wso2.carbon.identity.claim.metadata.mgt.listener.AbstractClaimMetadataMgtListener;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ClaimDialect;
+import org.wso2.carbon.identity.claim.metadata.mgt.model.ExternalClaim;
+import org.wso2.carbon.identity.oauth.common.OAuthConstants;
+import org.wso2.carbon.identity.openidconnect.cache.OIDCDiscoveryDocumentCache;
+
+/**
+ * Clears the cached OIDC discovery documents of a tenant when a claim of the OIDC claim dialect of the tenant is
+ * added, updated or deleted, or when the dialect itself is renamed or deleted, since the supported claims of the
+ * discovery document are the claims of the OIDC dialect. These changes do not go through the OIDC scope claim
+ * mappings, so the documents are not cleared together with the mappings.
+ */
+public class OIDCDiscoveryClaimMetadataMgtListener extends AbstractClaimMetadataMgtListener {
+
+    private static final Log log = LogFactory.getLog(OIDCDiscoveryClaimMetadataMgtListener.class);
+    private static final int DEFAULT_ORDER_ID = 50;
+
+    @Override
+    public int getDefaultOrderId() {
+
+        return DEFAULT_ORDER_ID;
+    }
+
+    @Override
+    public boolean doPostRenameClaimDialect(ClaimDialect oldClaimDialect, ClaimDialect newClaimDialect, int tenantId)
+            throws ClaimMetadataException {
+
+        if (isOIDCDialect(oldClaimDialect.getClaimDialectURI()) ||
+                isOIDCDialect(newClaimDialect.getClaimDialectURI())) {
+            clearDiscoveryDocuments(tenantId);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteClaimDialect(ClaimDialect claimDialect, int tenantId) throws ClaimMetadataException {
+
+        if (isOIDCDialect(claimDialect.getClaimDialectURI())) {
+            clearDiscoveryDocuments(tenantId);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostAddExternalClaim(ExternalClaim externalClaim, int tenantId) throws ClaimMetadataException {
+
+        if (isOIDCDialect(externalClaim.getClaimDialectURI())) {
+            clearDiscoveryDocuments(tenantId);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostUpdateExternalClaim(ExternalClaim externalClaim, int tenantId)
+            throws ClaimMetadataException {
+
+        if (isOIDCDialect(externalClaim.getClaimDialectURI())) {
+            clearDiscoveryDocuments(tenantId);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean doPostDeleteExternalClaim(String claimDialectURI, String externalClaimURI, int tenantId)
+            throws ClaimMetadataException {
+
+        if (isOIDCDialect(claimDialectURI)) {
+            clearDiscoveryDocuments(tenantId);
+        }
+        return true;
+    }
+
+    private boolean isOIDCDialect(String claimDialectURI) {
+
+        return OAuthConstants.OIDC_DIALECT.equals(claimDialectURI);
+    }
+
+    private void clearDiscoveryDocuments(int tenantId) {
+
+        if (!OIDCDiscoveryDocumentCache.isEnabled()) {
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("OIDC claim dialect changed in tenant: " + tenantId + ". Clearing the cached discovery " +
+                    "documents.");
+        }
+        OIDCDiscoveryDocumentCache.getInstance().clearDiscoveryDocuments(tenantId);
+    }
+}
@@ -48,6 +48,7 @@ import org.wso2.carbon.utils.DiagnosticLog;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
@@ -79,8 +80,6 @@ import static org.wso2.carbon.identity.oauth.common.OAuthConstants.OIDCClaims.UP
  */
 public class OpenIDConnectClaimFilterImpl implements OpenIDConnectClaimFilter {
 
-    private static final String ADDRESS_PREFIX = "address.";
-    private static final String ADDRESS_SCOPE = "address";
     private static final String OIDC_DIALECT = "http://wso2.org/oidc/claim";
 
     private static final Log log = LogFactory.getLog(OpenIDConnectClaimFilterImpl.class);
@@ -101,24 +100,20 @@ public class OpenIDConnectClaimFilterImpl implements OpenIDConnectClaimFilter {
         Map<String, Object> claimsToBeReturned = new HashMap<>();
         Map<String, Object> addressScopeClaims = new HashMap<>();
 
-        Map<String, List<String>> scopeClaimsMap = getOIDCScopeClaimMap(spTenantDomain);
+        ScopeClaimIndex scopeClaimIndex = getScopeClaimIndex(spTenantDomain);
 
-        if (MapUtils.isNotEmpty(scopeClaimsMap)) {
-            List<String> addressScopeClaimUris = getAddressScopeClaimUris(scopeClaimsMap);
+        if (!scopeClaimIndex.isEmpty()) {
+            BitSet requestedOIDCScopes = new BitSet();
             // Iterate through scopes requested in the OAuth2/OIDC request to filter claims
             for (String requestedScope : requestedScopes) {
                 // Check if requested scope is a supported OIDC scope value
 
-                if (scopeClaimsMap.containsKey(requestedScope)) {
+                if (scopeClaimIndex.isOIDCScope(requestedScope)) {
                     if (log.isDebugEnabled()) {
                         log.debug("Requested scope: " + requestedScope + " is a defined OIDC Scope in tenantDomain: " +
                                 spTenantDomain + ". Filtering claims based on the permitted claims in the scope.");
                     }
-                    // Requested scope is an registered OIDC scope. Filter and return the claims belonging to the scope.
-                    Map<String, Object> filteredClaims =
-                            handleRequestedOIDCScope(userClaims, addressScopeClaims, scopeClaimsMap,
-                                    addressScopeClaimUris, requestedScope);
-                    claimsToBeReturned.putAll(filteredClaims);
+                    scopeClaimIndex.addRequestedScope(requestedOIDCScopes, requestedScope);
                 } else {
                     if (log.isDebugEnabled()) {
                         log.debug("Requested scope: " + requestedScope + " is not a defined OIDC Scope in " +
@@ -126,6 +121,8 @@ public class OpenIDConnectClaimFilterImpl implements OpenIDConnectClaimFilter {
                     }
                 }
             }
+            // Requested scopes are registered OIDC scopes. Filter and return the claims belonging to the scopes.
+            scopeClaimIndex.filterClaims(userClaims, requestedOIDCScopes, claimsToBeReturned, addressScopeClaims);
         } else {
             if (log.isDebugEnabled()) {
                 log.debug("No OIDC scopes defined for tenantDomain: " + spTenantDomain + ". Cannot proceed with " +
@@ -150,19 +147,19 @@ public class OpenIDConnectClaimFilterImpl implements OpenIDConnectClaimFilter {
     public List<String> getClaimsFilteredByOIDCScopes(Set<String> requestedScopes, String spTenantDomain) {
 
         List<String> filteredClaims = new ArrayList<>();
-        Map<String, List<String>> scopeClaimsMap = getOIDCScopeClaimMap(spTenantDomain);
+        ScopeClaimIndex scopeClaimIndex = getScopeClaimIndex(spTenantDomain);
 
-        if (MapUtils.isNotEmpty(scopeClaimsMap)) {
+        if (!scopeClaimIndex.isEmpty()) {
             // Iterate through scopes requested in the OAuth2/OIDC request to filter claims
             for (String requestedScope : requestedScopes) {
                 // Check if requested scope is a supported OIDC scope value
-                if (scopeClaimsMap.containsKey(requestedScope)) {
+                if (scopeClaimIndex.isOIDCScope(requestedScope)) {
                     if (log.isDebugEnabled()) {
                         log.debug("Requested scope: " + requestedScope + " is a defined OIDC Scope in tenantDomain: " +
                                 spTenantDomain + ". Filtering claims based on the permitted claims in the scope.");
                     }
                     // Requested scope is an registered OIDC scope. Filter and return the claims belonging to the scope.
-                    filteredClaims.addAll(getClaimUrisInSupportedOIDCScope(scopeClaimsMap, requestedScope));
+                    filteredClaims.addAll(scopeClaimIndex.getClaimUris(requestedScope));
                 } else {
                     if (log.isDebugEnabled()) {
                         log.debug("Requested scope: " + requestedScope + " is not a defined OIDC Scope in " +
@@ -244,10 +241,10 @@ public class OpenIDConnectClaimFilterImpl implements OpenIDConnectClaimFilter {
 
         boolean hasAddressClaims = false;
         JSONObject consentedAddressClaims = new JSONObject();
-        Map<String, List<String>> scopeClaimsMap = getOIDCScopeClaimMap(spTenantDomain);
+        ScopeClaimIndex scopeClaimIndex = getScopeClaimIndex(spTenantDomain);
 
-        if (userClaims.containsKey(ADDRESS) && MapUtils.isNotEmpty(scopeClaimsMap)) {
-            List<String> addressScopeClaimUris = getAddressScopeClaimUris(scopeClaimsMap);
+        if (userClaims.containsKey(ADDRESS) && !scopeClaimIndex.isEmpty()) {
+            List<String> addressScopeClaimUris = scopeClaimIndex.getAddressScopeClaimUris();
             consentedAddressClaims = (JSONObject) userClaims.get(ADDRESS);
             for (String addressScopeClaimEntry : addressScopeClaimUris) {
                 if (userConsentClaimUrisInOIDCDialect.contains(addressScopeClaimEntry)) {
@@ -275,23 +272,18 @@ public class OpenIDConnectClaimFilterImpl implements OpenIDConnectClaimFilter {
     }
 
     /**
-     * Retrieve the OIDC scope claim map for the given SP tenant domain.
+     * Retrieve the OIDC scope claim index for the given SP tenant domain.
      *
      * @param spTenantDomain Tenant domain of the SP.
-     * @return OIDC scope claim map for the tenant.
+     * @return OIDC scope claim index for the tenant.
      */
-    private Map<String, List<String>> getOIDCScopeClaimMap(String spTenantDomain) {
+    private ScopeClaimIndex getScopeClaimIndex(String spTenantDomain) {
 
-        // Map<"openid", "first_name,last_name,username">
-        Map<String, List<String>> scopeClaimsMap = new HashMap<>();
         int tenantId = IdentityTenantUtil.getTenantId(spTenantDomain);
 
         // Load OIDC scopes and mapped claims from the cache or db.
         List<ScopeDTO> oidcScopesList = getOIDCScopes(tenantId);
-        for (ScopeDTO scope : oidcScopesList) {
-            scopeClaimsMap.put(scope.getName(), Arrays.asList(scope.getClaim()));
-        }
-        return scopeClaimsMap;
+        return ScopeClaimIndex.getInstance(tenantId, oidcScopesList);
     }
 
     private boolean isConsentManagementServiceDisabled(ServiceProvider serviceProvider) {
@@ -359,61 +351,6 @@ public class OpenIDConnectClaimFilterImpl implements OpenIDConnectClaimFilter {
         return oidcScopesList;
     }
 
-    private Map<String, Object> handleRequestedOIDCScope(Map<String, Object> userClaimsInOIDCDialect,
-                                                         Map<String, Object> addressScopeClaims,
-                                                         Map<String, List<String>> scopeClaimsMap,
-                                                         List<String> addressScopeClaimUris,
-                                                         String oidcScope) {
-
-        Map<String, Object> filteredClaims = new HashMap<>();
-        List<String> claimUrisInRequestedScope = getClaimUrisInSupportedOIDCScope(scopeClaimsMap, oidcScope);
-        for (String scopeClaim : claimUrisInRequestedScope) {
-            String oidcClaimUri = scopeClaim;
-            boolean isAddressClaim = false;
-            if (isAddressClaim(scopeClaim, addressScopeClaimUris)) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Identified an address claim: " + scopeClaim + ". Removing \"address.\" prefix from " +
-                            "the claimUri");
-                }
-                oidcClaimUri = removeAddressPrefix(scopeClaim);
-                isAddressClaim = true;
-            }
-            // Check whether the user claims contain the permitted claim uri
-            if (userClaimsInOIDCDialect.containsKey(oidcClaimUri)) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Adding claim:" + oidcClaimUri + " into the filtered claims");
-                }
-                Object claimValue = userClaimsInOIDCDialect.get(oidcClaimUri);
-                // User claim is allowed for this scope.
-                if (isAddressClaim) {
-                    addressScopeClaims.put(oidcClaimUri, claimValue);
-                } else {
-                    filteredClaims.put(oidcClaimUri, claimValue);
-                }
-            } else {
-                if (log.isDebugEnabled()) {
-                    log.debug("No valid user claim value found for the claimUri:" + oidcClaimUri);
-                }
-            }
-        }
-        return filteredClaims;
-    }
-
-    /**
-     * There can be situations where we have added a scope prefix to identify special claims.
-     * <p>
-     * For example, claims belonging to address can be prefixed as address.country, address.street. But when
-     * returning we need to remove the prefix.
-     *
-     * @param scopeClaim claim uri defined in the OIDC Scope
-     * @return Scope prefix removed claim URI
-     */
-    private String removeAddressPrefix(String scopeClaim) {
-
-        return StringUtils.startsWith(scopeClaim, ADDRESS_PREFIX) ?
-                StringUtils.substringAfterLast(scopeClaim, ADDRESS_PREFIX) : scopeClaim;
-    }
-
     private void handleAddressClaim(Map<String, Object> returnedClaims,
                                     Map<String, Object> claimsforAddressScope) {
 
@@ -426,26 +363,6 @@ public class OpenIDConnectClaimFilterImpl implements OpenIDConnectClaimFilter {
         }
     }
 
-    private List<String> getAddressScopeClaimUris(Map<String, List<String>> scopeClaimsMap) {
-
-        return getClaimUrisInSupportedOIDCScope(scopeClaimsMap, ADDRESS_SCOPE);
-    }
-
-    private boolean isAddressClaim(String scopeClaim, List<String> addressScopeClaims) {
-
-        return StringUtils.startsWith(scopeClaim, ADDRESS_PREFIX) || addressScopeClaims.contains(scopeClaim);
-    }
-
-    private List<String> getClaimUrisInSupportedOIDCScope(Map<String, List<String>> scopeClaimsMap,
-                                                          String requestedScope) {
-
-        List<String> requestedScopeClaimsList = new ArrayList<>();
-        if (scopeClaimsMap.containsKey(requestedScope)) {
-            requestedScopeClaimsList = scopeClaimsMap.get(requestedScope);
-        }
-        return requestedScopeClaimsList;
-    }
-
     private void handleUpdateAtClaim(Map<String, Object> returnClaims) {
 
         if (returnClaims.containsKey(UPDATED_AT) && returnClaims.get(UPDATED_AT) != null &&
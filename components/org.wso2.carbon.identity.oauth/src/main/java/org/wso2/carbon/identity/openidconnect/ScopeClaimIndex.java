@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.openidconnect;
+
+import org.apache.commons.lang.StringUtils;
+import org.wso2.carbon.identity.oauth.dto.ScopeDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable index of the OIDC scope to claim mappings of a tenant.
+ * <p>
+ * Each claim defined in an OIDC scope is indexed against the set of scopes it belongs to, so that the user claims can
+ * be filtered by the requested scopes with a single pass over the scope claims, instead of walking the claims of each
+ * requested scope. The index of a tenant is rebuilt only when the scope claim mappings loaded for the tenant change.
+ */
+public class ScopeClaimIndex {
+
+    private static final String ADDRESS_PREFIX = "address.";
+    private static final String ADDRESS_SCOPE = "address";
+
+    private static final Map<Integer, ScopeClaimIndex> tenantIndexes = new ConcurrentHashMap<>();
+
+    private final List<ScopeDTO> scopeClaimMappings;
+    private final Map<String, Integer> scopeIndexes = new HashMap<>();
+    private final Map<String, List<String>> scopeClaims = new HashMap<>();
+    private final List<IndexedClaim> indexedClaims = new ArrayList<>();
+    private final List<String> addressScopeClaimUris;
+
+    ScopeClaimIndex(List<ScopeDTO> scopeClaimMappings) {
+
+        this.scopeClaimMappings = scopeClaimMappings;
+        if (scopeClaimMappings != null) {
+            for (ScopeDTO scope : scopeClaimMappings) {
+                String[] claims = scope.getClaim() == null ? new String[0] : scope.getClaim();
+                scopeClaims.put(scope.getName(), Collections.unmodifiableList(Arrays.asList(claims)));
+            }
+        }
+        addressScopeClaimUris = scopeClaims.getOrDefault(ADDRESS_SCOPE, Collections.emptyList());
+
+        Map<String, IndexedClaim> claimsByUri = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> scopeClaimsEntry : scopeClaims.entrySet()) {
+            int scopeIndex = scopeIndexes.size();
+            scopeIndexes.put(scopeClaimsEntry.getKey(), scopeIndex);
+            for (String scopeClaim : scopeClaimsEntry.getValue()) {
+                claimsByUri.computeIfAbsent(scopeClaim, this::indexClaim).scopes.set(scopeIndex);
+            }
+        }
+        indexedClaims.addAll(claimsByUri.values());
+    }
+
+    /**
+     * Get the index of a tenant, rebuilding it if the given scope claim mappings differ from the ones the current
+     * index of the tenant was built from.
+     *
+     * @param tenantId           Tenant ID.
+     * @param scopeClaimMappings OIDC scopes of the tenant with their claims.
+     * @return Scope claim index of the tenant.
+     */
+    public static ScopeClaimIndex getInstance(int tenantId, List<ScopeDTO> scopeClaimMappings) {
+
+        ScopeClaimIndex scopeClaimIndex = tenantIndexes.get(tenantId);
+        if (scopeClaimIndex == null || scopeClaimIndex.scopeClaimMappings != scopeClaimMappings) {
+            scopeClaimIndex = new ScopeClaimIndex(scopeClaimMappings);
+            tenantIndexes.put(tenantId, scopeClaimIndex);
+        }
+        return scopeClaimIndex;
+    }
+
+    public boolean isEmpty() {
+
+        return scopeIndexes.isEmpty();
+    }
+
+    public boolean isOIDCScope(String scope) {
+
+        return scopeIndexes.containsKey(scope);
+    }
+
+    /**
+     * Get the claims defined in an OIDC scope.
+     *
+     * @param scope OIDC scope.
+     * @return Claims of the scope, or an empty list if the scope is not an OIDC scope.
+     */
+    public List<String> getClaimUris(String scope) {
+
+        return scopeClaims.getOrDefault(scope, Collections.emptyList());
+    }
+
+    public List<String> getAddressScopeClaimUris() {
+
+        return addressScopeClaimUris;
+    }
+
+    /**
+     * Mark an OIDC scope as requested.
+     *
+     * @param requestedScopes Requested scopes.
+     * @param scope           OIDC scope.
+     */
+    public void addRequestedScope(BitSet requestedScopes, String scope) {
+
+        Integer scopeIndex = scopeIndexes.get(scope);
+        if (scopeIndex != null) {
+            requestedScopes.set(scopeIndex);
+        }
+    }
+
+    /**
+     * Filter the user claims allowed by the requested scopes.
+     *
+     * @param userClaims         User claims in OIDC dialect.
+     * @param requestedScopes    Requested OIDC scopes.
+     * @param filteredClaims     Map the allowed claims are added to.
+     * @param addressScopeClaims Map the allowed sub claims of the address claim are added to.
+     */
+    public void filterClaims(Map<String, Object> userClaims, BitSet requestedScopes,
+                             Map<String, Object> filteredClaims, Map<String, Object> addressScopeClaims) {
+
+        if (requestedScopes.isEmpty()) {
+            return;
+        }
+        for (IndexedClaim indexedClaim : indexedClaims) {
+            if (indexedClaim.scopes.intersects(requestedScopes) && userClaims.containsKey(indexedClaim.claimUri)) {
+                Object claimValue = userClaims.get(indexedClaim.claimUri);
+                if (indexedClaim.addressClaim) {
+                    addressScopeClaims.put(indexedClaim.claimUri, claimValue);
+                } else {
+                    filteredClaims.put(indexedClaim.claimUri, claimValue);
+                }
+            }
+        }
+    }
+
+    private IndexedClaim indexClaim(String scopeClaim) {
+
+        // Claims of the address scope can be prefixed as address.country, which is removed when returning them.
+        if (StringUtils.startsWith(scopeClaim, ADDRESS_PREFIX) || addressScopeClaimUris.contains(scopeClaim)) {
+            String claimUri = StringUtils.startsWith(scopeClaim, ADDRESS_PREFIX) ?
+                    StringUtils.substringAfterLast(scopeClaim, ADDRESS_PREFIX) : scopeClaim;
+            return new IndexedClaim(claimUri, true);
+        }
+        return new IndexedClaim(scopeClaim, false);
+    }
+
+    private static class IndexedClaim {
+
+        private final String claimUri;
+        private final boolean addressClaim;
+        private final BitSet scopes = new BitSet();
+
+        private IndexedClaim(String claimUri, boolean addressClaim) {
+
+            this.claimUri = claimUri;
+            this.addressClaim = addressClaim;
+        }
+    }
+}
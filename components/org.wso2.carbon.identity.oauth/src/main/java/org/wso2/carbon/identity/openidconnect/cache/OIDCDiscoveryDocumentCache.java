@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.openidconnect.cache;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.application.common.cache.BaseCache;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.utils.CarbonUtils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the serialized OIDC discovery documents of each tenant, so that the provider configuration is not rebuilt
+ * and serialized on every discovery request. Documents are kept per organization within the tenant, as the endpoint
+ * URLs of the document are organization qualified.
+ * <p>
+ * Documents of a tenant are cleared together with the OIDC scope claim mappings of the tenant, which covers changes
+ * to the OIDC scopes, and by the
+ * {@link org.wso2.carbon.identity.openidconnect.OIDCDiscoveryClaimMetadataMgtListener} on changes to the OIDC claim
+ * dialect of the tenant. Changes that affect all the tenants, such as the registration of authorization
+ * details processors, move the cache to a new generation so that documents of earlier generations are no longer
+ * served.
+ */
+public class OIDCDiscoveryDocumentCache extends BaseCache<String, OIDCDiscoveryDocumentCacheEntry> {
+
+    private static final String OIDC_DISCOVERY_DOCUMENT_CACHE_NAME = "OIDCDiscoveryDocumentCache";
+    private static final String ENABLE = "OAuth.OIDCDiscovery.ResponseCache.Enable";
+
+    private static final boolean enabled = Boolean.parseBoolean(IdentityUtil.getProperty(ENABLE));
+    private static final AtomicLong generation = new AtomicLong();
+
+    private static volatile OIDCDiscoveryDocumentCache instance;
+    private static final Log log = LogFactory.getLog(OIDCDiscoveryDocumentCache.class);
+
+    private OIDCDiscoveryDocumentCache() {
+
+        super(OIDC_DISCOVERY_DOCUMENT_CACHE_NAME);
+    }
+
+    /**
+     * Return OIDCDiscoveryDocumentCache instance.
+     *
+     * @return OIDCDiscoveryDocumentCache instance.
+     */
+    public static OIDCDiscoveryDocumentCache getInstance() {
+
+        CarbonUtils.checkSecurity();
+        if (instance == null) {
+            synchronized (OIDCDiscoveryDocumentCache.class) {
+                if (instance == null) {
+                    instance = new OIDCDiscoveryDocumentCache();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Check whether the OIDC discovery documents should be kept in the cache.
+     *
+     * @return true if the OIDC discovery document cache is enabled.
+     */
+    public static boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * Stop serving the cached discovery documents of all the tenants. Documents of the earlier generation remain in
+     * the cache until they expire, but are never served again.
+     */
+    public static void invalidateAll() {
+
+        long currentGeneration = generation.incrementAndGet();
+        if (log.isDebugEnabled()) {
+            log.debug("Moved the OIDC discovery document cache to generation: " + currentGeneration);
+        }
+    }
+
+    /**
+     * Get the cached discovery document of the organization in the tenant.
+     *
+     * @param organizationId Organization id, or null if the request is not organization qualified.
+     * @param tenantDomain   Tenant domain.
+     * @return Cached discovery document or null if it is not cached.
+     */
+    public OIDCDiscoveryDocumentCacheEntry getDiscoveryDocument(String organizationId, String tenantDomain) {
+
+        return super.getValueFromCache(buildCacheKey(organizationId), tenantDomain);
+    }
+
+    /**
+     * Cache the discovery document of the organization in the tenant.
+     *
+     * @param organizationId    Organization id, or null if the request is not organization qualified.
+     * @param tenantDomain      Tenant domain.
+     * @param discoveryDocument Discovery document.
+     */
+    public void addDiscoveryDocument(String organizationId, String tenantDomain,
+                                     OIDCDiscoveryDocumentCacheEntry discoveryDocument) {
+
+        super.addToCache(buildCacheKey(organizationId), discoveryDocument, tenantDomain);
+    }
+
+    /**
+     * Clear the cached discovery documents of the tenant, so that they are rebuilt on the next request.
+     *
+     * @param tenantId Tenant id.
+     */
+    public void clearDiscoveryDocuments(int tenantId) {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Clearing the cached OIDC discovery documents of tenant: " + tenantId);
+        }
+        super.clear(tenantId);
+    }
+
+    private static String buildCacheKey(String organizationId) {
+
+        return generation.get() + ":" + StringUtils.defaultString(organizationId);
+    }
+}
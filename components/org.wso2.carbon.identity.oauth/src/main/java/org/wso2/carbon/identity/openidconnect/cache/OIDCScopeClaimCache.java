@@ -55,6 +55,10 @@ public class OIDCScopeClaimCache extends BaseCache<Integer, OIDCScopeClaimCacheE
     public void clearScopeClaimMap(int tenantId) {
 
         super.clearCacheEntry(tenantId, tenantId);
+        // The supported scopes and claims of the discovery document are derived from the scope claim mappings.
+        if (OIDCDiscoveryDocumentCache.isEnabled()) {
+            OIDCDiscoveryDocumentCache.getInstance().clearDiscoveryDocuments(tenantId);
+        }
     }
 
     public OIDCScopeClaimCacheEntry getScopeClaimMap(int tenantId) {
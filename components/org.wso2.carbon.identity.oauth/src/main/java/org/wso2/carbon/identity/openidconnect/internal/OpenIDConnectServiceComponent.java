@@ -27,11 +27,13 @@ import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.application.authentication.framework.handler.approles.ApplicationRolesResolver;
 import org.wso2.carbon.identity.application.authentication.framework.handler.request.impl.consent.SSOConsentService;
 import org.wso2.carbon.identity.claim.metadata.mgt.ClaimMetadataManagementService;
+import org.wso2.carbon.identity.claim.metadata.mgt.listener.ClaimMetadataMgtListener;
 import org.wso2.carbon.identity.core.util.IdentityCoreInitializedEvent;
 import org.wso2.carbon.identity.event.handler.AbstractEventHandler;
 import org.wso2.carbon.identity.event.services.IdentityEventService;
 import org.wso2.carbon.identity.openidconnect.ClaimProvider;
 import org.wso2.carbon.identity.openidconnect.OIDCClaimMetaDataOperationHandler;
+import org.wso2.carbon.identity.openidconnect.OIDCDiscoveryClaimMetadataMgtListener;
 import org.wso2.carbon.identity.openidconnect.OpenIDConnectClaimFilter;
 import org.wso2.carbon.identity.openidconnect.OpenIDConnectSystemClaimImpl;
 import org.wso2.carbon.identity.openidconnect.RequestObjectService;
@@ -62,6 +64,8 @@ public class OpenIDConnectServiceComponent {
                     new RequestObjectService(), null);
             bundleContext.registerService(AbstractEventHandler.class.getName(),
                     new OIDCClaimMetaDataOperationHandler(), null);
+            bundleContext.registerService(ClaimMetadataMgtListener.class.getName(),
+                    new OIDCDiscoveryClaimMetadataMgtListener(), null);
         } catch (Throwable e) {
             String errMsg = "Error while activating OpenIDConnectServiceComponent.";
             log.error(errMsg, e);
@@ -345,6 +345,7 @@ public class OAuthUtilTest {
         accessTokens.add(accessTokenDO);
         when(mockAccessTokenDAO.getAccessTokens(anyString(),
                 any(AuthenticatedUser.class), nullable(String.class), anyBoolean())).thenReturn(accessTokens);
+        when(AuthorizationGrantCache.getInstance()).thenReturn(mock(AuthorizationGrantCache.class));
 
         boolean result = OAuthUtil.revokeTokens(username, userStoreManager, roleId);
         verify(mockAccessTokenDAO, times(1)).revokeAccessTokens(any(), anyBoolean());
@@ -407,6 +408,7 @@ public class OAuthUtilTest {
         accessTokens.add(accessTokenDO);
         when(mockAccessTokenDAO.getAccessTokens(anyString(),
                 any(AuthenticatedUser.class), nullable(String.class), anyBoolean())).thenReturn(accessTokens);
+        when(AuthorizationGrantCache.getInstance()).thenReturn(mock(AuthorizationGrantCache.class));
 
         when(mockOAuthTokenPersistenceFactory.getTokenManagementDAO()).thenReturn(tokenManagementDAO);
         Set<String> clientIds = new HashSet<>();
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.action.execution;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Unit tests for {@link LatencyRecorder}.
+ */
+public class LatencyRecorderTest {
+
+    @Test
+    public void testPercentilesWithoutSamples() {
+
+        LatencyRecorder recorder = new LatencyRecorder();
+
+        Assert.assertEquals(recorder.getCount(), 0);
+        Assert.assertEquals(recorder.getPercentileInMicros(50), 0);
+        Assert.assertEquals(recorder.getMaxLatencyInMicros(), 0);
+    }
+
+    @Test
+    public void testPercentilesUseNearestRank() {
+
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 100; i >= 1; i--) {
+            recorder.record(i * 1000L);
+        }
+
+        Assert.assertEquals(recorder.getCount(), 100);
+        Assert.assertEquals(recorder.getPercentileInMicros(0), 1);
+        Assert.assertEquals(recorder.getPercentileInMicros(50), 50);
+        Assert.assertEquals(recorder.getPercentileInMicros(99), 99);
+        Assert.assertEquals(recorder.getPercentileInMicros(100), 100);
+        Assert.assertEquals(recorder.getMaxLatencyInMicros(), 100);
+        Assert.assertEquals(recorder.getPercentilesInMicros(50, 90, 99), new long[]{50, 90, 99});
+    }
+
+    @Test
+    public void testPercentilesCoverOnlyTheMostRecentWindow() {
+
+        LatencyRecorder recorder = new LatencyRecorder(4);
+        recorder.record(500_000L);
+        for (int i = 1; i <= 4; i++) {
+            recorder.record(i * 1000L);
+        }
+
+        Assert.assertEquals(recorder.getCount(), 5);
+        Assert.assertEquals(recorder.getPercentileInMicros(100), 4);
+        Assert.assertEquals(recorder.getMaxLatencyInMicros(), 500);
+    }
+}
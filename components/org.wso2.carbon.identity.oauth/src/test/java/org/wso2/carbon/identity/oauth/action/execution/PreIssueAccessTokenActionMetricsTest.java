@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.action.execution;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.action.execution.api.model.ActionType;
+import org.wso2.carbon.identity.oauth.action.execution.PreIssueAccessTokenActionMetrics.Phase;
+
+/**
+ * Unit tests for {@link PreIssueAccessTokenActionMetrics}.
+ */
+public class PreIssueAccessTokenActionMetricsTest {
+
+    private static final ActionType ACTION_TYPE = ActionType.PRE_ISSUE_ACCESS_TOKEN;
+
+    @Test
+    public void testTenantsBeyondTheLimitShareOneRecorder() {
+
+        PreIssueAccessTokenActionMetrics metrics = new PreIssueAccessTokenActionMetrics(true, 2, 0);
+        for (String tenantDomain : new String[]{"a.com", "b.com", "c.com", "d.com", "a.com"}) {
+            metrics.recordLatency(ACTION_TYPE, tenantDomain, Phase.TOTAL, 1000L);
+            metrics.recordOperation(ACTION_TYPE, tenantDomain, "add", "SUCCESS");
+        }
+
+        Assert.assertEquals(metrics.getLatencies().size(), 3);
+        Assert.assertEquals(metrics.getLatencies().get(ACTION_TYPE + "/a.com/TOTAL").getCount(), 2);
+        Assert.assertEquals(metrics.getLatencies().get(ACTION_TYPE + "/b.com/TOTAL").getCount(), 1);
+        Assert.assertEquals(metrics.getLatencies().get(ACTION_TYPE + "/*/TOTAL").getCount(), 2);
+        Assert.assertEquals(metrics.getOperationCounts().size(), 3);
+        Assert.assertEquals(metrics.getOperationCounts().get(ACTION_TYPE + "/*/add/SUCCESS").get(), 2);
+    }
+}
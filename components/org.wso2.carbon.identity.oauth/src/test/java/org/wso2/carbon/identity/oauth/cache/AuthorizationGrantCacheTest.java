@@ -18,9 +18,7 @@
 
 package org.wso2.carbon.identity.oauth.cache;
 
-import com.nimbusds.jwt.JWT;
-import com.nimbusds.jwt.JWTClaimsSet;
-import com.nimbusds.jwt.JWTParser;
+import com.nimbusds.jose.util.Base64URL;
 import org.apache.commons.logging.Log;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
@@ -100,7 +98,6 @@ public class AuthorizationGrantCacheTest {
 
         try (MockedStatic<OAuthTokenPersistenceFactory> mockedFactory =
         mockStatic(OAuthTokenPersistenceFactory.class);
-             MockedStatic<JWTParser> mockedJwtParser = mockStatic(JWTParser.class);
              MockedStatic<SessionDataStore> mockedSessionDataStore = mockStatic(SessionDataStore.class);
              MockedStatic<IdentityUtil> mockedIdentityUtil = mockStatic(IdentityUtil.class)) {
 
@@ -117,19 +114,6 @@ public class AuthorizationGrantCacheTest {
                 mockedIdentityUtil.when(() -> IdentityUtil.isTokenLoggable(IdentityConstants
                                 .IdentityTokens.ACCESS_TOKEN)).thenReturn(false);
             }
-            if (isJwtToken) {
-                JWT jwtMock = mock(JWT.class);
-                JWTClaimsSet claimsSetMock = mock(JWTClaimsSet.class);
-
-                if (isInvalidJWTToken) {
-                    when(JWTParser.parse(accessToken)).thenThrow(new ParseException("Invalid JWT", 0));
-                } else {
-                    mockedJwtParser.when(() -> JWTParser.parse(accessToken)).thenReturn(jwtMock);
-                    when(jwtMock.getJWTClaimsSet()).thenReturn(claimsSetMock);
-                    when(claimsSetMock.getJWTID()).thenReturn(jwtId);
-                }
-            }
-
             if (isFailedTokenRetrieval) {
                 when(accessTokenDAO.getTokenIdByAccessToken(jwtId)).thenThrow(
                         new IdentityOAuth2Exception("Failed to retrieve token id by token from store"));
@@ -177,15 +161,20 @@ public class AuthorizationGrantCacheTest {
     public Object[][] getReplaceFromTokenIdData() {
 
         return new Object[][]{
-                {"jwt.Access.Token", "jwtId", "jwtTokenId", true, false, false, false, false},
+                {buildJWT("jwtId"), "jwtId", "jwtTokenId", true, false, false, false, false},
                 {"nonJWTAccessToken", null, "nonJWTTokenId", false, false, false, false, false},
                 {"nonJWTAccessToken", null, "nonJWTTokenId", false, false, false, false, true},
                 {"invalid.JWT.Token", null, "invalid.JWT.Token", true, true, true, true, false},
                 {"invalid.JWT.Token", null, "invalid.JWT.Token", true, true, true, false, false},
-                {"fail.Store.TokenId", "jwtId", "jwtId", true, false, true, false, false}
+                {buildJWT("jwtId"), "jwtId", "jwtId", true, false, true, false, false}
         };
     }
 
+    private static String buildJWT(String jwtId) {
+
+        return "eyJhbGciOiJSUzI1NiJ9." + Base64URL.encode("{\"jti\":\"" + jwtId + "\"}") + ".signature";
+    }
+
     @Test
     public void testGetValueFromCacheByCode() throws IdentityOAuth2Exception {
 
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.cache;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Unit tests for AuthorizationGrantIdCache.
+ */
+@WithCarbonHome
+public class AuthorizationGrantIdCacheTest {
+
+    private static final String ACCESS_TOKEN = "accessToken";
+    private static final String TOKEN_ID = "tokenId";
+
+    @Test
+    public void testAddAndClearGrantId() {
+
+        AuthorizationGrantIdCache cache = AuthorizationGrantIdCache.getInstance();
+        cache.addGrantId(AuthorizationGrantIdCache.ACCESS_TOKEN, ACCESS_TOKEN, TOKEN_ID, 60000);
+
+        assertEquals(cache.getGrantId(AuthorizationGrantIdCache.ACCESS_TOKEN, ACCESS_TOKEN), TOKEN_ID);
+        assertNull(cache.getGrantId(AuthorizationGrantIdCache.AUTHORIZATION_CODE, ACCESS_TOKEN),
+                "Access token and authorization code mappings should not overlap.");
+
+        cache.clearGrantId(AuthorizationGrantIdCache.ACCESS_TOKEN, ACCESS_TOKEN);
+        assertNull(cache.getGrantId(AuthorizationGrantIdCache.ACCESS_TOKEN, ACCESS_TOKEN));
+    }
+
+    @Test
+    public void testExpiredGrantIdIsNotReturned() throws Exception {
+
+        AuthorizationGrantIdCache cache = AuthorizationGrantIdCache.getInstance();
+        cache.addGrantId(AuthorizationGrantIdCache.AUTHORIZATION_CODE, "authzCode", "codeId", 1);
+        Thread.sleep(10);
+
+        assertNull(cache.getGrantId(AuthorizationGrantIdCache.AUTHORIZATION_CODE, "authzCode"));
+    }
+
+    @Test
+    public void testGrantIdWithoutExpiry() {
+
+        AuthorizationGrantIdCache cache = AuthorizationGrantIdCache.getInstance();
+        cache.addGrantId(AuthorizationGrantIdCache.ACCESS_TOKEN, "nonExpiringToken", TOKEN_ID, Long.MAX_VALUE);
+
+        assertEquals(cache.getGrantId(AuthorizationGrantIdCache.ACCESS_TOKEN, "nonExpiringToken"), TOKEN_ID);
+        cache.clearGrantId(AuthorizationGrantIdCache.ACCESS_TOKEN, "nonExpiringToken");
+    }
+}
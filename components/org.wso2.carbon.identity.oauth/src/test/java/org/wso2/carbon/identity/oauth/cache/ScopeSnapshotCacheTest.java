@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.cache;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.oauth2.bean.Scope;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for ScopeSnapshotCache class.
+ */
+public class ScopeSnapshotCacheTest {
+
+    private static final int TENANT_ID = -1234;
+
+    @Test
+    public void testGetSnapshot() throws Exception {
+
+        AtomicInteger loadCount = new AtomicInteger();
+        ScopeSnapshotCache scopeSnapshotCache = new ScopeSnapshotCache(true, 60000, tenantId -> {
+            loadCount.incrementAndGet();
+            return getScopes();
+        });
+
+        ScopeSnapshotCache.ScopeSnapshot scopeSnapshot = scopeSnapshotCache.getSnapshot(TENANT_ID);
+
+        assertSame(scopeSnapshotCache.getSnapshot(TENANT_ID), scopeSnapshot);
+        assertEquals(loadCount.get(), 1);
+        assertTrue(scopeSnapshot.containsScope("read"));
+        assertTrue(scopeSnapshot.containsScope("public"));
+        assertFalse(scopeSnapshot.containsScope("unknown"));
+        assertEquals(scopeSnapshot.getBindings("read"), new HashSet<>(Arrays.asList("manager", "reader")));
+        assertTrue(scopeSnapshot.getBindings("public").isEmpty());
+        assertTrue(scopeSnapshot.getBindings("unknown").isEmpty());
+    }
+
+    @Test
+    public void testInvalidate() throws Exception {
+
+        ScopeSnapshotCache scopeSnapshotCache = new ScopeSnapshotCache(true, 60000, tenantId -> getScopes());
+        ScopeSnapshotCache.ScopeSnapshot scopeSnapshot = scopeSnapshotCache.getSnapshot(TENANT_ID);
+
+        scopeSnapshotCache.invalidate(TENANT_ID);
+        ScopeSnapshotCache.ScopeSnapshot reloadedSnapshot = scopeSnapshotCache.getSnapshot(TENANT_ID);
+
+        assertNotSame(reloadedSnapshot, scopeSnapshot);
+        assertEquals(reloadedSnapshot.getVersion(), scopeSnapshot.getVersion() + 1);
+    }
+
+    @Test
+    public void testSnapshotLoadedDuringChangeIsNotPublished() throws Exception {
+
+        AtomicInteger loadCount = new AtomicInteger();
+        ScopeSnapshotCache[] scopeSnapshotCache = new ScopeSnapshotCache[1];
+        scopeSnapshotCache[0] = new ScopeSnapshotCache(true, 60000, tenantId -> {
+            if (loadCount.incrementAndGet() == 1) {
+                // A scope of the tenant changes while the first snapshot is being loaded.
+                scopeSnapshotCache[0].invalidate(tenantId);
+            }
+            return getScopes();
+        });
+
+        ScopeSnapshotCache.ScopeSnapshot staleSnapshot = scopeSnapshotCache[0].getSnapshot(TENANT_ID);
+        ScopeSnapshotCache.ScopeSnapshot currentSnapshot = scopeSnapshotCache[0].getSnapshot(TENANT_ID);
+
+        assertEquals(loadCount.get(), 2);
+        assertEquals(staleSnapshot.getVersion(), 0);
+        assertEquals(currentSnapshot.getVersion(), 1);
+        assertSame(scopeSnapshotCache[0].getSnapshot(TENANT_ID), currentSnapshot);
+    }
+
+    @Test
+    public void testExpiredSnapshot() throws Exception {
+
+        AtomicInteger loadCount = new AtomicInteger();
+        ScopeSnapshotCache scopeSnapshotCache = new ScopeSnapshotCache(true, 0, tenantId -> {
+            loadCount.incrementAndGet();
+            return getScopes();
+        });
+
+        scopeSnapshotCache.getSnapshot(TENANT_ID);
+        scopeSnapshotCache.getSnapshot(TENANT_ID);
+
+        assertEquals(loadCount.get(), 2);
+    }
+
+    private Set<Scope> getScopes() {
+
+        Set<Scope> scopes = new HashSet<>();
+        scopes.add(new Scope("read", "read", "read", Arrays.asList("manager", "reader")));
+        scopes.add(new Scope("public", "public", "public", Collections.emptyList()));
+        return scopes;
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth.tokenprocessor;
+
+import org.json.JSONObject;
+import org.mockito.MockedStatic;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+
+/**
+ * Verifies that the HashingPersistenceProcessor produces the same persisted values as the JSONObject based hashing it
+ * replaced, so that the values hashed before an upgrade continue to match.
+ */
+public class HashingPersistenceProcessorCompatibilityTest {
+
+    @DataProvider(name = "hashInputs")
+    public Object[][] hashInputs() {
+
+        StringBuilder longValue = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            longValue.append("a1b2c3d4-");
+        }
+        String[] algorithms = {"SHA-256", "SHA-384", "SHA-512", "SHA-1", "MD5"};
+        String[] values = {"b7a5f3c1-9e0d-4a6b-8c2f-1d3e5a7b9c0d", "client_secret",
+                "\u00fcn\u00efc\u00f6d\u00e9-\u0442\u0435\u0441\u0442-\u5024", longValue.toString(), "x"};
+        Object[][] inputs = new Object[algorithms.length * values.length][];
+        int i = 0;
+        for (String algorithm : algorithms) {
+            for (String value : values) {
+                inputs[i++] = new Object[]{algorithm, value};
+            }
+        }
+        return inputs;
+    }
+
+    @Test(dataProvider = "hashInputs")
+    public void testProcessedValuesMatchJSONObjectHashing(String algorithm, String value) throws Exception {
+
+        HashingPersistenceProcessor processor = new HashingPersistenceProcessor(algorithm);
+        String expected = hashWithJSONObject(algorithm, value);
+
+        assertEquals(processor.getProcessedAccessTokenIdentifier(value), expected);
+        assertEquals(processor.getProcessedRefreshToken(value), expected);
+        assertEquals(processor.getProcessedAuthzCode(value), expected);
+        assertEquals(processor.getProcessedClientSecret(value), expected);
+    }
+
+    @Test
+    public void testHashAlgorithmIsReadOnConstruction() throws Exception {
+
+        try (MockedStatic<OAuthServerConfiguration> oAuthServerConfiguration =
+                     mockStatic(OAuthServerConfiguration.class)) {
+            OAuthServerConfiguration serverConfiguration = mock(OAuthServerConfiguration.class);
+            oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance).thenReturn(serverConfiguration);
+            when(serverConfiguration.getHashAlgorithm()).thenReturn("SHA-256");
+
+            HashingPersistenceProcessor processor = new HashingPersistenceProcessor();
+            when(serverConfiguration.getHashAlgorithm()).thenReturn("SHA-512");
+
+            assertEquals(processor.getProcessedAccessTokenIdentifier("token"), hashWithJSONObject("SHA-256", "token"));
+        }
+    }
+
+    @Test(expectedExceptions = IdentityOAuth2Exception.class)
+    public void testUnsupportedHashAlgorithm() throws Exception {
+
+        new HashingPersistenceProcessor("TestAlgo").getProcessedAccessTokenIdentifier("token");
+    }
+
+    @Test(expectedExceptions = IdentityOAuth2Exception.class)
+    public void testHashAlgorithmNotConfigured() throws Exception {
+
+        new HashingPersistenceProcessor(null).getProcessedAccessTokenIdentifier("token");
+    }
+
+    @Test(expectedExceptions = IdentityOAuth2Exception.class)
+    public void testHashEmptyValue() throws Exception {
+
+        new HashingPersistenceProcessor("SHA-256").getProcessedAccessTokenIdentifier("");
+    }
+
+    /**
+     * Hash the value the way the hashing persistence processor did before it reused the message digests.
+     */
+    private static String hashWithJSONObject(String algorithm, String value) throws Exception {
+
+        MessageDigest messageDigest = MessageDigest.getInstance(algorithm);
+        messageDigest.update(value.getBytes(StandardCharsets.UTF_8));
+        byte[] hash = messageDigest.digest();
+        StringBuilder hex = new StringBuilder();
+        for (byte byt : hash) {
+            hex.append(Integer.toString((byt & 0xff) + 0x100, 16).substring(1));
+        }
+        JSONObject object = new JSONObject();
+        object.put(HashingPersistenceProcessor.ALGORITHM, algorithm);
+        object.put(HashingPersistenceProcessor.HASH, hex.toString());
+        return object.toString();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.cache;
+
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotEquals;
+import static org.testng.Assert.assertTrue;
+
+public class JWKSDocumentCacheEntryTest {
+
+    private static final byte[] DOCUMENT = "{\"keys\":[]}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void testETagDependsOnDocument() {
+
+        JWKSDocumentCacheEntry entry = new JWKSDocumentCacheEntry(DOCUMENT);
+
+        assertEquals(entry.getETag(), new JWKSDocumentCacheEntry(DOCUMENT.clone()).getETag());
+        assertNotEquals(entry.getETag(), new JWKSDocumentCacheEntry(
+                "{\"keys\":[{}]}".getBytes(StandardCharsets.UTF_8)).getETag());
+        assertTrue(entry.getETag().startsWith("\"") && entry.getETag().endsWith("\""));
+    }
+
+    @Test
+    public void testMatches() {
+
+        JWKSDocumentCacheEntry entry = new JWKSDocumentCacheEntry(DOCUMENT);
+        String eTag = entry.getETag();
+
+        assertTrue(entry.matches(eTag));
+        assertTrue(entry.matches("W/" + eTag));
+        assertTrue(entry.matches("\"other\", " + eTag));
+        assertTrue(entry.matches("*"));
+        assertFalse(entry.matches(null));
+        assertFalse(entry.matches("\"other\""));
+    }
+
+    @Test
+    public void testIsOlderThan() throws Exception {
+
+        JWKSDocumentCacheEntry entry = new JWKSDocumentCacheEntry(DOCUMENT);
+
+        assertFalse(entry.isOlderThan(60000));
+        Thread.sleep(5);
+        assertTrue(entry.isOlderThan(1));
+    }
+}
@@ -81,6 +81,7 @@ public class AccessTokenDAOImplTest {
         oAuthServerConfiguration.when(OAuthServerConfiguration::getInstance)
                 .thenReturn(mockOAuthServerConfiguration);
         when(mockOAuthServerConfiguration.isTokenCleanupEnabled()).thenReturn(true);
+        when(mockOAuthServerConfiguration.getHashAlgorithm()).thenReturn("SHA-256");
         accessTokenDAO = new AccessTokenDAOImpl();
     }
 
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.testng.Assert.assertEquals;
+
+public class AccessTokenPagerTest {
+
+    @Test
+    public void testForEachPageWalksAllPages() throws Exception {
+
+        List<AccessTokenDO> tokens = buildTokens(7);
+        List<String> cursors = new ArrayList<>();
+        List<String> handledTokenIds = new ArrayList<>();
+
+        AccessTokenPager.forEachPage((afterTokenId, limit) -> {
+            cursors.add(afterTokenId);
+            return getPage(tokens, afterTokenId, limit);
+        }, 3, page -> {
+            page.forEach(token -> handledTokenIds.add(token.getTokenId()));
+            return true;
+        });
+
+        assertEquals(handledTokenIds.size(), 7);
+        assertEquals(cursors.toArray(), new String[]{null, "token-2", "token-5", "token-6"});
+    }
+
+    @Test
+    public void testForEachPageContinuesAfterShortPage() throws Exception {
+
+        List<AccessTokenDO> tokens = buildTokens(5);
+        List<String> handledTokenIds = new ArrayList<>();
+
+        // The loader caps the page to two tokens although three are requested.
+        AccessTokenPager.forEachPage((afterTokenId, limit) -> getPage(tokens, afterTokenId, 2), 3, page -> {
+            page.forEach(token -> handledTokenIds.add(token.getTokenId()));
+            return true;
+        });
+
+        assertEquals(handledTokenIds.size(), 5);
+    }
+
+    @Test
+    public void testForEachPageStopsWhenHandlerReturnsFalse() throws Exception {
+
+        List<AccessTokenDO> tokens = buildTokens(10);
+        List<Integer> pageSizes = new ArrayList<>();
+
+        AccessTokenPager.forEachPage((afterTokenId, limit) -> getPage(tokens, afterTokenId, limit), 4, page -> {
+            pageSizes.add(page.size());
+            return false;
+        });
+
+        assertEquals(pageSizes, Collections.singletonList(4));
+    }
+
+    private static List<AccessTokenDO> buildTokens(int count) {
+
+        List<AccessTokenDO> tokens = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            AccessTokenDO accessTokenDO = new AccessTokenDO();
+            accessTokenDO.setTokenId("token-" + i);
+            tokens.add(accessTokenDO);
+        }
+        return tokens;
+    }
+
+    private static List<AccessTokenDO> getPage(List<AccessTokenDO> tokens, String afterTokenId, int limit) {
+
+        List<AccessTokenDO> page = new ArrayList<>();
+        for (AccessTokenDO token : tokens) {
+            if (page.size() < limit && (afterTokenId == null || token.getTokenId().compareTo(afterTokenId) > 0)) {
+                page.add(token);
+            }
+        }
+        return page;
+    }
+}
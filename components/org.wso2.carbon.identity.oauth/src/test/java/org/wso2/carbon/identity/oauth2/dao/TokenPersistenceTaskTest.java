@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.dao;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+
+import java.util.List;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for TokenPersistenceTask.
+ */
+@WithCarbonHome
+public class TokenPersistenceTaskTest {
+
+    @Test
+    public void testQueuedTokensArePersistedInBatchesOnShutdown() throws Exception {
+
+        BlockingDeque<AccessContextTokenDO> queue = new LinkedBlockingDeque<>();
+        for (int i = 0; i < 5; i++) {
+            AccessContextTokenDO accessContextTokenDO = new AccessContextTokenDO("accessToken" + i, "consumerKey",
+                    new AccessTokenDO(), null, null);
+            accessContextTokenDO.setEnqueuedTime(System.currentTimeMillis());
+            queue.add(accessContextTokenDO);
+        }
+        PersistenceQueueMetrics metrics = new PersistenceQueueMetrics(queue);
+
+        AccessTokenDAO accessTokenDAO = mock(AccessTokenDAO.class);
+        when(accessTokenDAO.insertAccessTokens(anyList()))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+        OAuthTokenPersistenceFactory persistenceFactory = mock(OAuthTokenPersistenceFactory.class);
+        when(persistenceFactory.getAccessTokenDAO()).thenReturn(accessTokenDAO);
+
+        try (MockedStatic<OAuthTokenPersistenceFactory> factory = mockStatic(OAuthTokenPersistenceFactory.class)) {
+            factory.when(OAuthTokenPersistenceFactory::getInstance).thenReturn(persistenceFactory);
+
+            // An interrupted consumer should persist the remaining tokens before it exits.
+            Thread.currentThread().interrupt();
+            new TokenPersistenceTask(queue, 2, metrics).run();
+            assertTrue(Thread.interrupted(), "Interrupt status should be restored after draining the queue.");
+        }
+
+        verify(accessTokenDAO, times(3)).insertAccessTokens(anyList());
+        assertEquals(queue.size(), 0);
+        assertEquals(metrics.getPersistedCount(), 5);
+        assertEquals(metrics.getFailedCount(), 0);
+        assertEquals(metrics.getBatchCount(), 3);
+        assertEquals(metrics.getLastBatchSize(), 1);
+    }
+}
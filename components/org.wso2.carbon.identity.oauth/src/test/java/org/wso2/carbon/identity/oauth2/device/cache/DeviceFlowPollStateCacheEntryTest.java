@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.device.cache;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.oauth2.device.constants.Constants;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+public class DeviceFlowPollStateCacheEntryTest {
+
+    private static final long POLL_TIME = 5000;
+
+    @Test
+    public void testRegisterPollWithinInterval() {
+
+        DeviceFlowPollStateCacheEntry pollState = new DeviceFlowPollStateCacheEntry("clientId", Constants.PENDING,
+                1000, POLL_TIME, 100000);
+
+        assertEquals(pollState.registerPoll(7000), Constants.PENDING);
+        assertEquals(pollState.getLastPollTime(), 7000);
+        assertEquals(pollState.registerPoll(13000), Constants.PENDING);
+    }
+
+    @Test
+    public void testRegisterPollTooFrequently() {
+
+        DeviceFlowPollStateCacheEntry pollState = new DeviceFlowPollStateCacheEntry("clientId", Constants.USED,
+                1000, POLL_TIME, 100000);
+
+        assertEquals(pollState.registerPoll(3000), Constants.SLOW_DOWN);
+        // The rejected poll still counts as the last poll of the client.
+        assertEquals(pollState.registerPoll(7000), Constants.SLOW_DOWN);
+        assertEquals(pollState.registerPoll(12500), Constants.USED);
+    }
+
+    @Test
+    public void testRegisterPollAfterExpiry() {
+
+        DeviceFlowPollStateCacheEntry pollState = new DeviceFlowPollStateCacheEntry("clientId", Constants.PENDING,
+                1000, POLL_TIME, 10000);
+
+        assertNull(pollState.registerPoll(10001));
+    }
+
+    @Test
+    public void testLoadingEntry() {
+
+        DeviceFlowPollStateCacheEntry pollState = DeviceFlowPollStateCacheEntry.loading(3);
+
+        assertTrue(pollState.isLoading());
+        assertEquals(pollState.getVersion(), 3);
+        assertFalse(new DeviceFlowPollStateCacheEntry("clientId", Constants.PENDING, 1000, POLL_TIME, 100000)
+                .isLoading());
+    }
+
+    @Test
+    public void testIsPendingStatus() {
+
+        assertTrue(DeviceFlowPollStateCacheEntry.isPendingStatus(Constants.PENDING));
+        assertTrue(DeviceFlowPollStateCacheEntry.isPendingStatus(Constants.USED));
+        assertFalse(DeviceFlowPollStateCacheEntry.isPendingStatus(Constants.AUTHORIZED));
+        assertFalse(DeviceFlowPollStateCacheEntry.isPendingStatus(Constants.EXPIRED));
+    }
+}
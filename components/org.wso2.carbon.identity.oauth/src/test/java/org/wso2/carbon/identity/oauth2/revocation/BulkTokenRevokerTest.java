@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.revocation;
+
+import org.mockito.MockedStatic;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.application.authentication.framework.model.AuthenticatedUser;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.core.util.IdentityTenantUtil;
+import org.wso2.carbon.identity.oauth.OAuthUtil;
+import org.wso2.carbon.identity.oauth.cache.AuthorizationGrantCache;
+import org.wso2.carbon.identity.oauth.cache.OAuthCache;
+import org.wso2.carbon.identity.oauth2.dao.AccessTokenDAO;
+import org.wso2.carbon.identity.oauth2.dao.OAuthTokenPersistenceFactory;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for BulkTokenRevoker.
+ */
+@WithCarbonHome
+public class BulkTokenRevokerTest {
+
+    private static final String CONSUMER_KEY = "consumerKey";
+    private static final String TENANT_DOMAIN = "carbon.super";
+
+    @Test
+    public void testTokensAreRevokedInChunks() throws Exception {
+
+        AuthenticatedUser user = new AuthenticatedUser();
+        user.setUserName("user");
+        user.setUserStoreDomain("PRIMARY");
+        user.setTenantDomain(TENANT_DOMAIN);
+
+        AccessTokenDAO accessTokenDAO = mock(AccessTokenDAO.class);
+        when(accessTokenDAO.getActiveAccessTokenDataByConsumerKey(eq(CONSUMER_KEY), eq(-1234), isNull(), eq(2)))
+                .thenReturn(Arrays.asList(buildAccessTokenDO("bulkTokenId1", user),
+                        buildAccessTokenDO("bulkTokenId2", user)));
+        when(accessTokenDAO.getActiveAccessTokenDataByConsumerKey(CONSUMER_KEY, -1234, "bulkTokenId2", 2))
+                .thenReturn(Collections.singletonList(buildAccessTokenDO("bulkTokenId3", user)));
+        OAuthTokenPersistenceFactory persistenceFactory = mock(OAuthTokenPersistenceFactory.class);
+        when(persistenceFactory.getAccessTokenDAO()).thenReturn(accessTokenDAO);
+
+        BulkRevocationProgress progress;
+        try (MockedStatic<OAuthTokenPersistenceFactory> factory = mockStatic(OAuthTokenPersistenceFactory.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtil = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<OAuth2Util> oAuth2Util = mockStatic(OAuth2Util.class);
+             MockedStatic<OAuthUtil> oAuthUtil = mockStatic(OAuthUtil.class);
+             MockedStatic<OAuthCache> oAuthCache = mockStatic(OAuthCache.class);
+             MockedStatic<AuthorizationGrantCache> authorizationGrantCache =
+                     mockStatic(AuthorizationGrantCache.class)) {
+            factory.when(OAuthTokenPersistenceFactory::getInstance).thenReturn(persistenceFactory);
+            identityTenantUtil.when(() -> IdentityTenantUtil.getTenantId(TENANT_DOMAIN)).thenReturn(-1234);
+            oAuth2Util.when(() -> OAuth2Util.buildScopeString(any())).thenReturn("openid");
+            oAuthCache.when(OAuthCache::getInstance).thenReturn(mock(OAuthCache.class));
+            authorizationGrantCache.when(AuthorizationGrantCache::getInstance)
+                    .thenReturn(mock(AuthorizationGrantCache.class));
+
+            progress = new BulkTokenRevoker(2, false, 1).revokeTokensByConsumerKey(CONSUMER_KEY, TENANT_DOMAIN);
+
+            // The user level cache entries should be evicted once per chunk.
+            oAuthUtil.verify(() -> OAuthUtil.clearOAuthCache(eq(CONSUMER_KEY), any(AuthenticatedUser.class)),
+                    times(2));
+            oAuthUtil.verify(() -> OAuthUtil.clearOAuthCache(any(AccessTokenDO.class)), times(3));
+        }
+
+        // A short page should not end the revocation, as the DAO can cap the page size below the chunk size.
+        verify(accessTokenDAO).getActiveAccessTokenDataByConsumerKey(CONSUMER_KEY, -1234, "bulkTokenId3", 2);
+        verify(accessTokenDAO, times(2)).revokeAccessTokens(any(String[].class), anyBoolean());
+        assertTrue(progress.isDone());
+        assertEquals(progress.getRevokedTokenCount(), 3);
+        assertEquals(progress.getChunkCount(), 2);
+        assertEquals(progress.getCompletion().get().longValue(), 3);
+        assertTrue(RevokedTokenIndex.getInstance().isRevoked("bulkTokenId1"));
+        assertTrue(RevokedTokenIndex.getInstance().isRevoked("bulkTokenId3"));
+    }
+
+    @Test
+    public void testGivenTokensAreRevokedInChunks() throws Exception {
+
+        AuthenticatedUser user = new AuthenticatedUser();
+        user.setUserName("user");
+        user.setUserStoreDomain("PRIMARY");
+        user.setTenantDomain(TENANT_DOMAIN);
+
+        AccessTokenDAO accessTokenDAO = mock(AccessTokenDAO.class);
+        OAuthTokenPersistenceFactory persistenceFactory = mock(OAuthTokenPersistenceFactory.class);
+        when(persistenceFactory.getAccessTokenDAO()).thenReturn(accessTokenDAO);
+
+        try (MockedStatic<OAuthTokenPersistenceFactory> factory = mockStatic(OAuthTokenPersistenceFactory.class);
+             MockedStatic<OAuth2Util> oAuth2Util = mockStatic(OAuth2Util.class);
+             MockedStatic<OAuthUtil> oAuthUtil = mockStatic(OAuthUtil.class);
+             MockedStatic<OAuthCache> oAuthCache = mockStatic(OAuthCache.class);
+             MockedStatic<AuthorizationGrantCache> authorizationGrantCache =
+                     mockStatic(AuthorizationGrantCache.class)) {
+            factory.when(OAuthTokenPersistenceFactory::getInstance).thenReturn(persistenceFactory);
+            oAuth2Util.when(() -> OAuth2Util.buildScopeString(any())).thenReturn("openid");
+            oAuthCache.when(OAuthCache::getInstance).thenReturn(mock(OAuthCache.class));
+            authorizationGrantCache.when(AuthorizationGrantCache::getInstance)
+                    .thenReturn(mock(AuthorizationGrantCache.class));
+
+            new BulkTokenRevoker(2, false, 1).revokeAccessTokens(Arrays.asList(
+                    buildAccessTokenDO("givenTokenId1", user), buildAccessTokenDO("givenTokenId2", user),
+                    buildAccessTokenDO("givenTokenId3", user)), TENANT_DOMAIN, true);
+
+            // The system revocation listeners should be notified of each token.
+            oAuthUtil.verify(() -> OAuthUtil.invokePreRevocationBySystemListeners(any(AccessTokenDO.class),
+                    anyMap()), times(3));
+            oAuthUtil.verify(() -> OAuthUtil.invokePostRevocationBySystemListeners(any(AccessTokenDO.class),
+                    anyMap()), times(3));
+        }
+
+        verify(accessTokenDAO, times(2)).revokeAccessTokens(any(String[].class), anyBoolean());
+        assertTrue(RevokedTokenIndex.getInstance().isRevoked("givenTokenId1"));
+        assertTrue(RevokedTokenIndex.getInstance().isRevoked("givenTokenId3"));
+    }
+
+    private AccessTokenDO buildAccessTokenDO(String tokenId, AuthenticatedUser user) {
+
+        AccessTokenDO accessTokenDO = new AccessTokenDO();
+        accessTokenDO.setTokenId(tokenId);
+        accessTokenDO.setAccessToken("accessToken-" + tokenId);
+        accessTokenDO.setConsumerKey(CONSUMER_KEY);
+        accessTokenDO.setAuthzUser(user);
+        accessTokenDO.setScope(new String[]{"openid"});
+        accessTokenDO.setIssuedTime(new Timestamp(System.currentTimeMillis()));
+        accessTokenDO.setValidityPeriodInMillis(3600000);
+        return accessTokenDO;
+    }
+}
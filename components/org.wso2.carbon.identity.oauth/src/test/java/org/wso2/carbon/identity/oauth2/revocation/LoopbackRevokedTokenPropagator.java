@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.revocation;
+
+/**
+ * {@link RevokedTokenPropagator} which delivers the published revocations to the given listener, to simulate the
+ * delivery to another node in tests.
+ */
+class LoopbackRevokedTokenPropagator implements RevokedTokenPropagator {
+
+    private volatile RevokedTokenListener listener;
+
+    @Override
+    public void publish(RevokedTokenEvent event) {
+
+        RevokedTokenListener revokedTokenListener = listener;
+        if (revokedTokenListener != null) {
+            revokedTokenListener.onTokensRevoked(event);
+        }
+    }
+
+    @Override
+    public void setListener(RevokedTokenListener listener) {
+
+        this.listener = listener;
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.revocation;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.oauth2.internal.OAuth2ServiceComponentHolder;
+import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
+
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for RevokedTokenIndex.
+ */
+@WithCarbonHome
+public class RevokedTokenIndexTest {
+
+    private static final long MAX_RETENTION_PERIOD = TimeUnit.HOURS.toMillis(1);
+
+    @AfterMethod
+    public void tearDown() {
+
+        OAuth2ServiceComponentHolder.getInstance().setRevokedTokenPropagator(null);
+    }
+
+    @Test
+    public void testRevokedAccessTokenIsIndexed() {
+
+        RevokedTokenIndex index = new RevokedTokenIndex(MAX_RETENTION_PERIOD);
+        index.revokeAccessToken(buildAccessTokenDO("tokenId", System.currentTimeMillis(), 3600000));
+
+        assertTrue(index.isRevoked("tokenId"));
+        assertFalse(index.isRevoked("otherTokenId"));
+        assertFalse(index.isRevoked(null));
+        // Opaque token values should never be recorded.
+        assertFalse(index.isRevoked("accessToken"));
+        assertEquals(index.size(), 1);
+    }
+
+    @Test
+    public void testExpiredAccessTokenIsNotIndexed() {
+
+        RevokedTokenIndex index = new RevokedTokenIndex(MAX_RETENTION_PERIOD);
+        index.revokeAccessToken(buildAccessTokenDO("tokenId", System.currentTimeMillis() - 7200000, 3600000));
+
+        assertFalse(index.isRevoked("tokenId"));
+        assertEquals(index.size(), 0);
+    }
+
+    @Test
+    public void testRevocationIsPropagated() {
+
+        RevokedTokenIndex localIndex = new RevokedTokenIndex(MAX_RETENTION_PERIOD);
+        RevokedTokenIndex remoteIndex = new RevokedTokenIndex(MAX_RETENTION_PERIOD);
+        LoopbackRevokedTokenPropagator propagator = new LoopbackRevokedTokenPropagator();
+        propagator.setListener(remoteIndex);
+        OAuth2ServiceComponentHolder.getInstance().setRevokedTokenPropagator(propagator);
+
+        localIndex.revokeAccessToken(buildAccessTokenDO("tokenId", System.currentTimeMillis(), -1));
+
+        assertTrue(localIndex.isRevoked("tokenId"));
+        assertTrue(remoteIndex.isRevoked("tokenId"));
+    }
+
+    @Test
+    public void testIndexIsBoundedBySize() {
+
+        RevokedTokenIndex index = new RevokedTokenIndex(MAX_RETENTION_PERIOD, 10);
+        long issuedTime = System.currentTimeMillis();
+        for (int i = 0; i < 10; i++) {
+            index.revokeAccessToken(buildAccessTokenDO("tokenId" + i, issuedTime, 60000 + i * 1000));
+        }
+        assertEquals(index.size(), 10);
+
+        assertFalse(index.isOverflowed());
+
+        index.revokeAccessToken(buildAccessTokenDO("lastTokenId", issuedTime, 3600000));
+
+        // Revocations of tokens which have not expired should never be evicted. The revocation which does not fit is
+        // dropped, and the index is overflowed until it expires.
+        assertEquals(index.size(), 10);
+        assertTrue(index.isRevoked("tokenId0"));
+        assertTrue(index.isRevoked("tokenId9"));
+        assertFalse(index.isRevoked("lastTokenId"));
+        assertTrue(index.isOverflowed());
+    }
+
+    @Test
+    public void testExpiredRevocationsMakeRoom() throws InterruptedException {
+
+        RevokedTokenIndex index = new RevokedTokenIndex(MAX_RETENTION_PERIOD, 2);
+        long issuedTime = System.currentTimeMillis();
+        index.revokeAccessToken(buildAccessTokenDO("tokenId", issuedTime, 3600000));
+        index.revokeAccessToken(buildAccessTokenDO("expiringTokenId", issuedTime, 50));
+        assertEquals(index.size(), 2);
+
+        Thread.sleep(100);
+        index.revokeAccessToken(buildAccessTokenDO("lastTokenId", issuedTime, 3600000));
+
+        assertTrue(index.isRevoked("tokenId"));
+        assertTrue(index.isRevoked("lastTokenId"));
+        assertFalse(index.isOverflowed());
+    }
+
+    private AccessTokenDO buildAccessTokenDO(String tokenId, long issuedTime, long validityPeriodInMillis) {
+
+        AccessTokenDO accessTokenDO = new AccessTokenDO();
+        accessTokenDO.setTokenId(tokenId);
+        accessTokenDO.setAccessToken("accessToken");
+        accessTokenDO.setIssuedTime(new Timestamp(issuedTime));
+        accessTokenDO.setValidityPeriodInMillis(validityPeriodInMillis);
+        return accessTokenDO;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.token.lock;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for StripedTokenIssuanceLockManager.
+ */
+public class StripedTokenIssuanceLockManagerTest {
+
+    @Test
+    public void testStripeCountIsRoundedToPowerOfTwo() {
+
+        assertEquals(new StripedTokenIssuanceLockManager(1000, 100).getStripeCount(), 1024);
+        assertEquals(new StripedTokenIssuanceLockManager(64, 100).getStripeCount(), 64);
+        assertEquals(new StripedTokenIssuanceLockManager(1, 100).getStripeCount(), 1);
+    }
+
+    @Test
+    public void testSameKeyMapsToSameStripe() {
+
+        StripedTokenIssuanceLockManager lockManager = new StripedTokenIssuanceLockManager(64, 100);
+        assertEquals(lockManager.indexOf("client", "user", "openid"),
+                lockManager.indexOf("client", "user", "openid"));
+        assertEquals(lockManager.indexOf("client", null), lockManager.indexOf("client", null));
+    }
+
+    @Test
+    public void testLockIsReentrant() {
+
+        StripedTokenIssuanceLockManager lockManager = new StripedTokenIssuanceLockManager(1, 100);
+        try (TokenIssuanceLock outer = lockManager.lock("client", "user", "openid")) {
+            try (TokenIssuanceLock inner = lockManager.lock("client", "otherUser", "openid")) {
+                assertSame(inner, outer);
+            }
+        }
+        assertEquals(lockManager.getMetrics().getAcquiredCount(), 2);
+        assertEquals(lockManager.getMetrics().getTimedOutCount(), 0);
+    }
+
+    @Test
+    public void testGrantLockDoesNotShareStripeWithTokenLock() throws Exception {
+
+        StripedTokenIssuanceLockManager lockManager = new StripedTokenIssuanceLockManager(1, 50);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            try (TokenIssuanceLock lock = lockManager.lock("client", "user", "openid")) {
+                locked.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        holder.start();
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+        try (TokenIssuanceLock grantLock = lockManager.lockGrant("AuthorizationCode", "client", "code")) {
+            // The grant lock should be acquired even though the only token lock stripe is held by another thread.
+            assertNotSame(grantLock, NoOpTokenIssuanceLockManager.NO_LOCK);
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+        assertEquals(lockManager.getMetrics().getTimedOutCount(), 0);
+    }
+
+    @Test
+    public void testProceedsWithoutLockOnTimeout() throws Exception {
+
+        StripedTokenIssuanceLockManager lockManager = new StripedTokenIssuanceLockManager(1, 50);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            try (TokenIssuanceLock lock = lockManager.lock("client", "user", "openid")) {
+                locked.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        holder.start();
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+        try {
+            TokenIssuanceLock lock = lockManager.lock("client", "user", "openid");
+            assertSame(lock, NoOpTokenIssuanceLockManager.NO_LOCK);
+            lock.close();
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+
+        TokenIssuanceLockMetrics metrics = lockManager.getMetrics();
+        assertEquals(metrics.getTimedOutCount(), 1);
+        assertEquals(metrics.getContendedCount(), 1);
+        assertTrue(metrics.getMaxWaitTimeInMillis() >= 40);
+
+        // The lock should be available again once released by the other thread.
+        try (TokenIssuanceLock lock = lockManager.lock("client", "user", "openid")) {
+            assertNotSame(lock, NoOpTokenIssuanceLockManager.NO_LOCK);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.token.poll;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+public class AuthorizationCompletionNotifierTest {
+
+    @Test
+    public void testAwaitCompletionWhenDisabled() {
+
+        AuthorizationCompletionNotifier notifier = new AuthorizationCompletionNotifier(false, 10000, 10);
+        notifier.notifyCompletion("deviceCode");
+
+        assertFalse(notifier.isEnabled());
+        assertFalse(notifier.awaitCompletion("deviceCode"));
+    }
+
+    @Test
+    public void testAwaitCompletionWokenByNotification() throws Exception {
+
+        AuthorizationCompletionNotifier notifier = new AuthorizationCompletionNotifier(true, 10000, 10);
+        CompletableFuture<Boolean> completed = CompletableFuture.supplyAsync(
+                () -> notifier.awaitCompletion("deviceCode"));
+        waitForWaitingRequests(notifier, 1);
+
+        notifier.notifyCompletion("deviceCode");
+
+        assertTrue(completed.get(5, TimeUnit.SECONDS));
+        assertEquals(notifier.getWaitingRequestCount(), 0);
+    }
+
+    @Test
+    public void testAwaitCompletionAfterNotification() {
+
+        AuthorizationCompletionNotifier notifier = new AuthorizationCompletionNotifier(true, 10000, 10);
+        notifier.notifyCompletion("authCodeKey");
+
+        assertTrue(notifier.awaitCompletion("authCodeKey"));
+    }
+
+    @Test
+    public void testAwaitCompletionTimeout() {
+
+        AuthorizationCompletionNotifier notifier = new AuthorizationCompletionNotifier(true, 50, 10);
+        notifier.notifyCompletion("otherDeviceCode");
+
+        assertFalse(notifier.awaitCompletion("deviceCode"));
+        assertEquals(notifier.getWaitingRequestCount(), 0);
+    }
+
+    @Test
+    public void testAwaitCompletionWhenSaturated() throws Exception {
+
+        AuthorizationCompletionNotifier notifier = new AuthorizationCompletionNotifier(true, 10000, 1);
+        CompletableFuture<Boolean> completed = CompletableFuture.supplyAsync(
+                () -> notifier.awaitCompletion("deviceCode1"));
+        waitForWaitingRequests(notifier, 1);
+
+        assertFalse(notifier.awaitCompletion("deviceCode2"));
+
+        notifier.notifyCompletion("deviceCode1");
+        assertTrue(completed.get(5, TimeUnit.SECONDS));
+    }
+
+    private void waitForWaitingRequests(AuthorizationCompletionNotifier notifier, int count)
+            throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (notifier.getWaitingRequestCount() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(notifier.getWaitingRequestCount(), count);
+    }
+}
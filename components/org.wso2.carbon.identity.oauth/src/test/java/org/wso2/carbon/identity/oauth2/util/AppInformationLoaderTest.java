@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.util;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.common.testng.WithCarbonHome;
+import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientException;
+import org.wso2.carbon.identity.oauth.dao.OAuthAppDO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+/**
+ * Unit tests for AppInformationLoader.
+ */
+@WithCarbonHome
+public class AppInformationLoaderTest {
+
+    private static final String CLIENT_ID = "clientId";
+    private static final int TENANT_ID = 1;
+
+    @Test
+    public void testConcurrentMissesAreCoalesced() throws Exception {
+
+        AppInformationLoader appInformationLoader = new AppInformationLoader(0, 10, 0);
+        OAuthAppDO oAuthAppDO = new OAuthAppDO();
+        AtomicInteger loadCount = new AtomicInteger();
+        AtomicInteger cachedCount = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AppInformationLoader.AppLoader appLoader = () -> {
+            loadCount.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return oAuthAppDO;
+        };
+
+        int requests = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        try {
+            List<Future<OAuthAppDO>> results = new ArrayList<>();
+            results.add(executor.submit(() -> appInformationLoader.load(CLIENT_ID, TENANT_ID, appLoader,
+                    app -> cachedCount.incrementAndGet())));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < requests; i++) {
+                results.add(executor.submit(() -> appInformationLoader.load(CLIENT_ID, TENANT_ID, appLoader,
+                        app -> cachedCount.incrementAndGet())));
+            }
+            // Let the other requests reach the in-flight load before it completes.
+            Thread.sleep(500);
+            release.countDown();
+            for (Future<OAuthAppDO> result : results) {
+                assertSame(result.get(5, TimeUnit.SECONDS), oAuthAppDO);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(loadCount.get(), 1);
+        assertEquals(cachedCount.get(), 1);
+    }
+
+    @Test
+    public void testNotFoundClientIsRemembered() throws Exception {
+
+        AppInformationLoader appInformationLoader = new AppInformationLoader(TimeUnit.MINUTES.toMillis(1), 10, 0);
+        AtomicInteger loadCount = new AtomicInteger();
+        AppInformationLoader.AppLoader appLoader = () -> {
+            loadCount.incrementAndGet();
+            throw new InvalidOAuthClientException("application.not.found");
+        };
+
+        for (int i = 0; i < 3; i++) {
+            try {
+                appInformationLoader.load(CLIENT_ID, TENANT_ID, appLoader, app -> fail("Nothing should be cached."));
+                fail("An InvalidOAuthClientException should be thrown.");
+            } catch (InvalidOAuthClientException e) {
+                assertEquals(e.getMessage(), "application.not.found");
+            }
+        }
+        assertEquals(loadCount.get(), 1);
+
+        // The client ID is looked up separately in another tenant.
+        try {
+            appInformationLoader.load(CLIENT_ID, TENANT_ID + 1, appLoader, app -> fail("Nothing should be cached."));
+            fail("An InvalidOAuthClientException should be thrown.");
+        } catch (InvalidOAuthClientException e) {
+            assertEquals(loadCount.get(), 2);
+        }
+    }
+
+    @Test
+    public void testInvalidatedNotFoundClientIsLoadedAgain() throws Exception {
+
+        AppInformationLoader appInformationLoader = new AppInformationLoader(TimeUnit.MINUTES.toMillis(1), 10, 0);
+        AtomicInteger loadCount = new AtomicInteger();
+        AppInformationLoader.AppLoader appLoader = () -> {
+            loadCount.incrementAndGet();
+            throw new InvalidOAuthClientException("application.not.found");
+        };
+        for (int i = 0; i < 2; i++) {
+            try {
+                appInformationLoader.load(CLIENT_ID, TENANT_ID, appLoader, app -> fail("Nothing should be cached."));
+                fail("An InvalidOAuthClientException should be thrown.");
+            } catch (InvalidOAuthClientException e) {
+                // Expected.
+            }
+        }
+        assertEquals(loadCount.get(), 1);
+
+        // Once the client is registered, it should be loaded instead of being reported as not found.
+        appInformationLoader.invalidate(CLIENT_ID);
+        OAuthAppDO oAuthAppDO = new OAuthAppDO();
+        assertSame(appInformationLoader.load(CLIENT_ID, TENANT_ID, () -> oAuthAppDO, app -> {
+        }), oAuthAppDO);
+    }
+
+    @Test
+    public void testApplicationInvalidatedWhileLoadingIsNotCached() throws Exception {
+
+        AppInformationLoader appInformationLoader = new AppInformationLoader(0, 10, 0);
+        OAuthAppDO oAuthAppDO = new OAuthAppDO();
+        AtomicInteger cachedCount = new AtomicInteger();
+        AppInformationLoader.AppLoader appLoader = () -> {
+            // The application is updated and cleared from the cache after it was read.
+            appInformationLoader.invalidate(CLIENT_ID);
+            return oAuthAppDO;
+        };
+
+        assertSame(appInformationLoader.load(CLIENT_ID, TENANT_ID, appLoader, app -> cachedCount.incrementAndGet()),
+                oAuthAppDO);
+        assertEquals(cachedCount.get(), 0);
+
+        assertSame(appInformationLoader.load(CLIENT_ID, TENANT_ID, () -> oAuthAppDO,
+                app -> cachedCount.incrementAndGet()), oAuthAppDO);
+        assertEquals(cachedCount.get(), 1);
+    }
+
+    @Test
+    public void testNotFoundClientIsNotRememberedByDefault() throws Exception {
+
+        AppInformationLoader appInformationLoader = new AppInformationLoader(0, 10, 0);
+        AtomicInteger loadCount = new AtomicInteger();
+        AppInformationLoader.AppLoader appLoader = () -> {
+            loadCount.incrementAndGet();
+            throw new InvalidOAuthClientException("application.not.found");
+        };
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                appInformationLoader.load(CLIENT_ID, TENANT_ID, appLoader, app -> fail("Nothing should be cached."));
+                fail("An InvalidOAuthClientException should be thrown.");
+            } catch (InvalidOAuthClientException e) {
+                // Expected.
+            }
+        }
+        assertEquals(loadCount.get(), 2);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.util;
+
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.cert.Certificate;
+
+import static org.mockito.Mockito.mock;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+public class JWTSigningContextTest {
+
+    private static final String KEY_ID = "sampleKid_RS256";
+    private static final String THUMBPRINT = "c2FtcGxlVGh1bWJwcmludA";
+
+    private KeyPair keyPair;
+    private Certificate certificate;
+    private JWTSigningContext signingContext;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        keyPair = keyPairGenerator.generateKeyPair();
+        certificate = mock(Certificate.class);
+        signingContext = new JWTSigningContext(new RSASSASigner(keyPair.getPrivate()), keyPair.getPrivate(),
+                certificate, JWSAlgorithm.RS256, KEY_ID, THUMBPRINT);
+    }
+
+    @Test
+    public void testGetHeader() {
+
+        JWSHeader header = signingContext.getHeader();
+        assertEquals(header.getAlgorithm(), JWSAlgorithm.RS256);
+        assertEquals(header.getKeyID(), KEY_ID);
+        assertEquals(header.getX509CertThumbprint().toString(), THUMBPRINT);
+        assertNull(header.getType());
+        assertSame(signingContext.getHeader(null), header);
+    }
+
+    @Test
+    public void testGetHeaderWithType() {
+
+        JWSHeader header = signingContext.getHeader(new JOSEObjectType("at+jwt"));
+        assertEquals(header.getType().getType(), "at+jwt");
+        assertEquals(header.getKeyID(), KEY_ID);
+        assertEquals(header.getX509CertThumbprint().toString(), THUMBPRINT);
+        assertSame(signingContext.getHeader(new JOSEObjectType("at+jwt")), header);
+    }
+
+    @Test
+    public void testIsBuiltFrom() throws Exception {
+
+        assertTrue(signingContext.isBuiltFrom(keyPair.getPrivate(), certificate));
+        assertFalse(signingContext.isBuiltFrom(keyPair.getPrivate(), mock(Certificate.class)));
+
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        assertFalse(signingContext.isBuiltFrom(keyPairGenerator.generateKeyPair().getPrivate(), certificate));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.validators;
+
+import org.testng.annotations.Test;
+
+import java.util.UUID;
+
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for RevokedTokenFilter.
+ */
+public class RevokedTokenFilterTest {
+
+    @Test
+    public void testRevokedTokensAreReported() {
+
+        RevokedTokenFilter filter = new RevokedTokenFilter(1000, 0.01, 60000);
+        for (int i = 0; i < 1000; i++) {
+            filter.add("revoked-" + i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.mightBeRevoked("revoked-" + i), "Revoked token should always be reported.");
+        }
+        assertFalse(filter.mightBeRevoked(null));
+        assertFalse(filter.mightBeRevoked(""));
+    }
+
+    @Test
+    public void testFalsePositiveRate() {
+
+        RevokedTokenFilter filter = new RevokedTokenFilter(1000, 0.01, 60000);
+        for (int i = 0; i < 1000; i++) {
+            filter.add(UUID.randomUUID().toString());
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (filter.mightBeRevoked(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 300, "Unexpected number of false positives: " + falsePositives);
+    }
+
+    @Test
+    public void testRevokedTokensAreRetainedForRetentionPeriod() throws Exception {
+
+        RevokedTokenFilter filter = new RevokedTokenFilter(100, 0.01, 500);
+        filter.add("revoked");
+
+        // The filter is rotated after a retention period, but the previous generation is still consulted.
+        Thread.sleep(600);
+        assertTrue(filter.mightBeRevoked("revoked"));
+
+        // Entries are discarded once the previous generation is rotated out as well.
+        Thread.sleep(1100);
+        assertFalse(filter.mightBeRevoked("revoked"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidConfiguration() {
+
+        new RevokedTokenFilter(1000, 1.5, 60000);
+    }
+}
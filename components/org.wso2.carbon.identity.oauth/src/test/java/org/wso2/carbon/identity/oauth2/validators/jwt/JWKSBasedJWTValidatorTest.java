@@ -23,6 +23,7 @@ import com.nimbusds.jose.jwk.source.RemoteJWKSet;
 import com.nimbusds.jose.proc.BadJOSEException;
 import com.nimbusds.jose.proc.SecurityContext;
 import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
 import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 import org.mockito.Mock;
 import org.mockito.MockedConstruction;
@@ -138,6 +139,37 @@ public class JWKSBasedJWTValidatorTest {
         }
     }
 
+    @Test
+    public void testJWTProcessorIsReusedUntilJWKSourceChanges() throws Exception {
+
+        String jwksUri = "https://localhost:9444/oauth2/jwks/reuse";
+        JWKSBasedJWTValidator.clearJWTProcessorCache();
+        try (MockedStatic<JWKSourceDataProvider> jwkSourceDataProvider = mockStatic(JWKSourceDataProvider.class);
+             MockedConstruction<DefaultJWTProcessor> mockedConstruction = Mockito.mockConstruction(
+                     DefaultJWTProcessor.class)) {
+            jwkSourceDataProvider.when(JWKSourceDataProvider::getInstance).thenReturn(dataProvider);
+            when(dataProvider.getJWKSource(jwksUri)).thenReturn(jwkSet);
+
+            validator = new JWKSBasedJWTValidator();
+            SignedJWT signedJWT = SignedJWT.parse(jwtString);
+            assertTrue(validator.validateSignature(signedJWT, jwksUri, "RS256", null));
+            assertTrue(new JWKSBasedJWTValidator().validateSignature(signedJWT, jwksUri, "RS256", null));
+            assertEquals(mockedConstruction.constructed().size(), 1, "JWT processor should be reused.");
+
+            assertTrue(validator.validateSignature(signedJWT, jwksUri, "PS256", null));
+            assertEquals(mockedConstruction.constructed().size(), 2,
+                    "A JWT processor should be configured per algorithm.");
+
+            // A refreshed JWK source should not be served with the processor configured for the stale source.
+            when(dataProvider.getJWKSource(jwksUri)).thenReturn(mock(RemoteJWKSet.class));
+            assertTrue(validator.validateSignature(signedJWT, jwksUri, "RS256", null));
+            assertEquals(mockedConstruction.constructed().size(), 3,
+                    "JWT processor should be reconfigured for the refreshed JWK source.");
+        } finally {
+            JWKSBasedJWTValidator.clearJWTProcessorCache();
+        }
+    }
+
     @DataProvider(name = "validateDataForException")
     public Object[][] provideValidateDataForException() {
 
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.validators.jwt;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.source.RemoteJWKSet;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.Resource;
+import com.nimbusds.jose.util.ResourceRetriever;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for JWKSetManager class.
+ */
+public class JWKSetManagerTest {
+
+    private static final String JWKS =
+            "{\"keys\":[{\"kty\":\"oct\",\"kid\":\"key1\",\"k\":\"GawgguFyGrWKav7AX4VKUg\"}]}";
+    private static final JWKSelector KEY_SELECTOR = new JWKSelector(new JWKMatcher.Builder().keyID("key1").build());
+
+    @Test
+    public void testKeysAreServedFromCache() throws Exception {
+
+        JWKSetManager jwkSetManager = new JWKSetManager(true, 60000, 10000, 60000);
+        CountingResourceRetriever resourceRetriever = new CountingResourceRetriever(null);
+        try {
+            RemoteJWKSet<SecurityContext> jwkSource =
+                    jwkSetManager.createJWKSource(new URL("https://localhost/jwks/cached"), resourceRetriever);
+
+            assertEquals(jwkSource.get(KEY_SELECTOR, null).size(), 1);
+            assertEquals(jwkSource.get(KEY_SELECTOR, null).size(), 1);
+            // A new source for the same jwks_uri shares the keys fetched earlier.
+            assertEquals(jwkSetManager.createJWKSource(new URL("https://localhost/jwks/cached"), resourceRetriever)
+                    .get(KEY_SELECTOR, null).size(), 1);
+            assertEquals(resourceRetriever.retrievals.get(), 1);
+        } finally {
+            jwkSetManager.shutdown();
+        }
+    }
+
+    @Test
+    public void testStaleKeysAreServedWithinGracePeriod() throws Exception {
+
+        JWKSetManager jwkSetManager = new JWKSetManager(true, 50, 0, 60000);
+        CountingResourceRetriever resourceRetriever = new CountingResourceRetriever(null);
+        try {
+            RemoteJWKSet<SecurityContext> jwkSource =
+                    jwkSetManager.createJWKSource(new URL("https://localhost/jwks/stale"), resourceRetriever);
+            assertEquals(jwkSource.get(KEY_SELECTOR, null).size(), 1);
+
+            resourceRetriever.failing = true;
+            Thread.sleep(100);
+            List<JWK> keys = jwkSource.get(KEY_SELECTOR, null);
+
+            assertEquals(keys.size(), 1);
+        } finally {
+            jwkSetManager.shutdown();
+        }
+    }
+
+    @Test
+    public void testKeysAreFetchedAgainAfterGracePeriod() throws Exception {
+
+        JWKSetManager jwkSetManager = new JWKSetManager(true, 10, 0, 10);
+        CountingResourceRetriever resourceRetriever = new CountingResourceRetriever(null);
+        try {
+            RemoteJWKSet<SecurityContext> jwkSource =
+                    jwkSetManager.createJWKSource(new URL("https://localhost/jwks/expired"), resourceRetriever);
+            jwkSource.get(KEY_SELECTOR, null);
+            Thread.sleep(50);
+            jwkSource.get(KEY_SELECTOR, null);
+
+            assertTrue(resourceRetriever.retrievals.get() >= 2);
+        } finally {
+            jwkSetManager.shutdown();
+        }
+    }
+
+    @Test
+    public void testInvalidate() throws Exception {
+
+        JWKSetManager jwkSetManager = new JWKSetManager(true, 60000, 10000, 60000);
+        CountingResourceRetriever resourceRetriever = new CountingResourceRetriever(null);
+        try {
+            RemoteJWKSet<SecurityContext> jwkSource =
+                    jwkSetManager.createJWKSource(new URL("https://localhost/jwks/invalidated"), resourceRetriever);
+            jwkSource.get(KEY_SELECTOR, null);
+            jwkSetManager.invalidate("https://localhost/jwks/invalidated");
+            jwkSource.get(KEY_SELECTOR, null);
+
+            assertEquals(resourceRetriever.retrievals.get(), 2);
+        } finally {
+            jwkSetManager.shutdown();
+        }
+    }
+
+    @Test
+    public void testConcurrentFetchesAreCoalesced() throws Exception {
+
+        JWKSetManager jwkSetManager = new JWKSetManager(true, 60000, 10000, 60000);
+        CountDownLatch release = new CountDownLatch(1);
+        CountingResourceRetriever resourceRetriever = new CountingResourceRetriever(release);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            RemoteJWKSet<SecurityContext> jwkSource =
+                    jwkSetManager.createJWKSource(new URL("https://localhost/jwks/coalesced"), resourceRetriever);
+            List<Future<List<JWK>>> lookups = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                lookups.add(executorService.submit(() -> jwkSource.get(KEY_SELECTOR, null)));
+            }
+            Thread.sleep(500);
+            release.countDown();
+            for (Future<List<JWK>> lookup : lookups) {
+                assertEquals(lookup.get(5, TimeUnit.SECONDS).size(), 1);
+            }
+
+            assertEquals(resourceRetriever.retrievals.get(), 1);
+        } finally {
+            executorService.shutdownNow();
+            jwkSetManager.shutdown();
+        }
+    }
+
+    private static class CountingResourceRetriever implements ResourceRetriever {
+
+        private final AtomicInteger retrievals = new AtomicInteger();
+        private final CountDownLatch release;
+        private volatile boolean failing;
+
+        private CountingResourceRetriever(CountDownLatch release) {
+
+            this.release = release;
+        }
+
+        @Override
+        public Resource retrieveResource(URL url) throws IOException {
+
+            if (failing) {
+                throw new IOException("JWKS endpoint is not available.");
+            }
+            retrievals.incrementAndGet();
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return new Resource(JWKS, "application/json");
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.validators.scope;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.oauth2.OAuth2Constants;
+import org.wso2.carbon.identity.oauth2.bean.Scope;
+import org.wso2.carbon.identity.oauth2.bean.ScopeBinding;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for ScopeRoleIndex class.
+ */
+public class ScopeRoleIndexTest {
+
+    @Test
+    public void testGetAuthorizedScopes() {
+
+        ScopeRoleIndex scopeRoleIndex = new ScopeRoleIndex(getScopes(), false);
+
+        assertEquals(scopeRoleIndex.getAuthorizedScopes(Collections.singletonList("manager")),
+                new HashSet<>(Arrays.asList("read", "write")));
+        assertEquals(scopeRoleIndex.getAuthorizedScopes(Arrays.asList("reader", "auditor")),
+                new HashSet<>(Arrays.asList("read", "audit")));
+        assertTrue(scopeRoleIndex.getAuthorizedScopes(Collections.singletonList("guest")).isEmpty());
+        assertTrue(scopeRoleIndex.getAuthorizedScopes(null).isEmpty());
+    }
+
+    @Test
+    public void testCaseHandling() {
+
+        Set<String> caseInsensitiveScopes = new ScopeRoleIndex(getScopes(), false)
+                .getAuthorizedScopes(Collections.singletonList("MANAGER"));
+        Set<String> caseSensitiveScopes = new ScopeRoleIndex(getScopes(), true)
+                .getAuthorizedScopes(Collections.singletonList("MANAGER"));
+
+        assertEquals(caseInsensitiveScopes, new HashSet<>(Arrays.asList("read", "write")));
+        assertTrue(caseSensitiveScopes.isEmpty());
+    }
+
+    @Test
+    public void testIsRoleBound() {
+
+        ScopeRoleIndex scopeRoleIndex = new ScopeRoleIndex(getScopes(), false);
+
+        assertTrue(scopeRoleIndex.isRoleBound("read"));
+        assertTrue(scopeRoleIndex.isRoleBound("audit"));
+        assertFalse(scopeRoleIndex.isRoleBound("public"));
+        assertFalse(scopeRoleIndex.isRoleBound("permission"));
+        assertFalse(scopeRoleIndex.isRoleBound("unknown"));
+    }
+
+    @Test
+    public void testOnlyFirstDefaultBindingIsIndexed() {
+
+        List<ScopeBinding> scopeBindings = new ArrayList<>();
+        scopeBindings.add(new ScopeBinding(OAuth2Constants.RoleBasedScope.OAUTH2_DEFAULT_SCOPE,
+                Collections.singletonList("Editor, Publisher")));
+        scopeBindings.add(new ScopeBinding(OAuth2Constants.RoleBasedScope.OAUTH2_DEFAULT_SCOPE,
+                Collections.singletonList("Viewer")));
+        Scope[] scopes = {new Scope("publish", "publish", scopeBindings, "publish")};
+        ScopeRoleIndex scopeRoleIndex = new ScopeRoleIndex(scopes, false);
+
+        assertEquals(scopeRoleIndex.getAuthorizedScopes(Collections.singletonList("publisher")),
+                Collections.singleton("publish"));
+        assertTrue(scopeRoleIndex.getAuthorizedScopes(Collections.singletonList("viewer")).isEmpty());
+        assertTrue(scopeRoleIndex.getAuthorizedScopes(Collections.singletonList(" editor")).isEmpty());
+    }
+
+    private Scope[] getScopes() {
+
+        List<Scope> scopes = new ArrayList<>();
+        scopes.add(new Scope("read", "read", "read", Arrays.asList("Manager", " reader ")));
+        scopes.add(new Scope("write", "write", "write", Collections.singletonList("Manager")));
+        scopes.add(new Scope("audit", "audit", "audit", Collections.singletonList("Auditor")));
+        scopes.add(new Scope("public", "public", "public", new ArrayList<>()));
+        List<ScopeBinding> permissionBindings = new ArrayList<>();
+        permissionBindings.add(new ScopeBinding("PERMISSION", Collections.singletonList("/permission/admin")));
+        scopes.add(new Scope("permission", "permission", permissionBindings, "permission"));
+        return scopes.toArray(new Scope[0]);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oauth2.validators.scope;
+
+import org.testng.annotations.Test;
+
+import java.util.Locale;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+
+/**
+ * Unit tests for UserRolesMemo class.
+ */
+public class UserRolesMemoTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String USER_STORE_DOMAIN = "PRIMARY";
+
+    @Test
+    public void testGetRoles() {
+
+        UserRolesMemo userRolesMemo = new UserRolesMemo(60000, 10);
+        String[] roles = {"manager", "reader"};
+        userRolesMemo.putRoles(TENANT_DOMAIN, USER_STORE_DOMAIN, "alice", roles);
+        roles[0] = "admin";
+
+        assertEquals(userRolesMemo.getRoles(TENANT_DOMAIN, USER_STORE_DOMAIN, "alice"),
+                new String[]{"manager", "reader"});
+        assertNull(userRolesMemo.getRoles(TENANT_DOMAIN, "SECONDARY", "alice"));
+        assertNull(userRolesMemo.getRoles(TENANT_DOMAIN, USER_STORE_DOMAIN, "bob"));
+    }
+
+    @Test
+    public void testInvalidate() {
+
+        UserRolesMemo userRolesMemo = new UserRolesMemo(60000, 10);
+        userRolesMemo.putRoles(TENANT_DOMAIN, USER_STORE_DOMAIN, "alice", new String[]{"manager"});
+        userRolesMemo.putRoles(TENANT_DOMAIN, USER_STORE_DOMAIN, "bob", new String[]{"reader"});
+        userRolesMemo.invalidate(TENANT_DOMAIN, USER_STORE_DOMAIN.toLowerCase(Locale.ENGLISH), "alice");
+
+        assertNull(userRolesMemo.getRoles(TENANT_DOMAIN, USER_STORE_DOMAIN, "alice"));
+        assertEquals(userRolesMemo.getRoles(TENANT_DOMAIN, USER_STORE_DOMAIN, "bob"), new String[]{"reader"});
+    }
+
+    @Test
+    public void testExpiredRoles() throws Exception {
+
+        UserRolesMemo userRolesMemo = new UserRolesMemo(1, 10);
+        userRolesMemo.putRoles(TENANT_DOMAIN, USER_STORE_DOMAIN, "alice", new String[]{"manager"});
+        Thread.sleep(5);
+
+        assertNull(userRolesMemo.getRoles(TENANT_DOMAIN, USER_STORE_DOMAIN, "alice"));
+    }
+
+    @Test
+    public void testMemoSize() {
+
+        UserRolesMemo userRolesMemo = new UserRolesMemo(60000, 1);
+        userRolesMemo.putRoles(TENANT_DOMAIN, USER_STORE_DOMAIN, "alice", new String[]{"manager"});
+        userRolesMemo.putRoles(TENANT_DOMAIN, USER_STORE_DOMAIN, "bob", new String[]{"reader"});
+
+        assertEquals(userRolesMemo.getRoles(TENANT_DOMAIN, USER_STORE_DOMAIN, "alice"), new String[]{"manager"});
+        assertNull(userRolesMemo.getRoles(TENANT_DOMAIN, USER_STORE_DOMAIN, "bob"));
+    }
+
+    @Test
+    public void testDisabledMemo() {
+
+        UserRolesMemo userRolesMemo = new UserRolesMemo(0, 10);
+        userRolesMemo.putRoles(TENANT_DOMAIN, USER_STORE_DOMAIN, "alice", new String[]{"manager"});
+
+        assertFalse(userRolesMemo.isEnabled());
+        assertNull(userRolesMemo.getRoles(TENANT_DOMAIN, USER_STORE_DOMAIN, "alice"));
+    }
+}
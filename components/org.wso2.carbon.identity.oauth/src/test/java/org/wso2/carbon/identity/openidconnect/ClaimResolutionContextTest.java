@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.openidconnect;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.oauth2.dto.OAuth2AccessTokenReqDTO;
+import org.wso2.carbon.identity.oauth2.token.OAuthTokenReqMessageContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for ClaimResolutionContext class.
+ */
+public class ClaimResolutionContextTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String USERNAME = "PRIMARY/testUser@carbon.super";
+    private static final String EMAIL_CLAIM = "http://wso2.org/claims/emailaddress";
+    private static final String NAME_CLAIM = "http://wso2.org/claims/givenname";
+    private static final String PHONE_CLAIM = "http://wso2.org/claims/mobile";
+
+    @Test
+    public void testContextIsSharedWithinRequest() {
+
+        OAuthTokenReqMessageContext tokenReqMessageContext =
+                new OAuthTokenReqMessageContext(new OAuth2AccessTokenReqDTO());
+
+        ClaimResolutionContext claimResolutionContext = ClaimResolutionContext.of(tokenReqMessageContext);
+        assertSame(ClaimResolutionContext.of(tokenReqMessageContext), claimResolutionContext);
+    }
+
+    @Test
+    public void testOnlyUnresolvedClaimsAreLoaded() throws Exception {
+
+        ClaimResolutionContext claimResolutionContext = new ClaimResolutionContext();
+        List<List<String>> loadedClaimURIs = new ArrayList<>();
+        ClaimResolutionContext.UserClaimLoader claimLoader = claimURIs -> {
+            loadedClaimURIs.add(new ArrayList<>(claimURIs));
+            Map<String, String> claimValues = new HashMap<>();
+            if (claimURIs.contains(EMAIL_CLAIM)) {
+                claimValues.put(EMAIL_CLAIM, "test@wso2.com");
+            }
+            if (claimURIs.contains(NAME_CLAIM)) {
+                claimValues.put(NAME_CLAIM, "test");
+            }
+            return claimValues;
+        };
+
+        Map<String, String> idTokenClaims = claimResolutionContext.getUserClaims(TENANT_DOMAIN, USERNAME,
+                Arrays.asList(EMAIL_CLAIM, NAME_CLAIM), claimLoader);
+        assertEquals(idTokenClaims.size(), 2);
+
+        // The phone claim has no value, so it shouldn't be loaded again once it has been resolved.
+        Map<String, String> accessTokenClaims = claimResolutionContext.getUserClaims(TENANT_DOMAIN, USERNAME,
+                Arrays.asList(EMAIL_CLAIM, PHONE_CLAIM), claimLoader);
+        claimResolutionContext.getUserClaims(TENANT_DOMAIN, USERNAME, Arrays.asList(PHONE_CLAIM), claimLoader);
+
+        assertEquals(loadedClaimURIs.size(), 2);
+        assertEquals(loadedClaimURIs.get(1), Arrays.asList(PHONE_CLAIM));
+        assertEquals(accessTokenClaims.size(), 1);
+        assertEquals(accessTokenClaims.get(EMAIL_CLAIM), "test@wso2.com");
+        assertFalse(accessTokenClaims.containsKey(NAME_CLAIM));
+    }
+
+    @Test
+    public void testResolvedClaimsAreNotShared() throws Exception {
+
+        ClaimResolutionContext claimResolutionContext = new ClaimResolutionContext();
+        ClaimResolutionContext.UserClaimLoader claimLoader = claimURIs -> {
+            Map<String, String> claimValues = new HashMap<>();
+            claimValues.put(EMAIL_CLAIM, "test@wso2.com");
+            return claimValues;
+        };
+
+        Map<String, String> userClaims = claimResolutionContext.getUserClaims(TENANT_DOMAIN, USERNAME,
+                Arrays.asList(EMAIL_CLAIM), claimLoader);
+        userClaims.put(EMAIL_CLAIM, "modified@wso2.com");
+
+        assertEquals(claimResolutionContext.getUserClaims(TENANT_DOMAIN, USERNAME, Arrays.asList(EMAIL_CLAIM),
+                claimLoader).get(EMAIL_CLAIM), "test@wso2.com");
+        assertTrue(claimResolutionContext.getUserClaims(TENANT_DOMAIN, "PRIMARY/otherUser@carbon.super",
+                Arrays.asList(NAME_CLAIM), claimURIs -> new HashMap<>()).isEmpty());
+    }
+
+    @Test
+    public void testAppAssociatedRolesAreResolvedOnce() throws Exception {
+
+        ClaimResolutionContext claimResolutionContext = new ClaimResolutionContext();
+        AtomicInteger loadCount = new AtomicInteger();
+        ClaimResolutionContext.AppRolesLoader rolesLoader = () -> {
+            loadCount.incrementAndGet();
+            return new String[]{"role1", "role2"};
+        };
+
+        String[] roles = claimResolutionContext.getAppAssociatedRoles(USERNAME, "testAppId", rolesLoader);
+        roles[0] = "modified";
+
+        assertEquals(claimResolutionContext.getAppAssociatedRoles(USERNAME, "testAppId", rolesLoader),
+                new String[]{"role1", "role2"});
+        assertEquals(loadCount.get(), 1);
+    }
+}
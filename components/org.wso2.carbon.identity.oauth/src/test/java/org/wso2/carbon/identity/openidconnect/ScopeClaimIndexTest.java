@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.openidconnect;
+
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.oauth.dto.ScopeDTO;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for ScopeClaimIndex class.
+ */
+public class ScopeClaimIndexTest {
+
+    private static final int TENANT_ID = -1234;
+
+    @Test
+    public void testFilterClaims() {
+
+        ScopeClaimIndex scopeClaimIndex = new ScopeClaimIndex(getScopeClaimMappings());
+        Map<String, Object> userClaims = new HashMap<>();
+        userClaims.put("email", "test@wso2.com");
+        userClaims.put("given_name", "test");
+        userClaims.put("country", "Sri Lanka");
+        userClaims.put("locality", "Colombo");
+
+        BitSet requestedScopes = new BitSet();
+        scopeClaimIndex.addRequestedScope(requestedScopes, "email");
+        scopeClaimIndex.addRequestedScope(requestedScopes, "address");
+        scopeClaimIndex.addRequestedScope(requestedScopes, "unknown");
+        Map<String, Object> filteredClaims = new HashMap<>();
+        Map<String, Object> addressScopeClaims = new HashMap<>();
+        scopeClaimIndex.filterClaims(userClaims, requestedScopes, filteredClaims, addressScopeClaims);
+
+        assertEquals(filteredClaims.size(), 1);
+        assertEquals(filteredClaims.get("email"), "test@wso2.com");
+        assertEquals(addressScopeClaims.size(), 2);
+        assertEquals(addressScopeClaims.get("country"), "Sri Lanka");
+        assertEquals(addressScopeClaims.get("locality"), "Colombo");
+    }
+
+    @Test
+    public void testScopeLookups() {
+
+        ScopeClaimIndex scopeClaimIndex = new ScopeClaimIndex(getScopeClaimMappings());
+
+        assertTrue(scopeClaimIndex.isOIDCScope("profile"));
+        assertFalse(scopeClaimIndex.isOIDCScope("unknown"));
+        assertEquals(scopeClaimIndex.getClaimUris("profile"), Arrays.asList("given_name", "email"));
+        assertTrue(scopeClaimIndex.getClaimUris("unknown").isEmpty());
+        assertEquals(scopeClaimIndex.getAddressScopeClaimUris(), Arrays.asList("address.country", "locality"));
+        assertTrue(new ScopeClaimIndex(null).isEmpty());
+    }
+
+    @Test
+    public void testIndexIsRebuiltOnlyWhenMappingsChange() {
+
+        List<ScopeDTO> scopeClaimMappings = getScopeClaimMappings();
+        ScopeClaimIndex scopeClaimIndex = ScopeClaimIndex.getInstance(TENANT_ID, scopeClaimMappings);
+
+        assertSame(ScopeClaimIndex.getInstance(TENANT_ID, scopeClaimMappings), scopeClaimIndex);
+        assertNotSame(ScopeClaimIndex.getInstance(TENANT_ID, getScopeClaimMappings()), scopeClaimIndex);
+    }
+
+    private List<ScopeDTO> getScopeClaimMappings() {
+
+        return Arrays.asList(
+                new ScopeDTO("email", "email", "email", new String[]{"email"}),
+                new ScopeDTO("profile", "profile", "profile", new String[]{"given_name", "email"}),
+                new ScopeDTO("address", "address", "address", new String[]{"address.country", "locality"}));
+    }
+}
@@ -56,6 +56,37 @@ public class OIDCSessionConstants {
                 "HandleAlreadyLoggedOutSessionsGracefully";
     }
 
+    /**
+     * Contains the configuration keys of the back-channel logout request sender.
+     */
+    public static class BackChannelLogoutConfig {
+
+        public static final String THREAD_POOL_SIZE = "OAuth.OpenIDConnect.BackChannelLogout.ThreadPoolSize";
+        public static final String QUEUE_SIZE = "OAuth.OpenIDConnect.BackChannelLogout.QueueSize";
+        public static final String MAX_CONNECTIONS = "OAuth.OpenIDConnect.BackChannelLogout.MaxConnections";
+        public static final String MAX_CONNECTIONS_PER_ROUTE =
+                "OAuth.OpenIDConnect.BackChannelLogout.MaxConnectionsPerRoute";
+        public static final String CONNECT_TIMEOUT = "OAuth.OpenIDConnect.BackChannelLogout.ConnectTimeout";
+        public static final String SOCKET_TIMEOUT = "OAuth.OpenIDConnect.BackChannelLogout.SocketTimeout";
+        public static final String CONNECTION_REQUEST_TIMEOUT =
+                "OAuth.OpenIDConnect.BackChannelLogout.ConnectionRequestTimeout";
+        public static final String MAX_RETRIES = "OAuth.OpenIDConnect.BackChannelLogout.MaxRetries";
+        public static final String RETRY_BACKOFF = "OAuth.OpenIDConnect.BackChannelLogout.RetryBackoff";
+        public static final String SHUTDOWN_TIMEOUT = "OAuth.OpenIDConnect.BackChannelLogout.ShutdownTimeout";
+
+        public static final int DEFAULT_THREAD_POOL_SIZE = 10;
+        public static final int DEFAULT_QUEUE_SIZE = 1000;
+        public static final int DEFAULT_MAX_CONNECTIONS = 100;
+        public static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 10;
+        public static final int DEFAULT_CONNECT_TIMEOUT = 5000;
+        public static final int DEFAULT_SOCKET_TIMEOUT = 5000;
+        public static final int DEFAULT_CONNECTION_REQUEST_TIMEOUT = 5000;
+        public static final int DEFAULT_MAX_RETRIES = 2;
+        public static final int DEFAULT_RETRY_BACKOFF = 200;
+        public static final int DEFAULT_SHUTDOWN_TIMEOUT = 10000;
+        public static final int MAX_RETRY_LIMIT = 5;
+    }
+
     /**
      * Contains the constants related to OIDC endpoints.
      */
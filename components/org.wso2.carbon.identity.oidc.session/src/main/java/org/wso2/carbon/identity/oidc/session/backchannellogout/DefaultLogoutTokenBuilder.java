@@ -98,6 +98,7 @@ public class DefaultLogoutTokenBuilder implements LogoutTokenBuilder {
         if (sessionState != null) {
             Set<String> sessionParticipants = getSessionParticipants(sessionState);
             if (!sessionParticipants.isEmpty()) {
+                Map<String, String> issuers = new HashMap<>();
                 for (String clientID : sessionParticipants) {
                     OAuthAppDO oAuthAppDO;
                     try {
@@ -115,7 +116,10 @@ public class DefaultLogoutTokenBuilder implements LogoutTokenBuilder {
                         // No need to send logout token if the client id of the RP initiated logout is known.
                         continue;
                     }
-                    addToLogoutTokenList(logoutTokenList, sessionState, clientID);
+                    PendingLogoutToken pendingLogoutToken = buildPendingLogoutToken(sessionState, clientID, issuers);
+                    if (pendingLogoutToken != null) {
+                        addToLogoutTokenList(logoutTokenList, pendingLogoutToken);
+                    }
                 }
             }
         }
@@ -136,20 +140,50 @@ public class DefaultLogoutTokenBuilder implements LogoutTokenBuilder {
 
         Map<String, String> logoutTokenList = new HashMap<>();
         // Send logout token to all RPs.
+        for (PendingLogoutToken pendingLogoutToken : buildPendingLogoutTokens(opbscookie, tenantDomain)) {
+            addToLogoutTokenList(logoutTokenList, pendingLogoutToken);
+        }
+        return logoutTokenList;
+    }
+
+    /**
+     * Build the logout tokens of the session participants that registered a back-channel logout url, without signing
+     * them. The issuer is resolved once for each tenant of the session participants.
+     *
+     * @param opbscookie   OPBS cookie value.
+     * @param tenantDomain Tenant domain of the session.
+     * @return Logout tokens to be signed.
+     * @throws IdentityOAuth2Exception If an error occurs while building the logout tokens.
+     */
+    public List<PendingLogoutToken> buildPendingLogoutTokens(String opbscookie, String tenantDomain)
+            throws IdentityOAuth2Exception {
+
+        List<PendingLogoutToken> pendingLogoutTokens = new ArrayList<>();
         OIDCSessionState sessionState = getSessionState(opbscookie, tenantDomain);
         if (sessionState != null) {
             Set<String> sessionParticipants = getSessionParticipants(sessionState);
-            if (!sessionParticipants.isEmpty()) {
-                for (String clientID : sessionParticipants) {
-                    addToLogoutTokenList(logoutTokenList, sessionState, clientID);
+            Map<String, String> issuers = new HashMap<>();
+            for (String clientID : sessionParticipants) {
+                PendingLogoutToken pendingLogoutToken = buildPendingLogoutToken(sessionState, clientID, issuers);
+                if (pendingLogoutToken != null) {
+                    pendingLogoutTokens.add(pendingLogoutToken);
                 }
             }
         }
-        return logoutTokenList;
+        return pendingLogoutTokens;
     }
 
-    private void addToLogoutTokenList(Map<String, String> logoutTokenList,
-                                      OIDCSessionState sessionState, String clientID) throws IdentityOAuth2Exception {
+    private void addToLogoutTokenList(Map<String, String> logoutTokenList, PendingLogoutToken pendingLogoutToken)
+            throws IdentityOAuth2Exception {
+
+        logoutTokenList.put(pendingLogoutToken.sign(), pendingLogoutToken.getBackChannelLogoutUrl());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Logout token created for the client: " + pendingLogoutToken.getClientId());
+        }
+    }
+
+    private PendingLogoutToken buildPendingLogoutToken(OIDCSessionState sessionState, String clientID,
+                                                       Map<String, String> issuers) throws IdentityOAuth2Exception {
 
         OAuthAppDO oAuthAppDO;
         try {
@@ -160,37 +194,36 @@ public class DefaultLogoutTokenBuilder implements LogoutTokenBuilder {
                         + " does not exists. This application may be deleted after"
                         + " this session is created. So skipping it in logout token list.", e);
             }
-            return;
+            return null;
         }
         String backChannelLogoutUrl = oAuthAppDO.getBackChannelLogoutUrl();
-        if (StringUtils.isNotBlank(backChannelLogoutUrl)) {
-            // Send back-channel logout request to all RPs those registered their back-channel logout uri.
-            JWTClaimsSet jwtClaimsSet = buildJwtToken(sessionState, getTenanatDomain(oAuthAppDO), clientID);
-            String logoutToken = OAuth2Util.signJWT(jwtClaimsSet, signatureAlgorithm,
-                    getSigningTenantDomain(oAuthAppDO)).serialize();
-            logoutTokenList.put(logoutToken, backChannelLogoutUrl);
-
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Logout token created for the client: " + clientID);
-            }
+        if (StringUtils.isBlank(backChannelLogoutUrl)) {
+            return null;
+        }
+        // Send back-channel logout request to all RPs those registered their back-channel logout uri.
+        String tenantDomain = getTenanatDomain(oAuthAppDO);
+        String issuer = issuers.get(tenantDomain);
+        if (issuer == null) {
+            issuer = getIssuer(tenantDomain);
+            issuers.put(tenantDomain, issuer);
         }
+        JWTClaimsSet jwtClaimsSet = buildJwtToken(sessionState, issuer, clientID);
+        return new PendingLogoutToken(clientID, backChannelLogoutUrl, jwtClaimsSet, signatureAlgorithm,
+                getSigningTenantDomain(oAuthAppDO));
     }
 
     /**
      * Builds jwtClaimSet.
      *
      * @param sessionState
-     * @param tenantDomain
+     * @param iss
      * @param clientID
      * @return
-     * @throws IdentityOAuth2Exception
      */
-    private JWTClaimsSet buildJwtToken(OIDCSessionState sessionState, String tenantDomain, String clientID)
-            throws IdentityOAuth2Exception {
+    private JWTClaimsSet buildJwtToken(OIDCSessionState sessionState, String iss, String clientID) {
 
         String sub = sessionState.getAuthenticatedUser();
         String jti = UUID.randomUUID().toString();
-        String iss = getIssuer(tenantDomain);
         List<String> audience = getAudience(clientID);
         long logoutTokenValidityInMillis = getLogoutTokenExpiryInMillis();
         long currentTimeInMillis = Calendar.getInstance().getTimeInMillis();
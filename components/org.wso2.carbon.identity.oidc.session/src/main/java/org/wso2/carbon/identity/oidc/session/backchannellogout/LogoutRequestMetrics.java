@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oidc.session.backchannellogout;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency and failure metrics of the back-channel logout requests sent to a single relying party endpoint.
+ */
+public class LogoutRequestMetrics {
+
+    private final String endpoint;
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong totalLatencyInMillis = new AtomicLong();
+    private final AtomicLong maxLatencyInMillis = new AtomicLong();
+
+    public LogoutRequestMetrics(String endpoint) {
+
+        this.endpoint = endpoint;
+    }
+
+    void recordSuccess(long latencyInMillis) {
+
+        requestCount.incrementAndGet();
+        recordLatency(latencyInMillis);
+    }
+
+    void recordFailure(long latencyInMillis) {
+
+        requestCount.incrementAndGet();
+        failureCount.incrementAndGet();
+        recordLatency(latencyInMillis);
+    }
+
+    void recordRetry() {
+
+        retryCount.incrementAndGet();
+    }
+
+    private void recordLatency(long latencyInMillis) {
+
+        totalLatencyInMillis.addAndGet(latencyInMillis);
+        maxLatencyInMillis.accumulateAndGet(latencyInMillis, Math::max);
+    }
+
+    public String getEndpoint() {
+
+        return endpoint;
+    }
+
+    public long getRequestCount() {
+
+        return requestCount.get();
+    }
+
+    public long getFailureCount() {
+
+        return failureCount.get();
+    }
+
+    public long getRetryCount() {
+
+        return retryCount.get();
+    }
+
+    public long getAverageLatencyInMillis() {
+
+        long requests = requestCount.get();
+        return requests == 0 ? 0 : totalLatencyInMillis.get() / requests;
+    }
+
+    public long getMaxLatencyInMillis() {
+
+        return maxLatencyInMillis.get();
+    }
+
+    @Override
+    public String toString() {
+
+        return "endpoint=" + endpoint + ", requests=" + getRequestCount() + ", failures=" + getFailureCount() +
+                ", retries=" + getRetryCount() + ", averageLatencyInMillis=" + getAverageLatencyInMillis() +
+                ", maxLatencyInMillis=" + getMaxLatencyInMillis();
+    }
+}
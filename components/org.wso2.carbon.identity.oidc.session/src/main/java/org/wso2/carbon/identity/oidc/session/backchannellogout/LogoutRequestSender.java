@@ -17,47 +17,132 @@
  */
 package org.wso2.carbon.identity.oidc.session.backchannellogout;
 
-import org.apache.commons.collections.MapUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.apache.http.HttpResponse;
 import org.apache.http.NameValuePair;
-import org.apache.http.client.HttpClient;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLContexts;
+import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.util.EntityUtils;
 import org.wso2.carbon.base.MultitenantConstants;
 import org.wso2.carbon.identity.base.IdentityConstants;
 import org.wso2.carbon.identity.core.util.IdentityUtil;
-import org.wso2.carbon.identity.oauth.common.exception.InvalidOAuthClientException;
 import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oidc.session.OIDCSessionConstants.BackChannelLogoutConfig;
 import org.wso2.carbon.identity.oidc.session.util.OIDCSessionManagementUtil;
 
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServletRequest;
 
+import static org.wso2.carbon.identity.oauth.common.OAuthCommonUtil.getIntProperty;
+
 /**
  * Used to send logout request.
+ * <p>
+ * Logout requests are dispatched through a sized thread pool and a shared, connection pooled HTTP client so that
+ * the requests to many relying parties run in parallel and reuse the connections (and TLS sessions) per endpoint.
+ * Failed requests are retried a bounded number of times with an exponential backoff. The retries are scheduled
+ * rather than waited for, so a failing relying party does not hold a sender thread while it backs off.
+ * <p>
+ * Only the claims of the logout tokens are built on the logout request thread. Each sender task signs its logout
+ * token before sending it, so that the tokens of a session are signed in parallel and every request is sent as soon
+ * as its own token is ready.
  */
 public class LogoutRequestSender {
 
     private static final Log LOG = LogFactory.getLog(LogoutRequestSender.class);
-    private static ExecutorService threadPool = Executors.newFixedThreadPool(2);
     private static LogoutRequestSender instance = new LogoutRequestSender();
     private static final String LOGOUT_TOKEN = "logout_token";
+    private static final String HTTPS = "https";
+    private static final String HTTP = "http";
+
+    private final ThreadPoolExecutor threadPool;
+    private final ScheduledExecutorService retryScheduler;
+    private final CloseableHttpClient httpClient;
+    private final int maxRetries;
+    private final long retryBackoffInMillis;
+    private final long shutdownTimeoutInMillis;
+    private final Map<String, LogoutRequestMetrics> metricsByEndpoint = new ConcurrentHashMap<>();
 
     private LogoutRequestSender() {
 
+        this(createHttpClient());
+    }
+
+    LogoutRequestSender(CloseableHttpClient httpClient) {
+
+        this.httpClient = httpClient;
+        int poolSize = getIntProperty(BackChannelLogoutConfig.THREAD_POOL_SIZE,
+                BackChannelLogoutConfig.DEFAULT_THREAD_POOL_SIZE, 1);
+        int queueSize = getIntProperty(BackChannelLogoutConfig.QUEUE_SIZE, BackChannelLogoutConfig.DEFAULT_QUEUE_SIZE,
+                1);
+        threadPool = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(queueSize), new LogoutRequestThreadFactory("oidc-backchannel-logout-"),
+                LogoutRequestSender::rejectLogoutRequest);
+        threadPool.allowCoreThreadTimeOut(true);
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(
+                new LogoutRequestThreadFactory("oidc-backchannel-logout-retry-"));
+
+        maxRetries = Math.min(getIntProperty(BackChannelLogoutConfig.MAX_RETRIES,
+                BackChannelLogoutConfig.DEFAULT_MAX_RETRIES, 0), BackChannelLogoutConfig.MAX_RETRY_LIMIT);
+        retryBackoffInMillis = getIntProperty(BackChannelLogoutConfig.RETRY_BACKOFF,
+                BackChannelLogoutConfig.DEFAULT_RETRY_BACKOFF, 0);
+        shutdownTimeoutInMillis = getIntProperty(BackChannelLogoutConfig.SHUTDOWN_TIMEOUT,
+                BackChannelLogoutConfig.DEFAULT_SHUTDOWN_TIMEOUT, 0);
+    }
+
+    private static CloseableHttpClient createHttpClient() {
+
+        PoolingHttpClientConnectionManager connectionManager =
+                new PoolingHttpClientConnectionManager(getSocketFactoryRegistry());
+        connectionManager.setMaxTotal(getIntProperty(BackChannelLogoutConfig.MAX_CONNECTIONS,
+                BackChannelLogoutConfig.DEFAULT_MAX_CONNECTIONS, 1));
+        connectionManager.setDefaultMaxPerRoute(getIntProperty(BackChannelLogoutConfig.MAX_CONNECTIONS_PER_ROUTE,
+                BackChannelLogoutConfig.DEFAULT_MAX_CONNECTIONS_PER_ROUTE, 1));
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(getIntProperty(BackChannelLogoutConfig.CONNECT_TIMEOUT,
+                        BackChannelLogoutConfig.DEFAULT_CONNECT_TIMEOUT, 0))
+                .setSocketTimeout(getIntProperty(BackChannelLogoutConfig.SOCKET_TIMEOUT,
+                        BackChannelLogoutConfig.DEFAULT_SOCKET_TIMEOUT, 0))
+                .setConnectionRequestTimeout(getIntProperty(BackChannelLogoutConfig.CONNECTION_REQUEST_TIMEOUT,
+                        BackChannelLogoutConfig.DEFAULT_CONNECTION_REQUEST_TIMEOUT, 0))
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                // Retries are handled by the sender with a backoff.
+                .disableAutomaticRetries()
+                .build();
     }
 
     /**
@@ -112,39 +197,124 @@ public class LogoutRequestSender {
      */
     public void sendLogoutRequests(String opbsCookieId, String tenantDomain) {
 
-        Map<String, String> logoutTokenList = getLogoutTokenList(opbsCookieId, tenantDomain);
-        if (MapUtils.isNotEmpty(logoutTokenList)) {
-            // For each logoutReq, create a new task and submit it to the thread pool.
-            for (Map.Entry<String, String> logoutTokenMap : logoutTokenList.entrySet()) {
-                String logoutToken = logoutTokenMap.getKey();
-                String bcLogoutUrl = logoutTokenMap.getValue();
-                LOG.debug("A logoutReqSenderTask will be assigned to the thread pool");
-                threadPool.submit(new LogoutReqSenderTask(logoutToken, bcLogoutUrl));
-            }
+        // For each logoutReq, create a new task and submit it to the thread pool.
+        for (PendingLogoutToken pendingLogoutToken : getPendingLogoutTokens(opbsCookieId, tenantDomain)) {
+            sendLogoutRequest(pendingLogoutToken);
         }
     }
 
     /**
-     * Returns a Map with logout tokens and back-channel logut Url of Service providers.
+     * Submit the logout request of a single session participant to the thread pool.
+     *
+     * @param pendingLogoutToken Logout token of the session participant.
+     */
+    void sendLogoutRequest(PendingLogoutToken pendingLogoutToken) {
+
+        LOG.debug("A logoutReqSenderTask will be assigned to the thread pool");
+        threadPool.execute(new LogoutReqSenderTask(pendingLogoutToken));
+    }
+
+    /**
+     * Returns the logout tokens of the service providers, which are to be signed by the sender tasks.
      *
-     * @param opbsCookie OpbsCookie.
-     * @return Map with logoutToken, back-channel logout Url.
+     * @param opbsCookie   OpbsCookie.
+     * @param tenantDomain Tenant domain.
+     * @return Logout tokens with the back-channel logout urls.
      */
-    private Map<String, String> getLogoutTokenList(String opbsCookie, String tenantDomain) {
+    private List<PendingLogoutToken> getPendingLogoutTokens(String opbsCookie, String tenantDomain) {
 
-        Map<String, String> logoutTokenList = null;
         try {
             DefaultLogoutTokenBuilder logoutTokenBuilder = new DefaultLogoutTokenBuilder();
-            logoutTokenList = logoutTokenBuilder.buildLogoutToken(opbsCookie, tenantDomain);
+            return logoutTokenBuilder.buildPendingLogoutTokens(opbsCookie, tenantDomain);
         } catch (IdentityOAuth2Exception e) {
-            LOG.error("Error while initializing " + DefaultLogoutTokenBuilder.class, e);
-        } catch (InvalidOAuthClientException e) {
+            LOG.error("Error while building the logout tokens for the tenant domain: " + tenantDomain, e);
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Get the back-channel logout request metrics of each relying party endpoint.
+     *
+     * @return Metrics of the logout requests keyed by the endpoint.
+     */
+    public Collection<LogoutRequestMetrics> getLogoutRequestMetrics() {
+
+        return Collections.unmodifiableCollection(metricsByEndpoint.values());
+    }
+
+    /**
+     * Stop the logout request sender. Logout requests which are already submitted are given up to the shutdown timeout
+     * to complete. Retries which are not due yet are dropped.
+     */
+    public void shutdown() {
+
+        int droppedRetries = retryScheduler.shutdownNow().size();
+        if (droppedRetries > 0) {
+            LOG.warn("Dropping " + droppedRetries + " back-channel logout request retries as the logout request " +
+                    "sender is shut down.");
+        }
+        threadPool.shutdown();
+        try {
+            if (!threadPool.awaitTermination(shutdownTimeoutInMillis, TimeUnit.MILLISECONDS)) {
+                LOG.warn("Back-channel logout requests did not complete within " + shutdownTimeoutInMillis +
+                        "ms of the shutdown. Interrupting the pending logout requests.");
+                threadPool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            threadPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        try {
+            httpClient.close();
+        } catch (IOException e) {
+            LOG.error("Error while closing the back-channel logout http client.", e);
+        }
+    }
+
+    private LogoutRequestMetrics getMetrics(String backChannelLogoutUrl) {
+
+        String endpoint = backChannelLogoutUrl;
+        try {
+            URI uri = new URI(backChannelLogoutUrl);
+            if (uri.getHost() != null) {
+                endpoint = uri.getScheme() + "://" + uri.getHost() + (uri.getPort() != -1 ? ":" + uri.getPort() : "");
+            }
+        } catch (URISyntaxException e) {
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Error while obtaining logout token list for the obpsCookie: " + opbsCookie +
-                                "& tenant domain: " + tenantDomain, e);
+                LOG.debug("Invalid back-channel logout url: " + backChannelLogoutUrl, e);
             }
         }
-        return logoutTokenList;
+        return metricsByEndpoint.computeIfAbsent(endpoint, LogoutRequestMetrics::new);
+    }
+
+    private static void rejectLogoutRequest(Runnable task, ThreadPoolExecutor executor) {
+
+        String backChannelLogoutUrl = task instanceof LogoutReqSenderTask ?
+                ((LogoutReqSenderTask) task).backChannelLogouturl : String.valueOf(task);
+        if (executor.isShutdown()) {
+            LOG.error("Back-channel logout request sender is shut down. Dropping the logout request to: " +
+                    backChannelLogoutUrl);
+        } else {
+            LOG.error("Back-channel logout request queue is full. Dropping the logout request to: " +
+                    backChannelLogoutUrl);
+        }
+    }
+
+    private static Registry<ConnectionSocketFactory> getSocketFactoryRegistry() {
+
+        String hostNameVerificationEnabledProperty =
+                IdentityUtil.getProperty(IdentityConstants.ServerConfig.SLO_HOST_NAME_VERIFICATION_ENABLED);
+        SSLConnectionSocketFactory sslSocketFactory;
+        if ("false".equalsIgnoreCase(hostNameVerificationEnabledProperty)) {
+            sslSocketFactory = new SSLConnectionSocketFactory(SSLContexts.createDefault(),
+                    SSLConnectionSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER);
+        } else {
+            sslSocketFactory = SSLConnectionSocketFactory.getSocketFactory();
+        }
+        return RegistryBuilder.<ConnectionSocketFactory>create()
+                .register(HTTP, PlainConnectionSocketFactory.getSocketFactory())
+                .register(HTTPS, sslSocketFactory)
+                .build();
     }
 
     /**
@@ -154,53 +324,113 @@ public class LogoutRequestSender {
      */
     private class LogoutReqSenderTask implements Runnable {
 
-        private String logoutToken;
+        private PendingLogoutToken pendingLogoutToken;
         private String backChannelLogouturl;
+        private List<NameValuePair> logoutReqParams;
+        private int attempt;
 
-        public LogoutReqSenderTask(String logoutToken, String backChannelLogouturl) {
+        public LogoutReqSenderTask(PendingLogoutToken pendingLogoutToken) {
 
-            this.logoutToken = logoutToken;
-            this.backChannelLogouturl = backChannelLogouturl;
+            this.pendingLogoutToken = pendingLogoutToken;
+            this.backChannelLogouturl = pendingLogoutToken.getBackChannelLogoutUrl();
         }
 
         @Override
         public void run() {
 
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Starting backchannel logout request to: " + backChannelLogouturl);
+            if (logoutReqParams == null) {
+                String logoutToken;
+                try {
+                    logoutToken = pendingLogoutToken.sign();
+                } catch (IdentityOAuth2Exception e) {
+                    LOG.error("Error while signing the logout token of the client: " +
+                            pendingLogoutToken.getClientId(), e);
+                    return;
+                }
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Logout token created for the client: " + pendingLogoutToken.getClientId() +
+                            ". Starting backchannel logout request to: " + backChannelLogouturl);
+                }
+                logoutReqParams = new ArrayList<NameValuePair>();
+                logoutReqParams.add(new BasicNameValuePair(LOGOUT_TOKEN, logoutToken));
             }
 
-            List<NameValuePair> logoutReqParams = new ArrayList<NameValuePair>();
-            String hostNameVerificationEnabledProperty =
-                    IdentityUtil.getProperty(IdentityConstants.ServerConfig.SLO_HOST_NAME_VERIFICATION_ENABLED);
-            boolean isHostNameVerificationEnabled = true;
-            if ("false".equalsIgnoreCase(hostNameVerificationEnabledProperty)) {
-                isHostNameVerificationEnabled = false;
+            LogoutRequestMetrics metrics = getMetrics(backChannelLogouturl);
+            if (attempt > 0) {
+                metrics.recordRetry();
             }
-            try {
-                HttpClient httpClient;
-                if (!isHostNameVerificationEnabled) {
-                    httpClient = HttpClients.custom()
-                            .setHostnameVerifier(SSLConnectionSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER)
-                            .build();
-                } else {
-                    httpClient = HttpClients.createDefault();
+            long startTime = System.currentTimeMillis();
+            HttpPost httpPost = new HttpPost(backChannelLogouturl);
+            httpPost.setEntity(new UrlEncodedFormEntity(logoutReqParams, StandardCharsets.UTF_8));
+            try (CloseableHttpResponse response = httpClient.execute(httpPost)) {
+                // Consume the response so that the connection is returned to the pool.
+                EntityUtils.consumeQuietly(response.getEntity());
+                int statusCode = response.getStatusLine().getStatusCode();
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Backchannel logout response: " + response.getStatusLine());
                 }
-                logoutReqParams.add(new BasicNameValuePair(LOGOUT_TOKEN, logoutToken));
-                HttpPost httpPost = new HttpPost(backChannelLogouturl);
-                try {
-                    httpPost.setEntity(new UrlEncodedFormEntity(logoutReqParams));
-                } catch (UnsupportedEncodingException e) {
-                    LOG.error("Error while sending logout token", e);
+                if (statusCode < 500) {
+                    metrics.recordSuccess(System.currentTimeMillis() - startTime);
+                    return;
+                }
+                metrics.recordFailure(System.currentTimeMillis() - startTime);
+                if (attempt == maxRetries) {
+                    LOG.error("Backchannel logout request to: " + backChannelLogouturl + " failed with the " +
+                            "status: " + response.getStatusLine() + " after " + (attempt + 1) + " attempt(s).");
+                    return;
+                }
+            } catch (IOException e) {
+                metrics.recordFailure(System.currentTimeMillis() - startTime);
+                if (attempt == maxRetries) {
+                    LOG.error("Error sending logout requests to: " + backChannelLogouturl, e);
+                    return;
                 }
-                HttpResponse response = httpClient.execute(httpPost);
                 if (LOG.isDebugEnabled()) {
-                    LOG.debug("Backchannel logout response: " + response.getStatusLine());
+                    LOG.debug("Error sending logout request to: " + backChannelLogouturl + " in attempt: " +
+                            (attempt + 1) + ". Retrying.", e);
                 }
+            }
+            scheduleRetry();
+        }
 
-            } catch (IOException e) {
-                LOG.error("Error sending logout requests to: " + backChannelLogouturl, e);
+        private void scheduleRetry() {
+
+            long backoffInMillis = retryBackoffInMillis << attempt;
+            attempt++;
+            try {
+                retryScheduler.schedule(() -> threadPool.execute(this), backoffInMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                LOG.error("Back-channel logout request sender is shut down. Dropping the retry of the logout " +
+                        "request to: " + backChannelLogouturl);
             }
         }
+
+        @Override
+        public String toString() {
+
+            return "LogoutReqSenderTask{backChannelLogoutUrl=" + backChannelLogouturl + "}";
+        }
+    }
+
+    /**
+     * Thread factory for the back-channel logout request senders.
+     */
+    private static class LogoutRequestThreadFactory implements ThreadFactory {
+
+        private final String namePrefix;
+        private final AtomicInteger threadCount = new AtomicInteger();
+
+        LogoutRequestThreadFactory(String namePrefix) {
+
+            this.namePrefix = namePrefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+
+            Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
     }
 }
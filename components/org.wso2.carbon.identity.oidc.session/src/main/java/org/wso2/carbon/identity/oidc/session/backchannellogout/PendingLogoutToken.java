@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oidc.session.backchannellogout;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jwt.JWTClaimsSet;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.carbon.identity.oauth2.util.OAuth2Util;
+
+/**
+ * Logout token of a session participant whose claims are built, but which is not signed yet. Signing is deferred so
+ * that the logout tokens of a session are signed in parallel, by the tasks that send the logout requests.
+ */
+public class PendingLogoutToken {
+
+    private final String clientId;
+    private final String backChannelLogoutUrl;
+    private final JWTClaimsSet claimsSet;
+    private final JWSAlgorithm signatureAlgorithm;
+    private final String signingTenantDomain;
+
+    /**
+     * Create a logout token to be signed.
+     *
+     * @param clientId             Client id of the session participant.
+     * @param backChannelLogoutUrl Back-channel logout url of the session participant.
+     * @param claimsSet            Claims of the logout token.
+     * @param signatureAlgorithm   Signature algorithm of the logout token.
+     * @param signingTenantDomain  Tenant domain of the signing key.
+     */
+    public PendingLogoutToken(String clientId, String backChannelLogoutUrl, JWTClaimsSet claimsSet,
+                              JWSAlgorithm signatureAlgorithm, String signingTenantDomain) {
+
+        this.clientId = clientId;
+        this.backChannelLogoutUrl = backChannelLogoutUrl;
+        this.claimsSet = claimsSet;
+        this.signatureAlgorithm = signatureAlgorithm;
+        this.signingTenantDomain = signingTenantDomain;
+    }
+
+    public String getClientId() {
+
+        return clientId;
+    }
+
+    public String getBackChannelLogoutUrl() {
+
+        return backChannelLogoutUrl;
+    }
+
+    /**
+     * Sign the logout token. The signing key of the tenant is loaded on the calling thread, which is the thread that
+     * sends the logout request.
+     *
+     * @return Serialized logout token.
+     * @throws IdentityOAuth2Exception If an error occurs while signing the logout token.
+     */
+    public String sign() throws IdentityOAuth2Exception {
+
+        return OAuth2Util.signJWT(claimsSet, signatureAlgorithm, signingTenantDomain).serialize();
+    }
+}
@@ -47,6 +47,7 @@ import org.wso2.carbon.identity.organization.management.service.exception.Organi
 import org.wso2.carbon.identity.organization.management.service.util.OrganizationManagementUtil;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -54,8 +55,11 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
 
 /**
  * Unit tests for DefaultLogoutTokenBuilder.
@@ -187,6 +191,52 @@ public class DefaultLogoutTokenBuilderTest {
     }
 
 
+    @Test
+    public void testBuildPendingLogoutTokensResolvesIssuerOncePerTenant() throws Exception {
+
+        OIDCSessionState oidcSessionState = new OIDCSessionState();
+        Set<String> sessionParticipants = new HashSet<>();
+        sessionParticipants.add("sp1");
+        sessionParticipants.add("sp2");
+        oidcSessionState.setSessionParticipants(sessionParticipants);
+
+        appDO = getDefaultOAuthAppDO(TENANT_DOMAIN);
+
+        try (MockedStatic<OIDCSessionManagementUtil> oidcSessionManagementUtilMockedStatic
+                     = mockStatic(OIDCSessionManagementUtil.class);
+             MockedStatic<IdentityTenantUtil> identityTenantUtilMockedStatic = mockStatic(IdentityTenantUtil.class);
+             MockedStatic<OrganizationManagementUtil> organizationManagementUtilMockedStatic
+                     = mockStatic(OrganizationManagementUtil.class);
+             MockedStatic<ServiceURLBuilder> serviceURLBuilderMockedStatic = mockStatic(ServiceURLBuilder.class);
+             MockedStatic<OAuthServerConfiguration> oAuthServerConfigurationMockedStatic
+                     = mockStatic(OAuthServerConfiguration.class);
+             MockedStatic<OAuth2Util> oAuth2UtilMockedStatic = mockStatic(OAuth2Util.class)) {
+
+            oidcSessionManagementUtilMockedStatic.when(OIDCSessionManagementUtil::getSessionManager)
+                    .thenReturn(oidcSessionManager);
+            when(oidcSessionManager.getOIDCSessionState(anyString(), anyString())).thenReturn(oidcSessionState);
+            oAuth2UtilMockedStatic.when(() -> OAuth2Util.getAppInformationByClientId(anyString()))
+                    .thenReturn(appDO);
+            oAuth2UtilMockedStatic.when(() -> OAuth2Util.getTenantDomainOfOauthApp(any(OAuthAppDO.class)))
+                    .thenReturn(TENANT_DOMAIN);
+            identityTenantUtilMockedStatic.when(IdentityTenantUtil::isTenantQualifiedUrlsEnabled).thenReturn(true);
+            oAuthServerConfigurationMockedStatic.when(OAuthServerConfiguration::getInstance)
+                    .thenReturn(oAuthServerConfiguration);
+            mockServiceURLBuilder(OTHER_TENANT_TOKEN_URL, serviceURLBuilderMockedStatic);
+
+            List<PendingLogoutToken> pendingLogoutTokens =
+                    logoutTokenBuilder.buildPendingLogoutTokens("opbsCookie", TENANT_DOMAIN);
+
+            assertEquals(pendingLogoutTokens.size(), 2);
+            for (PendingLogoutToken pendingLogoutToken : pendingLogoutTokens) {
+                assertEquals(pendingLogoutToken.getBackChannelLogoutUrl(), BACKCHANNEL_LOGOUT);
+            }
+            verify(mockServiceURLBuilder, times(1)).setTenant(TENANT_DOMAIN);
+            // The logout tokens are signed by the tasks that send the logout requests.
+            oAuth2UtilMockedStatic.verify(() -> OAuth2Util.signJWT(any(), any(), any()), never());
+        }
+    }
+
     private OAuthAppDO getDefaultOAuthAppDO(String tenantDomain) {
 
         AuthenticatedUser authenticatedUser = new AuthenticatedUser();
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.com).
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.identity.oidc.session.backchannellogout;
+
+import org.apache.http.StatusLine;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.mockito.MockedStatic;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.core.util.IdentityUtil;
+import org.wso2.carbon.identity.oidc.session.OIDCSessionConstants.BackChannelLogoutConfig;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Unit tests for LogoutRequestSender.
+ */
+public class LogoutRequestSenderTest {
+
+    private static final String CLIENT_ID = "client1";
+    private static final String BACK_CHANNEL_LOGOUT_URL = "https://rp.example.com/logout";
+    private static final String LOGOUT_TOKEN = "logout.token.value";
+
+    private MockedStatic<IdentityUtil> identityUtil;
+    private CloseableHttpClient httpClient;
+    private LogoutRequestSender logoutRequestSender;
+
+    @BeforeMethod
+    public void setUp() {
+
+        identityUtil = mockStatic(IdentityUtil.class);
+        identityUtil.when(() -> IdentityUtil.getProperty(anyString())).thenReturn(null);
+        identityUtil.when(() -> IdentityUtil.getProperty(BackChannelLogoutConfig.MAX_RETRIES)).thenReturn("2");
+        identityUtil.when(() -> IdentityUtil.getProperty(BackChannelLogoutConfig.RETRY_BACKOFF)).thenReturn("1");
+        identityUtil.when(() -> IdentityUtil.getProperty(BackChannelLogoutConfig.SHUTDOWN_TIMEOUT))
+                .thenReturn("5000");
+        httpClient = mock(CloseableHttpClient.class);
+        logoutRequestSender = new LogoutRequestSender(httpClient);
+    }
+
+    @AfterMethod
+    public void tearDown() {
+
+        logoutRequestSender.shutdown();
+        identityUtil.close();
+    }
+
+    @Test
+    public void testSendLogoutRequest() throws Exception {
+
+        CloseableHttpResponse response = mockResponse(200);
+        when(httpClient.execute(any(HttpUriRequest.class))).thenReturn(response);
+
+        logoutRequestSender.sendLogoutRequest(mockPendingLogoutToken());
+
+        LogoutRequestMetrics metrics = awaitRequests(1);
+        assertEquals(metrics.getFailureCount(), 0);
+        assertEquals(metrics.getRetryCount(), 0);
+    }
+
+    @Test
+    public void testRetryOnServerError() throws Exception {
+
+        CloseableHttpResponse failedResponse = mockResponse(503);
+        CloseableHttpResponse response = mockResponse(200);
+        when(httpClient.execute(any(HttpUriRequest.class))).thenReturn(failedResponse, response);
+
+        logoutRequestSender.sendLogoutRequest(mockPendingLogoutToken());
+
+        LogoutRequestMetrics metrics = awaitRequests(2);
+        assertEquals(metrics.getFailureCount(), 1);
+        assertEquals(metrics.getRetryCount(), 1);
+        verify(httpClient, times(2)).execute(any(HttpUriRequest.class));
+    }
+
+    @Test
+    public void testRetriesAreBounded() throws Exception {
+
+        when(httpClient.execute(any(HttpUriRequest.class))).thenThrow(new IOException("Connection refused"));
+
+        logoutRequestSender.sendLogoutRequest(mockPendingLogoutToken());
+
+        LogoutRequestMetrics metrics = awaitRequests(3);
+        // Wait for a possible fourth attempt, which must not be made.
+        Thread.sleep(200);
+        assertEquals(metrics.getRequestCount(), 3);
+        assertEquals(metrics.getFailureCount(), 3);
+        assertEquals(metrics.getRetryCount(), 2);
+    }
+
+    @Test
+    public void testShutdownCompletesSubmittedRequests() throws Exception {
+
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CloseableHttpResponse response = mockResponse(200);
+        when(httpClient.execute(any(HttpUriRequest.class))).thenAnswer(invocation -> {
+            requestStarted.countDown();
+            Thread.sleep(200);
+            return response;
+        });
+
+        logoutRequestSender.sendLogoutRequest(mockPendingLogoutToken());
+        assertTrue(requestStarted.await(5, TimeUnit.SECONDS));
+        logoutRequestSender.shutdown();
+
+        LogoutRequestMetrics metrics = getMetrics();
+        assertEquals(metrics.getRequestCount(), 1);
+        assertEquals(metrics.getFailureCount(), 0);
+        verify(httpClient).close();
+    }
+
+    @Test
+    public void testRequestsAfterShutdownAreDropped() throws Exception {
+
+        logoutRequestSender.shutdown();
+        logoutRequestSender.sendLogoutRequest(mockPendingLogoutToken());
+
+        verify(httpClient, times(0)).execute(any(HttpUriRequest.class));
+        assertTrue(logoutRequestSender.getLogoutRequestMetrics().isEmpty());
+    }
+
+    private PendingLogoutToken mockPendingLogoutToken() throws Exception {
+
+        PendingLogoutToken pendingLogoutToken = mock(PendingLogoutToken.class);
+        when(pendingLogoutToken.getClientId()).thenReturn(CLIENT_ID);
+        when(pendingLogoutToken.getBackChannelLogoutUrl()).thenReturn(BACK_CHANNEL_LOGOUT_URL);
+        when(pendingLogoutToken.sign()).thenReturn(LOGOUT_TOKEN);
+        return pendingLogoutToken;
+    }
+
+    private CloseableHttpResponse mockResponse(int statusCode) {
+
+        StatusLine statusLine = mock(StatusLine.class);
+        when(statusLine.getStatusCode()).thenReturn(statusCode);
+        CloseableHttpResponse response = mock(CloseableHttpResponse.class);
+        when(response.getStatusLine()).thenReturn(statusLine);
+        return response;
+    }
+
+    private LogoutRequestMetrics awaitRequests(long requestCount) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < deadline) {
+            LogoutRequestMetrics metrics = getMetrics();
+            if (metrics != null && metrics.getRequestCount() >= requestCount) {
+                return metrics;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("Logout requests were not sent within the timeout.");
+    }
+
+    private LogoutRequestMetrics getMetrics() {
+
+        return logoutRequestSender.getLogoutRequestMetrics().stream().findFirst().orElse(null);
+    }
+}